@@ -0,0 +1,358 @@
+package com.github.jinahya.database.metadata.bind.processor;
+
+/*-
+ * #%L
+ * database-metadata-bind-processor
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An annotation processor generating, for each concrete metadata type, a reflection-free {@code Binder}
+ * implementation.
+ * <p>
+ * For each concrete class, assignable to {@value #METADATA_TYPE}, with fields annotated with
+ * {@value #COLUMN_LABEL}, this processor generates a {@code public final} class named {@code <Type>_Binder}, in the
+ * same package, which instantiates the type with its default constructor and sets each labeled field through its
+ * {@code set<Field>} method. Generated binders are registered, as providers of {@value #BINDER}, in
+ * {@code META-INF/services}, so that they are found with {@link java.util.ServiceLoader} (including under GraalVM
+ * native-image).
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@SupportedAnnotationTypes({
+        BinderProcessor.COLUMN_LABEL
+})
+public class BinderProcessor
+        extends AbstractProcessor {
+
+    /**
+     * The package of the metadata types.
+     */
+    static final String PACKAGE = "com.github.jinahya.database.metadata.bind";
+
+    /**
+     * The fully qualified name of the {@code _ColumnLabel} annotation.
+     */
+    static final String COLUMN_LABEL = PACKAGE + "._ColumnLabel";
+
+    /**
+     * The fully qualified name of the {@code MetadataType} interface.
+     */
+    static final String METADATA_TYPE = PACKAGE + ".MetadataType";
+
+    /**
+     * The fully qualified name of the {@code Binder} interface.
+     */
+    static final String BINDER = PACKAGE + ".Binder";
+
+    /**
+     * The suffix of the simple names of generated binders.
+     */
+    static final String BINDER_SUFFIX = "_Binder";
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A record of a labeled field.
+     *
+     * @param label  the column label of the field.
+     * @param name   the name of the field.
+     * @param type   the qualified name of the type of the field.
+     * @param getter the name of the getter method of the field.
+     * @param setter the name of the setter method of the field.
+     */
+    private record LabeledField(String label, String name, String type, String getter, String setter) {
+    }
+
+    private static String capitalize(final String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String quote(final String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    /**
+     * Creates a new instance.
+     */
+    public BinderProcessor() {
+        super();
+    }
+
+    // ------------------------------------------------------------------------------------- javax.annotation.processing
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServices();
+            return true;
+        }
+        final var metadataType = processingEnv.getElementUtils().getTypeElement(METADATA_TYPE);
+        if (metadataType == null) {
+            return true;
+        }
+        for (final var type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+            if (!processingEnv.getTypeUtils().isAssignable(type.asType(), metadataType.asType())) {
+                continue;
+            }
+            final var fields = getLabeledFields(type);
+            if (fields.isEmpty()) {
+                continue;
+            }
+            try {
+                writeBinder(type, fields);
+            } catch (final IOException ioe) {
+                processingEnv.getMessager().printMessage(
+                        Diagnostic.Kind.ERROR, "failed to generate a binder; " + ioe.getMessage(), type);
+            }
+        }
+        return true;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns labeled fields of the specified type, and of its superclasses, in the order of
+     * {@code ContextUtils#getFieldsAnnotatedWith(Class, Class)}.
+     *
+     * @param type the type.
+     * @return a list of labeled fields.
+     */
+    private List<LabeledField> getLabeledFields(final TypeElement type) {
+        final var fields = new ArrayList<LabeledField>();
+        final var methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type));
+        for (TypeElement c = type; c != null; c = superclass(c)) {
+            for (final var field : ElementFilter.fieldsIn(c.getEnclosedElements())) {
+                final var label = getColumnLabel(field);
+                if (label == null) {
+                    continue;
+                }
+                final var name = field.getSimpleName().toString();
+                final var fieldType = processingEnv.getTypeUtils().erasure(field.asType());
+                if (fieldType.getKind().isPrimitive()) {
+                    processingEnv.getMessager().printMessage(
+                            Diagnostic.Kind.ERROR, "labeled field should not be primitive", field);
+                    continue;
+                }
+                final var getter = "get" + capitalize(name);
+                if (methods.stream().noneMatch(m -> isGetter(m, getter, field))) {
+                    processingEnv.getMessager().printMessage(
+                            Diagnostic.Kind.ERROR, "no " + getter + " method for the labeled field", field);
+                    continue;
+                }
+                final var setter = "set" + capitalize(name);
+                final var found = methods.stream().anyMatch(m -> isSetter(m, setter, field));
+                if (!found) {
+                    processingEnv.getMessager().printMessage(
+                            Diagnostic.Kind.ERROR, "no " + setter + " method for the labeled field", field);
+                    continue;
+                }
+                final var typeName =
+                        ((TypeElement) processingEnv.getTypeUtils().asElement(fieldType)).getQualifiedName();
+                fields.add(new LabeledField(label, name, typeName.toString(), getter, setter));
+            }
+        }
+        return fields;
+    }
+
+    private boolean isGetter(final ExecutableElement method, final String name, final VariableElement field) {
+        return method.getSimpleName().contentEquals(name)
+               && !method.getModifiers().contains(Modifier.PRIVATE)
+               && !method.getModifiers().contains(Modifier.STATIC)
+               && method.getParameters().isEmpty()
+               && processingEnv.getTypeUtils().isSameType(
+                processingEnv.getTypeUtils().erasure(method.getReturnType()),
+                processingEnv.getTypeUtils().erasure(field.asType()));
+    }
+
+    private boolean isSetter(final ExecutableElement method, final String name, final VariableElement field) {
+        return method.getSimpleName().contentEquals(name)
+               && !method.getModifiers().contains(Modifier.PRIVATE)
+               && !method.getModifiers().contains(Modifier.STATIC)
+               && method.getParameters().size() == 1
+               && processingEnv.getTypeUtils().isSameType(
+                processingEnv.getTypeUtils().erasure(method.getParameters().get(0).asType()),
+                processingEnv.getTypeUtils().erasure(field.asType()));
+    }
+
+    private static TypeElement superclass(final TypeElement type) {
+        final var superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    private static String getColumnLabel(final Element field) {
+        for (final var mirror : field.getAnnotationMirrors()) {
+            final var annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (!annotationType.getQualifiedName().contentEquals(COLUMN_LABEL)) {
+                continue;
+            }
+            for (final var entry : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) {
+                    return (String) entry.getValue().getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private void writeBinder(final TypeElement type, final List<LabeledField> fields) throws IOException {
+        final var packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final var typeName = type.getSimpleName().toString();
+        final var binderName = typeName + BINDER_SUFFIX;
+        final var qualifiedBinderName = packageName.isEmpty() ? binderName : packageName + '.' + binderName;
+        final var file = processingEnv.getFiler().createSourceFile(qualifiedBinderName, type);
+        try (var writer = new PrintWriter(file.openWriter())) {
+            if (!packageName.isEmpty()) {
+                writer.printf("package %s;%n%n", packageName);
+            }
+            writer.printf("/**%n");
+            writer.printf(" * A generated binder for the {@link %s} type.%n", typeName);
+            writer.printf(" */%n");
+            writer.printf("@javax.annotation.processing.Generated(%s)%n", quote(getClass().getName()));
+            writer.printf("public final class %s%n", binderName);
+            writer.printf("        implements %s<%s> {%n%n", BINDER, typeName);
+            writer.printf("    private static final String[] LABELS = {%n");
+            fields.forEach(f -> writer.printf("            %s,%n", quote(f.label())));
+            writer.printf("    };%n%n");
+            writer.printf("    private static final String[] NAMES = {%n");
+            fields.forEach(f -> writer.printf("            %s,%n", quote(f.name())));
+            writer.printf("    };%n%n");
+            writer.printf("    private static final Class<?>[] VALUE_TYPES = {%n");
+            fields.forEach(f -> writer.printf("            %s.class,%n", f.type()));
+            writer.printf("    };%n%n");
+            writer.printf("    /**%n");
+            writer.printf("     * Creates a new instance.%n");
+            writer.printf("     */%n");
+            writer.printf("    public %s() {%n", binderName);
+            writer.printf("        super();%n");
+            writer.printf("    }%n%n");
+            writer.printf("    @Override%n");
+            writer.printf("    public Class<%s> getType() {%n", typeName);
+            writer.printf("        return %s.class;%n", typeName);
+            writer.printf("    }%n%n");
+            writer.printf("    @Override%n");
+            writer.printf("    public %s newInstance() {%n", typeName);
+            writer.printf("        return new %s();%n", typeName);
+            writer.printf("    }%n%n");
+            writer.printf("    @Override%n");
+            writer.printf("    public int getSlotCount() {%n");
+            writer.printf("        return %d;%n", fields.size());
+            writer.printf("    }%n%n");
+            writer.printf("    @Override%n");
+            writer.printf("    public String getLabel(final int slot) {%n");
+            writer.printf("        return LABELS[slot];%n");
+            writer.printf("    }%n%n");
+            writer.printf("    @Override%n");
+            writer.printf("    public String getName(final int slot) {%n");
+            writer.printf("        return NAMES[slot];%n");
+            writer.printf("    }%n%n");
+            writer.printf("    @Override%n");
+            writer.printf("    public Class<?> getValueType(final int slot) {%n");
+            writer.printf("        return VALUE_TYPES[slot];%n");
+            writer.printf("    }%n%n");
+            writer.printf("    @Override%n");
+            writer.printf("    public @org.jspecify.annotations.Nullable Object getValue(final %s instance,%n",
+                          typeName);
+            writer.printf("                                                              final int slot) {%n");
+            writer.printf("        return switch (slot) {%n");
+            for (int slot = 0; slot < fields.size(); slot++) {
+                final var field = fields.get(slot);
+                writer.printf("            case %d -> instance.%s();%n", slot, field.getter());
+            }
+            writer.printf("            default -> throw new IndexOutOfBoundsException(\"slot: \" + slot);%n");
+            writer.printf("        };%n");
+            writer.printf("    }%n%n");
+            writer.printf("    @Override%n");
+            writer.printf("    public void setValue(final %s instance, final int slot,%n", typeName);
+            writer.printf("                         @org.jspecify.annotations.Nullable final Object value) {%n");
+            writer.printf("        switch (slot) {%n");
+            for (int slot = 0; slot < fields.size(); slot++) {
+                final var field = fields.get(slot);
+                writer.printf("            case %d -> instance.%s((%s) value);%n", slot, field.setter(), field.type());
+            }
+            writer.printf("            default -> throw new IndexOutOfBoundsException(\"slot: \" + slot);%n");
+            writer.printf("        }%n");
+            writer.printf("    }%n");
+            writer.printf("}%n");
+        }
+        binders.put(qualifiedBinderName, type);
+    }
+
+    private void writeServices() {
+        if (binders.isEmpty()) {
+            return;
+        }
+        final var providers = new TreeSet<>(binders.keySet());
+        try {
+            final var file = processingEnv.getFiler().createResource(
+                    StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + BINDER,
+                    binders.values().toArray(Element[]::new));
+            try (var writer = new PrintWriter(file.openWriter())) {
+                providers.forEach(writer::println);
+            }
+        } catch (final IOException ioe) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR, "failed to write the service configuration; " + ioe.getMessage());
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Generated binders, mapped by their qualified names, to their originating types.
+     */
+    private final Map<String, TypeElement> binders = new LinkedHashMap<>();
+}
@@ -0,0 +1,155 @@
+package com.github.jinahya.database.metadata.bind.processor;
+
+/*-
+ * #%L
+ * database-metadata-bind-processor
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link BinderProcessor}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class BinderProcessorTest {
+
+    private static final String PACKAGE_PATH = BinderProcessor.PACKAGE.replace('.', '/');
+
+    private static final Map<String, String> SOURCES = Map.of(
+            "Nullable.java", """
+                    package org.jspecify.annotations;
+                    @java.lang.annotation.Target(java.lang.annotation.ElementType.TYPE_USE)
+                    public @interface Nullable {
+                    }
+                    """,
+            "MetadataType.java", """
+                    package %1$s;
+                    public interface MetadataType {
+                    }
+                    """,
+            "Binder.java", """
+                    package %1$s;
+                    interface Binder<T extends MetadataType> {
+                        Class<T> getType();
+                        T newInstance();
+                        int getSlotCount();
+                        String getLabel(int slot);
+                        String getName(int slot);
+                        Class<?> getValueType(int slot);
+                        Object getValue(T instance, int slot);
+                        void setValue(T instance, int slot, Object value);
+                    }
+                    """,
+            "_ColumnLabel.java", """
+                    package %1$s;
+                    @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                    @interface _ColumnLabel {
+                        String value();
+                    }
+                    """,
+            "Parent.java", """
+                    package %1$s;
+                    abstract class Parent implements MetadataType {
+                        String getParentName() { return parentName; }
+                        void setParentName(final String parentName) { this.parentName = parentName; }
+                        @_ColumnLabel("PARENT_NAME")
+                        private String parentName;
+                    }
+                    """,
+            "Child.java", """
+                    package %1$s;
+                    public class Child extends Parent {
+                        Child() { super(); }
+                        Integer getChildSeq() { return childSeq; }
+                        void setChildSeq(final Integer childSeq) { this.childSeq = childSeq; }
+                        @_ColumnLabel("CHILD_SEQ")
+                        private Integer childSeq;
+                    }
+                    """
+    );
+
+    @Test
+    void process__GeneratesBinderAndServiceConfiguration(@TempDir final Path directory) throws Exception {
+        final var sources = directory.resolve("src");
+        final var classes = directory.resolve("classes");
+        Files.createDirectories(classes);
+        for (final var entry : SOURCES.entrySet()) {
+            final var path = sources.resolve(entry.getKey().equals("Nullable.java")
+                                             ? "org/jspecify/annotations" : PACKAGE_PATH)
+                    .resolve(entry.getKey());
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, entry.getValue().formatted(BinderProcessor.PACKAGE));
+        }
+        final var compiler = ToolProvider.getSystemJavaCompiler();
+        final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (var manager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            final var units = manager.getJavaFileObjectsFromPaths(sourceFiles(sources));
+            final var task = compiler.getTask(
+                    null, manager, diagnostics, List.of("-d", classes.toString(), "-s", classes.toString()), null,
+                    units);
+            task.setProcessors(List.of(new BinderProcessor()));
+            assertThat(task.call()).as("diagnostics: %s", diagnostics.getDiagnostics()).isTrue();
+        }
+        assertThat(classes.resolve(PACKAGE_PATH).resolve("Child_Binder.java")).exists();
+        assertThat(classes.resolve(PACKAGE_PATH).resolve("Parent_Binder.java")).doesNotExist();
+        assertThat(Files.readAllLines(classes.resolve("META-INF/services/" + BinderProcessor.BINDER)))
+                .containsExactly(BinderProcessor.PACKAGE + ".Child_Binder");
+        try (var loader = new URLClassLoader(new URL[] {classes.toUri().toURL()})) {
+            final var binderClass = loader.loadClass(BinderProcessor.PACKAGE + ".Child_Binder");
+            final var binder = binderClass.getConstructor().newInstance();
+            final var getSlotCount = binderClass.getMethod("getSlotCount");
+            final var getLabel = binderClass.getMethod("getLabel", int.class);
+            final var newInstance = binderClass.getMethod("newInstance");
+            final var childClass = loader.loadClass(BinderProcessor.PACKAGE + ".Child");
+            final var getValue = binderClass.getMethod("getValue", childClass, int.class);
+            final var setValue = binderClass.getMethod("setValue", childClass, int.class, Object.class);
+            assertThat(getSlotCount.invoke(binder)).isEqualTo(2);
+            assertThat(getLabel.invoke(binder, 0)).isEqualTo("CHILD_SEQ");
+            assertThat(getLabel.invoke(binder, 1)).isEqualTo("PARENT_NAME");
+            final var instance = newInstance.invoke(binder);
+            setValue.invoke(binder, instance, 0, 1);
+            setValue.invoke(binder, instance, 1, "name");
+            final var getChildSeq = instance.getClass().getDeclaredMethod("getChildSeq");
+            getChildSeq.setAccessible(true);
+            assertThat(getChildSeq.invoke(instance)).isEqualTo(1);
+            assertThat(getValue.invoke(binder, instance, 0)).isEqualTo(1);
+            assertThat(getValue.invoke(binder, instance, 1)).isEqualTo("name");
+        }
+    }
+
+    private static List<Path> sourceFiles(final Path sources) throws IOException {
+        try (var stream = Files.walk(sources)) {
+            return stream.filter(p -> p.toString().endsWith(".java")).toList();
+        }
+    }
+}
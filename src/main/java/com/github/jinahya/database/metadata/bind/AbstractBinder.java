@@ -0,0 +1,106 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An abstract class for implementing {@link Binder} over the {@link _ColumnLabel}-annotated fields of a type.
+ *
+ * @param <T> metadata type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+abstract class AbstractBinder<T extends MetadataType>
+        implements Binder<T> {
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    /**
+     * Creates a new instance for the specified type.
+     *
+     * @param type the metadata type to bind.
+     */
+    AbstractBinder(final Class<T> type) {
+        super();
+        this.type = Objects.requireNonNull(type, "type is null");
+        final var labeledFields = ContextUtils.getFieldsAnnotatedWith(type, _ColumnLabel.class);
+        fields = labeledFields.keySet().toArray(Field[]::new);
+        labels = labeledFields.values().stream().map(_ColumnLabel::value).toArray(String[]::new);
+    }
+
+    // ------------------------------------------------------------------------------------------------ java.lang.Object
+
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+               "type=" + type +
+               ",labels=" + List.of(labels) +
+               '}';
+    }
+
+    // ------------------------------------------------------------------------------------------------------------ type
+
+    @Override
+    public final Class<T> getType() {
+        return type;
+    }
+
+    // ----------------------------------------------------------------------------------------------------------- slots
+
+    @Override
+    public final int getSlotCount() {
+        return fields.length;
+    }
+
+    @Override
+    public final String getLabel(final int slot) {
+        return labels[slot];
+    }
+
+    @Override
+    public final String getName(final int slot) {
+        return fields[slot].getName();
+    }
+
+    @Override
+    public final Class<?> getValueType(final int slot) {
+        return fields[slot].getType();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The metadata type to bind.
+     */
+    final Class<T> type;
+
+    /**
+     * The {@link _ColumnLabel}-annotated fields of the {@link #type}, indexed by slot.
+     */
+    final Field[] fields;
+
+    /**
+     * The column labels of {@link #fields}, indexed by slot.
+     */
+    private final String[] labels;
+}
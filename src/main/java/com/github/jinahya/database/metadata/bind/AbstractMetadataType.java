@@ -24,8 +24,8 @@ import org.jspecify.annotations.Nullable;
 
 import java.io.Serial;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * An abstract class for implementing {@link MetadataType}.
@@ -55,10 +55,45 @@ abstract class AbstractMetadataType
     @Override
     public String toString() {
         return super.toString() + '{' +
-               "unknownColumns=" + unknownColumns +
+               "unknownColumns=" + getUnknownColumns() +
                '}';
     }
 
+    // --------------------------------------------------------------------------------------------------- serialization
+
+    /**
+     * Replaces this instance, being serialized, with a compact form written with {@link MetadataCodec}, which also
+     * carries {@link #getUnknownColumns() unknown columns}.
+     *
+     * @return a replacement of this instance.
+     */
+    @Serial
+    Object writeReplace() {
+        return new MetadataCodec.Replacement(this);
+    }
+
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * Returns the key last made by this method, if it was made of the same instances as specified values; otherwise
+     * makes a new key with specified factory and keeps it. Binders set fields directly, so values are compared, by
+     * identity, instead of being invalidated by setters.
+     *
+     * @param factory a factory making the key.
+     * @param values  the current values of fields the key is made of.
+     * @return a key made of {@code values}.
+     * @see #getKey()
+     */
+    final MetadataKey cachedKey(final Supplier<MetadataKey> factory, final @Nullable Object... values) {
+        final var cached = key;
+        if (cached != null && cached.isMadeOf(values)) {
+            return cached.key();
+        }
+        final var made = factory.get();
+        key = new CachedKey(made, values);
+        return made;
+    }
+
     // -------------------------------------------------------------------------------------------------- unknownColumns
 
     /**
@@ -69,6 +104,9 @@ abstract class AbstractMetadataType
      */
     @Override
     public Map<String, Object> getUnknownColumns() {
+        if (unknownColumns == null) {
+            return Collections.emptyMap();
+        }
         return Collections.unmodifiableMap(unknownColumns);
     }
 
@@ -81,15 +119,59 @@ abstract class AbstractMetadataType
      * @return the value previously associated with the specified label, or {@code null} if there was none.
      */
     @Nullable
-    Object putUnknownColumn(final String label, final Object value) {
+    Object putUnknownColumn(final String label, final @Nullable Object value) {
+        if (unknownColumns == null) {
+            unknownColumns = new UnknownColumns();
+        }
         return unknownColumns.put(label, value);
     }
 
+    /**
+     * Replaces the map of {@link #getUnknownColumns() unknown columns} of this instance with specified labels and
+     * values.
+     *
+     * @param labels the column labels; shared, not copied, and never modified.
+     * @param values the values of the columns, in the same order as {@code labels}.
+     * @see UnknownColumns#UnknownColumns(String[], Object[])
+     */
+    void setUnknownColumns(final String[] labels, final @Nullable Object[] values) {
+        unknownColumns = labels.length == 0 ? null : new UnknownColumns(labels, values);
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
-     * The map holding result-set columns, by label, that have no field of this type mapped to them. This map is
-     * {@code transient} and is therefore not serialized.
+     * The map holding result-set columns, by label, that have no field of this type mapped to them; {@code null} until
+     * the first column is put. This map is {@code transient}; it is serialized by the
+     * {@link #writeReplace() replacement}.
+     */
+    @Nullable
+    transient UnknownColumns unknownColumns;
+
+    /**
+     * The key last made by {@link #cachedKey(Supplier, Object...)}, along with values it was made of.
      */
-    final transient Map<String, Object> unknownColumns = new HashMap<>();
+    @Nullable
+    private transient CachedKey key;
+
+    /**
+     * A key, along with values it was made of.
+     *
+     * @param key    the key.
+     * @param values the values the key was made of.
+     */
+    private record CachedKey(MetadataKey key, @Nullable Object[] values) {
+
+        private boolean isMadeOf(final @Nullable Object[] current) {
+            if (current.length != values.length) {
+                return false;
+            }
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] != values[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -0,0 +1,308 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+
+import javax.sql.DataSource;
+import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * An asynchronous variant of {@link Context} whose operations run on an executor, each with a new connection.
+ * <p>
+ * Each operation {@link Connector#connect() connects}, applies a new {@link Context} to the connection, and closes the
+ * connection, on the executor; so operations of an instance may run concurrently, e.g. per table, up to the size of
+ * the pool behind the data source. A failure completes the returned future exceptionally with a
+ * {@link CompletionException} whose cause is the {@link SQLException}.
+ * <p>
+ * By default, operations run on virtual threads, when the runtime supports them (JDK 21+), or on cached daemon
+ * threads otherwise.
+ * <p>
+ * {@snippet :
+ * var context = AsyncContext.newInstance(dataSource);
+ * var keys = context.getTables(null, "PUBLIC", "%", new String[] {"TABLE"})
+ *         .thenCompose(tables -> CompletableFuture.allOf(
+ *                 tables.stream()
+ *                         .map(t -> context.getPrimaryKeys(t.getTableCat(), t.getTableSchem(), t.getTableName()))
+ *                         .toArray(CompletableFuture[]::new)));
+ *}
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see Context
+ */
+public final class AsyncContext {
+
+    private static final System.Logger logger = System.getLogger(MethodHandles.lookup().lookupClass().getName());
+
+    /**
+     * A function applied to a context.
+     *
+     * @param <R> result type parameter
+     */
+    @FunctionalInterface
+    public interface ContextFunction<R> {
+
+        /**
+         * Applies this function to the specified context.
+         *
+         * @param context the context.
+         * @return the result.
+         * @throws SQLException if a database error occurs.
+         */
+        R apply(Context context) throws SQLException;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A holder of the default executor, initialized when first used.
+     */
+    private static final class DefaultExecutor {
+
+        private static final Executor INSTANCE = newDefaultExecutor();
+
+        @SuppressWarnings({
+                "java:S1141" // nested try
+        })
+        private static Executor newDefaultExecutor() {
+            try {
+                final var executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(null);
+                logger.log(System.Logger.Level.DEBUG, "using virtual threads");
+                return executor;
+            } catch (final ReflectiveOperationException roe) {
+                logger.log(System.Logger.Level.DEBUG, "virtual threads are not available; using daemon threads");
+            }
+            final var sequence = new AtomicInteger();
+            return Executors.newCachedThreadPool(r -> {
+                final var thread = new Thread(r, "async-context-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private DefaultExecutor() {
+            throw new AssertionError("instantiation is not allowed");
+        }
+    }
+
+    /**
+     * Returns the default executor, which runs tasks on virtual threads when the runtime supports them.
+     *
+     * @return the default executor.
+     */
+    static Executor defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Creates a new instance which connects with the specified data source, and runs on the default executor.
+     *
+     * @param dataSource the data source of connections.
+     * @return a new instance.
+     */
+    public static AsyncContext newInstance(final DataSource dataSource) {
+        return newInstance(dataSource, defaultExecutor());
+    }
+
+    /**
+     * Creates a new instance which connects with the specified data source, and runs on the specified executor.
+     *
+     * @param dataSource the data source of connections.
+     * @param executor   the executor on which operations run.
+     * @return a new instance.
+     */
+    public static AsyncContext newInstance(final DataSource dataSource, final Executor executor) {
+        return new AsyncContext(Connector.of(dataSource), executor);
+    }
+
+    /**
+     * Creates a new instance which connects with the specified supplier, and runs on the specified executor.
+     *
+     * @param connections the supplier of new connections; each connection supplied is closed after an operation.
+     * @param executor    the executor on which operations run.
+     * @return a new instance.
+     */
+    public static AsyncContext newInstance(final Supplier<? extends Connection> connections,
+                                           final Executor executor) {
+        return new AsyncContext(Connector.of(connections), executor);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    private AsyncContext(final Connector connector, final Executor executor) {
+        super();
+        this.connector = connector;
+        this.executor = Objects.requireNonNull(executor, "executor is null");
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Applies, asynchronously, the specified function to a context of a new connection.
+     *
+     * @param function the function to apply.
+     * @param <R>      result type parameter
+     * @return a future of the result of the {@code function}.
+     */
+    public <R> CompletableFuture<R> supply(final ContextFunction<? extends R> function) {
+        Objects.requireNonNull(function, "function is null");
+        return CompletableFuture.supplyAsync(() -> {
+            try (var connection = connector.connect()) {
+                return function.apply(Context.newInstance(connection));
+            } catch (final SQLException sqle) {
+                throw new CompletionException(sqle);
+            }
+        }, executor);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Invokes {@link Context#getTables(String, String, String, String[])} method asynchronously.
+     *
+     * @param catalog          a value for the {@code catalog} parameter.
+     * @param schemaPattern    a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for the {@code tableNamePattern} parameter.
+     * @param types            a value for the {@code types} parameter.
+     * @return a future of a list of bound values.
+     */
+    public CompletableFuture<List<Table>> getTables(@Nullable final String catalog,
+                                                    @Nullable final String schemaPattern,
+                                                    final String tableNamePattern, @Nullable final String[] types) {
+        return supply(c -> c.getTables(catalog, schemaPattern, tableNamePattern, types));
+    }
+
+    /**
+     * Invokes {@link Context#getColumns(String, String, String, String)} method asynchronously.
+     *
+     * @param catalog           a value for the {@code catalog} parameter.
+     * @param schemaPattern     a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern  a value for the {@code tableNamePattern} parameter.
+     * @param columnNamePattern a value for the {@code columnNamePattern} parameter.
+     * @return a future of a list of bound values.
+     */
+    public CompletableFuture<List<Column>> getColumns(@Nullable final String catalog,
+                                                      @Nullable final String schemaPattern,
+                                                      final String tableNamePattern, final String columnNamePattern) {
+        return supply(c -> c.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern));
+    }
+
+    /**
+     * Invokes {@link Context#getPrimaryKeys(String, String, String)} method asynchronously.
+     *
+     * @param catalog a value for the {@code catalog} parameter.
+     * @param schema  a value for the {@code schema} parameter.
+     * @param table   a value for the {@code table} parameter.
+     * @return a future of a list of bound values.
+     */
+    public CompletableFuture<List<PrimaryKey>> getPrimaryKeys(@Nullable final String catalog,
+                                                              @Nullable final String schema, final String table) {
+        return supply(c -> c.getPrimaryKeys(catalog, schema, table));
+    }
+
+    /**
+     * Invokes {@link Context#getImportedKeys(String, String, String)} method asynchronously.
+     *
+     * @param catalog a value for the {@code catalog} parameter.
+     * @param schema  a value for the {@code schema} parameter.
+     * @param table   a value for the {@code table} parameter.
+     * @return a future of a list of bound values.
+     */
+    public CompletableFuture<List<ImportedKey>> getImportedKeys(@Nullable final String catalog,
+                                                                @Nullable final String schema, final String table) {
+        return supply(c -> c.getImportedKeys(catalog, schema, table));
+    }
+
+    /**
+     * Invokes {@link Context#getExportedKeys(String, String, String)} method asynchronously.
+     *
+     * @param catalog a value for the {@code catalog} parameter.
+     * @param schema  a value for the {@code schema} parameter.
+     * @param table   a value for the {@code table} parameter.
+     * @return a future of a list of bound values.
+     */
+    public CompletableFuture<List<ExportedKey>> getExportedKeys(@Nullable final String catalog,
+                                                                @Nullable final String schema, final String table) {
+        return supply(c -> c.getExportedKeys(catalog, schema, table));
+    }
+
+    /**
+     * Invokes {@link Context#getIndexInfo(String, String, String, boolean, boolean)} method asynchronously.
+     *
+     * @param catalog     a value for the {@code catalog} parameter.
+     * @param schema      a value for the {@code schema} parameter.
+     * @param table       a value for the {@code table} parameter.
+     * @param unique      a value for the {@code unique} parameter.
+     * @param approximate a value for the {@code approximate} parameter.
+     * @return a future of a list of bound values.
+     */
+    public CompletableFuture<List<IndexInfo>> getIndexInfo(@Nullable final String catalog,
+                                                           @Nullable final String schema, final String table,
+                                                           final boolean unique, final boolean approximate) {
+        return supply(c -> c.getIndexInfo(catalog, schema, table, unique, approximate));
+    }
+
+    /**
+     * Describes, asynchronously, tables matching the specified arguments; each table is described on its own
+     * connection, concurrently with the others.
+     *
+     * @param catalog          a value for the {@code catalog} parameter.
+     * @param schemaPattern    a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for the {@code tableNamePattern} parameter.
+     * @param types            a value for the {@code types} parameter.
+     * @return a future of a list of descriptions, in the order the driver returned tables.
+     * @see Context#describeTables(String, String, String, String[])
+     */
+    public CompletableFuture<List<TableDescription>> describeTables(@Nullable final String catalog,
+                                                                    @Nullable final String schemaPattern,
+                                                                    final String tableNamePattern,
+                                                                    @Nullable final String[] types) {
+        return supply(c -> c.getColumnsGroupedByTable(
+                c.getTables(catalog, schemaPattern, tableNamePattern, types), catalog, schemaPattern,
+                tableNamePattern
+        )).thenCompose(columns -> {
+            final var futures = columns.entrySet().stream()
+                    .map(e -> supply(c -> c.describeTable(e.getKey(), e.getValue())))
+                    .toList();
+            return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .thenApply(v -> futures.stream().map(CompletableFuture::join).toList());
+        });
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final Connector connector;
+
+    private final Executor executor;
+}
@@ -275,6 +275,21 @@ public class Attribute
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} An attribute is identified by its UDT and its name.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(Attribute.class,
+                                              MetadataKey.udt(getEffectiveTypeCat(), getEffectiveTypeSchem(), typeName),
+                                              attrName),
+                         typeCat, typeSchem, typeName, attrName);
+    }
+
     // ---------------------------------------------------------------------------------------------- Jakarta-Validation
 
     /**
@@ -185,6 +185,18 @@ public class BestRowIdentifier
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A best row identifier column is identified by its name; the result has no table.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(BestRowIdentifier.class, null, columnName), columnName);
+    }
+
     // ----------------------------------------------------------------------------------------------------------- scope
 
     /**
@@ -0,0 +1,101 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An interface for instantiating a specific metadata type and for setting values to its
+ * {@link _ColumnLabel}-annotated fields.
+ * <p>
+ * Each labeled field is identified by a <em>slot</em>, an index in {@code [0, }{@link #getSlotCount()}{@code )}.
+ * Implementations are immutable and are shared across threads.
+ *
+ * @param <T> metadata type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BindingPlan
+ */
+interface Binder<T extends MetadataType> {
+
+    /**
+     * Returns the metadata type this binder binds.
+     *
+     * @return the metadata type this binder binds.
+     */
+    Class<T> getType();
+
+    /**
+     * Creates a new (unbound) instance of the {@link #getType() type}.
+     *
+     * @return a new instance of the {@link #getType() type}.
+     */
+    T newInstance();
+
+    /**
+     * Returns the number of slots of this binder.
+     *
+     * @return the number of slots of this binder.
+     */
+    int getSlotCount();
+
+    /**
+     * Returns the {@link _ColumnLabel#value() column label} of the field at the specified slot.
+     *
+     * @param slot the slot.
+     * @return the column label of the field at the {@code slot}.
+     */
+    String getLabel(int slot);
+
+    /**
+     * Returns the name of the field at the specified slot.
+     *
+     * @param slot the slot.
+     * @return the name of the field at the {@code slot}.
+     */
+    String getName(int slot);
+
+    /**
+     * Returns the (non-primitive) type of the field at the specified slot.
+     *
+     * @param slot the slot.
+     * @return the type of the field at the {@code slot}.
+     */
+    Class<?> getValueType(int slot);
+
+    /**
+     * Returns the value of the field, at the specified slot, of the specified instance.
+     *
+     * @param instance the instance whose field is read.
+     * @param slot     the slot of the field.
+     * @return the value of the field; {@code null} or an instance of {@link #getValueType(int)}.
+     */
+    @Nullable
+    Object getValue(T instance, int slot);
+
+    /**
+     * Sets the specified value to the field, at the specified slot, of the specified instance.
+     *
+     * @param instance the instance whose field is set.
+     * @param slot     the slot of the field.
+     * @param value    the value to set; must be {@code null} or an instance of {@link #getValueType(int)}.
+     */
+    void setValue(T instance, int slot, @Nullable Object value);
+}
@@ -0,0 +1,119 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+/**
+ * A class of utilities for obtaining {@link Binder binders}.
+ * <p>
+ * Binders generated, at compile time, by the {@code database-metadata-bind-processor} module are discovered with
+ * {@link ServiceLoader} and are preferred; any other type is bound with a {@link HandleBinder}.
+ * <p>
+ * Binders are registered, JVM-wide, per metadata type; each type is scanned once no matter how many
+ * {@link Context contexts} are created.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+final class Binders {
+
+    private static final System.Logger logger = System.getLogger(MethodHandles.lookup().lookupClass().getName());
+
+    /**
+     * A lazy holder of generated binders.
+     */
+    private static final class Generated {
+
+        @SuppressWarnings({
+                "rawtypes",
+                "unchecked"
+        })
+        private static Map<Class<?>, Binder<?>> load() {
+            final var binders = new HashMap<Class<?>, Binder<?>>();
+            for (final Binder<?> binder : (ServiceLoader<Binder<?>>) (ServiceLoader) ServiceLoader.load(
+                    Binder.class, Binder.class.getClassLoader())) {
+                logger.log(System.Logger.Level.DEBUG, "generated binder: {0}", binder);
+                binders.putIfAbsent(binder.getType(), binder);
+            }
+            return Map.copyOf(binders);
+        }
+
+        private static final Map<Class<?>, Binder<?>> BINDERS = load();
+
+        private Generated() {
+            throw new AssertionError("instantiation is not allowed");
+        }
+    }
+
+    /**
+     * A JVM-wide registry of binders.
+     */
+    private static final ClassValue<Binder<?>> BINDERS = new ClassValue<>() {
+        @Override
+        protected Binder<?> computeValue(final Class<?> type) {
+            return newBinder(type.asSubclass(MetadataType.class));
+        }
+    };
+
+    /**
+     * Returns the registered binder for the specified type; computed, with {@link #newBinder(Class)}, on the first
+     * call for the {@code type}.
+     *
+     * @param type the metadata type to bind.
+     * @param <T>  metadata type parameter
+     * @return the binder for the {@code type}.
+     */
+    @SuppressWarnings({
+            "unchecked"
+    })
+    static <T extends MetadataType> Binder<T> getBinder(final Class<T> type) {
+        Objects.requireNonNull(type, "type is null");
+        return (Binder<T>) BINDERS.get(type);
+    }
+
+    /**
+     * Returns a binder for the specified type; a generated one if available, or a new {@link HandleBinder} otherwise.
+     *
+     * @param type the metadata type to bind.
+     * @param <T>  metadata type parameter
+     * @return a binder for the {@code type}.
+     */
+    @SuppressWarnings({
+            "unchecked"
+    })
+    static <T extends MetadataType> Binder<T> newBinder(final Class<T> type) {
+        Objects.requireNonNull(type, "type is null");
+        final var generated = (Binder<T>) Generated.BINDERS.get(type);
+        if (generated != null) {
+            return generated;
+        }
+        return new HandleBinder<>(type);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private Binders() {
+        throw new AssertionError("instantiation is not allowed");
+    }
+}
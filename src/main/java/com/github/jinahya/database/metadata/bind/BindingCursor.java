@@ -0,0 +1,105 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * A {@link MetadataCursor} which refills a single instance with a {@link BindingPlan}.
+ *
+ * @param <T> metadata type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+final class BindingCursor<T extends MetadataType>
+        implements MetadataCursor<T> {
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    /**
+     * Creates a new instance with specified result set and plan.
+     *
+     * @param results the result set whose rows are bound.
+     * @param plan    the plan with which each row is bound.
+     */
+    BindingCursor(final ResultSet results, final BindingPlan<T> plan) {
+        super();
+        this.results = Objects.requireNonNull(results, "results is null");
+        this.plan = Objects.requireNonNull(plan, "plan is null");
+        instance = plan.newInstance();
+    }
+
+    // ------------------------------------------------------------------------------------------------ java.lang.Object
+
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+               "plan=" + plan +
+               ",positioned=" + positioned +
+               '}';
+    }
+
+    // -------------------------------------------------------------------------------------------------- MetadataCursor
+
+    @Override
+    public boolean next() throws SQLException {
+        positioned = results.next();
+        if (positioned) {
+            plan.bind(results, instance);
+        }
+        return positioned;
+    }
+
+    @Override
+    public T get() {
+        requirePositioned();
+        return instance;
+    }
+
+    @Override
+    public T detach() throws SQLException {
+        requirePositioned();
+        return plan.bind(results);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        positioned = false;
+        results.close();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private void requirePositioned() {
+        if (!positioned) {
+            throw new IllegalStateException("not positioned on a row");
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final ResultSet results;
+
+    private final BindingPlan<T> plan;
+
+    private final T instance;
+
+    private boolean positioned;
+}
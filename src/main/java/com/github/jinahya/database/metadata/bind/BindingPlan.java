@@ -0,0 +1,310 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable plan for binding each row of a specific result set to instances of a specific metadata type.
+ * <p>
+ * A plan is compiled once per result set; it resolves, up front, the column index of each
+ * {@link _ColumnLabel}-annotated field, the {@link Coercion} with which each of those columns is read, and the
+ * indices of columns that no field is mapped to. Binding a row then merely runs the plan, with no further
+ * {@link java.sql.ResultSetMetaData} calls and no per-row map copies.
+ *
+ * @param <T> metadata type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+final class BindingPlan<T extends MetadataType> {
+
+    private static final System.Logger logger = System.getLogger(MethodHandles.lookup().lookupClass().getName());
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Compiles a new plan for binding rows of the specified result set with the specified binder.
+     *
+     * @param results the result set whose rows are bound.
+     * @param binder  the binder of the metadata type to which rows are bound.
+     * @param <T>     metadata type parameter
+     * @return a new plan.
+     * @throws SQLException if a database error occurs.
+     * @see #compile(ResultSet, Binder, boolean)
+     */
+    static <T extends MetadataType> BindingPlan<T> compile(final ResultSet results, final Binder<T> binder)
+            throws SQLException {
+        return compile(results, binder, true);
+    }
+
+    /**
+     * Compiles a new plan for binding rows of the specified result set with the specified binder.
+     *
+     * @param results        the result set whose rows are bound.
+     * @param binder         the binder of the metadata type to which rows are bound.
+     * @param unknownColumns a flag for collecting values of unknown columns; {@code false} for never reading them.
+     * @param <T>            metadata type parameter
+     * @return a new plan.
+     * @throws SQLException if a database error occurs.
+     * @see #compile(ResultSet, Binder, boolean, Set)
+     */
+    static <T extends MetadataType> BindingPlan<T> compile(final ResultSet results, final Binder<T> binder,
+                                                           final boolean unknownColumns)
+            throws SQLException {
+        return compile(results, binder, unknownColumns, null);
+    }
+
+    /**
+     * Compiles a new plan for binding rows of the specified result set with the specified binder.
+     *
+     * @param results        the result set whose rows are bound.
+     * @param binder         the binder of the metadata type to which rows are bound.
+     * @param unknownColumns a flag for collecting values of unknown columns; {@code false} for never reading them.
+     * @param projection     the (upper-cased) labels of fields to bind; {@code null} for binding all fields. Columns
+     *                       of other fields are never read, and are not collected as unknown columns.
+     * @param <T>            metadata type parameter
+     * @return a new plan.
+     * @throws SQLException if a database error occurs.
+     * @see ResultSet#getMetaData()
+     */
+    static <T extends MetadataType> BindingPlan<T> compile(final ResultSet results, final Binder<T> binder,
+                                                           final boolean unknownColumns,
+                                                           @Nullable final Set<String> projection)
+            throws SQLException {
+        Objects.requireNonNull(results, "results is null");
+        Objects.requireNonNull(binder, "binder is null");
+        final var metadata = results.getMetaData();
+        final var count = metadata.getColumnCount();
+        final var columns = new LinkedHashMap<String, Integer>(count);
+        for (int i = 1; i <= count; i++) {
+            columns.putIfAbsent(metadata.getColumnLabel(i).toUpperCase(Locale.ROOT), i);
+        }
+        final var labelIndices = Map.copyOf(columns);
+        final var slots = new ArrayList<Integer>(binder.getSlotCount());
+        final var slotIndices = new ArrayList<Integer>(binder.getSlotCount());
+        final var coercions = new ArrayList<Coercion>(binder.getSlotCount());
+        for (int slot = 0; slot < binder.getSlotCount(); slot++) {
+            final var label = binder.getLabel(slot);
+            final var index = columns.remove(label);
+            if (projection != null && !projection.contains(label)) {
+                continue;
+            }
+            if (index == null) {
+                if (count == 0) { // e.g. of an unsupported operation; see UnsupportedOperationPolicy#EMPTY
+                    continue;
+                }
+                final var name = binder.getName(slot);
+                logger.log(
+                        System.Logger.Level.WARNING,
+                        () -> String.format("unmapped field; label: %s; field: %s.%s",
+                                            label, binder.getType().getName(), name)
+                );
+                continue;
+            }
+            slots.add(slot);
+            slotIndices.add(index);
+            coercions.add(Coercion.of(binder.getValueType(slot), metadata.getColumnType(index)));
+        }
+        if (!unknownColumns) {
+            columns.clear();
+        }
+        return new BindingPlan<>(
+                binder,
+                labelIndices,
+                slots.stream().mapToInt(Integer::intValue).toArray(),
+                slotIndices.stream().mapToInt(Integer::intValue).toArray(),
+                coercions.toArray(Coercion[]::new),
+                columns.keySet().toArray(String[]::new),
+                columns.values().stream().mapToInt(Integer::intValue).toArray()
+        );
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    private BindingPlan(final Binder<T> binder, final Map<String, Integer> labelIndices, final int[] slots,
+                        final int[] slotIndices, final Coercion[] coercions, final String[] unknownLabels,
+                        final int[] unknownIndices) {
+        super();
+        this.binder = binder;
+        this.labelIndices = labelIndices;
+        this.slots = slots;
+        this.slotIndices = slotIndices;
+        this.coercions = coercions;
+        this.unknownLabels = unknownLabels;
+        this.unknownIndices = unknownIndices;
+    }
+
+    // ------------------------------------------------------------------------------------------------ java.lang.Object
+
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+               "binder=" + binder +
+               ",slots=" + Arrays.toString(slots) +
+               ",coercions=" + Arrays.toString(coercions) +
+               ",unknownLabels=" + Arrays.toString(unknownLabels) +
+               '}';
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a view of the current row of the specified result set, whose columns are looked up through the indices
+     * resolved by this plan.
+     *
+     * @param results the result set; positioned, when the view is read, on a row.
+     * @return a view of the current row of the {@code results}.
+     */
+    RowPredicate.Row row(final ResultSet results) {
+        Objects.requireNonNull(results, "results is null");
+        return new RowPredicate.Row() {
+
+            @Override
+            public @Nullable Object getObject(final String columnLabel) throws SQLException {
+                final var index = indexOf(columnLabel);
+                return index == null ? null : results.getObject(index);
+            }
+
+            @Override
+            public @Nullable String getString(final String columnLabel) throws SQLException {
+                final var index = indexOf(columnLabel);
+                return index == null ? null : results.getString(index);
+            }
+
+            @Override
+            public @Nullable Integer getInt(final String columnLabel) throws SQLException {
+                final var index = indexOf(columnLabel);
+                if (index == null) {
+                    return null;
+                }
+                final var value = results.getInt(index);
+                return results.wasNull() ? null : value;
+            }
+
+            private @Nullable Integer indexOf(final String columnLabel) {
+                Objects.requireNonNull(columnLabel, "columnLabel is null");
+                final var index = labelIndices.get(columnLabel);
+                if (index != null) {
+                    return index;
+                }
+                return labelIndices.get(columnLabel.toUpperCase(Locale.ROOT));
+            }
+        };
+    }
+
+    /**
+     * Creates a new, unbound, instance of the type of this plan.
+     *
+     * @return a new instance.
+     * @see Binder#newInstance()
+     */
+    T newInstance() {
+        return binder.newInstance();
+    }
+
+    /**
+     * Binds the current row of the specified result set to a new instance.
+     *
+     * @param results the result set, positioned on a row, from which values are read.
+     * @return a new bound instance.
+     * @throws SQLException if a database error occurs.
+     * @see Binder#newInstance()
+     */
+    T bind(final ResultSet results) throws SQLException {
+        return bind(results, binder.newInstance());
+    }
+
+    /**
+     * Binds the current row of the specified result set to the specified instance. When the {@code instance} is
+     * rebound by this plan, its storage of unknown columns is reused.
+     *
+     * @param results  the result set, positioned on a row, from which values are read.
+     * @param instance the instance to which values are bound.
+     * @return given {@code instance}.
+     * @throws SQLException if a database error occurs.
+     */
+    T bind(final ResultSet results, final T instance) throws SQLException {
+        for (int i = 0; i < slots.length; i++) {
+            coercions[i].apply(binder, instance, slots[i], results, slotIndices[i]);
+        }
+        if (unknownIndices.length == 0) {
+            return instance;
+        }
+        final var metadata = instance instanceof AbstractMetadataType m ? m : null;
+        final var reused = metadata == null || metadata.unknownColumns == null
+                           ? null : metadata.unknownColumns.valuesOf(unknownLabels);
+        final var values = reused != null ? reused : new Object[unknownIndices.length];
+        for (int i = 0; i < unknownIndices.length; i++) {
+            values[i] = results.getObject(unknownIndices[i]);
+            logger.log(System.Logger.Level.TRACE,
+                       "unknown column; type: {0}, label: {1}, value: {2}",
+                       binder.getType().getSimpleName(), unknownLabels[i], values[i]);
+        }
+        if (metadata != null && reused == null) {
+            metadata.setUnknownColumns(unknownLabels, values);
+        }
+        return instance;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private final Binder<T> binder;
+
+    /**
+     * The (1-based) column indices of all columns, by (upper-cased) label.
+     */
+    private final Map<String, Integer> labelIndices;
+
+    /**
+     * The slots of the {@link #binder} mapped to columns of the result set.
+     */
+    private final int[] slots;
+
+    /**
+     * The (1-based) column indices of {@link #slots}.
+     */
+    private final int[] slotIndices;
+
+    /**
+     * The coercions with which {@link #slotIndices} are read.
+     */
+    private final Coercion[] coercions;
+
+    /**
+     * The labels of columns that no field is mapped to.
+     */
+    private final String[] unknownLabels;
+
+    /**
+     * The (1-based) column indices of {@link #unknownLabels}.
+     */
+    private final int[] unknownIndices;
+}
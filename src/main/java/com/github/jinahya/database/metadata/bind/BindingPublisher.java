@@ -0,0 +1,231 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A publisher binding each row of a result set only when a subscriber requests it.
+ * <p>
+ * The result set is retrieved, for each subscription, on the first request; and is closed when it is exhausted, when a
+ * binding fails, when the subscription is cancelled, or when the subscriber throws from its
+ * {@link Flow.Subscriber#onNext(Object) onNext} method, which cancels the subscription. Rows are bound, and emitted,
+ * on the thread requesting them; the result set is never advanced beyond the outstanding demand.
+ *
+ * @param <T> metadata type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see Context
+ */
+final class BindingPublisher<T extends MetadataType>
+        implements Flow.Publisher<T> {
+
+    private static final System.Logger logger = System.getLogger(MethodHandles.lookup().lookupClass().getName());
+
+    /**
+     * A query for the result set to publish.
+     */
+    @FunctionalInterface
+    interface Query {
+
+        /**
+         * Executes this query.
+         *
+         * @return the result set.
+         * @throws SQLException if a database error occurs.
+         */
+        ResultSet execute() throws SQLException;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A subscription draining the result set, serially, up to the demand of its subscriber.
+     */
+    private final class BindingSubscription
+            implements Flow.Subscription {
+
+        private BindingSubscription(final Flow.Subscriber<? super T> subscriber) {
+            super();
+            this.subscriber = subscriber;
+        }
+
+        // ---------------------------------------------------------------------- java.util.concurrent.Flow.Subscription
+        @Override
+        public void request(final long n) {
+            if (n <= 0L) {
+                illegal = new IllegalArgumentException("non-positive request: " + n);
+            } else {
+                requested.getAndUpdate(r -> r + n < 0L ? Long.MAX_VALUE : r + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        // -------------------------------------------------------------------------------------------------------------
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                emit();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (!done) {
+                if (cancelled) {
+                    done = true;
+                    closeQuietly();
+                    return;
+                }
+                if (illegal != null) {
+                    done = true;
+                    closeQuietly();
+                    subscriber.onError(illegal);
+                    return;
+                }
+                final var r = requested.get();
+                if (r == 0L) {
+                    return;
+                }
+                final T bound;
+                try {
+                    var results = this.results;
+                    var plan = this.plan;
+                    if (results == null || plan == null) {
+                        results = this.results = query.execute();
+                        plan = this.plan = BindingPlan.compile(
+                                results, Binders.getBinder(type), unknownColumns, projection);
+                    }
+                    if (!results.next()) {
+                        done = true;
+                        results.close();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    bound = plan.bind(results);
+                } catch (final SQLException | RuntimeException e) {
+                    done = true;
+                    closeQuietly();
+                    subscriber.onError(e);
+                    return;
+                }
+                if (r != Long.MAX_VALUE) {
+                    requested.decrementAndGet();
+                }
+                try {
+                    subscriber.onNext(bound);
+                } catch (final RuntimeException re) {
+                    // a subscriber is not allowed to throw; considers the subscription cancelled
+                    logger.log(System.Logger.Level.WARNING, "onNext threw; cancelling", re);
+                    cancelled = true;
+                    done = true;
+                    closeQuietly();
+                    return;
+                }
+            }
+        }
+
+        private void closeQuietly() {
+            if (results == null) {
+                return;
+            }
+            try {
+                results.close();
+            } catch (final SQLException sqle) {
+                logger.log(System.Logger.Level.WARNING, "failed to close " + results, sqle);
+            }
+        }
+
+        // -------------------------------------------------------------------------------------------------------------
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        @Nullable
+        private volatile IllegalArgumentException illegal;
+
+        // accessed only while draining, which is serialized by the wip
+        private boolean done;
+
+        @Nullable
+        private ResultSet results;
+
+        @Nullable
+        private BindingPlan<T> plan;
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    /**
+     * Creates a new instance.
+     *
+     * @param query          the query for the result set to publish.
+     * @param type           the type of instances.
+     * @param unknownColumns a flag for collecting unknown columns.
+     * @param projection     the column labels of fields to bind; {@code null} for all.
+     */
+    BindingPublisher(final Query query, final Class<T> type, final boolean unknownColumns,
+                     @Nullable final Set<String> projection) {
+        super();
+        this.query = Objects.requireNonNull(query, "query is null");
+        this.type = Objects.requireNonNull(type, "type is null");
+        this.unknownColumns = unknownColumns;
+        this.projection = projection;
+    }
+
+    // ----------------------------------------------------------------------------- java.util.concurrent.Flow.Publisher
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is null");
+        subscriber.onSubscribe(new BindingSubscription(subscriber));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final Query query;
+
+    private final Class<T> type;
+
+    private final boolean unknownColumns;
+
+    @Nullable
+    private final Set<String> projection;
+}
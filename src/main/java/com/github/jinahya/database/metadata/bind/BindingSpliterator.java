@@ -0,0 +1,115 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator binding each row of a result set, with a {@link BindingPlan}, only when the row is pulled.
+ * <p>
+ * The result set is closed when it is exhausted, or when {@link #close()} is invoked; e.g. by closing a stream
+ * {@link java.util.stream.BaseStream#onClose(Runnable) built on} this spliterator.
+ *
+ * @param <T> metadata type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see Context
+ */
+final class BindingSpliterator<T extends MetadataType>
+        extends Spliterators.AbstractSpliterator<T>
+        implements AutoCloseable {
+
+    private static final System.Logger logger = System.getLogger(MethodHandles.lookup().lookupClass().getName());
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    /**
+     * Creates a new instance with specified result set and plan.
+     *
+     * @param results the result set whose rows are bound.
+     * @param plan    the plan with which each row is bound.
+     */
+    BindingSpliterator(final ResultSet results, final BindingPlan<T> plan) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.results = Objects.requireNonNull(results, "results is null");
+        this.plan = Objects.requireNonNull(plan, "plan is null");
+    }
+
+    // ----------------------------------------------------------------------------------------- java.lang.AutoCloseable
+
+    /**
+     * Closes the result set, unless already closed.
+     */
+    @SuppressWarnings({
+            "java:S112" // new RuntimeException
+    })
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            results.close();
+        } catch (final SQLException sqle) {
+            throw new RuntimeException("failed to close " + results, sqle);
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------- java.util.Spliterator
+
+    @SuppressWarnings({
+            "java:S112" // new RuntimeException
+    })
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action is null");
+        if (closed) {
+            return false;
+        }
+        final T bound;
+        try {
+            if (!results.next()) {
+                logger.log(System.Logger.Level.DEBUG, "exhausted; closing {0}", results);
+                close();
+                return false;
+            }
+            bound = plan.bind(results);
+        } catch (final SQLException sqle) {
+            close();
+            throw new RuntimeException("failed to bind a row of " + results, sqle);
+        }
+        action.accept(bound);
+        return true;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final ResultSet results;
+
+    private final BindingPlan<T> plan;
+
+    private boolean closed;
+}
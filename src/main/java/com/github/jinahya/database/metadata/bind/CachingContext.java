@@ -0,0 +1,727 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * A context which caches lists of bound values, keyed by the method and its arguments.
+ * <p>
+ * Each {@code getXxx} method returning a list of bound values is cached, with an unmodifiable list. Columns of
+ * {@link #describeTables(String, String, String, String[])} are retrieved with the cached
+ * {@link #getColumns(String, String, String, String) getColumns}; so are its keys and indices, with their cached
+ * methods. Streaming methods, e.g. {@code streamXxx}, {@code cursorXxx}, {@code forEachXxx}, and {@code publishXxx},
+ * always read the database.
+ * <p>
+ * Entries are evicted in least-recently-used order when either the {@link #setMaximumEntries(int) maximum number of
+ * entries} or the {@link #setMaximumWeight(long) maximum weight}, which is the total number of cached values, is
+ * exceeded; and expire when the {@link #setTimeToLive(Duration) time-to-live} elapses after they are loaded.
+ * <p>
+ * Cached values are bound with the settings in effect when they are loaded; changing any of them, with
+ * {@link #setUnknownColumnsCollected(boolean)}, {@link #setUnsupportedOperationPolicy(UnsupportedOperationPolicy)}, or
+ * {@link #setProjection(Class, Collection)}, removes all entries. Loading is not deduplicated; concurrent
+ * misses of the same key each read the database, and the entry loaded last is kept.
+ * <p>
+ * {@snippet :
+ * var context = new CachingContext(connection.getMetaData());
+ * context.setTimeToLive(Duration.ofMinutes(5));
+ * var columns = context.getColumns(null, "PUBLIC", "ORDERS", "%"); // reads the database
+ * var again = context.getColumns(null, "PUBLIC", "ORDERS", "%");   // cached
+ * context.invalidate(null, "PUBLIC", "ORDERS");                    // e.g. after ALTER TABLE
+ *}
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public class CachingContext
+        extends Context {
+
+    private static final System.Logger logger = System.getLogger(MethodHandles.lookup().lookupClass().getName());
+
+    /**
+     * The default value of the maximum number of entries.
+     */
+    public static final int DEFAULT_MAXIMUM_ENTRIES = 1024;
+
+    /**
+     * Statistics of a cache.
+     *
+     * @param hitCount      the number of lookups which returned a cached value.
+     * @param missCount     the number of lookups which read the database.
+     * @param evictionCount the number of entries evicted by size, or expired.
+     */
+    public record Stats(long hitCount, long missCount, long evictionCount) {
+
+        /**
+         * Returns the ratio of hits to lookups.
+         *
+         * @return the ratio of hits to lookups; {@code 1.0} when there was no lookup.
+         */
+        public double hitRate() {
+            final var lookups = hitCount + missCount;
+            return lookups == 0L ? 1.0d : (double) hitCount / lookups;
+        }
+    }
+
+    /**
+     * Offsets of {@code (catalog, schema, table)} arguments of methods whose results are scoped to tables.
+     */
+    private static final Map<String, int[]> TABLE_SCOPES = Map.ofEntries(
+            Map.entry("getBestRowIdentifier", new int[] {0}),
+            Map.entry("getColumnPrivileges", new int[] {0}),
+            Map.entry("getColumns", new int[] {0}),
+            Map.entry("getCrossReference", new int[] {0, 3}),
+            Map.entry("getExportedKeys", new int[] {0}),
+            Map.entry("getImportedKeys", new int[] {0}),
+            Map.entry("getIndexInfo", new int[] {0}),
+            Map.entry("getPrimaryKeys", new int[] {0}),
+            Map.entry("getPseudoColumns", new int[] {0}),
+            Map.entry("getSuperTables", new int[] {0}),
+            Map.entry("getTablePrivileges", new int[] {0}),
+            Map.entry("getTables", new int[] {0}),
+            Map.entry("getVersionColumns", new int[] {0})
+    );
+
+    /**
+     * A key of an entry.
+     *
+     * @param method    the name of the method.
+     * @param arguments the arguments, with arrays converted to lists.
+     */
+    private record Key(String method, List<@Nullable Object> arguments) {
+
+        private static Key of(final String method, final @Nullable Object... arguments) {
+            final var list = new ArrayList<@Nullable Object>(arguments.length);
+            for (final var argument : arguments) {
+                if (argument instanceof Object[] array) {
+                    list.add(Arrays.asList(array.clone()));
+                } else if (argument instanceof int[] array) {
+                    list.add(Arrays.stream(array).boxed().toList());
+                } else {
+                    list.add(argument);
+                }
+            }
+            return new Key(method, Collections.unmodifiableList(list));
+        }
+
+        /**
+         * Checks whether results of this key may include the specified table.
+         */
+        private boolean mayInclude(final @Nullable String catalog, final @Nullable String schema,
+                                   final @Nullable String table, final @Nullable String searchStringEscape) {
+            final var offsets = TABLE_SCOPES.get(method);
+            if (offsets == null) {
+                return false;
+            }
+            for (final var offset : offsets) {
+                if (mayMatch(arguments.get(offset), catalog, searchStringEscape)
+                    && mayMatch(arguments.get(offset + 1), schema, searchStringEscape)
+                    && mayMatch(arguments.get(offset + 2), table, searchStringEscape)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Checks whether the specified argument may match the specified value; conservatively, regardless of cases, and
+         * as either a literal or a pattern, for whether the database folds identifiers, or the parameter is a pattern,
+         * is not known here.
+         */
+        private static boolean mayMatch(final @Nullable Object argument, final @Nullable String value,
+                                        final @Nullable String searchStringEscape) {
+            if (argument == null || value == null) {
+                return true;
+            }
+            final var string = (String) argument;
+            return string.toUpperCase(Locale.ROOT).equals(value.toUpperCase(Locale.ROOT))
+                   || SearchPattern.compile(string, searchStringEscape, true).matches(value);
+        }
+    }
+
+    /**
+     * An entry of the cache.
+     *
+     * @param values    the cached values.
+     * @param expiresAt the {@link System#nanoTime() time} at which the entry expires.
+     */
+    private record Entry(List<?> values, long expiresAt) {
+    }
+
+    /**
+     * A loader of values of a missing entry.
+     *
+     * @param <T> value type parameter
+     */
+    @FunctionalInterface
+    private interface Loader<T> {
+
+        List<T> load() throws SQLException;
+    }
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Creates a new instance from the specified connection.
+     *
+     * @param connection the connection.
+     * @return a new instance.
+     * @throws SQLException if a database error occurs.
+     * @see Connection#getMetaData()
+     */
+    public static CachingContext newInstance(final Connection connection) throws SQLException {
+        Objects.requireNonNull(connection, "connection is null");
+        return new CachingContext(connection.getMetaData());
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    /**
+     * Creates a new instance with specified instance of {@link DatabaseMetaData}.
+     *
+     * @param metadata the instance of {@link DatabaseMetaData} to proxy.
+     */
+    public CachingContext(final DatabaseMetaData metadata) {
+        super(metadata);
+    }
+
+    // -------------------------------------------------------------------------------------------------- maximumEntries
+
+    /**
+     * Returns the maximum number of entries. The default is {@value #DEFAULT_MAXIMUM_ENTRIES}.
+     *
+     * @return the maximum number of entries.
+     */
+    public synchronized int getMaximumEntries() {
+        return maximumEntries;
+    }
+
+    /**
+     * Sets the maximum number of entries, evicting least-recently-used entries if exceeded.
+     *
+     * @param maximumEntries new value for the maximum number of entries.
+     */
+    public synchronized void setMaximumEntries(final int maximumEntries) {
+        if (maximumEntries < 0) {
+            throw new IllegalArgumentException("maximumEntries(" + maximumEntries + ") is negative");
+        }
+        this.maximumEntries = maximumEntries;
+        evict();
+    }
+
+    // --------------------------------------------------------------------------------------------------- maximumWeight
+
+    /**
+     * Returns the maximum weight, which is the total number of values of all entries. The default is
+     * {@link Long#MAX_VALUE}.
+     *
+     * @return the maximum weight.
+     */
+    public synchronized long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Sets the maximum weight, which is the total number of values of all entries, evicting least-recently-used
+     * entries if exceeded.
+     *
+     * @param maximumWeight new value for the maximum weight.
+     */
+    public synchronized void setMaximumWeight(final long maximumWeight) {
+        if (maximumWeight < 0L) {
+            throw new IllegalArgumentException("maximumWeight(" + maximumWeight + ") is negative");
+        }
+        this.maximumWeight = maximumWeight;
+        evict();
+    }
+
+    // ----------------------------------------------------------------------------------------------------- timeToLive
+
+    /**
+     * Returns the duration after which a loaded entry expires.
+     *
+     * @return the duration after which a loaded entry expires; {@code null} if entries never expire.
+     */
+    @Nullable
+    public synchronized Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets the duration after which a loaded entry expires. Entries already loaded keep their expiration.
+     *
+     * @param timeToLive new value for the duration; {@code null} for never expiring entries.
+     */
+    public synchronized void setTimeToLive(@Nullable final Duration timeToLive) {
+        if (timeToLive != null && (timeToLive.isNegative() || timeToLive.isZero())) {
+            throw new IllegalArgumentException("timeToLive(" + timeToLive + ") is not positive");
+        }
+        this.timeToLive = timeToLive;
+    }
+
+    // --------------------------------------------------------------------------------------------------------- Context
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Removes all entries, which are bound with the previous value.
+     *
+     * @param unknownColumnsCollected {@inheritDoc}
+     */
+    @Override
+    public synchronized void setUnknownColumnsCollected(final boolean unknownColumnsCollected) {
+        super.setUnknownColumnsCollected(unknownColumnsCollected);
+        clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Removes all entries, which are loaded with the previous policy.
+     *
+     * @param unsupportedOperationPolicy {@inheritDoc}
+     */
+    @Override
+    public synchronized void setUnsupportedOperationPolicy(
+            final UnsupportedOperationPolicy unsupportedOperationPolicy) {
+        super.setUnsupportedOperationPolicy(unsupportedOperationPolicy);
+        clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Removes all entries, which are bound with the previous projection.
+     *
+     * @param type         {@inheritDoc}
+     * @param columnLabels {@inheritDoc}
+     */
+    @Override
+    public synchronized void setProjection(final Class<? extends MetadataType> type,
+                                           @Nullable final Collection<String> columnLabels) {
+        super.setProjection(type, columnLabels);
+        clear();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns statistics of the cache, since this context was created or {@link #invalidateAll() cleared}.
+     *
+     * @return statistics of the cache.
+     */
+    public synchronized Stats getStats() {
+        return new Stats(hitCount, missCount, evictionCount);
+    }
+
+    /**
+     * Removes entries whose results may include the specified table; i.e., entries of methods scoped to tables, e.g.
+     * {@link #getColumns(String, String, String, String) getColumns}, whose arguments are {@code null}, equal to, or
+     * a pattern which may match, the specified values. Entries of other methods, e.g. {@link #getCatalogs()}, are kept.
+     * Arguments are matched regardless of cases, and patterns with the
+     * {@link DatabaseMetaData#getSearchStringEscape() search string escape}; so entries are removed conservatively.
+     *
+     * @param catalog the catalog of the table; {@code null} for any catalog.
+     * @param schema  the schema of the table; {@code null} for any schema.
+     * @param table   the name of the table; {@code null} for any table.
+     */
+    public synchronized void invalidate(@Nullable final String catalog, @Nullable final String schema,
+                                        @Nullable final String table) {
+        final var searchStringEscape = getCapabilities().getString("getSearchStringEscape");
+        entries.keySet().removeIf(k -> k.mayInclude(catalog, schema, table, searchStringEscape));
+        weight = entries.values().stream().mapToLong(e -> e.values().size()).sum();
+    }
+
+    /**
+     * Removes all entries, and resets statistics.
+     */
+    public synchronized void invalidateAll() {
+        clear();
+        hitCount = 0L;
+        missCount = 0L;
+        evictionCount = 0L;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    @SuppressWarnings({
+            "unchecked"
+    })
+    private <T> List<T> cached(final String method, final Loader<T> loader, final @Nullable Object... arguments)
+            throws SQLException {
+        final var key = Key.of(method, arguments);
+        final long loading;
+        synchronized (this) {
+            loading = generation;
+            final var entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt() - nanoTime.getAsLong() > 0L) {
+                    hitCount++;
+                    return (List<T>) entry.values();
+                }
+                remove(key);
+                evictionCount++;
+            }
+            missCount++;
+        }
+        final var values = List.copyOf(loader.load());
+        synchronized (this) {
+            if (loading != generation) { // bound with settings changed since
+                return values;
+            }
+            final var ttl = timeToLive;
+            final var now = nanoTime.getAsLong();
+            final var expiresAt = ttl == null ? now + Long.MAX_VALUE : now + ttl.toNanos();
+            remove(key);
+            entries.put(key, new Entry(values, expiresAt));
+            weight += values.size();
+            evict();
+        }
+        return values;
+    }
+
+    private void clear() {
+        assert Thread.holdsLock(this);
+        entries.clear();
+        weight = 0L;
+        generation++;
+    }
+
+    private void remove(final Key key) {
+        assert Thread.holdsLock(this);
+        final var removed = entries.remove(key);
+        if (removed != null) {
+            weight -= removed.values().size();
+        }
+    }
+
+    private void evict() {
+        assert Thread.holdsLock(this);
+        final var i = entries.entrySet().iterator();
+        while ((entries.size() > maximumEntries || weight > maximumWeight) && i.hasNext()) {
+            final var eldest = i.next();
+            logger.log(System.Logger.Level.DEBUG, "evicting {0}", eldest.getKey());
+            i.remove();
+            weight -= eldest.getValue().values().size();
+            evictionCount++;
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public List<Attribute> getAttributes(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                         final String typeNamePattern, final String attributeNamePattern)
+            throws SQLException {
+        return cached(
+                "getAttributes",
+                () -> super.getAttributes(catalog, schemaPattern, typeNamePattern, attributeNamePattern),
+                catalog, schemaPattern, typeNamePattern, attributeNamePattern
+        );
+    }
+
+    @Override
+    public List<BestRowIdentifier> getBestRowIdentifier(@Nullable final String catalog, @Nullable final String schema,
+                                                        final String table, final int scope, final boolean nullable)
+            throws SQLException {
+        return cached(
+                "getBestRowIdentifier",
+                () -> super.getBestRowIdentifier(catalog, schema, table, scope, nullable),
+                catalog, schema, table, scope, nullable
+        );
+    }
+
+    @Override
+    public List<Catalog> getCatalogs() throws SQLException {
+        return cached("getCatalogs", super::getCatalogs);
+    }
+
+    @Override
+    public List<ClientInfoProperty> getClientInfoProperties() throws SQLException {
+        return cached("getClientInfoProperties", super::getClientInfoProperties);
+    }
+
+    @Override
+    public List<ColumnPrivilege> getColumnPrivileges(@Nullable final String catalog, @Nullable final String schema,
+                                                     final String table, final String columnNamePattern)
+            throws SQLException {
+        return cached(
+                "getColumnPrivileges",
+                () -> super.getColumnPrivileges(catalog, schema, table, columnNamePattern),
+                catalog, schema, table, columnNamePattern
+        );
+    }
+
+    @Override
+    public List<Column> getColumns(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                   final String tableNamePattern, final String columnNamePattern)
+            throws SQLException {
+        return cached(
+                "getColumns",
+                () -> super.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern),
+                catalog, schemaPattern, tableNamePattern, columnNamePattern
+        );
+    }
+
+    @Override
+    public List<CrossReference> getCrossReference(@Nullable final String parentCatalog,
+                                                  @Nullable final String parentSchema, final String parentTable,
+                                                  @Nullable final String foreignCatalog,
+                                                  @Nullable final String foreignSchema, final String foreignTable)
+            throws SQLException {
+        return cached(
+                "getCrossReference",
+                () -> super.getCrossReference(parentCatalog, parentSchema, parentTable, foreignCatalog, foreignSchema,
+                                              foreignTable),
+                parentCatalog, parentSchema, parentTable, foreignCatalog, foreignSchema, foreignTable
+        );
+    }
+
+    @Override
+    public List<ExportedKey> getExportedKeys(@Nullable final String catalog, @Nullable final String schema,
+                                             final String table)
+            throws SQLException {
+        return cached("getExportedKeys", () -> super.getExportedKeys(catalog, schema, table), catalog, schema, table);
+    }
+
+    @Override
+    public List<Function> getFunctions(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                       @Nullable final String functionNamePattern)
+            throws SQLException {
+        return cached(
+                "getFunctions",
+                () -> super.getFunctions(catalog, schemaPattern, functionNamePattern),
+                catalog, schemaPattern, functionNamePattern
+        );
+    }
+
+    @Override
+    public List<FunctionColumn> getFunctionColumns(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                                   final String functionNamePattern, final String columnNamePattern)
+            throws SQLException {
+        return cached(
+                "getFunctionColumns",
+                () -> super.getFunctionColumns(catalog, schemaPattern, functionNamePattern, columnNamePattern),
+                catalog, schemaPattern, functionNamePattern, columnNamePattern
+        );
+    }
+
+    @Override
+    public List<ImportedKey> getImportedKeys(@Nullable final String catalog, @Nullable final String schema,
+                                             final String table)
+            throws SQLException {
+        return cached("getImportedKeys", () -> super.getImportedKeys(catalog, schema, table), catalog, schema, table);
+    }
+
+    @Override
+    public List<IndexInfo> getIndexInfo(@Nullable final String catalog, @Nullable final String schema,
+                                        final String table, final boolean unique, final boolean approximate)
+            throws SQLException {
+        return cached(
+                "getIndexInfo",
+                () -> super.getIndexInfo(catalog, schema, table, unique, approximate),
+                catalog, schema, table, unique, approximate
+        );
+    }
+
+    @Override
+    public List<PrimaryKey> getPrimaryKeys(@Nullable final String catalog, @Nullable final String schema,
+                                           final String table)
+            throws SQLException {
+        return cached("getPrimaryKeys", () -> super.getPrimaryKeys(catalog, schema, table), catalog, schema, table);
+    }
+
+    @Override
+    public List<ProcedureColumn> getProcedureColumns(@Nullable final String catalog,
+                                                     @Nullable final String schemaPattern,
+                                                     final String procedureNamePattern, final String columnNamePattern)
+            throws SQLException {
+        return cached(
+                "getProcedureColumns",
+                () -> super.getProcedureColumns(catalog, schemaPattern, procedureNamePattern, columnNamePattern),
+                catalog, schemaPattern, procedureNamePattern, columnNamePattern
+        );
+    }
+
+    @Override
+    public List<Procedure> getProcedures(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                         final String procedureNamePattern)
+            throws SQLException {
+        return cached(
+                "getProcedures",
+                () -> super.getProcedures(catalog, schemaPattern, procedureNamePattern),
+                catalog, schemaPattern, procedureNamePattern
+        );
+    }
+
+    @Override
+    public List<PseudoColumn> getPseudoColumns(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                               final String tableNamePattern, final String columnNamePattern)
+            throws SQLException {
+        return cached(
+                "getPseudoColumns",
+                () -> super.getPseudoColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern),
+                catalog, schemaPattern, tableNamePattern, columnNamePattern
+        );
+    }
+
+    @Override
+    public List<Schema> getSchemas() throws SQLException {
+        return cached("getSchemas", super::getSchemas);
+    }
+
+    @Override
+    public List<Schema> getSchemas(@Nullable final String catalog, @Nullable final String schemaPattern)
+            throws SQLException {
+        return cached("getSchemas", () -> super.getSchemas(catalog, schemaPattern), catalog, schemaPattern);
+    }
+
+    @Override
+    public List<SuperTable> getSuperTables(@Nullable final String catalog, final String schemaPattern,
+                                           final String tableNamePattern)
+            throws SQLException {
+        return cached(
+                "getSuperTables",
+                () -> super.getSuperTables(catalog, schemaPattern, tableNamePattern),
+                catalog, schemaPattern, tableNamePattern
+        );
+    }
+
+    @Override
+    public List<SuperType> getSuperTypes(@Nullable final String catalog, final String schemaPattern,
+                                         final String typeNamePattern)
+            throws SQLException {
+        return cached(
+                "getSuperTypes",
+                () -> super.getSuperTypes(catalog, schemaPattern, typeNamePattern),
+                catalog, schemaPattern, typeNamePattern
+        );
+    }
+
+    @Override
+    public List<TablePrivilege> getTablePrivileges(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                                   final String tableNamePattern)
+            throws SQLException {
+        return cached(
+                "getTablePrivileges",
+                () -> super.getTablePrivileges(catalog, schemaPattern, tableNamePattern),
+                catalog, schemaPattern, tableNamePattern
+        );
+    }
+
+    @Override
+    public List<TableType> getTableTypes() throws SQLException {
+        return cached("getTableTypes", super::getTableTypes);
+    }
+
+    @Override
+    public List<Table> getTables(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                 final String tableNamePattern, @Nullable final String[] types)
+            throws SQLException {
+        return cached(
+                "getTables",
+                () -> super.getTables(catalog, schemaPattern, tableNamePattern, types),
+                catalog, schemaPattern, tableNamePattern, types
+        );
+    }
+
+    @Override
+    public List<TypeInfo> getTypeInfo() throws SQLException {
+        return cached("getTypeInfo", super::getTypeInfo);
+    }
+
+    @Override
+    public List<UDT> getUDTs(@Nullable final String catalog, @Nullable final String schemaPattern,
+                             final String typeNamePattern, @Nullable final int[] types)
+            throws SQLException {
+        return cached(
+                "getUDTs",
+                () -> super.getUDTs(catalog, schemaPattern, typeNamePattern, types),
+                catalog, schemaPattern, typeNamePattern, types
+        );
+    }
+
+    @Override
+    public List<VersionColumn> getVersionColumns(@Nullable final String catalog, @Nullable final String schema,
+                                                 final String table)
+            throws SQLException {
+        return cached(
+                "getVersionColumns",
+                () -> super.getVersionColumns(catalog, schema, table),
+                catalog, schema, table
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Retrieves columns with the cached {@link #getColumns(String, String, String, String) getColumns}.
+     */
+    @Override
+    void forEachColumnOfTables(@Nullable final String catalog, @Nullable final String schemaPattern,
+                               final String tableNamePattern, final Consumer<? super Column> consumer)
+            throws SQLException {
+        getColumns(catalog, schemaPattern, tableNamePattern, "%").forEach(consumer);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, .75f, true);
+
+    private int maximumEntries = DEFAULT_MAXIMUM_ENTRIES;
+
+    private long maximumWeight = Long.MAX_VALUE;
+
+    @Nullable
+    private Duration timeToLive;
+
+    private long weight;
+
+    /**
+     * Incremented whenever all entries are removed; values loaded across an increment are not cached.
+     */
+    private long generation;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    /**
+     * The source of {@link System#nanoTime() time}; replaced in tests.
+     */
+    LongSupplier nanoTime = System::nanoTime;
+}
@@ -106,6 +106,18 @@ public class Catalog
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A catalog is identified by its name.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.catalog(getEffectiveTableCat()), tableCat);
+    }
+
     // ---------------------------------------------------------------------------------------------- Jakarta-Validation
 
     // -------------------------------------------------------------------------------------------------------- tableCat
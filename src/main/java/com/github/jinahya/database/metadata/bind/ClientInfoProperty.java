@@ -126,6 +126,18 @@ public class ClientInfoProperty
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A client info property is identified by its name.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(ClientInfoProperty.class, null, name), name);
+    }
+
     // ------------------------------------------------------------------------------------------------------------ name
 
     /**
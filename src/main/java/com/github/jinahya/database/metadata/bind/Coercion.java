@@ -0,0 +1,185 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+/**
+ * Constants for reading a column value and setting it to a field, selected once per result set from the column's
+ * {@link java.sql.ResultSetMetaData#getColumnType(int) SQL type} and the field's type.
+ * <p>
+ * Each typed constant reads the column exactly once, by index, with the accessor matching the field type, and
+ * detects {@code NULL} with {@link ResultSet#wasNull()}. The {@link #OBJECT} constant handles any other combination
+ * (e.g. a driver reporting an unexpected SQL type) with {@link ContextUtils#setValue(Binder, MetadataType, int,
+ * ResultSet, int)}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BindingPlan
+ */
+enum Coercion {
+
+    /**
+     * A constant for {@link String} fields of character columns; reads with {@link ResultSet#getString(int)}.
+     */
+    STRING {
+        @Override
+        <T extends MetadataType> void apply(final Binder<T> binder, final T instance, final int slot,
+                                            final ResultSet results, final int columnIndex)
+                throws SQLException {
+            binder.setValue(instance, slot, results.getString(columnIndex));
+        }
+    },
+
+    /**
+     * A constant for {@link Boolean} fields of boolean or numeric columns; reads with
+     * {@link ResultSet#getBoolean(int)}.
+     */
+    BOOLEAN {
+        @Override
+        <T extends MetadataType> void apply(final Binder<T> binder, final T instance, final int slot,
+                                            final ResultSet results, final int columnIndex)
+                throws SQLException {
+            final var value = results.getBoolean(columnIndex);
+            binder.setValue(instance, slot, results.wasNull() ? null : value);
+        }
+    },
+
+    /**
+     * A constant for {@link Short} fields of numeric columns; reads with {@link ResultSet#getShort(int)}.
+     */
+    SHORT {
+        @Override
+        <T extends MetadataType> void apply(final Binder<T> binder, final T instance, final int slot,
+                                            final ResultSet results, final int columnIndex)
+                throws SQLException {
+            final var value = results.getShort(columnIndex);
+            binder.setValue(instance, slot, results.wasNull() ? null : value);
+        }
+    },
+
+    /**
+     * A constant for {@link Integer} fields of numeric columns; reads with {@link ResultSet#getInt(int)}.
+     */
+    INTEGER {
+        @Override
+        <T extends MetadataType> void apply(final Binder<T> binder, final T instance, final int slot,
+                                            final ResultSet results, final int columnIndex)
+                throws SQLException {
+            final var value = results.getInt(columnIndex);
+            binder.setValue(instance, slot, results.wasNull() ? null : value);
+        }
+    },
+
+    /**
+     * A constant for {@link Long} fields of numeric columns; reads with {@link ResultSet#getLong(int)}.
+     */
+    LONG {
+        @Override
+        <T extends MetadataType> void apply(final Binder<T> binder, final T instance, final int slot,
+                                            final ResultSet results, final int columnIndex)
+                throws SQLException {
+            final var value = results.getLong(columnIndex);
+            binder.setValue(instance, slot, results.wasNull() ? null : value);
+        }
+    },
+
+    /**
+     * A constant for any other combination; reads with {@link ResultSet#getObject(int)}, and coerces when required.
+     *
+     * @see ContextUtils#setValue(Binder, MetadataType, int, ResultSet, int)
+     */
+    OBJECT {
+        @Override
+        <T extends MetadataType> void apply(final Binder<T> binder, final T instance, final int slot,
+                                            final ResultSet results, final int columnIndex)
+                throws SQLException {
+            ContextUtils.setValue(binder, instance, slot, results, columnIndex);
+        }
+    };
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the constant for the specified field type and SQL type.
+     *
+     * @param valueType the type of the field.
+     * @param sqlType   the SQL type of the column, from {@link Types}.
+     * @return the constant for the {@code valueType} and the {@code sqlType}.
+     */
+    static Coercion of(final Class<?> valueType, final int sqlType) {
+        Objects.requireNonNull(valueType, "valueType is null");
+        if (valueType == String.class) {
+            return isCharacter(sqlType) ? STRING : OBJECT;
+        }
+        if (valueType == Boolean.class) {
+            return sqlType == Types.BOOLEAN || isNumeric(sqlType) ? BOOLEAN : OBJECT;
+        }
+        if (!isNumeric(sqlType)) {
+            return OBJECT;
+        }
+        if (valueType == Short.class) {
+            return SHORT;
+        }
+        if (valueType == Integer.class) {
+            return INTEGER;
+        }
+        if (valueType == Long.class) {
+            return LONG;
+        }
+        return OBJECT;
+    }
+
+    private static boolean isCharacter(final int sqlType) {
+        return switch (sqlType) {
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isNumeric(final int sqlType) {
+        return switch (sqlType) {
+            case Types.BIT, Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.NUMERIC, Types.DECIMAL,
+                 Types.REAL, Types.FLOAT, Types.DOUBLE -> true;
+            default -> false;
+        };
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads the value of the specified column from the specified result set and sets it, using the specified binder,
+     * to the field at the specified slot of the specified instance.
+     *
+     * @param binder      the binder of the {@code instance}'s type.
+     * @param instance    the instance whose field is set.
+     * @param slot        the slot of the field to set.
+     * @param results     the result set from which the value is read.
+     * @param columnIndex the (1-based) index of the column to read.
+     * @param <T>         metadata type parameter
+     * @throws SQLException if a database error occurs.
+     */
+    abstract <T extends MetadataType> void apply(Binder<T> binder, T instance, int slot, ResultSet results,
+                                                 int columnIndex)
+            throws SQLException;
+}
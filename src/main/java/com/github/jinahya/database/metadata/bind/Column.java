@@ -382,6 +382,20 @@ public class Column
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A column is identified by its table and its name.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.column(getEffectiveTableCat(), getEffectiveTableSchem(), tableName,
+                                                  columnName),
+                         tableCat, tableSchem, tableName, columnName);
+    }
+
     // ---------------------------------------------------------------------------------------------- Jakarta-Validation
 
     /**
@@ -182,6 +182,21 @@ public class ColumnPrivilege
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A column privilege is identified by its column, grantor, grantee, and privilege.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(ColumnPrivilege.class,
+                                              MetadataKey.column(getEffectiveTableCat(), getEffectiveTableSchem(),
+                                                                 tableName, columnName), grantor, grantee, privilege),
+                         tableCat, tableSchem, tableName, columnName, grantor, grantee, privilege);
+    }
+
     // -------------------------------------------------------------------------------------------------------- tableCat
 
     /**
@@ -0,0 +1,56 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A source of new connections, each of which is closed by whom it is supplied to.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see MetadataCrawler
+ * @see AsyncContext
+ */
+@FunctionalInterface
+interface Connector {
+
+    static Connector of(final DataSource dataSource) {
+        Objects.requireNonNull(dataSource, "dataSource is null");
+        return dataSource::getConnection;
+    }
+
+    static Connector of(final Supplier<? extends Connection> connections) {
+        Objects.requireNonNull(connections, "connections is null");
+        return connections::get;
+    }
+
+    /**
+     * Returns a new connection.
+     *
+     * @return a new connection.
+     * @throws SQLException if a database error occurs.
+     */
+    Connection connect() throws SQLException;
+}
@@ -23,22 +23,27 @@ package com.github.jinahya.database.metadata.bind;
 import org.jspecify.annotations.Nullable;
 
 import java.lang.invoke.MethodHandles;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A class for retrieving information from an instance of {@link java.sql.DatabaseMetaData}.
@@ -49,25 +54,6 @@ public class Context {
 
     private static final System.Logger logger = System.getLogger(MethodHandles.lookup().lookupClass().getName());
 
-    // -----------------------------------------------------------------------------------------------------------------
-
-    /**
-     * Splits a comma-separated string into an unmodifiable list of non-blank, stripped elements.
-     *
-     * @param commaSeparated a comma-separated string; may be {@code null} (some drivers return {@code null} despite the
-     *                       specification).
-     * @return an unmodifiable list of elements; empty when {@code commaSeparated} is {@code null} or blank.
-     */
-    private static List<String> commaSplitToUnmodifiableList(final String commaSeparated) {
-        if (commaSeparated == null) {
-            return List.of();
-        }
-        return Arrays.stream(commaSeparated.split(","))
-                .map(String::strip)
-                .filter(v -> !v.isBlank())
-                .toList();
-    }
-
     // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
 
     /**
@@ -94,57 +80,141 @@ public class Context {
     public Context(final DatabaseMetaData metadata) {
         super();
         this.metadata = Objects.requireNonNull(metadata, "metadata is null");
+        this.invoker = new MetadataInvoker(this.metadata);
     }
 
-    // -----------------------------------------------------------------------------------------------------------------
+    // ----------------------------------------------------------------------------------------- unknownColumnsCollected
 
     /**
-     * Binds given value from specified result set.
+     * Indicates whether this context collects, into each bound instance, values of result-set columns that no field is
+     * mapped to. The default is {@code true}.
      *
-     * @param <T>      value type parameter
-     * @param results  the result set from which the value is bound.
-     * @param type     the type of the value.
-     * @param instance the value.
-     * @return given {@code value}.
-     * @throws SQLException if a database error occurs.
+     * @return {@code true} if unknown columns are collected; {@code false} otherwise.
+     * @see MetadataType#getUnknownColumns()
      */
-    private <T extends MetadataType> T bind(final ResultSet results, final Class<T> type, final T instance)
-            throws SQLException {
-        final var resultLabels = ContextUtils.getLabels(results);
-        final var fieldLabels = new HashMap<>(getLabeledFields(type));
-        for (final var i = fieldLabels.entrySet().iterator(); i.hasNext(); ) {
-            final var entry = i.next();
-            final var field = entry.getKey();
-            final _ColumnLabel fieldLabel = entry.getValue();
-            if (!resultLabels.remove(fieldLabel.value())) {
-                logger.log(
-                        System.Logger.Level.WARNING,
-                        () -> String.format("unmapped field; label: %s; field: %s", fieldLabel, field)
-                );
-                i.remove();
-                continue;
-            }
-            try {
-                ContextUtils.setFieldValue(field, instance, results, fieldLabel.value());
-            } catch (final ReflectiveOperationException roe) {
-                throw new RuntimeException("failed to set " + field, roe);
-            }
-            i.remove();
-        }
-        for (final var i = resultLabels.iterator(); i.hasNext(); i.remove()) {
-            final String label = i.next();
-            final Object value = results.getObject(label);
-            logger.log(System.Logger.Level.TRACE,
-                       "unknown column; type: {0}, label: {1}, value: {2}", type.getSimpleName(), label, value);
-            if (instance instanceof AbstractMetadataType metadata) {
-                metadata.putUnknownColumn(label, value);
+    public boolean isUnknownColumnsCollected() {
+        return unknownColumnsCollected;
+    }
+
+    /**
+     * Sets whether this context collects, into each bound instance, values of result-set columns that no field is
+     * mapped to. When {@code false}, those columns are never read and
+     * {@link MetadataType#getUnknownColumns() getUnknownColumns()} of each bound instance returns an empty map.
+     *
+     * @param unknownColumnsCollected {@code true} for collecting unknown columns; {@code false} otherwise.
+     */
+    public void setUnknownColumnsCollected(final boolean unknownColumnsCollected) {
+        this.unknownColumnsCollected = unknownColumnsCollected;
+    }
+
+    // ---------------------------------------------------------------------------------------------------- capabilities
+
+    /**
+     * Returns the scalar properties of the wrapped {@link #metadata}, captured on the first invocation. Methods of this
+     * context, e.g. {@link #getSQLKeywords()}, and comparators built with this context, e.g. by
+     * {@link ContextUtils#withDatabaseNullOrdering(Context, java.util.Comparator, ContextUtils.SortDirection)}, look up
+     * those properties from the result, instead of invoking the {@link #metadata} each time. Properties whose methods
+     * fail are not captured; methods of this context invoke the {@link #metadata} for those.
+     *
+     * @return the scalar properties of the wrapped {@link #metadata}.
+     * @see DatabaseCapabilities#newInstance(DatabaseMetaData)
+     */
+    public DatabaseCapabilities getCapabilities() {
+        var result = capabilities;
+        if (result == null) {
+            capabilities = result = DatabaseCapabilities.newInstance(metadata);
+        }
+        return result;
+    }
+
+    // ------------------------------------------------------------------------------------------- unsupportedOperations
+
+    /**
+     * Returns the policy of this context for invoking a {@link DatabaseMetaData} method which has already thrown a
+     * {@link java.sql.SQLFeatureNotSupportedException}. The default is {@link UnsupportedOperationPolicy#FAIL_FAST}.
+     *
+     * @return the policy for unsupported operations.
+     * @see #getUnsupportedOperations()
+     */
+    public UnsupportedOperationPolicy getUnsupportedOperationPolicy() {
+        return invoker.getPolicy();
+    }
+
+    /**
+     * Sets the policy of this context for invoking a {@link DatabaseMetaData} method which has already thrown a
+     * {@link java.sql.SQLFeatureNotSupportedException}.
+     *
+     * @param unsupportedOperationPolicy the policy for unsupported operations.
+     * @see #getUnsupportedOperations()
+     */
+    public void setUnsupportedOperationPolicy(final UnsupportedOperationPolicy unsupportedOperationPolicy) {
+        invoker.setPolicy(unsupportedOperationPolicy);
+    }
+
+    /**
+     * Returns the signatures of {@link DatabaseMetaData} methods, e.g.
+     * {@code getPseudoColumns(String,String,String,String)}, which have thrown a
+     * {@link java.sql.SQLFeatureNotSupportedException} while invoked by this context. Those methods are not invoked
+     * again; instead, the {@link #getUnsupportedOperationPolicy() policy} applies.
+     *
+     * @return an unmodifiable, live, view of the signatures of unsupported methods.
+     */
+    public Set<String> getUnsupportedOperations() {
+        return invoker.getUnsupported();
+    }
+
+    // ----------------------------------------------------------------------------------------------------- projections
+
+    /**
+     * Returns the column labels of fields this context binds for the specified type.
+     *
+     * @param type the metadata type.
+     * @return an unmodifiable set of column labels; {@code null} when all fields of the {@code type} are bound.
+     * @see #setProjection(Class, Collection)
+     */
+    @Nullable
+    public Set<String> getProjection(final Class<? extends MetadataType> type) {
+        Objects.requireNonNull(type, "type is null");
+        return projections.get(type);
+    }
+
+    /**
+     * Sets the column labels of fields this context binds for the specified type. Columns of other fields are never
+     * read, and the fields remain {@code null}.
+     * <p>
+     * Note that methods deriving values from bound instances, e.g. {@code getColumnsOf(Table)}, may depend on fields
+     * not projected.
+     *
+     * @param type         the metadata type; e.g. {@link Table Table.class}.
+     * @param columnLabels the column labels, e.g. {@link Table#COLUMN_LABEL_TABLE_NAME}, of fields to bind;
+     *                     {@code null} for binding all fields.
+     * @throws IllegalArgumentException if {@code columnLabels} contains a label not mapped to a field of the
+     *                                  {@code type}.
+     */
+    public void setProjection(final Class<? extends MetadataType> type,
+                              @Nullable final Collection<String> columnLabels) {
+        Objects.requireNonNull(type, "type is null");
+        if (columnLabels == null) {
+            projections.remove(type);
+            return;
+        }
+        final var known = ContextUtils.getFieldsAnnotatedWith(type, _ColumnLabel.class).values().stream()
+                .map(_ColumnLabel::value)
+                .collect(Collectors.toSet());
+        final var projection = new LinkedHashSet<String>();
+        for (final var columnLabel : columnLabels) {
+            final var label = Objects.requireNonNull(columnLabel, "columnLabels contains null")
+                    .toUpperCase(Locale.ROOT);
+            if (!known.contains(label)) {
+                throw new IllegalArgumentException("unknown column label for " + type + ": " + columnLabel);
             }
+            projection.add(label);
         }
-        assert resultLabels.isEmpty() : "remaining result labels: " + resultLabels;
-        assert fieldLabels.isEmpty() : "remaining field labels: " + fieldLabels;
-        return instance;
+        projections.put(type, Collections.unmodifiableSet(projection));
     }
 
+    // -----------------------------------------------------------------------------------------------------------------
+
     /**
      * Binds all records into the given type and adds them to the specified consumer.
      *
@@ -154,36 +224,108 @@ public class Context {
      * @param <T>      binding type parameter
      * @throws SQLException if a database error occurs.
      */
-    @SuppressWarnings({
-            "java:S112", // new RuntimeException
-            "java:S3011" // setAccessible
-    })
     private <T extends MetadataType> void acceptBound(final ResultSet results, final Class<T> type,
                                                       final Consumer<? super T> consumer)
             throws SQLException {
+        acceptBound(results, type, null, consumer);
+    }
+
+    /**
+     * Binds records, accepted by the specified predicate, into the given type and adds them to the specified consumer.
+     * Rejected records are never bound.
+     *
+     * @param results   the records to bind.
+     * @param type      the type of instances.
+     * @param predicate the predicate evaluated against each record before it is bound; {@code null} for all records.
+     * @param consumer  the consumer to which bound instances are added
+     * @param <T>       binding type parameter
+     * @throws SQLException if a database error occurs.
+     */
+    private <T extends MetadataType> void acceptBound(final ResultSet results, final Class<T> type,
+                                                      @Nullable final RowPredicate predicate,
+                                                      final Consumer<? super T> consumer)
+            throws SQLException {
         Objects.requireNonNull(results, "results is null");
         Objects.requireNonNull(type, "type is null");
         Objects.requireNonNull(consumer, "consumer is null");
-        final Constructor<T> constructor;
-        try {
-            constructor = type.getDeclaredConstructor();
-        } catch (final ReflectiveOperationException roe) {
-            throw new RuntimeException("failed to get the default constructor; type: " + type, roe);
-        }
-        if (!constructor.canAccess(null)) {
-            constructor.setAccessible(true);
-        }
+        final var plan = BindingPlan.compile(
+                results, Binders.getBinder(type), unknownColumnsCollected, projections.get(type));
+        final var row = predicate == null ? null : plan.row(results);
         while (results.next()) {
-            final T value;
-            try {
-                value = constructor.newInstance();
-            } catch (final ReflectiveOperationException roe) {
-                throw new RuntimeException("failed to instantiate; type: " + type, roe);
+            if (predicate != null && !predicate.test(row)) {
+                continue;
             }
-            consumer.accept(bind(results, type, value));
+            consumer.accept(plan.bind(results));
+        }
+    }
+
+    /**
+     * Returns a lazy stream of instances of the specified type bound from rows of the specified result set. Each row is
+     * bound only when the stream pulls it, and the {@code results} is closed when the stream is exhausted or closed.
+     *
+     * @param results the records to bind; closed when the returned stream is exhausted or closed.
+     * @param type    the type of instances.
+     * @param <T>     binding type parameter
+     * @return a lazy stream of bound instances.
+     * @throws SQLException if a database error occurs.
+     * @see BindingSpliterator
+     */
+    private <T extends MetadataType> Stream<T> streamBound(final ResultSet results, final Class<T> type)
+            throws SQLException {
+        Objects.requireNonNull(results, "results is null");
+        Objects.requireNonNull(type, "type is null");
+        final BindingPlan<T> plan;
+        try {
+            plan = BindingPlan.compile(
+                    results, Binders.getBinder(type), unknownColumnsCollected, projections.get(type));
+        } catch (final SQLException sqle) {
+            results.close();
+            throw sqle;
+        }
+        final var spliterator = new BindingSpliterator<>(results, plan);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * Returns a cursor over rows of the specified result set, bound to a single, reused instance of the specified type.
+     *
+     * @param results the records to bind; closed when the returned cursor is closed.
+     * @param type    the type of instances.
+     * @param <T>     binding type parameter
+     * @return a cursor over the {@code results}.
+     * @throws SQLException if a database error occurs.
+     * @see BindingCursor
+     */
+    private <T extends MetadataType> MetadataCursor<T> cursorBound(final ResultSet results, final Class<T> type)
+            throws SQLException {
+        Objects.requireNonNull(results, "results is null");
+        Objects.requireNonNull(type, "type is null");
+        try {
+            return new BindingCursor<>(
+                    results,
+                    BindingPlan.compile(
+                            results, Binders.getBinder(type), unknownColumnsCollected, projections.get(type))
+            );
+        } catch (final SQLException sqle) {
+            results.close();
+            throw sqle;
         }
     }
 
+    /**
+     * Returns a publisher binding each row of the result set of the specified query only when requested.
+     *
+     * @param query the query for the records to bind; executed, for each subscription, on the first request.
+     * @param type  the type of instances.
+     * @param <T>   binding type parameter
+     * @return a publisher of bound values.
+     * @see BindingPublisher
+     */
+    private <T extends MetadataType> Flow.Publisher<T> publishBound(final BindingPublisher.Query query,
+                                                                    final Class<T> type) {
+        return new BindingPublisher<>(query, type, unknownColumnsCollected, projections.get(type));
+    }
+
     // --------------------------------------------------------------------------------------------------- getAttributes
 
     /**
@@ -202,7 +344,7 @@ public class Context {
                                     final String typeNamePattern, final String attributeNamePattern,
                                     final Consumer<? super Attribute> consumer)
             throws SQLException {
-        try (var results = metadata.getAttributes(catalog, schemaPattern, typeNamePattern, attributeNamePattern)) {
+        try (var results = invoker.getAttributes(catalog, schemaPattern, typeNamePattern, attributeNamePattern)) {
             assert results != null;
             acceptBound(
                     results,
@@ -257,6 +399,31 @@ public class Context {
         getAttributesAndAcceptEach(catalog, schemaPattern, typeNamePattern, attributeNamePattern, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getAttributes(String, String, String, String)} method and accepts each bound
+     * value, of records accepted by the specified predicate, to the specified consumer. Rejected records are never
+     * bound.
+     *
+     * @param catalog              a value for the {@code catalog} parameter.
+     * @param schemaPattern        a value for the {@code schemaPattern} parameter.
+     * @param typeNamePattern      a value for the {@code typeNamePattern} parameter.
+     * @param attributeNamePattern a value for the {@code attributeNamePattern} parameter.
+     * @param predicate            the predicate evaluated against each record before it is bound.
+     * @param consumer             the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachAttribute(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                 final String typeNamePattern, final String attributeNamePattern,
+                                 final RowPredicate predicate, final Consumer<? super Attribute> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getAttributes(catalog, schemaPattern, typeNamePattern, attributeNamePattern)) {
+            assert results != null;
+            acceptBound(results, Attribute.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes
      * {@link DatabaseMetaData#getAttributes(java.lang.String, java.lang.String, java.lang.String, java.lang.String)}
@@ -281,6 +448,71 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes
+     * {@link DatabaseMetaData#getAttributes(java.lang.String, java.lang.String, java.lang.String, java.lang.String)}
+     * method, on the wrapped {@link #metadata}, with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog              a value for the {@code catalog} parameter.
+     * @param schemaPattern        a value for the {@code schemaPattern} parameter.
+     * @param typeNamePattern      a value for the {@code typeNamePattern} parameter.
+     * @param attributeNamePattern a value for the {@code attributeNamePattern} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     */
+    public Stream<Attribute> streamAttributes(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                              final String typeNamePattern, final String attributeNamePattern)
+            throws SQLException {
+        return streamBound(
+                invoker.getAttributes(catalog, schemaPattern, typeNamePattern, attributeNamePattern),
+                Attribute.class
+        );
+    }
+
+    /**
+     * Invokes
+     * {@link DatabaseMetaData#getAttributes(java.lang.String, java.lang.String, java.lang.String, java.lang.String)}
+     * method, on the wrapped {@link #metadata}, with given arguments, and returns a cursor over bound values.
+     *
+     * @param catalog              a value for the {@code catalog} parameter.
+     * @param schemaPattern        a value for the {@code schemaPattern} parameter.
+     * @param typeNamePattern      a value for the {@code typeNamePattern} parameter.
+     * @param attributeNamePattern a value for the {@code attributeNamePattern} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     */
+    public MetadataCursor<Attribute> cursorAttributes(@Nullable final String catalog,
+                                                      @Nullable final String schemaPattern,
+                                                      final String typeNamePattern, final String attributeNamePattern)
+            throws SQLException {
+        return cursorBound(
+                invoker.getAttributes(catalog, schemaPattern, typeNamePattern, attributeNamePattern),
+                Attribute.class
+        );
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getAttributes(java.lang.String, java.lang.String, java.lang.String,
+     * java.lang.String)} method, on the wrapped {@link #metadata}, with given arguments, and returns a publisher of
+     * bound values.
+     *
+     * @param catalog              a value for the {@code catalog} parameter.
+     * @param schemaPattern        a value for the {@code schemaPattern} parameter.
+     * @param typeNamePattern      a value for the {@code typeNamePattern} parameter.
+     * @param attributeNamePattern a value for the {@code attributeNamePattern} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     */
+    public Flow.Publisher<Attribute> publishAttributes(@Nullable final String catalog,
+                                                       @Nullable final String schemaPattern,
+                                                       final String typeNamePattern,
+                                                       final String attributeNamePattern) {
+        return publishBound(
+                () -> invoker.getAttributes(catalog, schemaPattern, typeNamePattern, attributeNamePattern),
+                Attribute.class
+        );
+    }
+
     void forEachAttribute(final Consumer<? super Attribute> consumer) throws SQLException {
         getAttributesAndAcceptEach(null, null, "%", "%", consumer);
     }
@@ -340,7 +572,7 @@ public class Context {
                                            final String table, final int scope, final boolean nullable,
                                            final Consumer<? super BestRowIdentifier> consumer)
             throws SQLException {
-        try (var results = metadata.getBestRowIdentifier(catalog, schema, table, scope, nullable)) {
+        try (var results = invoker.getBestRowIdentifier(catalog, schema, table, scope, nullable)) {
             assert results != null;
             acceptBound(
                     results,
@@ -398,6 +630,33 @@ public class Context {
         getBestRowIdentifierAndAcceptEach(catalog, schema, table, scope, nullable, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getBestRowIdentifier(String, String, String, int, boolean)} method and accepts
+     * each bound value, of records accepted by the specified predicate, to the specified consumer. Rejected records are
+     * never bound.
+     *
+     * @param catalog   a value for the {@code catalog} parameter.
+     * @param schema    a value for the {@code schema} parameter.
+     * @param table     a value for the {@code table} parameter.
+     * @param scope     a value for the {@code scope} parameter.
+     * @param nullable  a value for the {@code nullable} parameter.
+     * @param predicate the predicate evaluated against each record before it is bound.
+     * @param consumer  the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachBestRowIdentifier(@Nullable final String catalog, @Nullable final String schema,
+                                         final String table, final int scope, final boolean nullable,
+                                         final RowPredicate predicate,
+                                         final Consumer<? super BestRowIdentifier> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getBestRowIdentifier(catalog, schema, table, scope, nullable)) {
+            assert results != null;
+            acceptBound(results, BestRowIdentifier.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes
      * {@link DatabaseMetaData#getBestRowIdentifier(java.lang.String, java.lang.String, java.lang.String, int, boolean)}
@@ -425,6 +684,77 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes
+     * {@link DatabaseMetaData#getBestRowIdentifier(java.lang.String, java.lang.String, java.lang.String, int, boolean)}
+     * method, on the wrapped {@link #metadata}, with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog  a value for the {@code catalog} parameter.
+     * @param schema   a value for the {@code schema} parameter.
+     * @param table    a value for the {@code table} parameter.
+     * @param scope    a value for the {@code scope} parameter.
+     * @param nullable a value for the {@code nullable} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getBestRowIdentifier(String, String, String, int, boolean)
+     */
+    public Stream<BestRowIdentifier> streamBestRowIdentifier(@Nullable final String catalog,
+                                                             @Nullable final String schema, final String table,
+                                                             final int scope, final boolean nullable)
+            throws SQLException {
+        return streamBound(
+                invoker.getBestRowIdentifier(catalog, schema, table, scope, nullable),
+                BestRowIdentifier.class
+        );
+    }
+
+    /**
+     * Invokes
+     * {@link DatabaseMetaData#getBestRowIdentifier(java.lang.String, java.lang.String, java.lang.String, int, boolean)}
+     * method, on the wrapped {@link #metadata}, with given arguments, and returns a cursor over bound values.
+     *
+     * @param catalog  a value for the {@code catalog} parameter.
+     * @param schema   a value for the {@code schema} parameter.
+     * @param table    a value for the {@code table} parameter.
+     * @param scope    a value for the {@code scope} parameter.
+     * @param nullable a value for the {@code nullable} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getBestRowIdentifier(String, String, String, int, boolean)
+     */
+    public MetadataCursor<BestRowIdentifier> cursorBestRowIdentifier(@Nullable final String catalog,
+                                                                     @Nullable final String schema, final String table,
+                                                                     final int scope, final boolean nullable)
+            throws SQLException {
+        return cursorBound(
+                invoker.getBestRowIdentifier(catalog, schema, table, scope, nullable),
+                BestRowIdentifier.class
+        );
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getBestRowIdentifier(java.lang.String, java.lang.String, java.lang.String, int,
+     * boolean)} method, on the wrapped {@link #metadata}, with given arguments, and returns a publisher of bound
+     * values.
+     *
+     * @param catalog  a value for the {@code catalog} parameter.
+     * @param schema   a value for the {@code schema} parameter.
+     * @param table    a value for the {@code table} parameter.
+     * @param scope    a value for the {@code scope} parameter.
+     * @param nullable a value for the {@code nullable} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     * @see DatabaseMetaData#getBestRowIdentifier(String, String, String, int, boolean)
+     */
+    public Flow.Publisher<BestRowIdentifier> publishBestRowIdentifier(@Nullable final String catalog,
+                                                                      @Nullable final String schema, final String table,
+                                                                      final int scope, final boolean nullable) {
+        return publishBound(
+                () -> invoker.getBestRowIdentifier(catalog, schema, table, scope, nullable),
+                BestRowIdentifier.class
+        );
+    }
+
     /**
      * Retrieves the optimal set of columns that uniquely identifies a row of the specified table.
      *
@@ -473,7 +803,7 @@ public class Context {
      */
     void getCatalogsAndAcceptEach(final Consumer<? super Catalog> consumer) throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getCatalogs()) {
+        try (var results = invoker.getCatalogs()) {
             assert results != null;
             acceptBound(results, Catalog.class, consumer);
         }
@@ -506,6 +836,24 @@ public class Context {
         getCatalogsAndAcceptEach(consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getCatalogs()} method and accepts each bound value, of records accepted by the
+     * specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param predicate the predicate evaluated against each record before it is bound.
+     * @param consumer  the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachCatalog(final RowPredicate predicate, final Consumer<? super Catalog> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getCatalogs()) {
+            assert results != null;
+            acceptBound(results, Catalog.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes {@link DatabaseMetaData#getCatalogs()} method, on the wrapped {@link #metadata}, and returns a list of
      * bound values.
@@ -517,6 +865,39 @@ public class Context {
         return getCatalogsAndAddAll(new ArrayList<>());
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getCatalogs()} method, on the wrapped {@link #metadata}, and returns a lazy
+     * stream of bound values.
+     *
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     */
+    public Stream<Catalog> streamCatalogs() throws SQLException {
+        return streamBound(invoker.getCatalogs(), Catalog.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getCatalogs()} method, on the wrapped {@link #metadata}, and returns a cursor
+     * over bound values.
+     *
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     */
+    public MetadataCursor<Catalog> cursorCatalogs() throws SQLException {
+        return cursorBound(invoker.getCatalogs(), Catalog.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getCatalogs()} method, on the wrapped {@link #metadata}, and returns a publisher
+     * of bound values.
+     *
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     */
+    public Flow.Publisher<Catalog> publishCatalogs() {
+        return publishBound(invoker::getCatalogs, Catalog.class);
+    }
+
     // ----------------------------------------------------------------------------------------- getClientInfoProperties
 
     /**
@@ -529,7 +910,7 @@ public class Context {
      */
     void getClientInfoPropertiesAndAcceptEach(final Consumer<? super ClientInfoProperty> consumer) throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getClientInfoProperties()) {
+        try (var results = invoker.getClientInfoProperties()) {
             assert results != null;
             acceptBound(results, ClientInfoProperty.class, consumer);
         }
@@ -564,6 +945,25 @@ public class Context {
         getClientInfoPropertiesAndAcceptEach(consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getClientInfoProperties()} method and accepts each bound value, of records
+     * accepted by the specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param predicate the predicate evaluated against each record before it is bound.
+     * @param consumer  the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachClientInfoProperty(final RowPredicate predicate,
+                                          final Consumer<? super ClientInfoProperty> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getClientInfoProperties()) {
+            assert results != null;
+            acceptBound(results, ClientInfoProperty.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes {@link DatabaseMetaData#getClientInfoProperties() getClientInfoProperties()} method, on the wrapped
      * {@link #metadata}, and returns a list of bound values.
@@ -576,6 +976,42 @@ public class Context {
         return getClientInfoPropertiesAndAddAll(new ArrayList<>());
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getClientInfoProperties() getClientInfoProperties()} method, on the wrapped
+     * {@link #metadata}, and returns a lazy stream of bound values.
+     *
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getClientInfoProperties()
+     */
+    public Stream<ClientInfoProperty> streamClientInfoProperties() throws SQLException {
+        return streamBound(invoker.getClientInfoProperties(), ClientInfoProperty.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getClientInfoProperties() getClientInfoProperties()} method, on the wrapped
+     * {@link #metadata}, and returns a cursor over bound values.
+     *
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getClientInfoProperties()
+     */
+    public MetadataCursor<ClientInfoProperty> cursorClientInfoProperties() throws SQLException {
+        return cursorBound(invoker.getClientInfoProperties(), ClientInfoProperty.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getClientInfoProperties() getClientInfoProperties()} method, on the wrapped
+     * {@link #metadata}, and returns a publisher of bound values.
+     *
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     * @see DatabaseMetaData#getClientInfoProperties()
+     */
+    public Flow.Publisher<ClientInfoProperty> publishClientInfoProperties() {
+        return publishBound(invoker::getClientInfoProperties, ClientInfoProperty.class);
+    }
+
     // --------------------------------------------------------------------------------------------- getColumnPrivileges
 
     /**
@@ -595,7 +1031,7 @@ public class Context {
                                           final Consumer<? super ColumnPrivilege> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getColumnPrivileges(catalog, schema, table, columnNamePattern)) {
+        try (var results = invoker.getColumnPrivileges(catalog, schema, table, columnNamePattern)) {
             assert results != null;
             acceptBound(results, ColumnPrivilege.class, consumer);
         }
@@ -647,6 +1083,31 @@ public class Context {
         getColumnPrivilegesAndAcceptEach(catalog, schema, table, columnNamePattern, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getColumnPrivileges(String, String, String, String)} method and accepts each
+     * bound value, of records accepted by the specified predicate, to the specified consumer. Rejected records are
+     * never bound.
+     *
+     * @param catalog           a value for the {@code catalog} parameter.
+     * @param schema            a value for the {@code schema} parameter.
+     * @param table             a value for the {@code table} parameter.
+     * @param columnNamePattern a value for the {@code columnNamePattern} parameter.
+     * @param predicate         the predicate evaluated against each record before it is bound.
+     * @param consumer          the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachColumnPrivilege(@Nullable final String catalog, @Nullable final String schema,
+                                       final String table, final String columnNamePattern, final RowPredicate predicate,
+                                       final Consumer<? super ColumnPrivilege> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getColumnPrivileges(catalog, schema, table, columnNamePattern)) {
+            assert results != null;
+            acceptBound(results, ColumnPrivilege.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes {@link DatabaseMetaData#getColumnPrivileges(String, String, String, String)} method, on the wrapped
      * {@link #metadata}, with given arguments, and returns a list of bound values.
@@ -664,6 +1125,67 @@ public class Context {
         return getColumnPrivilegesAndAddAll(catalog, schema, table, columnNamePattern, new ArrayList<>());
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getColumnPrivileges(String, String, String, String)} method, on the wrapped
+     * {@link #metadata}, with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog           a value for the {@code catalog} parameter.
+     * @param schema            a value for the {@code schema} parameter.
+     * @param table             a value for the {@code table} parameter.
+     * @param columnNamePattern a value for the {@code columnNamePattern} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     */
+    public Stream<ColumnPrivilege> streamColumnPrivileges(@Nullable final String catalog, @Nullable final String schema,
+                                                          final String table, final String columnNamePattern)
+            throws SQLException {
+        return streamBound(
+                invoker.getColumnPrivileges(catalog, schema, table, columnNamePattern),
+                ColumnPrivilege.class
+        );
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getColumnPrivileges(String, String, String, String)} method, on the wrapped
+     * {@link #metadata}, with given arguments, and returns a cursor over bound values.
+     *
+     * @param catalog           a value for the {@code catalog} parameter.
+     * @param schema            a value for the {@code schema} parameter.
+     * @param table             a value for the {@code table} parameter.
+     * @param columnNamePattern a value for the {@code columnNamePattern} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     */
+    public MetadataCursor<ColumnPrivilege> cursorColumnPrivileges(@Nullable final String catalog,
+                                                                  @Nullable final String schema, final String table,
+                                                                  final String columnNamePattern)
+            throws SQLException {
+        return cursorBound(
+                invoker.getColumnPrivileges(catalog, schema, table, columnNamePattern),
+                ColumnPrivilege.class
+        );
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getColumnPrivileges(String, String, String, String)} method, on the wrapped
+     * {@link #metadata}, with given arguments, and returns a publisher of bound values.
+     *
+     * @param catalog           a value for the {@code catalog} parameter.
+     * @param schema            a value for the {@code schema} parameter.
+     * @param table             a value for the {@code table} parameter.
+     * @param columnNamePattern a value for the {@code columnNamePattern} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     */
+    public Flow.Publisher<ColumnPrivilege> publishColumnPrivileges(@Nullable final String catalog,
+                                                                   @Nullable final String schema, final String table,
+                                                                   final String columnNamePattern) {
+        return publishBound(
+                () -> invoker.getColumnPrivileges(catalog, schema, table, columnNamePattern),
+                ColumnPrivilege.class
+        );
+    }
+
     List<ColumnPrivilege> getColumnPrivilegesOf(final Table table, final String columnNamePattern)
             throws SQLException {
         Objects.requireNonNull(table, "table is null");
@@ -706,7 +1228,7 @@ public class Context {
                                  final Consumer<? super Column> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern)) {
+        try (var results = invoker.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern)) {
             assert results != null;
             acceptBound(results, Column.class, consumer);
         }
@@ -759,6 +1281,30 @@ public class Context {
         getColumnsAndAcceptEach(catalog, schemaPattern, tableNamePattern, columnNamePattern, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getColumns(String, String, String, String)} method and accepts each bound value,
+     * of records accepted by the specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param catalog           a value for the {@code catalog} parameter.
+     * @param schemaPattern     a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern  a value for the {@code tableNamePattern} parameter.
+     * @param columnNamePattern a value for the {@code columnNamePattern} parameter.
+     * @param predicate         the predicate evaluated against each record before it is bound.
+     * @param consumer          the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachColumn(@Nullable final String catalog, @Nullable final String schemaPattern,
+                              final String tableNamePattern, final String columnNamePattern,
+                              final RowPredicate predicate, final Consumer<? super Column> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern)) {
+            assert results != null;
+            acceptBound(results, Column.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes {@link DatabaseMetaData#getColumns(String, String, String, String)} method, on the wrapped
      * {@link #metadata}, with given arguments, and returns a list of bound values.
@@ -776,6 +1322,65 @@ public class Context {
         return getColumnsAndAddAll(catalog, schemaPattern, tableNamePattern, columnNamePattern, new ArrayList<>());
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getColumns(String, String, String, String)} method, on the wrapped
+     * {@link #metadata}, with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog           a value for {@code catalog} parameter.
+     * @param schemaPattern     a value for {@code schemaPattern} parameter.
+     * @param tableNamePattern  a value for {@code tableNameSchema} parameter.
+     * @param columnNamePattern a value for {@code columnNamePattern} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     */
+    public Stream<Column> streamColumns(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                        final String tableNamePattern, final String columnNamePattern)
+            throws SQLException {
+        return streamBound(
+                invoker.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern),
+                Column.class
+        );
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getColumns(String, String, String, String)} method, on the wrapped
+     * {@link #metadata}, with given arguments, and returns a cursor over bound values.
+     *
+     * @param catalog           a value for {@code catalog} parameter.
+     * @param schemaPattern     a value for {@code schemaPattern} parameter.
+     * @param tableNamePattern  a value for {@code tableNameSchema} parameter.
+     * @param columnNamePattern a value for {@code columnNamePattern} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     */
+    public MetadataCursor<Column> cursorColumns(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                                final String tableNamePattern, final String columnNamePattern)
+            throws SQLException {
+        return cursorBound(
+                invoker.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern),
+                Column.class
+        );
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getColumns(String, String, String, String)} method, on the wrapped {@link
+     * #metadata}, with given arguments, and returns a publisher of bound values.
+     *
+     * @param catalog           a value for {@code catalog} parameter.
+     * @param schemaPattern     a value for {@code schemaPattern} parameter.
+     * @param tableNamePattern  a value for {@code tableNameSchema} parameter.
+     * @param columnNamePattern a value for {@code columnNamePattern} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     */
+    public Flow.Publisher<Column> publishColumns(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                                 final String tableNamePattern, final String columnNamePattern) {
+        return publishBound(
+                () -> invoker.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern),
+                Column.class
+        );
+    }
+
     void forEachColumn(final Consumer<? super Column> consumer) throws SQLException {
         getColumnsAndAcceptEach(null, null, "%", "%", consumer);
     }
@@ -831,8 +1436,8 @@ public class Context {
                                         final Consumer<? super CrossReference> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getCrossReference(parentCatalog, parentSchema, parentTable, foreignCatalog,
-                                                      foreignSchema, foreignTable)) {
+        try (var results = invoker.getCrossReference(parentCatalog, parentSchema, parentTable, foreignCatalog,
+                                                     foreignSchema, foreignTable)) {
             assert results != null;
             acceptBound(results, CrossReference.class, consumer);
         }
@@ -893,6 +1498,35 @@ public class Context {
                                        foreignTable, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getCrossReference(String, String, String, String, String, String)} method and
+     * accepts each bound value, of records accepted by the specified predicate, to the specified consumer. Rejected
+     * records are never bound.
+     *
+     * @param parentCatalog  a value for the {@code parentCatalog} parameter.
+     * @param parentSchema   a value for the {@code parentSchema} parameter.
+     * @param parentTable    a value for the {@code parentTable} parameter.
+     * @param foreignCatalog a value for the {@code foreignCatalog} parameter.
+     * @param foreignSchema  a value for the {@code foreignSchema} parameter.
+     * @param foreignTable   a value for the {@code foreignTable} parameter.
+     * @param predicate      the predicate evaluated against each record before it is bound.
+     * @param consumer       the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachCrossReference(@Nullable final String parentCatalog, @Nullable final String parentSchema,
+                                      final String parentTable, @Nullable final String foreignCatalog,
+                                      @Nullable final String foreignSchema, final String foreignTable,
+                                      final RowPredicate predicate, final Consumer<? super CrossReference> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getCrossReference(parentCatalog, parentSchema, parentTable, foreignCatalog,
+                                                     foreignSchema, foreignTable)) {
+            assert results != null;
+            acceptBound(results, CrossReference.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes
      * {@link DatabaseMetaData#getCrossReference(java.lang.String, java.lang.String, java.lang.String, java.lang.String,
@@ -924,6 +1558,89 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes
+     * {@link DatabaseMetaData#getCrossReference(java.lang.String, java.lang.String, java.lang.String, java.lang.String,
+     * java.lang.String, java.lang.String)} method, on the wrapped {@link #metadata}, with given arguments, and returns
+     * a lazy stream of bound values.
+     *
+     * @param parentCatalog  a value for the {@code parentCatalog} parameter
+     * @param parentSchema   a value for the {@code parentSchema} parameter
+     * @param parentTable    a value for the {@code parentTable} parameter
+     * @param foreignCatalog a value for the {@code foreignCatalog} parameter
+     * @param foreignSchema  a value for the {@code foreignSchema} parameter
+     * @param foreignTable   a value for the {@code foreignTable} parameter
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     */
+    public Stream<CrossReference> streamCrossReference(@Nullable final String parentCatalog,
+                                                       @Nullable final String parentSchema, final String parentTable,
+                                                       @Nullable final String foreignCatalog,
+                                                       @Nullable final String foreignSchema, final String foreignTable)
+            throws SQLException {
+        return streamBound(
+                invoker.getCrossReference(parentCatalog, parentSchema, parentTable, foreignCatalog, foreignSchema,
+                                          foreignTable),
+                CrossReference.class
+        );
+    }
+
+    /**
+     * Invokes
+     * {@link DatabaseMetaData#getCrossReference(java.lang.String, java.lang.String, java.lang.String, java.lang.String,
+     * java.lang.String, java.lang.String)} method, on the wrapped {@link #metadata}, with given arguments, and returns
+     * a cursor over bound values.
+     *
+     * @param parentCatalog  a value for the {@code parentCatalog} parameter
+     * @param parentSchema   a value for the {@code parentSchema} parameter
+     * @param parentTable    a value for the {@code parentTable} parameter
+     * @param foreignCatalog a value for the {@code foreignCatalog} parameter
+     * @param foreignSchema  a value for the {@code foreignSchema} parameter
+     * @param foreignTable   a value for the {@code foreignTable} parameter
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     */
+    public MetadataCursor<CrossReference> cursorCrossReference(@Nullable final String parentCatalog,
+                                                               @Nullable final String parentSchema,
+                                                               final String parentTable,
+                                                               @Nullable final String foreignCatalog,
+                                                               @Nullable final String foreignSchema,
+                                                               final String foreignTable)
+            throws SQLException {
+        return cursorBound(
+                invoker.getCrossReference(parentCatalog, parentSchema, parentTable, foreignCatalog, foreignSchema,
+                                          foreignTable),
+                CrossReference.class
+        );
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getCrossReference(java.lang.String, java.lang.String, java.lang.String,
+     * java.lang.String, java.lang.String, java.lang.String)} method, on the wrapped {@link #metadata}, with given
+     * arguments, and returns a publisher of bound values.
+     *
+     * @param parentCatalog  a value for the {@code parentCatalog} parameter
+     * @param parentSchema   a value for the {@code parentSchema} parameter
+     * @param parentTable    a value for the {@code parentTable} parameter
+     * @param foreignCatalog a value for the {@code foreignCatalog} parameter
+     * @param foreignSchema  a value for the {@code foreignSchema} parameter
+     * @param foreignTable   a value for the {@code foreignTable} parameter
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     */
+    public Flow.Publisher<CrossReference> publishCrossReference(@Nullable final String parentCatalog,
+                                                                @Nullable final String parentSchema,
+                                                                final String parentTable,
+                                                                @Nullable final String foreignCatalog,
+                                                                @Nullable final String foreignSchema,
+                                                                final String foreignTable) {
+        return publishBound(
+                () -> invoker.getCrossReference(parentCatalog, parentSchema, parentTable, foreignCatalog,
+                                                foreignSchema, foreignTable),
+                CrossReference.class
+        );
+    }
+
     List<CrossReference> getCrossReferenceOf(final Table parentTable, final Table foreignTable) throws SQLException {
         Objects.requireNonNull(parentTable, "parentTable is null");
         Objects.requireNonNull(foreignTable, "foreignTable is null");
@@ -970,7 +1687,7 @@ public class Context {
                                       final Consumer<? super ExportedKey> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getExportedKeys(catalog, schema, table)) {
+        try (var results = invoker.getExportedKeys(catalog, schema, table)) {
             assert results != null;
             acceptBound(results, ExportedKey.class, consumer);
         }
@@ -1002,40 +1719,109 @@ public class Context {
     }
 
     /**
-     * Invokes {@link DatabaseMetaData#getExportedKeys(String, String, String)} method and accepts each bound value to
-     * the specified consumer.
+     * Invokes {@link DatabaseMetaData#getExportedKeys(String, String, String)} method and accepts each bound value to
+     * the specified consumer.
+     *
+     * @param catalog  a value for the {@code catalog} parameter.
+     * @param schema   a value for the {@code schema} parameter.
+     * @param table    a value for the {@code table} parameter.
+     * @param consumer the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachExportedKey(@Nullable final String catalog, @Nullable final String schema, final String table,
+                                   final Consumer<? super ExportedKey> consumer)
+            throws SQLException {
+        getExportedKeysAndAcceptEach(catalog, schema, table, consumer);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getExportedKeys(String, String, String)} method and accepts each bound value, of
+     * records accepted by the specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param catalog   a value for the {@code catalog} parameter.
+     * @param schema    a value for the {@code schema} parameter.
+     * @param table     a value for the {@code table} parameter.
+     * @param predicate the predicate evaluated against each record before it is bound.
+     * @param consumer  the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachExportedKey(@Nullable final String catalog, @Nullable final String schema, final String table,
+                                   final RowPredicate predicate, final Consumer<? super ExportedKey> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getExportedKeys(catalog, schema, table)) {
+            assert results != null;
+            acceptBound(results, ExportedKey.class, predicate, consumer);
+        }
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getExportedKeys(java.lang.String, java.lang.String, java.lang.String)} method, on
+     * the wrapped {@link #metadata}, with given arguments, and returns a list of bound values.
+     *
+     * @param catalog a value for the {@code catalog} parameter.
+     * @param schema  a value for the {@code schema} parameter.
+     * @param table   a value for the {@code table} parameter.
+     * @return a list of bound values.
+     * @throws SQLException if a database error occurs.
+     */
+    public List<ExportedKey> getExportedKeys(@Nullable final String catalog, @Nullable final String schema,
+                                             final String table)
+            throws SQLException {
+        return getExportedKeysAndAddAll(
+                catalog,
+                schema,
+                table,
+                new ArrayList<>()
+        );
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getExportedKeys(java.lang.String, java.lang.String, java.lang.String)} method, on
+     * the wrapped {@link #metadata}, with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog a value for the {@code catalog} parameter.
+     * @param schema  a value for the {@code schema} parameter.
+     * @param table   a value for the {@code table} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     */
+    public Stream<ExportedKey> streamExportedKeys(@Nullable final String catalog, @Nullable final String schema,
+                                                  final String table)
+            throws SQLException {
+        return streamBound(invoker.getExportedKeys(catalog, schema, table), ExportedKey.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getExportedKeys(java.lang.String, java.lang.String, java.lang.String)} method, on
+     * the wrapped {@link #metadata}, with given arguments, and returns a cursor over bound values.
      *
-     * @param catalog  a value for the {@code catalog} parameter.
-     * @param schema   a value for the {@code schema} parameter.
-     * @param table    a value for the {@code table} parameter.
-     * @param consumer the consumer to which bound values are accepted.
+     * @param catalog a value for the {@code catalog} parameter.
+     * @param schema  a value for the {@code schema} parameter.
+     * @param table   a value for the {@code table} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
      * @throws SQLException if a database error occurs.
      */
-    public void forEachExportedKey(@Nullable final String catalog, @Nullable final String schema, final String table,
-                                   final Consumer<? super ExportedKey> consumer)
+    public MetadataCursor<ExportedKey> cursorExportedKeys(@Nullable final String catalog, @Nullable final String schema,
+                                                          final String table)
             throws SQLException {
-        getExportedKeysAndAcceptEach(catalog, schema, table, consumer);
+        return cursorBound(invoker.getExportedKeys(catalog, schema, table), ExportedKey.class);
     }
 
     /**
      * Invokes {@link DatabaseMetaData#getExportedKeys(java.lang.String, java.lang.String, java.lang.String)} method, on
-     * the wrapped {@link #metadata}, with given arguments, and returns a list of bound values.
+     * the wrapped {@link #metadata}, with given arguments, and returns a publisher of bound values.
      *
      * @param catalog a value for the {@code catalog} parameter.
      * @param schema  a value for the {@code schema} parameter.
      * @param table   a value for the {@code table} parameter.
-     * @return a list of bound values.
-     * @throws SQLException if a database error occurs.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
      */
-    public List<ExportedKey> getExportedKeys(@Nullable final String catalog, @Nullable final String schema,
-                                             final String table)
-            throws SQLException {
-        return getExportedKeysAndAddAll(
-                catalog,
-                schema,
-                table,
-                new ArrayList<>()
-        );
+    public Flow.Publisher<ExportedKey> publishExportedKeys(@Nullable final String catalog,
+                                                           @Nullable final String schema, final String table) {
+        return publishBound(() -> invoker.getExportedKeys(catalog, schema, table), ExportedKey.class);
     }
 
     /**
@@ -1083,7 +1869,7 @@ public class Context {
                                    final Consumer<? super Function> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getFunctions(catalog, schemaPattern, functionNamePattern)) {
+        try (var results = invoker.getFunctions(catalog, schemaPattern, functionNamePattern)) {
             assert results != null;
             acceptBound(results, Function.class, consumer);
         }
@@ -1132,6 +1918,29 @@ public class Context {
         getFunctionsAndAcceptEach(catalog, schemaPattern, functionNamePattern, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getFunctions(String, String, String)} method and accepts each bound value, of
+     * records accepted by the specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param catalog             a value for the {@code catalog} parameter.
+     * @param schemaPattern       a value for the {@code schemaPattern} parameter.
+     * @param functionNamePattern a value for the {@code functionNamePattern} parameter.
+     * @param predicate           the predicate evaluated against each record before it is bound.
+     * @param consumer            the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachFunction(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                @Nullable final String functionNamePattern, final RowPredicate predicate,
+                                final Consumer<? super Function> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getFunctions(catalog, schemaPattern, functionNamePattern)) {
+            assert results != null;
+            acceptBound(results, Function.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes {@link DatabaseMetaData#getFunctions(String, String, String)} method, on the wrapped {@link #metadata},
      * with given arguments, and returns a list of bound values.
@@ -1152,6 +1961,58 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getFunctions(String, String, String)} method, on the wrapped {@link #metadata},
+     * with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog             a value for the {@code catalog} parameter.
+     * @param schemaPattern       a value for the {@code schemaPattern} parameter.
+     * @param functionNamePattern a value for the {@code functionNamePattern} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getFunctions(String, String, String)
+     */
+    public Stream<Function> streamFunctions(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                            @Nullable final String functionNamePattern)
+            throws SQLException {
+        return streamBound(invoker.getFunctions(catalog, schemaPattern, functionNamePattern), Function.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getFunctions(String, String, String)} method, on the wrapped {@link #metadata},
+     * with given arguments, and returns a cursor over bound values.
+     *
+     * @param catalog             a value for the {@code catalog} parameter.
+     * @param schemaPattern       a value for the {@code schemaPattern} parameter.
+     * @param functionNamePattern a value for the {@code functionNamePattern} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getFunctions(String, String, String)
+     */
+    public MetadataCursor<Function> cursorFunctions(@Nullable final String catalog,
+                                                    @Nullable final String schemaPattern,
+                                                    @Nullable final String functionNamePattern)
+            throws SQLException {
+        return cursorBound(invoker.getFunctions(catalog, schemaPattern, functionNamePattern), Function.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getFunctions(String, String, String)} method, on the wrapped {@link #metadata},
+     * with given arguments, and returns a publisher of bound values.
+     *
+     * @param catalog             a value for the {@code catalog} parameter.
+     * @param schemaPattern       a value for the {@code schemaPattern} parameter.
+     * @param functionNamePattern a value for the {@code functionNamePattern} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     * @see DatabaseMetaData#getFunctions(String, String, String)
+     */
+    public Flow.Publisher<Function> publishFunctions(@Nullable final String catalog,
+                                                     @Nullable final String schemaPattern,
+                                                     @Nullable final String functionNamePattern) {
+        return publishBound(() -> invoker.getFunctions(catalog, schemaPattern, functionNamePattern), Function.class);
+    }
+
     /**
      * Retrieves functions, optionally scoped to the specified catalog.
      *
@@ -1264,8 +2125,8 @@ public class Context {
                                          final Consumer<? super FunctionColumn> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getFunctionColumns(catalog, schemaPattern, functionNamePattern,
-                                                       columnNamePattern)) {
+        try (var results = invoker.getFunctionColumns(catalog, schemaPattern, functionNamePattern,
+                                                      columnNamePattern)) {
             assert results != null;
             acceptBound(results, FunctionColumn.class, consumer);
         }
@@ -1317,6 +2178,32 @@ public class Context {
         getFunctionColumnsAndAcceptEach(catalog, schemaPattern, functionNamePattern, columnNamePattern, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getFunctionColumns(String, String, String, String)} method and accepts each bound
+     * value, of records accepted by the specified predicate, to the specified consumer. Rejected records are never
+     * bound.
+     *
+     * @param catalog             a value for the {@code catalog} parameter.
+     * @param schemaPattern       a value for the {@code schemaPattern} parameter.
+     * @param functionNamePattern a value for the {@code functionNamePattern} parameter.
+     * @param columnNamePattern   a value for the {@code columnNamePattern} parameter.
+     * @param predicate           the predicate evaluated against each record before it is bound.
+     * @param consumer            the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachFunctionColumn(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                      final String functionNamePattern, final String columnNamePattern,
+                                      final RowPredicate predicate, final Consumer<? super FunctionColumn> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getFunctionColumns(catalog, schemaPattern, functionNamePattern,
+                                                      columnNamePattern)) {
+            assert results != null;
+            acceptBound(results, FunctionColumn.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes {@link DatabaseMetaData#getFunctionColumns(String, String, String, String)} method, on the wrapped
      * {@link #metadata} ,with specified arguments, and returns a list of bound values.
@@ -1339,6 +2226,74 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getFunctionColumns(String, String, String, String)} method, on the wrapped
+     * {@link #metadata}, with specified arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog             a value for the {@code catalog} parameter.
+     * @param schemaPattern       a value for the {@code schemaPattern} parameter.
+     * @param functionNamePattern a value for the {@code functionNamePattern} parameter.
+     * @param columnNamePattern   a value for the {@code columnNamePattern} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getFunctionColumns(String, String, String, String)
+     */
+    public Stream<FunctionColumn> streamFunctionColumns(@Nullable final String catalog,
+                                                        @Nullable final String schemaPattern,
+                                                        final String functionNamePattern,
+                                                        final String columnNamePattern)
+            throws SQLException {
+        return streamBound(
+                invoker.getFunctionColumns(catalog, schemaPattern, functionNamePattern, columnNamePattern),
+                FunctionColumn.class
+        );
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getFunctionColumns(String, String, String, String)} method, on the wrapped
+     * {@link #metadata}, with specified arguments, and returns a cursor over bound values.
+     *
+     * @param catalog             a value for the {@code catalog} parameter.
+     * @param schemaPattern       a value for the {@code schemaPattern} parameter.
+     * @param functionNamePattern a value for the {@code functionNamePattern} parameter.
+     * @param columnNamePattern   a value for the {@code columnNamePattern} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getFunctionColumns(String, String, String, String)
+     */
+    public MetadataCursor<FunctionColumn> cursorFunctionColumns(@Nullable final String catalog,
+                                                                @Nullable final String schemaPattern,
+                                                                final String functionNamePattern,
+                                                                final String columnNamePattern)
+            throws SQLException {
+        return cursorBound(
+                invoker.getFunctionColumns(catalog, schemaPattern, functionNamePattern, columnNamePattern),
+                FunctionColumn.class
+        );
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getFunctionColumns(String, String, String, String)} method, on the wrapped {@link
+     * #metadata}, with specified arguments, and returns a publisher of bound values.
+     *
+     * @param catalog             a value for the {@code catalog} parameter.
+     * @param schemaPattern       a value for the {@code schemaPattern} parameter.
+     * @param functionNamePattern a value for the {@code functionNamePattern} parameter.
+     * @param columnNamePattern   a value for the {@code columnNamePattern} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     * @see DatabaseMetaData#getFunctionColumns(String, String, String, String)
+     */
+    public Flow.Publisher<FunctionColumn> publishFunctionColumns(@Nullable final String catalog,
+                                                                 @Nullable final String schemaPattern,
+                                                                 final String functionNamePattern,
+                                                                 final String columnNamePattern) {
+        return publishBound(
+                () -> invoker.getFunctionColumns(catalog, schemaPattern, functionNamePattern, columnNamePattern),
+                FunctionColumn.class
+        );
+    }
+
     void forEachFunctionColumn(final Consumer<? super FunctionColumn> consumer) throws SQLException {
         getFunctionColumnsAndAcceptEach(null, null, "%", "%", consumer);
     }
@@ -1397,7 +2352,7 @@ public class Context {
                                       final Consumer<? super ImportedKey> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getImportedKeys(catalog, schema, table)) {
+        try (var results = invoker.getImportedKeys(catalog, schema, table)) {
             assert results != null;
             acceptBound(results, ImportedKey.class, consumer);
         }
@@ -1444,6 +2399,28 @@ public class Context {
         getImportedKeysAndAcceptEach(catalog, schema, table, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getImportedKeys(String, String, String)} method and accepts each bound value, of
+     * records accepted by the specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param catalog   a value for the {@code catalog} parameter.
+     * @param schema    a value for the {@code schema} parameter.
+     * @param table     a value for the {@code table} parameter.
+     * @param predicate the predicate evaluated against each record before it is bound.
+     * @param consumer  the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachImportedKey(@Nullable final String catalog, @Nullable final String schema, final String table,
+                                   final RowPredicate predicate, final Consumer<? super ImportedKey> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getImportedKeys(catalog, schema, table)) {
+            assert results != null;
+            acceptBound(results, ImportedKey.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes {@link DatabaseMetaData#getImportedKeys(String, String, String) getImportedKeys(catalog, schema, table)}
      * method, on the wrapped {@link #metadata}, with given arguments, and returns a list of bound values.
@@ -1466,6 +2443,56 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getImportedKeys(String, String, String) getImportedKeys(catalog, schema, table)}
+     * method, on the wrapped {@link #metadata}, with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog a value for {@code catalog} parameter.
+     * @param schema  a value for {@code schema} parameter.
+     * @param table   a value for {@code table} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getImportedKeys(String, String, String)
+     */
+    public Stream<ImportedKey> streamImportedKeys(@Nullable final String catalog, @Nullable final String schema,
+                                                  final String table)
+            throws SQLException {
+        return streamBound(invoker.getImportedKeys(catalog, schema, table), ImportedKey.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getImportedKeys(String, String, String) getImportedKeys(catalog, schema, table)}
+     * method, on the wrapped {@link #metadata}, with given arguments, and returns a cursor over bound values.
+     *
+     * @param catalog a value for {@code catalog} parameter.
+     * @param schema  a value for {@code schema} parameter.
+     * @param table   a value for {@code table} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getImportedKeys(String, String, String)
+     */
+    public MetadataCursor<ImportedKey> cursorImportedKeys(@Nullable final String catalog, @Nullable final String schema,
+                                                          final String table)
+            throws SQLException {
+        return cursorBound(invoker.getImportedKeys(catalog, schema, table), ImportedKey.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getImportedKeys(String, String, String) getImportedKeys(catalog, schema, table)}
+     * method, on the wrapped {@link #metadata}, with given arguments, and returns a publisher of bound values.
+     *
+     * @param catalog a value for {@code catalog} parameter.
+     * @param schema  a value for {@code schema} parameter.
+     * @param table   a value for {@code table} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     * @see DatabaseMetaData#getImportedKeys(String, String, String)
+     */
+    public Flow.Publisher<ImportedKey> publishImportedKeys(@Nullable final String catalog,
+                                                           @Nullable final String schema, final String table) {
+        return publishBound(() -> invoker.getImportedKeys(catalog, schema, table), ImportedKey.class);
+    }
+
     /**
      * Retrieves imported keys of the specified table.
      *
@@ -1513,7 +2540,7 @@ public class Context {
                                    final Consumer<? super IndexInfo> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getIndexInfo(catalog, schema, table, unique, approximate)) {
+        try (var results = invoker.getIndexInfo(catalog, schema, table, unique, approximate)) {
             assert results != null;
             acceptBound(
                     results,
@@ -1572,6 +2599,32 @@ public class Context {
         getIndexInfoAndAcceptEach(catalog, schema, table, unique, approximate, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getIndexInfo(String, String, String, boolean, boolean)} method and accepts each
+     * bound value, of records accepted by the specified predicate, to the specified consumer. Rejected records are
+     * never bound.
+     *
+     * @param catalog     a value for the {@code catalog} parameter.
+     * @param schema      a value for the {@code schema} parameter.
+     * @param table       a value for the {@code table} parameter.
+     * @param unique      a value for the {@code unique} parameter.
+     * @param approximate a value for the {@code approximate} parameter.
+     * @param predicate   the predicate evaluated against each record before it is bound.
+     * @param consumer    the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachIndexInfo(@Nullable final String catalog, @Nullable final String schema, final String table,
+                                 final boolean unique, final boolean approximate, final RowPredicate predicate,
+                                 final Consumer<? super IndexInfo> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getIndexInfo(catalog, schema, table, unique, approximate)) {
+            assert results != null;
+            acceptBound(results, IndexInfo.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes
      * {@link DatabaseMetaData#getIndexInfo(String, String, String, boolean, boolean) getIndexInfo(catalog, schema,
@@ -1596,6 +2649,69 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes
+     * {@link DatabaseMetaData#getIndexInfo(String, String, String, boolean, boolean) getIndexInfo(catalog, schema,
+     * table, unique, approximate)} method, on the wrapped {@link #metadata}, with specified arguments, and returns a
+     * lazy stream of bound values.
+     *
+     * @param catalog     a value for the {@code catalog} parameter.
+     * @param schema      a value for the {@code schema} parameter.
+     * @param table       a value for the {@code table} parameter.
+     * @param unique      a value for the {@code unique} parameter.
+     * @param approximate a value for the {@code approximate} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getIndexInfo(String, String, String, boolean, boolean)
+     */
+    public Stream<IndexInfo> streamIndexInfo(@Nullable final String catalog, @Nullable final String schema,
+                                             final String table, final boolean unique, final boolean approximate)
+            throws SQLException {
+        return streamBound(invoker.getIndexInfo(catalog, schema, table, unique, approximate), IndexInfo.class);
+    }
+
+    /**
+     * Invokes
+     * {@link DatabaseMetaData#getIndexInfo(String, String, String, boolean, boolean) getIndexInfo(catalog, schema,
+     * table, unique, approximate)} method, on the wrapped {@link #metadata}, with specified arguments, and returns a
+     * cursor over bound values.
+     *
+     * @param catalog     a value for the {@code catalog} parameter.
+     * @param schema      a value for the {@code schema} parameter.
+     * @param table       a value for the {@code table} parameter.
+     * @param unique      a value for the {@code unique} parameter.
+     * @param approximate a value for the {@code approximate} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getIndexInfo(String, String, String, boolean, boolean)
+     */
+    public MetadataCursor<IndexInfo> cursorIndexInfo(@Nullable final String catalog, @Nullable final String schema,
+                                                     final String table, final boolean unique,
+                                                     final boolean approximate)
+            throws SQLException {
+        return cursorBound(invoker.getIndexInfo(catalog, schema, table, unique, approximate), IndexInfo.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getIndexInfo(String, String, String, boolean, boolean) getIndexInfo(catalog,
+     * schema, table, unique, approximate)} method, on the wrapped {@link #metadata}, with specified arguments, and
+     * returns a publisher of bound values.
+     *
+     * @param catalog     a value for the {@code catalog} parameter.
+     * @param schema      a value for the {@code schema} parameter.
+     * @param table       a value for the {@code table} parameter.
+     * @param unique      a value for the {@code unique} parameter.
+     * @param approximate a value for the {@code approximate} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     * @see DatabaseMetaData#getIndexInfo(String, String, String, boolean, boolean)
+     */
+    public Flow.Publisher<IndexInfo> publishIndexInfo(@Nullable final String catalog, @Nullable final String schema,
+                                                      final String table, final boolean unique,
+                                                      final boolean approximate) {
+        return publishBound(() -> invoker.getIndexInfo(catalog, schema, table, unique, approximate), IndexInfo.class);
+    }
+
     /**
      * Retrieves index information of the specified table.
      *
@@ -1649,7 +2765,7 @@ public class Context {
                                      final Consumer<? super PrimaryKey> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getPrimaryKeys(catalog, schema, table)) {
+        try (var results = invoker.getPrimaryKeys(catalog, schema, table)) {
             assert results != null;
             acceptBound(results, PrimaryKey.class, consumer);
         }
@@ -1692,9 +2808,31 @@ public class Context {
      * @throws SQLException if a database error occurs.
      */
     public void forEachPrimaryKey(@Nullable final String catalog, @Nullable final String schema, final String table,
-                                  final Consumer<? super PrimaryKey> consumer)
+                                  final Consumer<? super PrimaryKey> consumer)
+            throws SQLException {
+        getPrimaryKeysAndAcceptEach(catalog, schema, table, consumer);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getPrimaryKeys(String, String, String)} method and accepts each bound value, of
+     * records accepted by the specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param catalog   a value for the {@code catalog} parameter.
+     * @param schema    a value for the {@code schema} parameter.
+     * @param table     a value for the {@code table} parameter.
+     * @param predicate the predicate evaluated against each record before it is bound.
+     * @param consumer  the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachPrimaryKey(@Nullable final String catalog, @Nullable final String schema, final String table,
+                                  final RowPredicate predicate, final Consumer<? super PrimaryKey> consumer)
             throws SQLException {
-        getPrimaryKeysAndAcceptEach(catalog, schema, table, consumer);
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getPrimaryKeys(catalog, schema, table)) {
+            assert results != null;
+            acceptBound(results, PrimaryKey.class, predicate, consumer);
+        }
     }
 
     /**
@@ -1718,6 +2856,53 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getPrimaryKeys(String, String, String) getPrimaryKeys(catalog, schema, table)}
+     * method, on the wrapped {@link #metadata}, with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog a value for the {@code catalog} parameter.
+     * @param schema  a value for the {@code schema} parameter.
+     * @param table   a value for the {@code table} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     */
+    public Stream<PrimaryKey> streamPrimaryKeys(@Nullable final String catalog, @Nullable final String schema,
+                                                final String table)
+            throws SQLException {
+        return streamBound(invoker.getPrimaryKeys(catalog, schema, table), PrimaryKey.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getPrimaryKeys(String, String, String) getPrimaryKeys(catalog, schema, table)}
+     * method, on the wrapped {@link #metadata}, with given arguments, and returns a cursor over bound values.
+     *
+     * @param catalog a value for the {@code catalog} parameter.
+     * @param schema  a value for the {@code schema} parameter.
+     * @param table   a value for the {@code table} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     */
+    public MetadataCursor<PrimaryKey> cursorPrimaryKeys(@Nullable final String catalog, @Nullable final String schema,
+                                                        final String table)
+            throws SQLException {
+        return cursorBound(invoker.getPrimaryKeys(catalog, schema, table), PrimaryKey.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getPrimaryKeys(String, String, String) getPrimaryKeys(catalog, schema, table)}
+     * method, on the wrapped {@link #metadata}, with given arguments, and returns a publisher of bound values.
+     *
+     * @param catalog a value for the {@code catalog} parameter.
+     * @param schema  a value for the {@code schema} parameter.
+     * @param table   a value for the {@code table} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     */
+    public Flow.Publisher<PrimaryKey> publishPrimaryKeys(@Nullable final String catalog, @Nullable final String schema,
+                                                         final String table) {
+        return publishBound(() -> invoker.getPrimaryKeys(catalog, schema, table), PrimaryKey.class);
+    }
+
     /**
      * Retrieves primary keys of the specified table.
      *
@@ -1764,8 +2949,8 @@ public class Context {
                                           final Consumer<? super ProcedureColumn> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getProcedureColumns(catalog, schemaPattern, procedureNamePattern,
-                                                        columnNamePattern)) {
+        try (var results = invoker.getProcedureColumns(catalog, schemaPattern, procedureNamePattern,
+                                                       columnNamePattern)) {
             assert results != null;
             acceptBound(results, ProcedureColumn.class, consumer);
         }
@@ -1818,6 +3003,32 @@ public class Context {
         getProcedureColumnsAndAcceptEach(catalog, schemaPattern, procedureNamePattern, columnNamePattern, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getProcedureColumns(String, String, String, String)} method and accepts each
+     * bound value, of records accepted by the specified predicate, to the specified consumer. Rejected records are
+     * never bound.
+     *
+     * @param catalog              a value for the {@code catalog} parameter.
+     * @param schemaPattern        a value for the {@code schemaPattern} parameter.
+     * @param procedureNamePattern a value for the {@code procedureNamePattern} parameter.
+     * @param columnNamePattern    a value for the {@code columnNamePattern} parameter.
+     * @param predicate            the predicate evaluated against each record before it is bound.
+     * @param consumer             the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachProcedureColumn(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                       final String procedureNamePattern, final String columnNamePattern,
+                                       final RowPredicate predicate, final Consumer<? super ProcedureColumn> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getProcedureColumns(catalog, schemaPattern, procedureNamePattern,
+                                                       columnNamePattern)) {
+            assert results != null;
+            acceptBound(results, ProcedureColumn.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes {@link DatabaseMetaData#getProcedureColumns(String, String, String, String)} method, on the wrapped
      * {@link #metadata}, with given arguments, and returns a list of bound values.
@@ -1840,6 +3051,71 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getProcedureColumns(String, String, String, String)} method, on the wrapped
+     * {@link #metadata}, with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog              a value for {@code catalog} parameter.
+     * @param schemaPattern        a value for {@code schemaPattern} parameter.
+     * @param procedureNamePattern a value for {@code procedureNamePattern} parameter.
+     * @param columnNamePattern    a value for {@code columnNamePattern} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     */
+    public Stream<ProcedureColumn> streamProcedureColumns(@Nullable final String catalog,
+                                                          @Nullable final String schemaPattern,
+                                                          final String procedureNamePattern,
+                                                          final String columnNamePattern)
+            throws SQLException {
+        return streamBound(
+                invoker.getProcedureColumns(catalog, schemaPattern, procedureNamePattern, columnNamePattern),
+                ProcedureColumn.class
+        );
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getProcedureColumns(String, String, String, String)} method, on the wrapped
+     * {@link #metadata}, with given arguments, and returns a cursor over bound values.
+     *
+     * @param catalog              a value for {@code catalog} parameter.
+     * @param schemaPattern        a value for {@code schemaPattern} parameter.
+     * @param procedureNamePattern a value for {@code procedureNamePattern} parameter.
+     * @param columnNamePattern    a value for {@code columnNamePattern} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     */
+    public MetadataCursor<ProcedureColumn> cursorProcedureColumns(@Nullable final String catalog,
+                                                                  @Nullable final String schemaPattern,
+                                                                  final String procedureNamePattern,
+                                                                  final String columnNamePattern)
+            throws SQLException {
+        return cursorBound(
+                invoker.getProcedureColumns(catalog, schemaPattern, procedureNamePattern, columnNamePattern),
+                ProcedureColumn.class
+        );
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getProcedureColumns(String, String, String, String)} method, on the wrapped
+     * {@link #metadata}, with given arguments, and returns a publisher of bound values.
+     *
+     * @param catalog              a value for {@code catalog} parameter.
+     * @param schemaPattern        a value for {@code schemaPattern} parameter.
+     * @param procedureNamePattern a value for {@code procedureNamePattern} parameter.
+     * @param columnNamePattern    a value for {@code columnNamePattern} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     */
+    public Flow.Publisher<ProcedureColumn> publishProcedureColumns(@Nullable final String catalog,
+                                                                   @Nullable final String schemaPattern,
+                                                                   final String procedureNamePattern,
+                                                                   final String columnNamePattern) {
+        return publishBound(
+                () -> invoker.getProcedureColumns(catalog, schemaPattern, procedureNamePattern, columnNamePattern),
+                ProcedureColumn.class
+        );
+    }
+
     void forEachProcedureColumn(final Consumer<? super ProcedureColumn> consumer) throws SQLException {
         getProcedureColumnsAndAcceptEach(null, null, "%", "%", consumer);
     }
@@ -1897,7 +3173,7 @@ public class Context {
                                     final String procedureNamePattern, final Consumer<? super Procedure> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getProcedures(catalog, schemaPattern, procedureNamePattern)) {
+        try (var results = invoker.getProcedures(catalog, schemaPattern, procedureNamePattern)) {
             assert results != null;
             acceptBound(results, Procedure.class, consumer);
         }
@@ -1945,6 +3221,29 @@ public class Context {
         getProceduresAndAcceptEach(catalog, schemaPattern, procedureNamePattern, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getProcedures(String, String, String)} method and accepts each bound value, of
+     * records accepted by the specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param catalog              a value for the {@code catalog} parameter.
+     * @param schemaPattern        a value for the {@code schemaPattern} parameter.
+     * @param procedureNamePattern a value for the {@code procedureNamePattern} parameter.
+     * @param predicate            the predicate evaluated against each record before it is bound.
+     * @param consumer             the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachProcedure(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                 final String procedureNamePattern, final RowPredicate predicate,
+                                 final Consumer<? super Procedure> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getProcedures(catalog, schemaPattern, procedureNamePattern)) {
+            assert results != null;
+            acceptBound(results, Procedure.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes {@link DatabaseMetaData#getProcedures(java.lang.String, java.lang.String, java.lang.String)} method, on
      * the wrapped {@link #metadata}, with given arguments, and returns a list of bound values.
@@ -1967,6 +3266,61 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getProcedures(java.lang.String, java.lang.String, java.lang.String)} method, on
+     * the wrapped {@link #metadata}, with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog              a value for the {@code catalog} parameter.
+     * @param schemaPattern        a value for the {@code schemaPattern} parameter.
+     * @param procedureNamePattern a value for the {@code procedureNamePattern} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getProcedures(String, String, String)
+     */
+    public Stream<Procedure> streamProcedures(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                              final String procedureNamePattern)
+            throws SQLException {
+        return streamBound(invoker.getProcedures(catalog, schemaPattern, procedureNamePattern), Procedure.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getProcedures(java.lang.String, java.lang.String, java.lang.String)} method, on
+     * the wrapped {@link #metadata}, with given arguments, and returns a cursor over bound values.
+     *
+     * @param catalog              a value for the {@code catalog} parameter.
+     * @param schemaPattern        a value for the {@code schemaPattern} parameter.
+     * @param procedureNamePattern a value for the {@code procedureNamePattern} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getProcedures(String, String, String)
+     */
+    public MetadataCursor<Procedure> cursorProcedures(@Nullable final String catalog,
+                                                      @Nullable final String schemaPattern,
+                                                      final String procedureNamePattern)
+            throws SQLException {
+        return cursorBound(invoker.getProcedures(catalog, schemaPattern, procedureNamePattern), Procedure.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getProcedures(java.lang.String, java.lang.String, java.lang.String)} method, on
+     * the wrapped {@link #metadata}, with given arguments, and returns a publisher of bound values.
+     *
+     * @param catalog              a value for the {@code catalog} parameter.
+     * @param schemaPattern        a value for the {@code schemaPattern} parameter.
+     * @param procedureNamePattern a value for the {@code procedureNamePattern} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     * @see DatabaseMetaData#getProcedures(String, String, String)
+     */
+    public Flow.Publisher<Procedure> publishProcedures(@Nullable final String catalog,
+                                                       @Nullable final String schemaPattern,
+                                                       final String procedureNamePattern) {
+        return publishBound(
+                () -> invoker.getProcedures(catalog, schemaPattern, procedureNamePattern),
+                Procedure.class
+        );
+    }
+
     void forEachProcedure(final Consumer<? super Procedure> consumer) throws SQLException {
         getProceduresAndAcceptEach(null, null, "%", consumer);
     }
@@ -2062,7 +3416,7 @@ public class Context {
                                        final Consumer<? super PseudoColumn> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getPseudoColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern)) {
+        try (var results = invoker.getPseudoColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern)) {
             assert results != null;
             acceptBound(
                     results, PseudoColumn.class,
@@ -2117,6 +3471,31 @@ public class Context {
         getPseudoColumnsAndAcceptEach(catalog, schemaPattern, tableNamePattern, columnNamePattern, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getPseudoColumns(String, String, String, String)} method and accepts each bound
+     * value, of records accepted by the specified predicate, to the specified consumer. Rejected records are never
+     * bound.
+     *
+     * @param catalog           a value for the {@code catalog} parameter.
+     * @param schemaPattern     a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern  a value for the {@code tableNamePattern} parameter.
+     * @param columnNamePattern a value for the {@code columnNamePattern} parameter.
+     * @param predicate         the predicate evaluated against each record before it is bound.
+     * @param consumer          the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachPseudoColumn(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                    final String tableNamePattern, final String columnNamePattern,
+                                    final RowPredicate predicate, final Consumer<? super PseudoColumn> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getPseudoColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern)) {
+            assert results != null;
+            acceptBound(results, PseudoColumn.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes
      * {@link DatabaseMetaData#getPseudoColumns(java.lang.String, java.lang.String, java.lang.String, java.lang.String)}
@@ -2139,6 +3518,76 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes
+     * {@link DatabaseMetaData#getPseudoColumns(java.lang.String, java.lang.String, java.lang.String, java.lang.String)}
+     * method, on the wrapped {@link #metadata}, with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog           a value for the {@code catalog} parameter.
+     * @param schemaPattern     a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern  a value for the {@code tableNamePattern} parameter.
+     * @param columnNamePattern a value for the {@code columnNamePattern} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getPseudoColumns(String, String, String, String)
+     */
+    public Stream<PseudoColumn> streamPseudoColumns(@Nullable final String catalog,
+                                                    @Nullable final String schemaPattern, final String tableNamePattern,
+                                                    final String columnNamePattern)
+            throws SQLException {
+        return streamBound(
+                invoker.getPseudoColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern),
+                PseudoColumn.class
+        );
+    }
+
+    /**
+     * Invokes
+     * {@link DatabaseMetaData#getPseudoColumns(java.lang.String, java.lang.String, java.lang.String, java.lang.String)}
+     * method, on the wrapped {@link #metadata}, with given arguments, and returns a cursor over bound values.
+     *
+     * @param catalog           a value for the {@code catalog} parameter.
+     * @param schemaPattern     a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern  a value for the {@code tableNamePattern} parameter.
+     * @param columnNamePattern a value for the {@code columnNamePattern} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getPseudoColumns(String, String, String, String)
+     */
+    public MetadataCursor<PseudoColumn> cursorPseudoColumns(@Nullable final String catalog,
+                                                            @Nullable final String schemaPattern,
+                                                            final String tableNamePattern,
+                                                            final String columnNamePattern)
+            throws SQLException {
+        return cursorBound(
+                invoker.getPseudoColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern),
+                PseudoColumn.class
+        );
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getPseudoColumns(java.lang.String, java.lang.String, java.lang.String,
+     * java.lang.String)} method, on the wrapped {@link #metadata}, with given arguments, and returns a publisher of
+     * bound values.
+     *
+     * @param catalog           a value for the {@code catalog} parameter.
+     * @param schemaPattern     a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern  a value for the {@code tableNamePattern} parameter.
+     * @param columnNamePattern a value for the {@code columnNamePattern} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     * @see DatabaseMetaData#getPseudoColumns(String, String, String, String)
+     */
+    public Flow.Publisher<PseudoColumn> publishPseudoColumns(@Nullable final String catalog,
+                                                             @Nullable final String schemaPattern,
+                                                             final String tableNamePattern,
+                                                             final String columnNamePattern) {
+        return publishBound(
+                () -> invoker.getPseudoColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern),
+                PseudoColumn.class
+        );
+    }
+
     void forEachPseudoColumn(final Consumer<? super PseudoColumn> consumer) throws SQLException {
         getPseudoColumnsAndAcceptEach(null, null, "%", "%", consumer);
     }
@@ -2188,49 +3637,113 @@ public class Context {
      */
     void getSchemasAndAcceptEach(final Consumer<? super Schema> consumer) throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getSchemas()) {
+        try (var results = invoker.getSchemas()) {
             assert results != null;
             acceptBound(results, Schema.class, consumer);
         }
     }
 
     /**
-     * Invokes {@link DatabaseMetaData#getSchemas()} method, and add each bound value to the specified collection.
+     * Invokes {@link DatabaseMetaData#getSchemas()} method, and add each bound value to the specified collection.
+     *
+     * @param collection the collection to which bound values are added.
+     * @param <C>        collection type parameter.
+     * @return given {@code collection}.
+     * @throws SQLException if a database error occurs.
+     */
+    <C extends Collection<? super Schema>> C getSchemasAndAddAll(final C collection) throws SQLException {
+        Objects.requireNonNull(collection, "collection is null");
+        getSchemasAndAcceptEach(
+                collection::add
+        );
+        return collection;
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getSchemas()} method and accepts each bound value to the specified consumer.
+     *
+     * @param consumer the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachSchema(final Consumer<? super Schema> consumer) throws SQLException {
+        getSchemasAndAcceptEach(consumer);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getSchemas()} method and accepts each bound value, of records accepted by the
+     * specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param predicate the predicate evaluated against each record before it is bound.
+     * @param consumer  the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachSchema(final RowPredicate predicate, final Consumer<? super Schema> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getSchemas()) {
+            assert results != null;
+            acceptBound(results, Schema.class, predicate, consumer);
+        }
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getSchemas()} method, on the wrapped {@link #metadata}, and returns a list of
+     * bound values.
+     *
+     * @return a list of bound values.
+     * @throws SQLException if a database error occurs.
+     */
+    public List<Schema> getSchemas() throws SQLException {
+        return getSchemasAndAddAll(
+                new ArrayList<>()
+        );
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getSchemas()} method, on the wrapped {@link #metadata}, and returns a lazy
+     * stream of bound values.
+     *
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     */
+    public Stream<Schema> streamSchemas() throws SQLException {
+        return streamBound(invoker.getSchemas(), Schema.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getSchemas()} method, on the wrapped {@link #metadata}, and returns a cursor
+     * over bound values.
      *
-     * @param collection the collection to which bound values are added.
-     * @param <C>        collection type parameter.
-     * @return given {@code collection}.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
      * @throws SQLException if a database error occurs.
      */
-    <C extends Collection<? super Schema>> C getSchemasAndAddAll(final C collection) throws SQLException {
-        Objects.requireNonNull(collection, "collection is null");
-        getSchemasAndAcceptEach(
-                collection::add
-        );
-        return collection;
+    public MetadataCursor<Schema> cursorSchemas() throws SQLException {
+        return cursorBound(invoker.getSchemas(), Schema.class);
     }
 
     /**
-     * Invokes {@link DatabaseMetaData#getSchemas()} method and accepts each bound value to the specified consumer.
+     * Invokes {@link DatabaseMetaData#getSchemas(String, String)} method, on the wrapped {@link #metadata}, with given
+     * arguments, and returns a publisher of bound values.
      *
-     * @param consumer the consumer to which bound values are accepted.
-     * @throws SQLException if a database error occurs.
+     * @param catalog       a value for {@code catalog} parameter.
+     * @param schemaPattern a value for {@code schemaPattern} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
      */
-    public void forEachSchema(final Consumer<? super Schema> consumer) throws SQLException {
-        getSchemasAndAcceptEach(consumer);
+    public Flow.Publisher<Schema> publishSchemas(@Nullable final String catalog, @Nullable final String schemaPattern) {
+        return publishBound(() -> invoker.getSchemas(catalog, schemaPattern), Schema.class);
     }
 
     /**
-     * Invokes {@link DatabaseMetaData#getSchemas()} method, on the wrapped {@link #metadata}, and returns a list of
-     * bound values.
+     * Invokes {@link DatabaseMetaData#getSchemas()} method, on the wrapped {@link #metadata}, and returns a publisher
+     * of bound values.
      *
-     * @return a list of bound values.
-     * @throws SQLException if a database error occurs.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
      */
-    public List<Schema> getSchemas() throws SQLException {
-        return getSchemasAndAddAll(
-                new ArrayList<>()
-        );
+    public Flow.Publisher<Schema> publishSchemas() {
+        return publishBound(invoker::getSchemas, Schema.class);
     }
 
     // ------------------------------------------------------------------------------------------------------ getSchemas
@@ -2249,7 +3762,7 @@ public class Context {
                                  final Consumer<? super Schema> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (ResultSet results = metadata.getSchemas(catalog, schemaPattern)) {
+        try (ResultSet results = invoker.getSchemas(catalog, schemaPattern)) {
             assert results != null;
             acceptBound(results, Schema.class, consumer);
         }
@@ -2293,6 +3806,27 @@ public class Context {
         getSchemasAndAcceptEach(catalog, schemaPattern, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getSchemas(String, String)} method and accepts each bound value, of records
+     * accepted by the specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param catalog       a value for the {@code catalog} parameter.
+     * @param schemaPattern a value for the {@code schemaPattern} parameter.
+     * @param predicate     the predicate evaluated against each record before it is bound.
+     * @param consumer      the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachSchema(@Nullable final String catalog, @Nullable final String schemaPattern,
+                              final RowPredicate predicate, final Consumer<? super Schema> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getSchemas(catalog, schemaPattern)) {
+            assert results != null;
+            acceptBound(results, Schema.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes {@link DatabaseMetaData#getSchemas(String, String)} method, on the wrapped {@link #metadata}, with given
      * arguments, and returns a list of bound values.
@@ -2307,6 +3841,34 @@ public class Context {
         return getSchemasAndAddAll(catalog, schemaPattern, new ArrayList<>());
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getSchemas(String, String)} method, on the wrapped {@link #metadata}, with given
+     * arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog       a value for {@code catalog} parameter.
+     * @param schemaPattern a value for {@code schemaPattern} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     */
+    public Stream<Schema> streamSchemas(@Nullable final String catalog, @Nullable final String schemaPattern)
+            throws SQLException {
+        return streamBound(invoker.getSchemas(catalog, schemaPattern), Schema.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getSchemas(String, String)} method, on the wrapped {@link #metadata}, with given
+     * arguments, and returns a cursor over bound values.
+     *
+     * @param catalog       a value for {@code catalog} parameter.
+     * @param schemaPattern a value for {@code schemaPattern} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     */
+    public MetadataCursor<Schema> cursorSchemas(@Nullable final String catalog, @Nullable final String schemaPattern)
+            throws SQLException {
+        return cursorBound(invoker.getSchemas(catalog, schemaPattern), Schema.class);
+    }
+
     /**
      * Retrieves schemas, optionally scoped to the specified catalog.
      *
@@ -2354,7 +3916,7 @@ public class Context {
                                      final String tableNamePattern, final Consumer<? super SuperTable> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getSuperTables(catalog, schemaPattern, tableNamePattern)) {
+        try (var results = invoker.getSuperTables(catalog, schemaPattern, tableNamePattern)) {
             assert results != null;
             acceptBound(results, SuperTable.class, consumer);
         }
@@ -2402,6 +3964,29 @@ public class Context {
         getSuperTablesAndAcceptEach(catalog, schemaPattern, tableNamePattern, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getSuperTables(String, String, String)} method and accepts each bound value, of
+     * records accepted by the specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param catalog          a value for the {@code catalog} parameter.
+     * @param schemaPattern    a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for the {@code tableNamePattern} parameter.
+     * @param predicate        the predicate evaluated against each record before it is bound.
+     * @param consumer         the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachSuperTable(@Nullable final String catalog, final String schemaPattern,
+                                  final String tableNamePattern, final RowPredicate predicate,
+                                  final Consumer<? super SuperTable> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getSuperTables(catalog, schemaPattern, tableNamePattern)) {
+            assert results != null;
+            acceptBound(results, SuperTable.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes {@link DatabaseMetaData#getSuperTables(String, String, String)} method, on the wrapped {@link #metadata},
      * with given arguments, and returns a list of bound values.
@@ -2421,6 +4006,53 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getSuperTables(String, String, String)} method, on the wrapped {@link #metadata},
+     * with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog          a value for {@code catalog} parameter.
+     * @param schemaPattern    a value for {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for {@code tableNamePattern} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     */
+    public Stream<SuperTable> streamSuperTables(@Nullable final String catalog, final String schemaPattern,
+                                                final String tableNamePattern)
+            throws SQLException {
+        return streamBound(invoker.getSuperTables(catalog, schemaPattern, tableNamePattern), SuperTable.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getSuperTables(String, String, String)} method, on the wrapped {@link #metadata},
+     * with given arguments, and returns a cursor over bound values.
+     *
+     * @param catalog          a value for {@code catalog} parameter.
+     * @param schemaPattern    a value for {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for {@code tableNamePattern} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     */
+    public MetadataCursor<SuperTable> cursorSuperTables(@Nullable final String catalog, final String schemaPattern,
+                                                        final String tableNamePattern)
+            throws SQLException {
+        return cursorBound(invoker.getSuperTables(catalog, schemaPattern, tableNamePattern), SuperTable.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getSuperTables(String, String, String)} method, on the wrapped {@link #metadata},
+     * with given arguments, and returns a publisher of bound values.
+     *
+     * @param catalog          a value for {@code catalog} parameter.
+     * @param schemaPattern    a value for {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for {@code tableNamePattern} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     */
+    public Flow.Publisher<SuperTable> publishSuperTables(@Nullable final String catalog, final String schemaPattern,
+                                                         final String tableNamePattern) {
+        return publishBound(() -> invoker.getSuperTables(catalog, schemaPattern, tableNamePattern), SuperTable.class);
+    }
+
     /**
      * Retrieves super tables, optionally scoped to the specified catalog.
      *
@@ -2529,7 +4161,7 @@ public class Context {
                                     final String typeNamePattern, final Consumer<? super SuperType> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getSuperTypes(catalog, schemaPattern, typeNamePattern)) {
+        try (var results = invoker.getSuperTypes(catalog, schemaPattern, typeNamePattern)) {
             assert results != null;
             acceptBound(results, SuperType.class, consumer);
         }
@@ -2577,6 +4209,29 @@ public class Context {
         getSuperTypesAndAcceptEach(catalog, schemaPattern, typeNamePattern, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getSuperTypes(String, String, String)} method and accepts each bound value, of
+     * records accepted by the specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param catalog         a value for the {@code catalog} parameter.
+     * @param schemaPattern   a value for the {@code schemaPattern} parameter.
+     * @param typeNamePattern a value for the {@code typeNamePattern} parameter.
+     * @param predicate       the predicate evaluated against each record before it is bound.
+     * @param consumer        the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachSuperType(@Nullable final String catalog, final String schemaPattern,
+                                 final String typeNamePattern, final RowPredicate predicate,
+                                 final Consumer<? super SuperType> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getSuperTypes(catalog, schemaPattern, typeNamePattern)) {
+            assert results != null;
+            acceptBound(results, SuperType.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes {@link DatabaseMetaData#getSuperTypes(String, String, String)} method, on the wrapped {@link #metadata},
      * with given arguments, and returns a list of bound values.
@@ -2598,6 +4253,53 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getSuperTypes(String, String, String)} method, on the wrapped {@link #metadata},
+     * with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog         a value for {@code catalog} parameter.
+     * @param schemaPattern   a value for {@code schemaPattern} parameter.
+     * @param typeNamePattern a value for {@code typeNamePattern} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     */
+    public Stream<SuperType> streamSuperTypes(@Nullable final String catalog, final String schemaPattern,
+                                              final String typeNamePattern)
+            throws SQLException {
+        return streamBound(invoker.getSuperTypes(catalog, schemaPattern, typeNamePattern), SuperType.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getSuperTypes(String, String, String)} method, on the wrapped {@link #metadata},
+     * with given arguments, and returns a cursor over bound values.
+     *
+     * @param catalog         a value for {@code catalog} parameter.
+     * @param schemaPattern   a value for {@code schemaPattern} parameter.
+     * @param typeNamePattern a value for {@code typeNamePattern} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     */
+    public MetadataCursor<SuperType> cursorSuperTypes(@Nullable final String catalog, final String schemaPattern,
+                                                      final String typeNamePattern)
+            throws SQLException {
+        return cursorBound(invoker.getSuperTypes(catalog, schemaPattern, typeNamePattern), SuperType.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getSuperTypes(String, String, String)} method, on the wrapped {@link #metadata},
+     * with given arguments, and returns a publisher of bound values.
+     *
+     * @param catalog         a value for {@code catalog} parameter.
+     * @param schemaPattern   a value for {@code schemaPattern} parameter.
+     * @param typeNamePattern a value for {@code typeNamePattern} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     */
+    public Flow.Publisher<SuperType> publishSuperTypes(@Nullable final String catalog, final String schemaPattern,
+                                                       final String typeNamePattern) {
+        return publishBound(() -> invoker.getSuperTypes(catalog, schemaPattern, typeNamePattern), SuperType.class);
+    }
+
     /**
      * Retrieves super types, optionally scoped to the specified catalog.
      *
@@ -2707,7 +4409,7 @@ public class Context {
                                          final Consumer<? super TablePrivilege> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getTablePrivileges(catalog, schemaPattern, tableNamePattern)) {
+        try (var results = invoker.getTablePrivileges(catalog, schemaPattern, tableNamePattern)) {
             assert results != null;
             acceptBound(results, TablePrivilege.class, consumer);
         }
@@ -2757,6 +4459,29 @@ public class Context {
         getTablePrivilegesAndAcceptEach(catalog, schemaPattern, tableNamePattern, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getTablePrivileges(String, String, String)} method and accepts each bound value,
+     * of records accepted by the specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param catalog          a value for the {@code catalog} parameter.
+     * @param schemaPattern    a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for the {@code tableNamePattern} parameter.
+     * @param predicate        the predicate evaluated against each record before it is bound.
+     * @param consumer         the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachTablePrivilege(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                      final String tableNamePattern, final RowPredicate predicate,
+                                      final Consumer<? super TablePrivilege> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getTablePrivileges(catalog, schemaPattern, tableNamePattern)) {
+            assert results != null;
+            acceptBound(results, TablePrivilege.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes {@link DatabaseMetaData#getTablePrivileges(java.lang.String, java.lang.String, java.lang.String)} method,
      * on the wrapped {@link #metadata}, with given arguments, and returns a list of bound values.
@@ -2779,6 +4504,62 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getTablePrivileges(java.lang.String, java.lang.String, java.lang.String)} method,
+     * on the wrapped {@link #metadata}, with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog          a value for {@code catalog} parameter.
+     * @param schemaPattern    a value for {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for {@code tableNamePattern} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getTablePrivileges(String, String, String)
+     */
+    public Stream<TablePrivilege> streamTablePrivileges(@Nullable final String catalog,
+                                                        @Nullable final String schemaPattern,
+                                                        final String tableNamePattern)
+            throws SQLException {
+        return streamBound(invoker.getTablePrivileges(catalog, schemaPattern, tableNamePattern), TablePrivilege.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getTablePrivileges(java.lang.String, java.lang.String, java.lang.String)} method,
+     * on the wrapped {@link #metadata}, with given arguments, and returns a cursor over bound values.
+     *
+     * @param catalog          a value for {@code catalog} parameter.
+     * @param schemaPattern    a value for {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for {@code tableNamePattern} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     * @see DatabaseMetaData#getTablePrivileges(String, String, String)
+     */
+    public MetadataCursor<TablePrivilege> cursorTablePrivileges(@Nullable final String catalog,
+                                                                @Nullable final String schemaPattern,
+                                                                final String tableNamePattern)
+            throws SQLException {
+        return cursorBound(invoker.getTablePrivileges(catalog, schemaPattern, tableNamePattern), TablePrivilege.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getTablePrivileges(java.lang.String, java.lang.String, java.lang.String)} method,
+     * on the wrapped {@link #metadata}, with given arguments, and returns a publisher of bound values.
+     *
+     * @param catalog          a value for {@code catalog} parameter.
+     * @param schemaPattern    a value for {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for {@code tableNamePattern} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     * @see DatabaseMetaData#getTablePrivileges(String, String, String)
+     */
+    public Flow.Publisher<TablePrivilege> publishTablePrivileges(@Nullable final String catalog,
+                                                                 @Nullable final String schemaPattern,
+                                                                 final String tableNamePattern) {
+        return publishBound(
+                () -> invoker.getTablePrivileges(catalog, schemaPattern, tableNamePattern),
+                TablePrivilege.class
+        );
+    }
+
     void forEachTablePrivilege(final Consumer<? super TablePrivilege> consumer) throws SQLException {
         getTablePrivilegesAndAcceptEach(null, null, "%", consumer);
     }
@@ -2893,7 +4674,7 @@ public class Context {
      */
     void getTableTypesAndAcceptEach(final Consumer<? super TableType> consumer) throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getTableTypes()) {
+        try (var results = invoker.getTableTypes()) {
             assert results != null;
             acceptBound(
                     results,
@@ -2904,43 +4685,94 @@ public class Context {
     }
 
     /**
-     * Invokes {@link DatabaseMetaData#getTableTypes()} method, on the wrapped {@link #metadata}, and adds each bound
-     * value to the specified collection.
+     * Invokes {@link DatabaseMetaData#getTableTypes()} method, on the wrapped {@link #metadata}, and adds each bound
+     * value to the specified collection.
+     *
+     * @param collection the collection to which bound values are added.
+     * @param <C>        collection type parameter.
+     * @return given {@code collection}.
+     * @throws SQLException if a database error occurs.
+     */
+    <C extends Collection<? super TableType>> C getTableTypesAndAddAll(final C collection) throws SQLException {
+        Objects.requireNonNull(collection, "collection is null");
+        getTableTypesAndAcceptEach(
+                collection::add
+        );
+        return collection;
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getTableTypes()} method and accepts each bound value to the specified consumer.
+     *
+     * @param consumer the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachTableType(final Consumer<? super TableType> consumer) throws SQLException {
+        getTableTypesAndAcceptEach(consumer);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getTableTypes()} method and accepts each bound value, of records accepted by the
+     * specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param predicate the predicate evaluated against each record before it is bound.
+     * @param consumer  the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachTableType(final RowPredicate predicate, final Consumer<? super TableType> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getTableTypes()) {
+            assert results != null;
+            acceptBound(results, TableType.class, predicate, consumer);
+        }
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getTableTypes()} method, on the wrapped {@link #metadata}, and returns a list of
+     * bound values.
+     *
+     * @return a list of bound values.
+     * @throws SQLException if a database error occurs.
+     */
+    public List<TableType> getTableTypes() throws SQLException {
+        return getTableTypesAndAddAll(
+                new ArrayList<>()
+        );
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getTableTypes()} method, on the wrapped {@link #metadata}, and returns a lazy
+     * stream of bound values.
      *
-     * @param collection the collection to which bound values are added.
-     * @param <C>        collection type parameter.
-     * @return given {@code collection}.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
      * @throws SQLException if a database error occurs.
      */
-    <C extends Collection<? super TableType>> C getTableTypesAndAddAll(final C collection) throws SQLException {
-        Objects.requireNonNull(collection, "collection is null");
-        getTableTypesAndAcceptEach(
-                collection::add
-        );
-        return collection;
+    public Stream<TableType> streamTableTypes() throws SQLException {
+        return streamBound(invoker.getTableTypes(), TableType.class);
     }
 
     /**
-     * Invokes {@link DatabaseMetaData#getTableTypes()} method and accepts each bound value to the specified consumer.
+     * Invokes {@link DatabaseMetaData#getTableTypes()} method, on the wrapped {@link #metadata}, and returns a cursor
+     * over bound values.
      *
-     * @param consumer the consumer to which bound values are accepted.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
      * @throws SQLException if a database error occurs.
      */
-    public void forEachTableType(final Consumer<? super TableType> consumer) throws SQLException {
-        getTableTypesAndAcceptEach(consumer);
+    public MetadataCursor<TableType> cursorTableTypes() throws SQLException {
+        return cursorBound(invoker.getTableTypes(), TableType.class);
     }
 
     /**
-     * Invokes {@link DatabaseMetaData#getTableTypes()} method, on the wrapped {@link #metadata}, and returns a list of
-     * bound values.
+     * Invokes {@link DatabaseMetaData#getTableTypes()} method, on the wrapped {@link #metadata}, and returns a
+     * publisher of bound values.
      *
-     * @return a list of bound values.
-     * @throws SQLException if a database error occurs.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
      */
-    public List<TableType> getTableTypes() throws SQLException {
-        return getTableTypesAndAddAll(
-                new ArrayList<>()
-        );
+    public Flow.Publisher<TableType> publishTableTypes() {
+        return publishBound(invoker::getTableTypes, TableType.class);
     }
 
     // ------------------------------------------------------------------------------------------------------- getTables
@@ -2963,7 +4795,7 @@ public class Context {
                                 final Consumer<? super Table> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getTables(catalog, schemaPattern, tableNamePattern, types)) {
+        try (var results = invoker.getTables(catalog, schemaPattern, tableNamePattern, types)) {
             assert results != null;
             acceptBound(
                     results,
@@ -3021,6 +4853,30 @@ public class Context {
         getTablesAndAcceptEach(catalog, schemaPattern, tableNamePattern, types, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getTables(String, String, String, String[])} method and accepts each bound value,
+     * of records accepted by the specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param catalog          a value for the {@code catalog} parameter.
+     * @param schemaPattern    a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for the {@code tableNamePattern} parameter.
+     * @param types            a value for the {@code types} parameter.
+     * @param predicate        the predicate evaluated against each record before it is bound.
+     * @param consumer         the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachTable(@Nullable final String catalog, @Nullable final String schemaPattern,
+                             final String tableNamePattern, @Nullable final String[] types,
+                             final RowPredicate predicate, final Consumer<? super Table> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getTables(catalog, schemaPattern, tableNamePattern, types)) {
+            assert results != null;
+            acceptBound(results, Table.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes
      * {@link DatabaseMetaData#getTables(java.lang.String, java.lang.String, java.lang.String, java.lang.String[])}
@@ -3045,6 +4901,59 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes
+     * {@link DatabaseMetaData#getTables(java.lang.String, java.lang.String, java.lang.String, java.lang.String[])}
+     * method, on the wrapped {@link #metadata}, with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog          a value for the {@code catalog} parameter.
+     * @param schemaPattern    a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for the {@code tableNamePattern} parameter.
+     * @param types            a value for the {@code types} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     */
+    public Stream<Table> streamTables(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                      final String tableNamePattern, @Nullable final String[] types)
+            throws SQLException {
+        return streamBound(invoker.getTables(catalog, schemaPattern, tableNamePattern, types), Table.class);
+    }
+
+    /**
+     * Invokes
+     * {@link DatabaseMetaData#getTables(java.lang.String, java.lang.String, java.lang.String, java.lang.String[])}
+     * method, on the wrapped {@link #metadata}, with given arguments, and returns a cursor over bound values.
+     *
+     * @param catalog          a value for the {@code catalog} parameter.
+     * @param schemaPattern    a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for the {@code tableNamePattern} parameter.
+     * @param types            a value for the {@code types} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     */
+    public MetadataCursor<Table> cursorTables(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                              final String tableNamePattern, @Nullable final String[] types)
+            throws SQLException {
+        return cursorBound(invoker.getTables(catalog, schemaPattern, tableNamePattern, types), Table.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getTables(java.lang.String, java.lang.String, java.lang.String,
+     * java.lang.String[])} method, on the wrapped {@link #metadata}, with given arguments, and returns a publisher of
+     * bound values.
+     *
+     * @param catalog          a value for the {@code catalog} parameter.
+     * @param schemaPattern    a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for the {@code tableNamePattern} parameter.
+     * @param types            a value for the {@code types} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     */
+    public Flow.Publisher<Table> publishTables(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                               final String tableNamePattern, @Nullable final String[] types) {
+        return publishBound(() -> invoker.getTables(catalog, schemaPattern, tableNamePattern, types), Table.class);
+    }
+
     void forEachTable(final Consumer<? super Table> consumer) throws SQLException {
         getTablesAndAcceptEach(null, null, "%", null, consumer);
     }
@@ -3142,7 +5051,7 @@ public class Context {
      */
     void getTypeInfoAndAcceptEach(final Consumer<? super TypeInfo> consumer) throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getTypeInfo()) {
+        try (var results = invoker.getTypeInfo()) {
             assert results != null;
             acceptBound(
                     results,
@@ -3179,6 +5088,24 @@ public class Context {
         getTypeInfoAndAcceptEach(consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getTypeInfo()} method and accepts each bound value, of records accepted by the
+     * specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param predicate the predicate evaluated against each record before it is bound.
+     * @param consumer  the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachTypeInfo(final RowPredicate predicate, final Consumer<? super TypeInfo> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getTypeInfo()) {
+            assert results != null;
+            acceptBound(results, TypeInfo.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes {@link DatabaseMetaData#getTypeInfo()} method, on the wrapped {@link #metadata}, and returns a list of
      * bound values.
@@ -3192,6 +5119,39 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getTypeInfo()} method, on the wrapped {@link #metadata}, and returns a lazy
+     * stream of bound values.
+     *
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     */
+    public Stream<TypeInfo> streamTypeInfo() throws SQLException {
+        return streamBound(invoker.getTypeInfo(), TypeInfo.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getTypeInfo()} method, on the wrapped {@link #metadata}, and returns a cursor
+     * over bound values.
+     *
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     */
+    public MetadataCursor<TypeInfo> cursorTypeInfo() throws SQLException {
+        return cursorBound(invoker.getTypeInfo(), TypeInfo.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getTypeInfo()} method, on the wrapped {@link #metadata}, and returns a publisher
+     * of bound values.
+     *
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     */
+    public Flow.Publisher<TypeInfo> publishTypeInfo() {
+        return publishBound(invoker::getTypeInfo, TypeInfo.class);
+    }
+
     // --------------------------------------------------------------------------------------------------------- getUDTs
 
     /**
@@ -3210,7 +5170,7 @@ public class Context {
                               final Consumer<? super UDT> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getUDTs(catalog, schemaPattern, typeNamePattern, types)) {
+        try (var results = invoker.getUDTs(catalog, schemaPattern, typeNamePattern, types)) {
             assert results != null;
             acceptBound(
                     results,
@@ -3266,6 +5226,30 @@ public class Context {
         getUDTsAndAcceptEach(catalog, schemaPattern, typeNamePattern, types, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getUDTs(String, String, String, int[])} method and accepts each bound value, of
+     * records accepted by the specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param catalog         a value for the {@code catalog} parameter.
+     * @param schemaPattern   a value for the {@code schemaPattern} parameter.
+     * @param typeNamePattern a value for the {@code typeNamePattern} parameter.
+     * @param types           a value for the {@code types} parameter.
+     * @param predicate       the predicate evaluated against each record before it is bound.
+     * @param consumer        the consumer to which bound values are accepted.
+     * @throws SQLException if a database error occurs.
+     */
+    public void forEachUDT(@Nullable final String catalog, @Nullable final String schemaPattern,
+                           final String typeNamePattern, @Nullable final int[] types, final RowPredicate predicate,
+                           final Consumer<? super UDT> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getUDTs(catalog, schemaPattern, typeNamePattern, types)) {
+            assert results != null;
+            acceptBound(results, UDT.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes {@link DatabaseMetaData#getUDTs(java.lang.String, java.lang.String, java.lang.String, int[])} method, on
      * the wrapped {@link #metadata}, with given arguments, and returns a list of bound values.
@@ -3289,6 +5273,56 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getUDTs(java.lang.String, java.lang.String, java.lang.String, int[])} method, on
+     * the wrapped {@link #metadata}, with given arguments, and returns a lazy stream of bound values.
+     *
+     * @param catalog         a value for the {@code catalog} parameter.
+     * @param schemaPattern   a value for the {@code schemaPattern} parameter
+     * @param typeNamePattern a value for the {@code typeNamePattern} parameter.
+     * @param types           a value for the {@code type} parameter
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database error occurs.
+     */
+    public Stream<UDT> streamUDTs(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                  final String typeNamePattern, @Nullable final int[] types)
+            throws SQLException {
+        return streamBound(invoker.getUDTs(catalog, schemaPattern, typeNamePattern, types), UDT.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getUDTs(java.lang.String, java.lang.String, java.lang.String, int[])} method, on
+     * the wrapped {@link #metadata}, with given arguments, and returns a cursor over bound values.
+     *
+     * @param catalog         a value for the {@code catalog} parameter.
+     * @param schemaPattern   a value for the {@code schemaPattern} parameter
+     * @param typeNamePattern a value for the {@code typeNamePattern} parameter.
+     * @param types           a value for the {@code type} parameter
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database error occurs.
+     */
+    public MetadataCursor<UDT> cursorUDTs(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                          final String typeNamePattern, @Nullable final int[] types)
+            throws SQLException {
+        return cursorBound(invoker.getUDTs(catalog, schemaPattern, typeNamePattern, types), UDT.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getUDTs(java.lang.String, java.lang.String, java.lang.String, int[])} method, on
+     * the wrapped {@link #metadata}, with given arguments, and returns a publisher of bound values.
+     *
+     * @param catalog         a value for the {@code catalog} parameter.
+     * @param schemaPattern   a value for the {@code schemaPattern} parameter
+     * @param typeNamePattern a value for the {@code typeNamePattern} parameter.
+     * @param types           a value for the {@code type} parameter
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     */
+    public Flow.Publisher<UDT> publishUDTs(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                           final String typeNamePattern, @Nullable final int[] types) {
+        return publishBound(() -> invoker.getUDTs(catalog, schemaPattern, typeNamePattern, types), UDT.class);
+    }
+
     void forEachUDT(final Consumer<? super UDT> consumer) throws SQLException {
         getUDTsAndAcceptEach(null, null, "%", null, consumer);
     }
@@ -3388,7 +5422,7 @@ public class Context {
                                         final String table, final Consumer<? super VersionColumn> consumer)
             throws SQLException {
         Objects.requireNonNull(consumer, "consumer is null");
-        try (var results = metadata.getVersionColumns(catalog, schema, table)) {
+        try (var results = invoker.getVersionColumns(catalog, schema, table)) {
             assert results != null;
             acceptBound(results, VersionColumn.class, consumer);
         }
@@ -3436,6 +5470,28 @@ public class Context {
         getVersionColumnsAndAcceptEach(catalog, schema, table, consumer);
     }
 
+    /**
+     * Invokes {@link DatabaseMetaData#getVersionColumns(String, String, String)} method and accepts each bound value,
+     * of records accepted by the specified predicate, to the specified consumer. Rejected records are never bound.
+     *
+     * @param catalog   a value for the {@code catalog} parameter.
+     * @param schema    a value for the {@code schema} parameter.
+     * @param table     a value for the {@code table} parameter.
+     * @param predicate the predicate evaluated against each record before it is bound.
+     * @param consumer  the consumer to which bound values are accepted.
+     * @throws SQLException if a database access error occurs.
+     */
+    public void forEachVersionColumn(@Nullable final String catalog, @Nullable final String schema, final String table,
+                                     final RowPredicate predicate, final Consumer<? super VersionColumn> consumer)
+            throws SQLException {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        try (var results = invoker.getVersionColumns(catalog, schema, table)) {
+            assert results != null;
+            acceptBound(results, VersionColumn.class, predicate, consumer);
+        }
+    }
+
     /**
      * Invokes
      * {@link DatabaseMetaData#getVersionColumns(java.lang.String, java.lang.String, java.lang.String)
@@ -3460,6 +5516,62 @@ public class Context {
         );
     }
 
+    /**
+     * Invokes
+     * {@link DatabaseMetaData#getVersionColumns(java.lang.String, java.lang.String, java.lang.String)
+     * getVersionColumns(catalog, schema, table)} method, on the wrapped {@link #metadata}, with given arguments, and
+     * returns a lazy stream of bound values.
+     *
+     * @param catalog a value for the {@code catalog} parameter.
+     * @param schema  a value for the {@code schema} parameter.
+     * @param table   a value for the {@code table} parameter.
+     * @return a lazy stream of bound values; should be closed unless exhausted.
+     * @throws SQLException if a database access error occurs.
+     * @see DatabaseMetaData#getVersionColumns(String, String, String)
+     */
+    public Stream<VersionColumn> streamVersionColumns(@Nullable final String catalog, @Nullable final String schema,
+                                                      final String table)
+            throws SQLException {
+        return streamBound(invoker.getVersionColumns(catalog, schema, table), VersionColumn.class);
+    }
+
+    /**
+     * Invokes
+     * {@link DatabaseMetaData#getVersionColumns(java.lang.String, java.lang.String, java.lang.String)
+     * getVersionColumns(catalog, schema, table)} method, on the wrapped {@link #metadata}, with given arguments, and
+     * returns a cursor over bound values.
+     *
+     * @param catalog a value for the {@code catalog} parameter.
+     * @param schema  a value for the {@code schema} parameter.
+     * @param table   a value for the {@code table} parameter.
+     * @return a cursor over bound values, reusing a single instance; should be closed.
+     * @throws SQLException if a database access error occurs.
+     * @see DatabaseMetaData#getVersionColumns(String, String, String)
+     */
+    public MetadataCursor<VersionColumn> cursorVersionColumns(@Nullable final String catalog,
+                                                              @Nullable final String schema, final String table)
+            throws SQLException {
+        return cursorBound(invoker.getVersionColumns(catalog, schema, table), VersionColumn.class);
+    }
+
+    /**
+     * Invokes {@link DatabaseMetaData#getVersionColumns(java.lang.String, java.lang.String, java.lang.String)
+     * getVersionColumns(catalog, schema, table)} method, on the wrapped {@link #metadata}, with given arguments, and
+     * returns a publisher of bound values.
+     *
+     * @param catalog a value for the {@code catalog} parameter.
+     * @param schema  a value for the {@code schema} parameter.
+     * @param table   a value for the {@code table} parameter.
+     * @return a publisher binding each row only when requested; the method is invoked, for each subscription, on the
+     * first request.
+     * @throws SQLException if a database access error occurs.
+     * @see DatabaseMetaData#getVersionColumns(String, String, String)
+     */
+    public Flow.Publisher<VersionColumn> publishVersionColumns(@Nullable final String catalog,
+                                                               @Nullable final String schema, final String table) {
+        return publishBound(() -> invoker.getVersionColumns(catalog, schema, table), VersionColumn.class);
+    }
+
     /**
      * Retrieves a description of the specified table's columns that are automatically updated when any value in a row
      * is updated.
@@ -3489,20 +5601,101 @@ public class Context {
         );
     }
 
-    // -----------------------------------------------------------------------------------------------------------------
+    // -------------------------------------------------------------------------------------------------- describeTables
+
+    /**
+     * Describes tables matching the specified arguments, with their columns, primary keys, foreign keys, and indices.
+     * <p>
+     * Columns of all matching tables are retrieved with a single invocation of
+     * {@link DatabaseMetaData#getColumns(String, String, String, String) getColumns} method, with the same table name
+     * pattern, and grouped by table in one pass. Primary keys, imported keys, exported keys, and index information are
+     * retrieved per table, for the specification requires an exact table name for those methods. Index information is
+     * retrieved with {@code unique} of {@code false} and {@code approximate} of {@code true}.
+     *
+     * @param catalog          a value for the {@code catalog} parameter.
+     * @param schemaPattern    a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for the {@code tableNamePattern} parameter.
+     * @param types            a value for the {@code types} parameter.
+     * @return a list of descriptions, in the order the driver returned tables.
+     * @throws SQLException if a database error occurs.
+     * @see #getTables(String, String, String, String[])
+     * @see #getColumns(String, String, String, String)
+     * @see MetadataCrawler
+     */
+    public List<TableDescription> describeTables(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                                 final String tableNamePattern, @Nullable final String[] types)
+            throws SQLException {
+        final var tables = getTables(catalog, schemaPattern, tableNamePattern, types);
+        final var columns = getColumnsGroupedByTable(tables, catalog, schemaPattern, tableNamePattern);
+        final var descriptions = new ArrayList<TableDescription>(tables.size());
+        for (final var entry : columns.entrySet()) {
+            descriptions.add(describeTable(entry.getKey(), entry.getValue()));
+        }
+        return descriptions;
+    }
+
+    /**
+     * Retrieves columns of specified tables, with a single invocation of
+     * {@link #forEachColumnOfTables(String, String, String, Consumer)} method, grouped by table.
+     *
+     * @param tables           the tables whose columns are retrieved.
+     * @param catalog          a value for the {@code catalog} parameter.
+     * @param schemaPattern    a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for the {@code tableNamePattern} parameter.
+     * @return a map of each table, in the order of {@code tables}, and its columns.
+     * @throws SQLException if a database error occurs.
+     */
+    Map<Table, List<Column>> getColumnsGroupedByTable(final List<Table> tables, @Nullable final String catalog,
+                                                      @Nullable final String schemaPattern,
+                                                      final String tableNamePattern)
+            throws SQLException {
+        final var buckets = new HashMap<MetadataKey, List<Column>>();
+        final var columns = new LinkedHashMap<Table, List<Column>>();
+        for (final var table : tables) {
+            columns.put(table, buckets.computeIfAbsent(table.getKey(), k -> new ArrayList<>()));
+        }
+        forEachColumnOfTables(catalog, schemaPattern, tableNamePattern, c -> {
+            final var bucket = buckets.get(c.getKey().getParent());
+            if (bucket != null) { // a table of an unrequested type
+                bucket.add(c);
+            }
+        });
+        return columns;
+    }
+
+    /**
+     * Accepts each column of tables matching specified arguments to the specified consumer; by invoking the
+     * {@link #forEachColumn(String, String, String, String, Consumer)} method with a column name pattern of {@code %}.
+     *
+     * @param catalog          a value for the {@code catalog} parameter.
+     * @param schemaPattern    a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for the {@code tableNamePattern} parameter.
+     * @param consumer         the consumer.
+     * @throws SQLException if a database error occurs.
+     * @see #getColumnsGroupedByTable(List, String, String, String)
+     */
+    void forEachColumnOfTables(@Nullable final String catalog, @Nullable final String schemaPattern,
+                               final String tableNamePattern, final Consumer<? super Column> consumer)
+            throws SQLException {
+        forEachColumn(catalog, schemaPattern, tableNamePattern, "%", consumer);
+    }
 
     /**
-     * Returns the cached map of {@link _ColumnLabel}-annotated fields of the specified class, computing and caching it
-     * on the first request.
+     * Describes the specified table, with specified columns, retrieving its keys and indices.
      *
-     * @param clazz the class whose labeled fields are returned.
-     * @return an unmodifiable map of labeled fields of the {@code clazz}.
+     * @param table   the table to describe.
+     * @param columns the columns of the {@code table}.
+     * @return a description of the {@code table}.
+     * @throws SQLException if a database error occurs.
      */
-    private Map<Field, _ColumnLabel> getLabeledFields(final Class<?> clazz) {
-        Objects.requireNonNull(clazz, "clazz is null");
-        return classesAndLabeledFields.computeIfAbsent(
-                clazz,
-                c -> Collections.unmodifiableMap(ContextUtils.getFieldsAnnotatedWith(c, _ColumnLabel.class))
+    TableDescription describeTable(final Table table, final List<Column> columns) throws SQLException {
+        return new TableDescription(
+                table,
+                columns,
+                getPrimaryKeysOf(table),
+                getImportedKeysOf(table),
+                getExportedKeysOf(table),
+                getIndexInfoOf(table, false, true)
         );
     }
 
@@ -3513,72 +5706,110 @@ public class Context {
      */
     protected final DatabaseMetaData metadata;
 
-    // -----------------------------------------------------------------------------------------------------------------
+    /**
+     * The invoker of {@link #metadata}'s methods, which remembers unsupported ones.
+     */
+    private final MetadataInvoker invoker;
+
+    /**
+     * The scalar properties of {@link #metadata}; captured lazily, possibly more than once under contention.
+     */
+    @Nullable
+    private volatile DatabaseCapabilities capabilities;
 
     /**
-     * A cache mapping each class to its map of {@link _ColumnLabel}-annotated fields.
+     * A flag for collecting {@link MetadataType#getUnknownColumns() unknown columns}.
      */
-    private final Map<Class<?>, Map<Field, _ColumnLabel>> classesAndLabeledFields = new ConcurrentHashMap<>();
+    private volatile boolean unknownColumnsCollected = true;
+
+    /**
+     * The column labels of fields to bind, per metadata type.
+     */
+    private final Map<Class<?>, Set<String>> projections = new ConcurrentHashMap<>();
 
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
-     * Invokes {@link DatabaseMetaData#getNumericFunctions() getNumericFunctions()} method, on the wrapped
-     * {@link #metadata}, and returns the result as a list of comma-split elements.
+     * Returns the comma-split elements of the result of {@link DatabaseMetaData#getNumericFunctions()
+     * getNumericFunctions()}, as captured in {@link #getCapabilities()}; the wrapped {@link #metadata} is invoked
+     * when not captured.
      *
      * @return an unmodifiable list of numeric functions.
      * @throws SQLException if a database error occurs.
      * @see DatabaseMetaData#getNumericFunctions()
      */
     public List<String> getNumericFunctions() throws SQLException {
-        return commaSplitToUnmodifiableList(metadata.getNumericFunctions());
+        final var captured = getCapabilities();
+        if (captured.getString("getNumericFunctions") == null) {
+            return DatabaseCapabilities.commaSplitToUnmodifiableList(metadata.getNumericFunctions());
+        }
+        return captured.getNumericFunctions();
     }
 
     /**
-     * Invokes {@link DatabaseMetaData#getSQLKeywords() getSQLKeywords()} method, on the wrapped {@link #metadata}, and
-     * returns the result as a list of comma-split elements.
+     * Returns the comma-split elements of the result of {@link DatabaseMetaData#getSQLKeywords() getSQLKeywords()}, as
+     * captured in {@link #getCapabilities()}; the wrapped {@link #metadata} is invoked when not captured.
      *
      * @return an unmodifiable list of SQL keywords.
      * @throws SQLException if a database error occurs.
      * @see DatabaseMetaData#getSQLKeywords()
      */
     public List<String> getSQLKeywords() throws SQLException {
-        return commaSplitToUnmodifiableList(metadata.getSQLKeywords());
+        final var captured = getCapabilities();
+        if (captured.getString("getSQLKeywords") == null) {
+            return DatabaseCapabilities.commaSplitToUnmodifiableList(metadata.getSQLKeywords());
+        }
+        return captured.getSQLKeywords();
     }
 
     /**
-     * Invokes {@link DatabaseMetaData#getStringFunctions() getStringFunctions()} method, on the wrapped
-     * {@link #metadata}, and returns the result as a list of comma-split elements.
+     * Returns the comma-split elements of the result of {@link DatabaseMetaData#getStringFunctions()
+     * getStringFunctions()}, as captured in {@link #getCapabilities()}; the wrapped {@link #metadata} is invoked
+     * when not captured.
      *
      * @return a list of string functions.
      * @throws SQLException if a database error occurs.
      * @see DatabaseMetaData#getStringFunctions()
      */
     public List<String> getStringFunctions() throws SQLException {
-        return commaSplitToUnmodifiableList(metadata.getStringFunctions());
+        final var captured = getCapabilities();
+        if (captured.getString("getStringFunctions") == null) {
+            return DatabaseCapabilities.commaSplitToUnmodifiableList(metadata.getStringFunctions());
+        }
+        return captured.getStringFunctions();
     }
 
     /**
-     * Invokes {@link DatabaseMetaData#getSystemFunctions() getSystemFunctions()} method, on the wrapped
-     * {@link #metadata}, and returns the result as a list of comma-split elements.
+     * Returns the comma-split elements of the result of {@link DatabaseMetaData#getSystemFunctions()
+     * getSystemFunctions()}, as captured in {@link #getCapabilities()}; the wrapped {@link #metadata} is invoked
+     * when not captured.
      *
      * @return a list of system functions.
      * @throws SQLException if a database error occurs.
      * @see DatabaseMetaData#getSystemFunctions()
      */
     public List<String> getSystemFunctions() throws SQLException {
-        return commaSplitToUnmodifiableList(metadata.getSystemFunctions());
+        final var captured = getCapabilities();
+        if (captured.getString("getSystemFunctions") == null) {
+            return DatabaseCapabilities.commaSplitToUnmodifiableList(metadata.getSystemFunctions());
+        }
+        return captured.getSystemFunctions();
     }
 
     /**
-     * Invokes {@link DatabaseMetaData#getTimeDateFunctions() getTimeDateFunctions()} method, on the wrapped
-     * {@link #metadata}, and returns the result as a list of comma-split elements.
+     * Returns the comma-split elements of the result of {@link DatabaseMetaData#getTimeDateFunctions()
+     * getTimeDateFunctions()}, as captured in {@link #getCapabilities()}; the wrapped {@link #metadata} is invoked
+     * when not captured.
      *
      * @return a list of time and date functions.
      * @throws SQLException if a database error occurs.
      * @see DatabaseMetaData#getTimeDateFunctions()
      */
     public List<String> getTimeDateFunctions() throws SQLException {
-        return commaSplitToUnmodifiableList(metadata.getTimeDateFunctions());
+        final var captured = getCapabilities();
+        if (captured.getString("getTimeDateFunctions") == null) {
+            return DatabaseCapabilities.commaSplitToUnmodifiableList(metadata.getTimeDateFunctions());
+        }
+        return captured.getTimeDateFunctions();
     }
 }
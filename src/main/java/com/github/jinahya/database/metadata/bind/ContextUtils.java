@@ -25,16 +25,13 @@ import org.jspecify.annotations.Nullable;
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
+import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Locale;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
 /**
  * A class of utilities for binding {@link java.sql.DatabaseMetaData} result sets to metadata types.
@@ -100,105 +97,82 @@ public final class ContextUtils {
      * @param c   the class whose declared fields, along with those of its superclasses, are inspected.
      * @param a   the annotation type to look for.
      * @param <T> annotation type parameter
-     * @return a new map of matching fields and their annotation values; may be empty but never {@code null}.
+     * @return a new map of matching fields, in declaration order, and their annotation values; may be empty but never
+     * {@code null}.
      */
     static <T extends Annotation> Map<Field, T> getFieldsAnnotatedWith(final Class<?> c, final Class<T> a) {
-        return getFieldsAnnotatedWith(c, a, new HashMap<>());
+        return getFieldsAnnotatedWith(c, a, new LinkedHashMap<>());
     }
 
     /**
-     * Returns a set of column labels of given result set.
-     *
-     * @param results the result set from which column labels are read.
-     * @return a set of column labels
-     * @throws SQLException if a database error occurs.
-     * @see ResultSet#getMetaData()
-     */
-    static Set<String> getLabels(final ResultSet results) throws SQLException {
-        final ResultSetMetaData metadata = results.getMetaData();
-        final int count = metadata.getColumnCount();
-        final Set<String> labels = new HashSet<>(count);
-        for (int i = 1; i <= count; i++) {
-            labels.add(metadata.getColumnLabel(i).toUpperCase(Locale.ROOT));
-        }
-        return labels;
-    }
-
-    /**
-     * Reads the value of the specified column from the specified result set and sets it to the specified field of the
-     * specified object.
+     * Reads the value of the specified column from the specified result set and sets it, using the specified binder,
+     * to the field at the specified slot of the specified instance.
      * <p>
-     * The value is first read with {@link ResultSet#getObject(String)} and a direct assignment is attempted. When the
-     * read value is not directly assignable to the field's type, a series of coercion attempts are made: a {@code null}
-     * value is left unset; otherwise the value is re-read using a type-specific accessor
-     * ({@link ResultSet#getBoolean(String)}, {@link ResultSet#getShort(String)}, {@link ResultSet#getInt(String)}, or
-     * {@link ResultSet#getLong(String)}) matching the field type, and finally
-     * {@link ResultSet#getObject(String, Class)} is tried. If all coercion attempts fail, a {@link RuntimeException} is
-     * thrown.
+     * The value is first read with {@link ResultSet#getObject(int)} and is set as is when it is {@code null} or an
+     * instance of the field's type. Otherwise, the value is re-read using a type-specific accessor
+     * ({@link ResultSet#getBoolean(int)}, {@link ResultSet#getShort(int)}, {@link ResultSet#getInt(int)}, or
+     * {@link ResultSet#getLong(int)}) matching the field type, and finally {@link ResultSet#getObject(int, Class)} is
+     * tried. If all coercion attempts fail, a {@link RuntimeException} is thrown.
      *
-     * @param field   the field to set; must be accessible on {@code obj} and of a non-primitive type.
-     * @param obj     the object whose field is set.
-     * @param results the result set from which the value is read.
-     * @param label   the label of the column to read.
-     * @throws SQLException                 if a database error occurs.
-     * @throws ReflectiveOperationException if setting the field reflectively fails.
-     * @throws RuntimeException             if the value can neither be assigned directly nor coerced to the field
-     *                                      type.
+     * @param binder      the binder of the {@code instance}'s type.
+     * @param instance    the instance whose field is set.
+     * @param slot        the slot of the field to set.
+     * @param results     the result set from which the value is read.
+     * @param columnIndex the (1-based) index of the column to read.
+     * @param <T>         metadata type parameter
+     * @throws SQLException     if a database error occurs.
+     * @throws RuntimeException if the value can neither be assigned directly nor coerced to the field type.
      */
     @SuppressWarnings({
-            "java:S3011" // accessibility bypass
+            "java:S112" // new RuntimeException
     })
-    static void setFieldValue(final Field field, final Object obj, final ResultSet results, final String label)
-            throws SQLException, ReflectiveOperationException {
-        Objects.requireNonNull(field, "field is null");
-        Objects.requireNonNull(obj, "obj is null");
+    static <T extends MetadataType> void setValue(final Binder<T> binder, final T instance, final int slot,
+                                                  final ResultSet results, final int columnIndex)
+            throws SQLException {
+        Objects.requireNonNull(binder, "binder is null");
+        Objects.requireNonNull(instance, "instance is null");
         Objects.requireNonNull(results, "results is null");
-        Objects.requireNonNull(label, "label is null");
-        assert field.canAccess(obj);
-        final Class<?> fieldType = field.getType();
-        assert !fieldType.isPrimitive();
-        final Object value = results.getObject(label);
-        try {
-            field.set(obj, value);
+        final Class<?> valueType = binder.getValueType(slot);
+        assert !valueType.isPrimitive();
+        final Object value = results.getObject(columnIndex);
+        if (value == null || valueType.isInstance(value)) {
+            binder.setValue(instance, slot, value);
             return;
-        } catch (final IllegalArgumentException iae) {
-            // This block is reached if getObject() returns a type that is not directly assignable
-            // to the field type (e.g., a Short for an Integer field).
-            // We can now try to perform a conversion.
         }
-        if (value == null) {
+        // The value is not directly assignable to the field type (e.g., a Short for an Integer field),
+        // so let's try to coerce the type by asking the JDBC driver to do the conversion for us.
+        if (valueType == Boolean.class) {
+            binder.setValue(instance, slot, results.getBoolean(columnIndex));
             return;
         }
-        // The initial assignment failed, so let's try to coerce the type
-        // by asking the JDBC driver to do the conversion for us.
-        if (fieldType == Boolean.class) {
-            field.set(obj, results.getBoolean(label));
+        if (valueType == Short.class) {
+            binder.setValue(instance, slot, results.getShort(columnIndex));
             return;
         }
-        if (fieldType == Short.class) {
-            field.set(obj, results.getShort(label));
+        if (valueType == Integer.class) {
+            binder.setValue(instance, slot, results.getInt(columnIndex));
             return;
         }
-        if (fieldType == Integer.class) {
-            field.set(obj, results.getInt(label));
+        if (valueType == Long.class) {
+            binder.setValue(instance, slot, results.getLong(columnIndex));
             return;
         }
-        if (fieldType == Long.class) {
-            field.set(obj, results.getLong(label));
-            return;
-        }
-        // As a last resort, try the modern getObject(label, type) method.
+        // As a last resort, try the modern getObject(columnIndex, type) method.
         try {
-            field.set(obj, results.getObject(label, fieldType));
-            return;
+            final var coerced = results.getObject(columnIndex, valueType);
+            if (coerced == null || valueType.isInstance(coerced)) {
+                binder.setValue(instance, slot, coerced);
+                return;
+            }
         } catch (final Exception e) {
             // empty
         }
         // If we've reached this point, all attempts have failed.
+        final var field = binder.getType().getName() + '.' + binder.getName(slot);
         logger.log(
                 System.Logger.Level.ERROR,
-                () -> String.format("failed to set; label: %s, value: %s (%s), field: %s",
-                                    label, value, value.getClass().getName(), field)
+                () -> String.format("failed to set; columnIndex: %d, value: %s (%s), field: %s",
+                                    columnIndex, value, value.getClass().getName(), field)
         );
         throw new RuntimeException("failed to set " + value + " for " + field);
     }
@@ -267,18 +241,18 @@ public final class ContextUtils {
         Objects.requireNonNull(context, "context is null");
         Objects.requireNonNull(comparator, "comparator is null");
         Objects.requireNonNull(direction, "direction is null");
-        if (context.metadata.nullsAreSortedAtStart()) {
+        if (nullsAreSorted(context, "nullsAreSortedAtStart", DatabaseMetaData::nullsAreSortedAtStart)) {
             return Comparator.nullsFirst(comparator);
         }
-        if (context.metadata.nullsAreSortedAtEnd()) {
+        if (nullsAreSorted(context, "nullsAreSortedAtEnd", DatabaseMetaData::nullsAreSortedAtEnd)) {
             return Comparator.nullsLast(comparator);
         }
-        if (context.metadata.nullsAreSortedLow()) {
+        if (nullsAreSorted(context, "nullsAreSortedLow", DatabaseMetaData::nullsAreSortedLow)) {
             return direction == SortDirection.ASCENDING
                    ? Comparator.nullsFirst(comparator)
                    : Comparator.nullsLast(comparator);
         }
-        if (context.metadata.nullsAreSortedHigh()) {
+        if (nullsAreSorted(context, "nullsAreSortedHigh", DatabaseMetaData::nullsAreSortedHigh)) {
             return direction == SortDirection.ASCENDING
                    ? Comparator.nullsLast(comparator)
                    : Comparator.nullsFirst(comparator);
@@ -286,6 +260,26 @@ public final class ContextUtils {
         return Comparator.nullsLast(comparator);
     }
 
+    @FunctionalInterface
+    private interface BooleanProperty {
+
+        boolean get(DatabaseMetaData metadata) throws SQLException;
+    }
+
+    /**
+     * Returns the value of the specified property, as captured in capabilities of the specified context; or, when the
+     * property was not captured, e.g. for its method failed, invokes the metadata of the context again, so that the
+     * {@link SQLException} reaches the caller.
+     */
+    private static boolean nullsAreSorted(final Context context, final String name, final BooleanProperty property)
+            throws SQLException {
+        final var captured = context.getCapabilities().getBoolean(name);
+        if (captured != null) {
+            return captured;
+        }
+        return property.get(context.metadata);
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
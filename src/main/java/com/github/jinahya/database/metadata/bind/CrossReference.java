@@ -326,6 +326,25 @@ public class CrossReference
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A cross reference is identified by its foreign key table, its foreign key column name, and its
+     * primary key column.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(CrossReference.class,
+                                              MetadataKey.table(getEffectiveFktableCat(), getEffectiveFktableSchem(),
+                                                                fktableName), fkcolumnName,
+                                              MetadataKey.column(getEffectivePktableCat(), getEffectivePktableSchem(),
+                                                                 pktableName, pkcolumnName)),
+                         fktableCat, fktableSchem, fktableName, fkcolumnName, pktableCat, pktableSchem, pktableName,
+                         pkcolumnName);
+    }
+
     // ----------------------------------------------------------------------------------------------------- pktableCat
 
     /**
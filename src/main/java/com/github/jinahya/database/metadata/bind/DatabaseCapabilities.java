@@ -0,0 +1,422 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An immutable snapshot of the scalar properties of a {@link DatabaseMetaData}.
+ * <p>
+ * Each {@code public} method of {@link DatabaseMetaData}, which takes no argument and returns a {@code boolean}, an
+ * {@code int}, a {@code long}, or a {@link String}, e.g. {@link DatabaseMetaData#nullsAreSortedHigh()},
+ * {@link DatabaseMetaData#getMaxTableNameLength()}, or {@link DatabaseMetaData#getSQLKeywords()}, is invoked once, and
+ * its result is kept by the name of the method. Methods which fail, e.g. with {@link SQLFeatureNotSupportedException},
+ * are logged and left out, as are {@link DatabaseMetaData#getURL()} and {@link DatabaseMetaData#getUserName()} which
+ * describe the connection rather than the database.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see Context#getCapabilities()
+ */
+public final class DatabaseCapabilities
+        implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4019266471380581357L;
+
+    private static final System.Logger logger = System.getLogger(MethodHandles.lookup().lookupClass().getName());
+
+    /**
+     * The names of methods whose results are not kept.
+     */
+    private static final Set<String> EXCLUDED = Set.of("getURL", "getUserName");
+
+    /**
+     * The methods whose results are kept, sorted by their names.
+     */
+    private static final List<Method> METHODS = Arrays.stream(DatabaseMetaData.class.getMethods())
+            .filter(m -> !Modifier.isStatic(m.getModifiers()))
+            .filter(m -> m.getParameterCount() == 0)
+            .filter(m -> !EXCLUDED.contains(m.getName()))
+            .filter(m -> {
+                final var type = m.getReturnType();
+                return type == boolean.class || type == int.class || type == long.class || type == String.class;
+            })
+            .sorted(Comparator.comparing(Method::getName))
+            .toList();
+
+    static List<String> commaSplitToUnmodifiableList(@Nullable final String commaSeparated) {
+        if (commaSeparated == null) {
+            return List.of();
+        }
+        return Arrays.stream(commaSeparated.split(","))
+                .map(String::strip)
+                .filter(v -> !v.isBlank())
+                .toList();
+    }
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Creates a new instance by invoking all scalar methods of the specified metadata. A method which fails, with an
+     * {@link SQLException} or a {@link RuntimeException}, is logged and left out; others are still captured.
+     *
+     * @param metadata the metadata whose properties are captured.
+     * @return a new instance.
+     */
+    @SuppressWarnings({
+            "java:S112" // new RuntimeException
+    })
+    public static DatabaseCapabilities newInstance(final DatabaseMetaData metadata) {
+        Objects.requireNonNull(metadata, "metadata is null");
+        final var properties = new TreeMap<String, Object>();
+        for (final var method : METHODS) {
+            try {
+                final var value = method.invoke(metadata);
+                if (value != null) {
+                    properties.put(method.getName(), value);
+                }
+            } catch (final InvocationTargetException ite) {
+                final var cause = ite.getCause();
+                if (cause instanceof SQLFeatureNotSupportedException || cause instanceof AbstractMethodError) {
+                    logger.log(System.Logger.Level.DEBUG, "unsupported property: {0}", method.getName());
+                    continue;
+                }
+                if (cause instanceof SQLException || cause instanceof RuntimeException) {
+                    logger.log(System.Logger.Level.WARNING, "failed to capture property: " + method.getName(), cause);
+                    continue;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new RuntimeException(cause);
+            } catch (final IllegalAccessException iae) {
+                throw new RuntimeException("failed to invoke " + method, iae);
+            }
+        }
+        return new DatabaseCapabilities(properties);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    private DatabaseCapabilities(final TreeMap<String, Object> properties) {
+        super();
+        this.properties = Collections.unmodifiableSortedMap(properties);
+        sqlKeywords = commaSplitToUnmodifiableList(getString("getSQLKeywords"));
+        numericFunctions = commaSplitToUnmodifiableList(getString("getNumericFunctions"));
+        stringFunctions = commaSplitToUnmodifiableList(getString("getStringFunctions"));
+        systemFunctions = commaSplitToUnmodifiableList(getString("getSystemFunctions"));
+        timeDateFunctions = commaSplitToUnmodifiableList(getString("getTimeDateFunctions"));
+    }
+
+    // ------------------------------------------------------------------------------------------------ java.lang.Object
+
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+               "properties=" + properties +
+               '}';
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DatabaseCapabilities that)) {
+            return false;
+        }
+        return properties.equals(that.properties);
+    }
+
+    @Override
+    public int hashCode() {
+        return properties.hashCode();
+    }
+
+    // ------------------------------------------------------------------------------------------------------ properties
+
+    /**
+     * Returns all captured properties, by names of methods, e.g. {@code nullsAreSortedHigh}.
+     *
+     * @return an unmodifiable map of properties, sorted by names of methods; each value is a {@link Boolean}, an
+     * {@link Integer}, a {@link Long}, or a {@link String}.
+     */
+    public Map<String, Object> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Returns the value of the specified {@code boolean} property.
+     *
+     * @param name the name of the method; e.g. {@code supportsBatchUpdates}.
+     * @return the value of the property; {@code null} if not captured.
+     */
+    public @Nullable Boolean getBoolean(final String name) {
+        return get(name, Boolean.class);
+    }
+
+    /**
+     * Returns the value of the specified {@code int} property.
+     *
+     * @param name the name of the method; e.g. {@code getMaxTableNameLength}.
+     * @return the value of the property; {@code null} if not captured.
+     */
+    public @Nullable Integer getInt(final String name) {
+        return get(name, Integer.class);
+    }
+
+    /**
+     * Returns the value of the specified {@code long} property.
+     *
+     * @param name the name of the method; e.g. {@code getMaxLogicalLobSize}.
+     * @return the value of the property; {@code null} if not captured.
+     */
+    public @Nullable Long getLong(final String name) {
+        return get(name, Long.class);
+    }
+
+    /**
+     * Returns the value of the specified {@link String} property.
+     *
+     * @param name the name of the method; e.g. {@code getIdentifierQuoteString}.
+     * @return the value of the property; {@code null} if not captured.
+     */
+    public @Nullable String getString(final String name) {
+        return get(name, String.class);
+    }
+
+    private <T> @Nullable T get(final String name, final Class<T> type) {
+        Objects.requireNonNull(name, "name is null");
+        final var value = properties.get(name);
+        if (value != null && !type.isInstance(value)) {
+            throw new IllegalArgumentException("not a " + type.getSimpleName() + " property: " + name);
+        }
+        return type.cast(value);
+    }
+
+    private boolean is(final String name) {
+        return Boolean.TRUE.equals(getBoolean(name));
+    }
+
+    // -------------------------------------------------------------------------------------------------- nullsAreSorted
+
+    /**
+     * Returns the captured value of {@link DatabaseMetaData#nullsAreSortedAtStart()}.
+     *
+     * @return the captured value; {@code false} if not captured.
+     */
+    public boolean nullsAreSortedAtStart() {
+        return is("nullsAreSortedAtStart");
+    }
+
+    /**
+     * Returns the captured value of {@link DatabaseMetaData#nullsAreSortedAtEnd()}.
+     *
+     * @return the captured value; {@code false} if not captured.
+     */
+    public boolean nullsAreSortedAtEnd() {
+        return is("nullsAreSortedAtEnd");
+    }
+
+    /**
+     * Returns the captured value of {@link DatabaseMetaData#nullsAreSortedLow()}.
+     *
+     * @return the captured value; {@code false} if not captured.
+     */
+    public boolean nullsAreSortedLow() {
+        return is("nullsAreSortedLow");
+    }
+
+    /**
+     * Returns the captured value of {@link DatabaseMetaData#nullsAreSortedHigh()}.
+     *
+     * @return the captured value; {@code false} if not captured.
+     */
+    public boolean nullsAreSortedHigh() {
+        return is("nullsAreSortedHigh");
+    }
+
+    // ----------------------------------------------------------------------------------------------------- identifiers
+
+    /**
+     * Returns the captured value of {@link DatabaseMetaData#storesUpperCaseIdentifiers()}.
+     *
+     * @return the captured value; {@code false} if not captured.
+     */
+    public boolean storesUpperCaseIdentifiers() {
+        return is("storesUpperCaseIdentifiers");
+    }
+
+    /**
+     * Returns the captured value of {@link DatabaseMetaData#storesLowerCaseIdentifiers()}.
+     *
+     * @return the captured value; {@code false} if not captured.
+     */
+    public boolean storesLowerCaseIdentifiers() {
+        return is("storesLowerCaseIdentifiers");
+    }
+
+    /**
+     * Returns the captured value of {@link DatabaseMetaData#storesMixedCaseIdentifiers()}.
+     *
+     * @return the captured value; {@code false} if not captured.
+     */
+    public boolean storesMixedCaseIdentifiers() {
+        return is("storesMixedCaseIdentifiers");
+    }
+
+    /**
+     * Returns the captured value of {@link DatabaseMetaData#supportsMixedCaseIdentifiers()}.
+     *
+     * @return the captured value; {@code false} if not captured.
+     */
+    public boolean supportsMixedCaseIdentifiers() {
+        return is("supportsMixedCaseIdentifiers");
+    }
+
+    /**
+     * Returns the captured value of {@link DatabaseMetaData#storesUpperCaseQuotedIdentifiers()}.
+     *
+     * @return the captured value; {@code false} if not captured.
+     */
+    public boolean storesUpperCaseQuotedIdentifiers() {
+        return is("storesUpperCaseQuotedIdentifiers");
+    }
+
+    /**
+     * Returns the captured value of {@link DatabaseMetaData#storesLowerCaseQuotedIdentifiers()}.
+     *
+     * @return the captured value; {@code false} if not captured.
+     */
+    public boolean storesLowerCaseQuotedIdentifiers() {
+        return is("storesLowerCaseQuotedIdentifiers");
+    }
+
+    /**
+     * Returns the captured value of {@link DatabaseMetaData#storesMixedCaseQuotedIdentifiers()}.
+     *
+     * @return the captured value; {@code false} if not captured.
+     */
+    public boolean storesMixedCaseQuotedIdentifiers() {
+        return is("storesMixedCaseQuotedIdentifiers");
+    }
+
+    /**
+     * Returns the captured value of {@link DatabaseMetaData#supportsMixedCaseQuotedIdentifiers()}.
+     *
+     * @return the captured value; {@code false} if not captured.
+     */
+    public boolean supportsMixedCaseQuotedIdentifiers() {
+        return is("supportsMixedCaseQuotedIdentifiers");
+    }
+
+    /**
+     * Returns the captured value of {@link DatabaseMetaData#getIdentifierQuoteString()}.
+     *
+     * @return the captured value; {@code null} if not captured.
+     */
+    public @Nullable String getIdentifierQuoteString() {
+        return getString("getIdentifierQuoteString");
+    }
+
+    // ----------------------------------------------------------------------------------------------------- commaSplits
+
+    /**
+     * Returns the comma-split elements of the captured value of {@link DatabaseMetaData#getSQLKeywords()}.
+     *
+     * @return an unmodifiable list of SQL keywords; empty if not captured.
+     */
+    public List<String> getSQLKeywords() {
+        return sqlKeywords;
+    }
+
+    /**
+     * Returns the comma-split elements of the captured value of {@link DatabaseMetaData#getNumericFunctions()}.
+     *
+     * @return an unmodifiable list of numeric functions; empty if not captured.
+     */
+    public List<String> getNumericFunctions() {
+        return numericFunctions;
+    }
+
+    /**
+     * Returns the comma-split elements of the captured value of {@link DatabaseMetaData#getStringFunctions()}.
+     *
+     * @return an unmodifiable list of string functions; empty if not captured.
+     */
+    public List<String> getStringFunctions() {
+        return stringFunctions;
+    }
+
+    /**
+     * Returns the comma-split elements of the captured value of {@link DatabaseMetaData#getSystemFunctions()}.
+     *
+     * @return an unmodifiable list of system functions; empty if not captured.
+     */
+    public List<String> getSystemFunctions() {
+        return systemFunctions;
+    }
+
+    /**
+     * Returns the comma-split elements of the captured value of {@link DatabaseMetaData#getTimeDateFunctions()}.
+     *
+     * @return an unmodifiable list of time and date functions; empty if not captured.
+     */
+    public List<String> getTimeDateFunctions() {
+        return timeDateFunctions;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The captured properties, by names of methods.
+     */
+    private final Map<String, Object> properties;
+
+    private final List<String> sqlKeywords;
+
+    private final List<String> numericFunctions;
+
+    private final List<String> stringFunctions;
+
+    private final List<String> systemFunctions;
+
+    private final List<String> timeDateFunctions;
+}
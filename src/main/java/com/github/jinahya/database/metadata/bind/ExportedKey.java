@@ -103,4 +103,19 @@ public class ExportedKey
                ",deferrability=" + getDeferrability() +
                '}';
     }
+
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} An exported key is identified by its primary key table, its primary key column name, and its
+     * foreign key column.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> getPkKey(ExportedKey.class),
+                         pktableCat, pktableSchem, pktableName, pkcolumnName,
+                         fktableCat, fktableSchem, fktableName, fkcolumnName);
+    }
 }
@@ -189,6 +189,20 @@ public class Function
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A function is identified by its catalog, schema, name, and specific name.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.function(getEffectiveFunctionCat(), getEffectiveFunctionSchem(),
+                                                    functionName, specificName),
+                         functionCat, functionSchem, functionName, specificName);
+    }
+
     // ----------------------------------------------------------------------------------------------------- functionCat
 
     /**
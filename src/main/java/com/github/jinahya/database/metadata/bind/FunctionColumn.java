@@ -246,6 +246,22 @@ public class FunctionColumn
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A function column is identified by its function, its name, and its column type.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(FunctionColumn.class,
+                                              MetadataKey.function(getEffectiveFunctionCat(),
+                                                                   getEffectiveFunctionSchem(), functionName,
+                                                                   specificName), columnName, columnType),
+                         functionCat, functionSchem, functionName, specificName, columnName, columnType);
+    }
+
     // ----------------------------------------------------------------------------------------------------- functionCat
 
     /**
@@ -0,0 +1,145 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * A binder which instantiates types, and gets and sets values, with {@link MethodHandle method handles} resolved once
+ * per type.
+ * <p>
+ * Each handle is adapted to an erased {@code (Object, Object)void}, {@code (Object)Object}, or {@code ()Object} type so
+ * that it can be invoked {@link MethodHandle#invokeExact(Object...) exactly}, without per-call type adaptation.
+ *
+ * @param <T> metadata type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ReflectiveBinder
+ */
+final class HandleBinder<T extends MetadataType>
+        extends AbstractBinder<T> {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    /**
+     * Creates a new instance for the specified type.
+     *
+     * @param type the metadata type to bind.
+     */
+    @SuppressWarnings({
+            "java:S112", // new RuntimeException
+            "java:S3011" // setAccessible
+    })
+    HandleBinder(final Class<T> type) {
+        super(type);
+        final var lookup = MethodHandles.lookup();
+        try {
+            final var constructor = type.getDeclaredConstructor();
+            if (!constructor.canAccess(null)) {
+                constructor.setAccessible(true);
+            }
+            this.constructor = lookup.unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+        } catch (final ReflectiveOperationException roe) {
+            throw new RuntimeException("failed to get the default constructor; type: " + type, roe);
+        }
+        getters = new MethodHandle[fields.length];
+        setters = new MethodHandle[fields.length];
+        for (int i = 0; i < setters.length; i++) {
+            try {
+                getters[i] = lookup.unreflectGetter(fields[i]).asType(GETTER_TYPE);
+                setters[i] = lookup.unreflectSetter(fields[i]).asType(SETTER_TYPE);
+            } catch (final IllegalAccessException iae) {
+                throw new RuntimeException("failed to unreflect the accessors of " + fields[i], iae);
+            }
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    @SuppressWarnings({
+            "java:S112", // new RuntimeException
+            "unchecked"
+    })
+    @Override
+    public T newInstance() {
+        try {
+            return (T) (Object) constructor.invokeExact();
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable t) {
+            throw new RuntimeException("failed to instantiate; type: " + type, t);
+        }
+    }
+
+    @SuppressWarnings({
+            "java:S112" // new RuntimeException
+    })
+    @Override
+    public @Nullable Object getValue(final T instance, final int slot) {
+        try {
+            return (Object) getters[slot].invokeExact((Object) instance);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable t) {
+            throw new RuntimeException("failed to get the value of " + fields[slot], t);
+        }
+    }
+
+    @SuppressWarnings({
+            "java:S112" // new RuntimeException
+    })
+    @Override
+    public void setValue(final T instance, final int slot, @Nullable final Object value) {
+        try {
+            setters[slot].invokeExact((Object) instance, value);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable t) {
+            throw new RuntimeException("failed to set " + value + " for " + fields[slot], t);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The handle of the default constructor of the {@link #type}; of {@code ()Object}.
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * The getter handles of {@link #fields}, indexed by slot; each of {@code (Object)Object}.
+     */
+    private final MethodHandle[] getters;
+
+    /**
+     * The setter handles of {@link #fields}, indexed by slot; each of {@code (Object, Object)void}.
+     */
+    private final MethodHandle[] setters;
+}
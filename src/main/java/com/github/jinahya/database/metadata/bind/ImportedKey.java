@@ -82,4 +82,19 @@ public class ImportedKey
     }
 
     // ------------------------------------------------------------------------------------------------ java.lang.Object
+
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} An imported key is identified by its foreign key table, its foreign key column name, and its
+     * primary key column.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> getFkKey(ImportedKey.class),
+                         pktableCat, pktableSchem, pktableName, pkcolumnName,
+                         fktableCat, fktableSchem, fktableName, fkcolumnName);
+    }
 }
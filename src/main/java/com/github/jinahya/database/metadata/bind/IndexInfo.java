@@ -261,6 +261,21 @@ public class IndexInfo
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} An index column is identified by its table, its index name, and its ordinal position.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(IndexInfo.class,
+                                              MetadataKey.table(getEffectiveTableCat(), getEffectiveTableSchem(),
+                                                                tableName), indexName, ordinalPosition),
+                         tableCat, tableSchem, tableName, indexName, ordinalPosition);
+    }
+
     // ---------------------------------------------------------------------------------------------- Jakarta-Validation
 
     /**
@@ -0,0 +1,279 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+
+import org.jspecify.annotations.Nullable;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * An in-memory snapshot of tables and columns, which answers pattern requests, as the driver does, without any database
+ * access.
+ * <p>
+ * Patterns are matched with the {@link java.sql.DatabaseMetaData#getSearchStringEscape() search string escape} of the
+ * driver, and, only when the database treats unquoted identifiers case-insensitively while storing them in mixed case,
+ * regardless of cases. Each pattern is compiled once. Results are in the order of the snapshot; i.e. in the order the
+ * driver returned them.
+ * <p>
+ * {@snippet :
+ * var local = LocalMetadata.newInstance(context); // retrieves all tables and columns, once
+ * var tables = local.getTables(null, "PUBLIC", "ORDER%", new String[] {"TABLE"});
+ * var columns = local.getColumns(null, "PUBLIC", "ORDERS", "%");
+ *}
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see SearchPattern
+ */
+public final class LocalMetadata {
+
+    /**
+     * The maximum number of compiled patterns kept.
+     */
+    private static final int MAXIMUM_PATTERNS = 1024;
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Creates a new instance with all tables, and all columns, of the specified context.
+     *
+     * @param context the context.
+     * @return a new instance.
+     * @throws SQLException if a database error occurs.
+     * @see Context#getTables(String, String, String, String[])
+     * @see Context#getColumns(String, String, String, String)
+     */
+    public static LocalMetadata newInstance(final Context context) throws SQLException {
+        Objects.requireNonNull(context, "context is null");
+        final var capabilities = context.getCapabilities();
+        return newInstance(
+                context.getTables(null, null, "%", null),
+                context.getColumns(null, null, "%", "%"),
+                capabilities.getString("getSearchStringEscape"),
+                capabilities.storesMixedCaseIdentifiers() && !capabilities.supportsMixedCaseIdentifiers()
+        );
+    }
+
+    /**
+     * Creates a new instance with specified tables and columns.
+     *
+     * @param tables             the tables, in the order the driver returns them.
+     * @param columns            the columns, in the order the driver returns them.
+     * @param searchStringEscape the escape for {@code _}, {@code %}, and itself; {@code null} for no escape.
+     * @param caseInsensitive    a flag for matching patterns regardless of cases.
+     * @return a new instance.
+     */
+    public static LocalMetadata newInstance(final List<Table> tables, final List<Column> columns,
+                                            @Nullable final String searchStringEscape,
+                                            final boolean caseInsensitive) {
+        Objects.requireNonNull(tables, "tables is null");
+        Objects.requireNonNull(columns, "columns is null");
+        return new LocalMetadata(List.copyOf(tables), List.copyOf(columns), searchStringEscape, caseInsensitive);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    private LocalMetadata(final List<Table> tables, final List<Column> columns,
+                          @Nullable final String searchStringEscape, final boolean caseInsensitive) {
+        super();
+        this.tables = tables;
+        this.columns = columns;
+        this.searchStringEscape = searchStringEscape;
+        this.caseInsensitive = caseInsensitive;
+        final var any = compile("%");
+        tablesByName = group(tables, Table::getTableName, any);
+        columnsByTableName = group(columns, Column::getTableName, any);
+    }
+
+    private static <T> Map<String, List<T>> group(final List<T> values, final Function<? super T, String> name,
+                                                  final SearchPattern pattern) {
+        final var grouped = new LinkedHashMap<String, List<T>>();
+        for (final var value : values) {
+            final var key = name.apply(value);
+            if (key != null) {
+                grouped.computeIfAbsent(pattern.key(key), k -> new ArrayList<>()).add(value);
+            }
+        }
+        return grouped;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns tables matching the specified arguments, as
+     * {@link java.sql.DatabaseMetaData#getTables(String, String, String, String[])} does.
+     *
+     * @param catalog          a value for the {@code catalog} parameter; {@code ""} for tables without a catalog;
+     *                         {@code null} for not filtering by catalogs.
+     * @param schemaPattern    a value for the {@code schemaPattern} parameter; {@code ""} for tables without a schema;
+     *                         {@code null} for not filtering by schemas.
+     * @param tableNamePattern a value for the {@code tableNamePattern} parameter.
+     * @param types            a value for the {@code types} parameter; {@code null} for all types.
+     * @return an unmodifiable list of matching tables.
+     */
+    public List<Table> getTables(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                 @Nullable final String tableNamePattern, @Nullable final String[] types) {
+        final var typeSet = types == null ? null : Set.of(Arrays.stream(types).distinct().toArray(String[]::new));
+        final var tableName = compile(tableNamePattern);
+        final var schema = compile(schemaPattern);
+        return candidates(tables, tablesByName, tableName).stream()
+                .filter(t -> typeSet == null || typeSet.contains(t.getTableType()))
+                .filter(t -> matches(catalog, t.getTableCat()))
+                .filter(t -> matches(schemaPattern, schema, t.getTableSchem()))
+                .filter(t -> tableName.matches(t.getTableName()))
+                .toList();
+    }
+
+    /**
+     * Returns columns matching the specified arguments, as
+     * {@link java.sql.DatabaseMetaData#getColumns(String, String, String, String)} does.
+     *
+     * @param catalog           a value for the {@code catalog} parameter; {@code ""} for columns without a catalog;
+     *                          {@code null} for not filtering by catalogs.
+     * @param schemaPattern     a value for the {@code schemaPattern} parameter; {@code ""} for columns without a
+     *                          schema; {@code null} for not filtering by schemas.
+     * @param tableNamePattern  a value for the {@code tableNamePattern} parameter.
+     * @param columnNamePattern a value for the {@code columnNamePattern} parameter.
+     * @return an unmodifiable list of matching columns.
+     */
+    public List<Column> getColumns(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                   @Nullable final String tableNamePattern, @Nullable final String columnNamePattern) {
+        final var tableName = compile(tableNamePattern);
+        final var columnName = compile(columnNamePattern);
+        final var schema = compile(schemaPattern);
+        return candidates(columns, columnsByTableName, tableName).stream()
+                .filter(c -> matches(catalog, c.getTableCat()))
+                .filter(c -> matches(schemaPattern, schema, c.getTableSchem()))
+                .filter(c -> tableName.matches(c.getTableName()))
+                .filter(c -> columnName.matches(c.getColumnName()))
+                .toList();
+    }
+
+    /**
+     * Returns all tables of this snapshot.
+     *
+     * @return an unmodifiable list of all tables.
+     */
+    public List<Table> getTables() {
+        return tables;
+    }
+
+    /**
+     * Returns all columns of this snapshot.
+     *
+     * @return an unmodifiable list of all columns.
+     */
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns values which may match the specified pattern; those of the literal value when the {@code pattern} has no
+     * wildcard, or all values otherwise.
+     */
+    private static <T> List<T> candidates(final List<T> all, final Map<String, List<T>> byName,
+                                          final SearchPattern pattern) {
+        final var literal = pattern.getLiteral();
+        if (literal == null) {
+            return all;
+        }
+        return byName.getOrDefault(pattern.key(literal), List.of());
+    }
+
+    private boolean matches(@Nullable final String catalog, @Nullable final String value) {
+        if (catalog == null) {
+            return true;
+        }
+        if (catalog.isEmpty()) {
+            return value == null || value.isEmpty();
+        }
+        if (caseInsensitive) {
+            return value != null && catalog.toUpperCase(Locale.ROOT).equals(value.toUpperCase(Locale.ROOT));
+        }
+        return catalog.equals(value);
+    }
+
+    private static boolean matches(@Nullable final String source, final SearchPattern pattern,
+                                   @Nullable final String value) {
+        if (source == null) {
+            return true;
+        }
+        if (source.isEmpty()) {
+            return value == null || value.isEmpty();
+        }
+        return pattern.matches(value);
+    }
+
+    /**
+     * Returns a compiled pattern of the specified source; {@code null} is compiled as {@code %}.
+     */
+    private SearchPattern compile(@Nullable final String pattern) {
+        final var source = pattern == null ? "%" : pattern;
+        final var compiled = patterns.get(source);
+        if (compiled != null) {
+            return compiled;
+        }
+        if (patterns.size() >= MAXIMUM_PATTERNS) {
+            patterns.clear();
+        }
+        return patterns.computeIfAbsent(
+                source, k -> SearchPattern.compile(k, searchStringEscape, caseInsensitive));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private final List<Table> tables;
+
+    private final List<Column> columns;
+
+    @Nullable
+    private final String searchStringEscape;
+
+    private final boolean caseInsensitive;
+
+    /**
+     * The tables by their (case-folded, when case-insensitive) names, each in the order of {@link #tables}.
+     */
+    private final Map<String, List<Table>> tablesByName;
+
+    /**
+     * The columns by (case-folded, when case-insensitive) names of their tables, each in the order of
+     * {@link #columns}.
+     */
+    private final Map<String, List<Column>> columnsByTableName;
+
+    /**
+     * Compiled patterns, by their sources.
+     */
+    private final Map<String, SearchPattern> patterns = new ConcurrentHashMap<>();
+}
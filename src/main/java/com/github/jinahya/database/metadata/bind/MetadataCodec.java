@@ -0,0 +1,357 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A compact codec of metadata values.
+ * <p>
+ * Each type is described, by its name and its column labels, once per stream; each distinct string is written once per
+ * stream and referred back by its index afterward; and values are written with {@link ValueCodec}. Unknown
+ * columns are preserved. Column labels are matched, when read, with those of the current version of each type; a value
+ * whose field is gone is read as an unknown column.
+ * <p>
+ * {@snippet :
+ * MetadataCodec.write(output, context.getColumns(null, "PUBLIC", "%", "%"));
+ * List<MetadataType> values = MetadataCodec.read(input);
+ *}
+ * <p>
+ * Java serialization of each metadata type is also replaced with this codec, per value; each value describes its type
+ * and column labels, and strings are referred back within each value.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public final class MetadataCodec {
+
+    /**
+     * The current version of the format.
+     */
+    static final int VERSION = 1;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes specified values to the specified stream.
+     *
+     * @param output the stream to write; not closed.
+     * @param values the values to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void write(final OutputStream output, final Collection<? extends MetadataType> values)
+            throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        Objects.requireNonNull(values, "values is null");
+        final var data = new DataOutputStream(new BufferedOutputStream(output));
+        data.writeByte(VERSION);
+        final var encoder = new Encoder(data);
+        encoder.writeVarint(values.size());
+        for (final var value : values) {
+            encoder.write(value);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads values from the specified stream.
+     *
+     * @param input the stream to read; not closed.
+     * @return a list of values read.
+     * @throws IOException if an I/O error occurs, or the stream is not of a supported version.
+     */
+    public static List<MetadataType> read(final InputStream input) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        final var data = new DataInputStream(new BufferedInputStream(input));
+        final var version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("unsupported version: " + version);
+        }
+        final var decoder = new Decoder(data);
+        final var size = decoder.readVarint();
+        final var values = new ArrayList<MetadataType>(Math.min(size, 1024));
+        for (int i = 0; i < size; i++) {
+            values.add(decoder.read());
+        }
+        return values;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A stateful encoder of a stream.
+     */
+    static final class Encoder
+            extends ValueCodec.Writer {
+
+        Encoder(final DataOutput output) {
+            this(output, false);
+        }
+
+        /**
+         * Creates a new instance.
+         *
+         * @param output  the output to write.
+         * @param lenient {@code true} to write values of unknown columns, of unsupported types, as their string
+         *                representations; {@code false} to reject them.
+         */
+        Encoder(final DataOutput output, final boolean lenient) {
+            super(output);
+            this.lenient = lenient;
+        }
+
+        /**
+         * Writes the specified value; its type, with its column labels, is described when first written.
+         */
+        @SuppressWarnings({"unchecked"})
+        <T extends MetadataType> void write(final T value) throws IOException {
+            final var type = (Class<T>) value.getClass();
+            final var binder = Binders.getBinder(type);
+            final var index = types.get(type);
+            if (index == null) {
+                writeVarint(types.size());
+                types.put(type, types.size());
+                writeString(type.getName());
+                writeVarint(binder.getSlotCount());
+                for (int slot = 0; slot < binder.getSlotCount(); slot++) {
+                    writeString(binder.getLabel(slot));
+                }
+            } else {
+                writeVarint(index);
+            }
+            for (int slot = 0; slot < binder.getSlotCount(); slot++) {
+                writeValue(binder.getValue(value, slot));
+            }
+            final var unknownColumns = value.getUnknownColumns();
+            writeVarint(unknownColumns.size());
+            for (final var unknownColumn : unknownColumns.entrySet()) {
+                writeString(unknownColumn.getKey());
+                final var unknownValue = unknownColumn.getValue();
+                writeValue(lenient ? ValueCodec.supportedOrString(unknownValue) : unknownValue);
+            }
+        }
+
+        /**
+         * Writes the specified string; either as the index of the same string written before, or, followed by
+         * {@code 0}, inline.
+         */
+        @Override
+        void writeString(final String string) throws IOException {
+            final var index = strings.get(string);
+            if (index != null) {
+                writeVarint(index + 1);
+                return;
+            }
+            strings.put(string, strings.size());
+            writeVarint(0);
+            writeUtf8(string);
+        }
+
+        private final boolean lenient;
+
+        private final Map<Class<?>, Integer> types = new IdentityHashMap<>();
+
+        private final Map<String, Integer> strings = new HashMap<>();
+    }
+
+    /**
+     * A stateful decoder of a stream.
+     */
+    static final class Decoder
+            extends ValueCodec.Reader {
+
+        /**
+         * A type described in a stream.
+         *
+         * @param binder the binder of the type.
+         * @param labels the column labels, as written.
+         * @param slots  the binder slots of {@code labels}; {@code -1} for labels no longer mapped.
+         */
+        private record Type(Binder<?> binder, String[] labels, int[] slots) {
+        }
+
+        Decoder(final DataInput input) {
+            super(input);
+        }
+
+        /**
+         * Reads a value; its type is read from the description written with the first value of it.
+         */
+        MetadataType read() throws IOException {
+            final var index = readVarint();
+            if (index == types.size()) {
+                types.add(readType());
+            } else if (index > types.size()) {
+                throw new StreamCorruptedException("unknown type index: " + index);
+            }
+            return readFields(types.get(index));
+        }
+
+        /**
+         * Reads values of all fields, and unknown columns, of a value of the specified type.
+         */
+        @SuppressWarnings({"unchecked"})
+        private MetadataType readFields(final Type type) throws IOException {
+            final var binder = (Binder<MetadataType>) type.binder();
+            final var instance = binder.newInstance();
+            final var labels = type.labels();
+            final var slots = type.slots();
+            for (int i = 0; i < labels.length; i++) {
+                final var value = readValue();
+                final var slot = slots[i];
+                if (slot >= 0 && (value == null || binder.getValueType(slot).isInstance(value))) {
+                    binder.setValue(instance, slot, value);
+                } else if (value != null) {
+                    ((AbstractMetadataType) instance).putUnknownColumn(labels[i], value);
+                }
+            }
+            final var unknowns = readVarint();
+            for (int i = 0; i < unknowns; i++) {
+                final var label = readString();
+                ((AbstractMetadataType) instance).putUnknownColumn(label, readValue());
+            }
+            return instance;
+        }
+
+        private Type readType() throws IOException {
+            final var name = readString();
+            final Class<? extends MetadataType> type;
+            try {
+                final var loaded = Class.forName(name, false, MetadataCodec.class.getClassLoader());
+                if (!MetadataType.class.isAssignableFrom(loaded)) {
+                    throw new InvalidObjectException("not a metadata type: " + name);
+                }
+                type = loaded.asSubclass(MetadataType.class);
+            } catch (final ClassNotFoundException cnfe) {
+                throw new InvalidObjectException("unknown type: " + name);
+            }
+            final var binder = Binders.getBinder(type);
+            final var bound = new HashMap<String, Integer>();
+            for (int slot = 0; slot < binder.getSlotCount(); slot++) {
+                bound.put(binder.getLabel(slot), slot);
+            }
+            final var labels = new String[readVarint()];
+            final var slots = new int[labels.length];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = readString();
+                slots[i] = bound.getOrDefault(labels[i], -1);
+            }
+            return new Type(binder, labels, slots);
+        }
+
+        @Override
+        String readString() throws IOException {
+            final var index = readVarint();
+            if (index > 0) {
+                if (index > strings.size()) {
+                    throw new StreamCorruptedException("unknown string index: " + index);
+                }
+                return strings.get(index - 1);
+            }
+            final var string = readUtf8();
+            strings.add(string);
+            return string;
+        }
+
+        private final List<Type> types = new ArrayList<>();
+
+        private final List<String> strings = new ArrayList<>();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A serialized form of a metadata value, which is written with the codec; the type of the value is described, with
+     * its column labels, as in a stream, so that a value is read into a later version of its type, as from a stream.
+     * Serialization never fails for values of unknown columns; those of unsupported types are kept as their string
+     * representations.
+     *
+     * @see AbstractMetadataType#writeReplace()
+     */
+    static final class Replacement
+            implements Externalizable {
+
+        @Serial
+        private static final long serialVersionUID = -6000212734981129215L;
+
+        /**
+         * Creates a new instance for deserialization.
+         */
+        public Replacement() {
+            super();
+        }
+
+        Replacement(final MetadataType value) {
+            this();
+            this.value = Objects.requireNonNull(value, "value is null");
+        }
+
+        @Override
+        public void writeExternal(final ObjectOutput out) throws IOException {
+            new Encoder(out, true).write(Objects.requireNonNull(value, "value is null"));
+        }
+
+        @Override
+        public void readExternal(final ObjectInput in) throws IOException {
+            value = new Decoder(in).read();
+        }
+
+        @Serial
+        private Object readResolve() throws InvalidObjectException {
+            if (value == null) {
+                throw new InvalidObjectException("no value read");
+            }
+            return value;
+        }
+
+        @Nullable
+        private MetadataType value;
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    private MetadataCodec() {
+        throw new AssertionError("instantiation is not allowed");
+    }
+}
@@ -0,0 +1,244 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A crawler describing tables with multiple connections in parallel.
+ * <p>
+ * Tables, and their columns, are retrieved with a single connection as {@link Context#describeTables(String, String,
+ * String, String[])} does. Per-table invocations, e.g. {@link Context#getPrimaryKeys(String, String, String)}, are then
+ * distributed among up to {@link #getConcurrency() concurrency} workers, each with its own connection. The result is
+ * sorted, regardless of the scheduling, with the {@code comparingInSpecifiedOrder} comparators of each type.
+ * <p>
+ * {@snippet :
+ * var crawler = MetadataCrawler.newInstance(dataSource, 4);
+ * var descriptions = crawler.crawl(null, "PUBLIC", "%", new String[] {"TABLE"});
+ *}
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see Context#describeTables(String, String, String, String[])
+ */
+public final class MetadataCrawler {
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Creates a new instance which connects with the specified data source.
+     *
+     * @param dataSource  the data source of connections.
+     * @param concurrency the maximum number of connections used at the same time.
+     * @return a new instance.
+     */
+    public static MetadataCrawler newInstance(final DataSource dataSource, final int concurrency) {
+        return new MetadataCrawler(Connector.of(dataSource), concurrency);
+    }
+
+    /**
+     * Creates a new instance which connects with the specified supplier.
+     *
+     * @param connections the supplier of new connections; each connection supplied is closed by the crawler.
+     * @param concurrency the maximum number of connections used at the same time.
+     * @return a new instance.
+     */
+    public static MetadataCrawler newInstance(final Supplier<? extends Connection> connections,
+                                              final int concurrency) {
+        return new MetadataCrawler(Connector.of(connections), concurrency);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    private MetadataCrawler(final Connector connector, final int concurrency) {
+        super();
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency(" + concurrency + ") is not positive");
+        }
+        this.connector = connector;
+        this.concurrency = concurrency;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the maximum number of connections this crawler uses at the same time.
+     *
+     * @return the maximum number of connections used at the same time.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Describes tables matching the specified arguments.
+     *
+     * @param catalog          a value for the {@code catalog} parameter.
+     * @param schemaPattern    a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for the {@code tableNamePattern} parameter.
+     * @param types            a value for the {@code types} parameter.
+     * @return a list of descriptions, sorted in the order the specification defines for tables, each of whose lists is
+     * sorted in the order the specification defines for its type.
+     * @throws SQLException         if a database error occurs.
+     * @throws InterruptedException if interrupted while waiting for workers.
+     * @see Context#describeTables(String, String, String, String[])
+     */
+    public List<TableDescription> crawl(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                        final String tableNamePattern, @Nullable final String[] types)
+            throws SQLException, InterruptedException {
+        final List<Table> tables;
+        final Map<Table, List<Column>> columns;
+        final Sorter sorter;
+        try (var connection = connector.connect()) {
+            final var context = Context.newInstance(connection);
+            tables = context.getTables(catalog, schemaPattern, tableNamePattern, types);
+            columns = context.getColumnsGroupedByTable(tables, catalog, schemaPattern, tableNamePattern);
+            sorter = new Sorter(context, Comparator.naturalOrder());
+        }
+        final var descriptions = new TableDescription[tables.size()];
+        final var next = new AtomicInteger();
+        final Callable<Void> worker = () -> {
+            try (var connection = connector.connect()) {
+                final var context = Context.newInstance(connection);
+                for (int i; (i = next.getAndIncrement()) < descriptions.length; ) {
+                    final var table = tables.get(i);
+                    descriptions[i] = sorter.sort(context.describeTable(table, columns.get(table)));
+                }
+            } catch (final SQLException | RuntimeException e) {
+                next.set(descriptions.length); // stops the other workers
+                throw e;
+            }
+            return null;
+        };
+        final var workers = Math.min(concurrency, descriptions.length);
+        if (workers > 0) {
+            final var executor = Executors.newFixedThreadPool(workers);
+            try {
+                final var futures = executor.invokeAll(Collections.nCopies(workers, worker));
+                rethrow(futures);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        final var sorted = new ArrayList<>(Arrays.asList(descriptions));
+        sorted.sort(Comparator.comparing(TableDescription::getTable, sorter.tables));
+        return sorted;
+    }
+
+    @SuppressWarnings({
+            "java:S112" // new RuntimeException
+    })
+    private static void rethrow(final List<? extends Future<?>> futures) throws SQLException, InterruptedException {
+        Throwable thrown = null;
+        for (final var future : futures) {
+            try {
+                future.get();
+            } catch (final ExecutionException ee) {
+                if (thrown == null) {
+                    thrown = ee.getCause();
+                } else {
+                    thrown.addSuppressed(ee.getCause());
+                }
+            }
+        }
+        if (thrown instanceof SQLException sqle) {
+            throw sqle;
+        }
+        if (thrown instanceof RuntimeException re) {
+            throw re;
+        }
+        if (thrown instanceof Error error) {
+            throw error;
+        }
+        if (thrown != null) {
+            throw new RuntimeException(thrown);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Comparators, of each type, whose {@code null} ordering follows the database.
+     */
+    private static final class Sorter {
+
+        private static <T> List<T> sorted(final List<T> list, final Comparator<? super T> comparator) {
+            final var sorted = new ArrayList<>(list);
+            sorted.sort(comparator);
+            return sorted;
+        }
+
+        private Sorter(final Context context, final Comparator<? super String> comparator) throws SQLException {
+            super();
+            tables = Table.comparingInSpecifiedOrder(context, comparator);
+            columns = Column.comparingInSpecifiedOrder(context, comparator);
+            primaryKeys = PrimaryKey.comparingInSpecifiedOrder(context, comparator);
+            importedKeys = ImportedKey.comparingInSpecifiedOrder(context, comparator);
+            exportedKeys = ExportedKey.comparingInSpecifiedOrder(context, comparator);
+            indexInfo = IndexInfo.comparingInSpecifiedOrder(context, comparator);
+        }
+
+        private TableDescription sort(final TableDescription description) {
+            return new TableDescription(
+                    description.getTable(),
+                    sorted(description.getColumns(), columns),
+                    sorted(description.getPrimaryKeys(), primaryKeys),
+                    sorted(description.getImportedKeys(), importedKeys),
+                    sorted(description.getExportedKeys(), exportedKeys),
+                    sorted(description.getIndexInfo(), indexInfo)
+            );
+        }
+
+        private final Comparator<Table> tables;
+
+        private final Comparator<Column> columns;
+
+        private final Comparator<PrimaryKey> primaryKeys;
+
+        private final Comparator<ImportedKey> importedKeys;
+
+        private final Comparator<ExportedKey> exportedKeys;
+
+        private final Comparator<IndexInfo> indexInfo;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final Connector connector;
+
+    private final int concurrency;
+}
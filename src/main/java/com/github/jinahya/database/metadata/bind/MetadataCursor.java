@@ -0,0 +1,80 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.sql.SQLException;
+
+/**
+ * A forward-only cursor over rows of a result set, bound to a single, reused instance of a metadata type.
+ * <p>
+ * Each {@link #next()} refills the same instance, so iterating allocates no metadata instances. The instance
+ * {@link #get() returned} is therefore valid only until the next call of {@link #next()}; use {@link #detach()} to keep
+ * the current row.
+ * <p>
+ * {@snippet :
+ * try (var cursor = context.cursorColumns(null, null, "%", "%")) {
+ *     while (cursor.next()) {
+ *         var column = cursor.get();
+ *         counts.merge(column.getTableName(), 1, Integer::sum);
+ *     }
+ * }
+ *}
+ *
+ * @param <T> metadata type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see Context#cursorColumns(String, String, String, String)
+ */
+public interface MetadataCursor<T extends MetadataType>
+        extends AutoCloseable {
+
+    /**
+     * Moves this cursor to the next row, and refills the {@link #get() current instance} with it.
+     *
+     * @return {@code true} if the cursor is positioned on a row; {@code false} if there are no more rows.
+     * @throws SQLException if a database error occurs.
+     */
+    boolean next() throws SQLException;
+
+    /**
+     * Returns the reused instance bound to the current row. The same instance is returned, and refilled, for every row.
+     *
+     * @return the instance bound to the current row.
+     * @throws IllegalStateException if the cursor is not positioned on a row.
+     */
+    T get();
+
+    /**
+     * Returns a new instance, detached from this cursor, bound to the current row.
+     *
+     * @return a new instance bound to the current row.
+     * @throws IllegalStateException if the cursor is not positioned on a row.
+     * @throws SQLException          if a database error occurs.
+     */
+    T detach() throws SQLException;
+
+    /**
+     * Closes the underlying result set.
+     *
+     * @throws SQLException if a database error occurs.
+     */
+    @Override
+    void close() throws SQLException;
+}
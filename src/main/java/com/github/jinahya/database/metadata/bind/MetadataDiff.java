@@ -0,0 +1,232 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A difference engine between two sets of metadata values, e.g. of two {@link MetadataSnapshot}s.
+ * <p>
+ * Values are paired, per type, by their {@link MetadataType#getKey() keys} with a hash join; values of the source are
+ * hashed, and values of the target are looked up, and reported, as they are iterated, so only the source side is kept;
+ * for snapshots, only that of a single type. Each value of the target is reported, in the order of the target, as
+ * {@link Kind#ADDED added} or, when any of its fields differs from that of its source, {@link Kind#CHANGED changed};
+ * values of the source not paired are reported, afterward, as {@link Kind#REMOVED removed}. Fields are compared by the
+ * values of those annotated with column labels; unknown columns are not compared. Values of the same key, if any, are
+ * paired in their order.
+ * <p>
+ * {@snippet :
+ * var before = MetadataSnapshot.open(path1);
+ * var after = MetadataSnapshot.open(path2);
+ * MetadataDiff.diff(before, after, e -> System.out.println(e.kind() + " " + e.key() + " " + e.changes()));
+ *}
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see MetadataKey
+ */
+public final class MetadataDiff {
+
+    /**
+     * Kinds of entries.
+     */
+    public enum Kind {
+
+        /**
+         * A value only in the target.
+         */
+        ADDED,
+
+        /**
+         * A value only in the source.
+         */
+        REMOVED,
+
+        /**
+         * A value in both, whose fields differ.
+         */
+        CHANGED
+    }
+
+    /**
+     * A difference of a field.
+     *
+     * @param label  the column label of the field.
+     * @param source the value of the field in the source.
+     * @param target the value of the field in the target.
+     */
+    public record Change(String label, @Nullable Object source, @Nullable Object target) {
+
+    }
+
+    /**
+     * A difference of a value.
+     *
+     * @param kind    the kind of the difference.
+     * @param key     the key of the value.
+     * @param source  the value in the source; {@code null} when {@link Kind#ADDED added}.
+     * @param target  the value in the target; {@code null} when {@link Kind#REMOVED removed}.
+     * @param changes the differences of fields, in the order of fields; empty unless {@link Kind#CHANGED changed}.
+     */
+    public record Entry(Kind kind, MetadataKey key, @Nullable MetadataType source, @Nullable MetadataType target,
+                        List<Change> changes) {
+
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reports differences between values of the specified snapshots, type by type, to the specified consumer.
+     *
+     * @param source   the source snapshot.
+     * @param target   the target snapshot.
+     * @param consumer the consumer of entries.
+     */
+    public static void diff(final MetadataSnapshot source, final MetadataSnapshot target,
+                            final Consumer<? super Entry> consumer) {
+        Objects.requireNonNull(source, "source is null");
+        Objects.requireNonNull(target, "target is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        final var types = new LinkedHashSet<Class<? extends MetadataType>>(source.getTypes());
+        types.addAll(target.getTypes());
+        for (final var type : types) {
+            diff(source.get(type), target.get(type), consumer);
+        }
+    }
+
+    /**
+     * Reports differences between specified values to the specified consumer.
+     *
+     * @param source   the source values.
+     * @param target   the target values.
+     * @param consumer the consumer of entries.
+     */
+    public static void diff(final Iterable<? extends MetadataType> source,
+                            final Iterable<? extends MetadataType> target, final Consumer<? super Entry> consumer) {
+        Objects.requireNonNull(source, "source is null");
+        Objects.requireNonNull(target, "target is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        final var hashed = new LinkedHashMap<Class<?>, Map<MetadataKey, Object>>();
+        for (final var value : source) {
+            hashed.computeIfAbsent(value.getClass(), k -> new LinkedHashMap<>())
+                    .merge(value.getKey(), value, MetadataDiff::append);
+        }
+        for (final var value : target) {
+            final var key = value.getKey();
+            final var paired = poll(hashed.getOrDefault(value.getClass(), Map.of()), key);
+            if (paired == null) {
+                consumer.accept(new Entry(Kind.ADDED, key, null, value, List.of()));
+                continue;
+            }
+            final var changes = changes(paired, value);
+            if (!changes.isEmpty()) {
+                consumer.accept(new Entry(Kind.CHANGED, key, paired, value, changes));
+            }
+        }
+        for (final var values : hashed.values()) {
+            for (final var entry : values.entrySet()) {
+                if (entry.getValue() instanceof ArrayDeque<?> deque) {
+                    for (final var value : deque) {
+                        consumer.accept(new Entry(Kind.REMOVED, entry.getKey(), (MetadataType) value, null,
+                                                  List.of()));
+                    }
+                } else {
+                    consumer.accept(new Entry(Kind.REMOVED, entry.getKey(), (MetadataType) entry.getValue(), null,
+                                              List.of()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns differences of fields of specified values of the same type.
+     *
+     * @param source the source value.
+     * @param target the target value.
+     * @param <T>    value type parameter
+     * @return a list of differences of fields, in the order of fields; empty when no field differs.
+     */
+    @SuppressWarnings({"unchecked"})
+    static <T extends MetadataType> List<Change> changes(final T source, final T target) {
+        final var binder = Binders.getBinder((Class<T>) source.getClass());
+        List<Change> changes = null;
+        for (int slot = 0; slot < binder.getSlotCount(); slot++) {
+            final var s = binder.getValue(source, slot);
+            final var t = binder.getValue(target, slot);
+            if (!Objects.equals(s, t)) {
+                if (changes == null) {
+                    changes = new ArrayList<>();
+                }
+                changes.add(new Change(binder.getLabel(slot), s, t));
+            }
+        }
+        return changes == null ? List.of() : Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Appends a value to an existing value, or values, of the same key; values of a key are kept as a single value
+     * unless duplicated, for most keys are not.
+     */
+    private static Object append(final Object existing, final Object value) {
+        if (existing instanceof ArrayDeque<?>) {
+            @SuppressWarnings({"unchecked"})
+            final var deque = (ArrayDeque<Object>) existing;
+            deque.add(value);
+            return deque;
+        }
+        final var deque = new ArrayDeque<>(2);
+        deque.add(existing);
+        deque.add(value);
+        return deque;
+    }
+
+    /**
+     * Removes, and returns, the first value of the specified key.
+     */
+    private static @Nullable MetadataType poll(final Map<MetadataKey, Object> values, final MetadataKey key) {
+        final var value = values.get(key);
+        if (value instanceof ArrayDeque<?> deque) {
+            final var polled = (MetadataType) deque.poll();
+            if (deque.isEmpty()) {
+                values.remove(key);
+            }
+            return polled;
+        }
+        if (value != null) {
+            values.remove(key);
+        }
+        return (MetadataType) value;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private MetadataDiff() {
+        throw new AssertionError("instantiation is not allowed");
+    }
+}
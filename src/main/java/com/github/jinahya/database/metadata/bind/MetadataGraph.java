@@ -0,0 +1,375 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+
+import org.jspecify.annotations.Nullable;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An indexed, in-memory graph of tables and their children, which navigates from a table to its children, and from a
+ * child to its table, by hash lookups.
+ * <p>
+ * Tables are indexed by their catalogs, schemas, and names, and columns additionally by their names; {@code null}
+ * catalogs and schemas are treated as empty. Parent/child links follow the {@code _ParentOf}/{@code _ChildOf}
+ * relationships of the metadata types; i.e. {@link Column}, {@link PrimaryKey}, {@link IndexInfo}, {@link ImportedKey},
+ * and {@link ExportedKey} are children of a {@link Table}.
+ * <p>
+ * Indexes are immutable maps without per-entry objects, and children are shared with the {@link TableDescription}s of
+ * which the graph is built; thus the graph adds a few references per column to what the descriptions already hold.
+ * <p>
+ * {@snippet :
+ * var graph = MetadataGraph.newInstance(context.describeTables(null, "PUBLIC", "%", new String[] {"TABLE"}));
+ * var orders = graph.getTable("TEST", "PUBLIC", "ORDERS");
+ * var columns = graph.getColumns(orders);
+ * var referencing = graph.getReferencingKeys(graph.getColumn("TEST", "PUBLIC", "ORDERS", "ID"));
+ *}
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see TableDescription
+ */
+public final class MetadataGraph {
+
+    /**
+     * Children of a table; only types annotated with {@code _ChildOf(Table.class)} may be children.
+     */
+    private static final List<Class<? extends MetadataType>> CHILD_TYPES = List.of(
+            Column.class, PrimaryKey.class, IndexInfo.class, ImportedKey.class, ExportedKey.class
+    );
+
+    static {
+        for (final var childType : CHILD_TYPES) {
+            assert isChildOfTable(childType) : "not a child of the table: " + childType;
+        }
+    }
+
+    private static boolean isChildOfTable(final Class<?> childType) {
+        return Arrays.stream(childType.getAnnotationsByType(_ChildOf.class)).anyMatch(a -> a.value() == Table.class)
+               && Arrays.stream(Table.class.getAnnotationsByType(_ParentOf.class))
+                       .anyMatch(a -> a.value() == childType);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A node of a table.
+     */
+    private static final class Node {
+
+        private Node(final TableDescription description) {
+            super();
+            this.description = description;
+            final var columns = new HashMap<String, Column>();
+            for (final var column : description.getColumns()) {
+                final var columnName = column.getColumnName();
+                if (columnName != null) {
+                    columns.putIfAbsent(columnName, column);
+                }
+            }
+            columnsByName = Map.copyOf(columns);
+            final var exportedKeys = new HashMap<String, List<ExportedKey>>();
+            for (final var exportedKey : description.getExportedKeys()) {
+                final var pkcolumnName = exportedKey.getPkcolumnName();
+                if (pkcolumnName != null) {
+                    exportedKeys.computeIfAbsent(pkcolumnName, k -> new ArrayList<>()).add(exportedKey);
+                }
+            }
+            exportedKeys.replaceAll((k, v) -> List.copyOf(v));
+            exportedKeysByPkcolumnName = Map.copyOf(exportedKeys);
+        }
+
+        private final TableDescription description;
+
+        private final Map<String, Column> columnsByName;
+
+        private final Map<String, List<ExportedKey>> exportedKeysByPkcolumnName;
+    }
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Creates a new instance of tables, and their children, described by the specified context.
+     *
+     * @param context          the context.
+     * @param catalog          a value for the {@code catalog} parameter.
+     * @param schemaPattern    a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern a value for the {@code tableNamePattern} parameter.
+     * @param types            a value for the {@code types} parameter.
+     * @return a new instance.
+     * @throws SQLException if a database error occurs.
+     * @see Context#describeTables(String, String, String, String[])
+     */
+    public static MetadataGraph newInstance(final Context context, @Nullable final String catalog,
+                                            @Nullable final String schemaPattern, final String tableNamePattern,
+                                            @Nullable final String[] types)
+            throws SQLException {
+        Objects.requireNonNull(context, "context is null");
+        return newInstance(context.describeTables(catalog, schemaPattern, tableNamePattern, types));
+    }
+
+    /**
+     * Creates a new instance of specified table descriptions.
+     *
+     * @param descriptions the table descriptions.
+     * @return a new instance.
+     * @see Context#describeTables(String, String, String, String[])
+     * @see MetadataCrawler#crawl(String, String, String, String[])
+     */
+    public static MetadataGraph newInstance(final Collection<? extends TableDescription> descriptions) {
+        Objects.requireNonNull(descriptions, "descriptions is null");
+        final var nodes = new HashMap<MetadataKey, Node>();
+        final var tables = new ArrayList<Table>(descriptions.size());
+        for (final var description : descriptions) {
+            final var key = description.getTable().getKey();
+            if (!nodes.containsKey(key)) {
+                nodes.put(key, new Node(description));
+                tables.add(description.getTable());
+            }
+        }
+        return new MetadataGraph(Map.copyOf(nodes), List.copyOf(tables));
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    private MetadataGraph(final Map<MetadataKey, Node> nodes, final List<Table> tables) {
+        super();
+        this.nodes = nodes;
+        this.tables = tables;
+    }
+
+    // ------------------------------------------------------------------------------------------------ java.lang.Object
+
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+               "tables=" + tables.size() +
+               '}';
+    }
+
+    // ---------------------------------------------------------------------------------------------------------- tables
+
+    /**
+     * Returns all tables of this graph, in the order of the descriptions.
+     *
+     * @return an unmodifiable list of all tables.
+     */
+    public List<Table> getTables() {
+        return tables;
+    }
+
+    /**
+     * Returns the table identified by specified arguments.
+     *
+     * @param tableCat   the catalog of the table; {@code null} is treated as empty.
+     * @param tableSchem the schema of the table; {@code null} is treated as empty.
+     * @param tableName  the name of the table.
+     * @return the table identified by the arguments; {@code null} when not found.
+     */
+    @Nullable
+    public Table getTable(@Nullable final String tableCat, @Nullable final String tableSchem,
+                          final String tableName) {
+        final var node = node(tableCat, tableSchem, tableName);
+        return node == null ? null : node.description.getTable();
+    }
+
+    /**
+     * Returns the table of the specified child.
+     *
+     * @param child the child whose table is returned; one of {@link Column}, {@link PrimaryKey}, {@link IndexInfo},
+     *              {@link ImportedKey}, or {@link ExportedKey}.
+     * @return the table of the {@code child}; {@code null} when not found.
+     * @throws IllegalArgumentException when the {@code child}'s type is not a child of the table.
+     */
+    @Nullable
+    public Table getTable(final MetadataType child) {
+        Objects.requireNonNull(child, "child is null");
+        final Table ref;
+        if (child instanceof Column column) {
+            ref = column.getTableRef();
+        } else if (child instanceof PrimaryKey primaryKey) {
+            ref = primaryKey.getTableRef();
+        } else if (child instanceof IndexInfo indexInfo) {
+            ref = indexInfo.getTableRef();
+        } else if (child instanceof ImportedKey importedKey) {
+            ref = importedKey.getFkTableRef();
+        } else if (child instanceof ExportedKey exportedKey) {
+            ref = exportedKey.getPkTableRef();
+        } else {
+            throw new IllegalArgumentException("not a child of the table: " + child.getClass());
+        }
+        final var node = nodes.get(ref.getKey());
+        return node == null ? null : node.description.getTable();
+    }
+
+    /**
+     * Returns children, of the specified type, of the specified table.
+     *
+     * @param table     the table.
+     * @param childType the type of the children; one of {@link Column}, {@link PrimaryKey}, {@link IndexInfo},
+     *                  {@link ImportedKey}, or {@link ExportedKey}.
+     * @param <T>       child type parameter
+     * @return an unmodifiable list of children; empty when the {@code table} is not found.
+     * @throws IllegalArgumentException when the {@code childType} is not a child of the table.
+     */
+    @SuppressWarnings({"unchecked"})
+    public <T extends MetadataType> List<T> getChildren(final Table table, final Class<T> childType) {
+        Objects.requireNonNull(table, "table is null");
+        Objects.requireNonNull(childType, "childType is null");
+        if (!CHILD_TYPES.contains(childType)) {
+            throw new IllegalArgumentException("not a child of the table: " + childType);
+        }
+        final var node = nodes.get(table.getKey());
+        if (node == null) {
+            return List.of();
+        }
+        final var description = node.description;
+        if (childType == Column.class) {
+            return (List<T>) description.getColumns();
+        }
+        if (childType == PrimaryKey.class) {
+            return (List<T>) description.getPrimaryKeys();
+        }
+        if (childType == IndexInfo.class) {
+            return (List<T>) description.getIndexInfo();
+        }
+        if (childType == ImportedKey.class) {
+            return (List<T>) description.getImportedKeys();
+        }
+        return (List<T>) description.getExportedKeys();
+    }
+
+    /**
+     * Returns columns of the specified table.
+     *
+     * @param table the table.
+     * @return an unmodifiable list of columns of the {@code table}; empty when the {@code table} is not found.
+     */
+    public List<Column> getColumns(final Table table) {
+        return getChildren(table, Column.class);
+    }
+
+    /**
+     * Returns primary key columns of the specified table.
+     *
+     * @param table the table.
+     * @return an unmodifiable list of primary key columns of the {@code table}; empty when the {@code table} is not
+     * found.
+     */
+    public List<PrimaryKey> getPrimaryKeys(final Table table) {
+        return getChildren(table, PrimaryKey.class);
+    }
+
+    /**
+     * Returns index columns of the specified table.
+     *
+     * @param table the table.
+     * @return an unmodifiable list of index columns of the {@code table}; empty when the {@code table} is not found.
+     */
+    public List<IndexInfo> getIndexInfo(final Table table) {
+        return getChildren(table, IndexInfo.class);
+    }
+
+    /**
+     * Returns foreign key columns of the specified table.
+     *
+     * @param table the table.
+     * @return an unmodifiable list of foreign key columns of the {@code table}; empty when the {@code table} is not
+     * found.
+     */
+    public List<ImportedKey> getImportedKeys(final Table table) {
+        return getChildren(table, ImportedKey.class);
+    }
+
+    /**
+     * Returns foreign key columns, of other tables, referencing the specified table.
+     *
+     * @param table the table.
+     * @return an unmodifiable list of foreign key columns referencing the {@code table}; empty when the {@code table}
+     * is not found.
+     */
+    public List<ExportedKey> getExportedKeys(final Table table) {
+        return getChildren(table, ExportedKey.class);
+    }
+
+    // --------------------------------------------------------------------------------------------------------- columns
+
+    /**
+     * Returns the column identified by specified arguments.
+     *
+     * @param tableCat   the catalog of the table; {@code null} is treated as empty.
+     * @param tableSchem the schema of the table; {@code null} is treated as empty.
+     * @param tableName  the name of the table.
+     * @param columnName the name of the column.
+     * @return the column identified by the arguments; {@code null} when not found.
+     */
+    @Nullable
+    public Column getColumn(@Nullable final String tableCat, @Nullable final String tableSchem,
+                            final String tableName, final String columnName) {
+        Objects.requireNonNull(columnName, "columnName is null");
+        final var node = node(tableCat, tableSchem, tableName);
+        return node == null ? null : node.columnsByName.get(columnName);
+    }
+
+    /**
+     * Returns foreign key columns, of other tables, referencing the specified column.
+     *
+     * @param column the column.
+     * @return an unmodifiable list of foreign key columns referencing the {@code column}; empty when none found.
+     */
+    public List<ExportedKey> getReferencingKeys(final Column column) {
+        Objects.requireNonNull(column, "column is null");
+        final var node = nodes.get(column.getKey().getParent());
+        final var columnName = column.getColumnName();
+        if (node == null || columnName == null) {
+            return List.of();
+        }
+        return node.exportedKeysByPkcolumnName.getOrDefault(columnName, List.of());
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    @Nullable
+    private Node node(@Nullable final String tableCat, @Nullable final String tableSchem, final String tableName) {
+        Objects.requireNonNull(tableName, "tableName is null");
+        return nodes.get(MetadataKey.table(
+                tableCat == null ? "" : tableCat,
+                tableSchem == null ? "" : tableSchem,
+                tableName
+        ));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The nodes of tables by their keys.
+     */
+    private final Map<MetadataKey, Node> nodes;
+
+    private final List<Table> tables;
+}
@@ -0,0 +1,446 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An invoker of {@link DatabaseMetaData} methods, which return {@link ResultSet}s, remembering the methods which throw
+ * {@link SQLFeatureNotSupportedException}.
+ * <p>
+ * Once a method throws, it is never invoked again; each following invocation fails fast, with a new exception caused
+ * by the one first thrown, or results an empty result set, according to the {@link UnsupportedOperationPolicy policy}.
+ * Methods are remembered by their signatures, e.g. {@code getSchemas()} and {@code getSchemas(String,String)}, so that
+ * an unsupported overload doesn't shadow the other.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see Context#getUnsupportedOperations()
+ */
+final class MetadataInvoker {
+
+    private static final System.Logger logger = System.getLogger(MethodHandles.lookup().lookupClass().getName());
+
+    /**
+     * An invocation of a method of the wrapped metadata.
+     */
+    @FunctionalInterface
+    private interface Invocation {
+
+        /**
+         * Invokes the method.
+         *
+         * @return the result set of the method.
+         * @throws SQLException if a database error occurs.
+         */
+        ResultSet invoke() throws SQLException;
+    }
+
+    /**
+     * A result set with no columns and no rows. Any other method results the default value of its return type.
+     */
+    private static final ResultSet EMPTY_RESULT_SET = empty(ResultSet.class);
+
+    private static <T> T empty(final Class<T> type) {
+        final InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "empty " + type.getSimpleName();
+            case "getMetaData" -> empty(ResultSetMetaData.class);
+            default -> method.getReturnType().isPrimitive() && method.getReturnType() != void.class
+                       ? Array.get(Array.newInstance(method.getReturnType(), 1), 0) : null;
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    MetadataInvoker(final DatabaseMetaData metadata) {
+        super();
+        this.metadata = Objects.requireNonNull(metadata, "metadata is null");
+    }
+
+    // ---------------------------------------------------------------------------------------------------------- policy
+
+    UnsupportedOperationPolicy getPolicy() {
+        return policy;
+    }
+
+    void setPolicy(final UnsupportedOperationPolicy policy) {
+        this.policy = Objects.requireNonNull(policy, "policy is null");
+    }
+
+    // ----------------------------------------------------------------------------------------------------- unsupported
+
+    /**
+     * Returns the signatures of methods known to be unsupported; e.g. {@code getSchemas(String,String)}.
+     *
+     * @return an unmodifiable view of the signatures of methods known to be unsupported.
+     */
+    Set<String> getUnsupported() {
+        return Collections.unmodifiableSet(unsupported.keySet());
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private ResultSet invoke(final String signature, final Invocation invocation) throws SQLException {
+        final var thrown = unsupported.get(signature);
+        if (thrown == null) {
+            try {
+                return invocation.invoke();
+            } catch (final SQLFeatureNotSupportedException sqlfnse) {
+                logger.log(System.Logger.Level.DEBUG, "unsupported operation: {0}", signature);
+                unsupported.putIfAbsent(signature, sqlfnse);
+                if (policy == UnsupportedOperationPolicy.EMPTY) {
+                    return EMPTY_RESULT_SET;
+                }
+                throw sqlfnse;
+            }
+        }
+        if (policy == UnsupportedOperationPolicy.EMPTY) {
+            return EMPTY_RESULT_SET;
+        }
+        throw new SQLFeatureNotSupportedException(thrown.getMessage(), thrown.getSQLState(), thrown.getErrorCode(),
+                                                  thrown);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Invokes the {@code getAttributes} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getAttributes(String, String, String, String)
+     */
+    ResultSet getAttributes(@Nullable final String catalog, @Nullable final String schemaPattern,
+                            @Nullable final String typeNamePattern, @Nullable final String attributeNamePattern)
+            throws SQLException {
+        return invoke("getAttributes(String,String,String,String)",
+                      () -> metadata.getAttributes(catalog, schemaPattern, typeNamePattern, attributeNamePattern));
+    }
+
+    /**
+     * Invokes the {@code getBestRowIdentifier} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getBestRowIdentifier(String, String, String, int, boolean)
+     */
+    ResultSet getBestRowIdentifier(@Nullable final String catalog, @Nullable final String schema,
+                                   @Nullable final String table, final int scope, final boolean nullable)
+            throws SQLException {
+        return invoke("getBestRowIdentifier(String,String,String,int,boolean)",
+                      () -> metadata.getBestRowIdentifier(catalog, schema, table, scope, nullable));
+    }
+
+    /**
+     * Invokes the {@code getCatalogs} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getCatalogs()
+     */
+    ResultSet getCatalogs() throws SQLException {
+        return invoke("getCatalogs()", metadata::getCatalogs);
+    }
+
+    /**
+     * Invokes the {@code getClientInfoProperties} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getClientInfoProperties()
+     */
+    ResultSet getClientInfoProperties() throws SQLException {
+        return invoke("getClientInfoProperties()", metadata::getClientInfoProperties);
+    }
+
+    /**
+     * Invokes the {@code getColumnPrivileges} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getColumnPrivileges(String, String, String, String)
+     */
+    ResultSet getColumnPrivileges(@Nullable final String catalog, @Nullable final String schema,
+                                  @Nullable final String table, @Nullable final String columnNamePattern)
+            throws SQLException {
+        return invoke("getColumnPrivileges(String,String,String,String)",
+                      () -> metadata.getColumnPrivileges(catalog, schema, table, columnNamePattern));
+    }
+
+    /**
+     * Invokes the {@code getColumns} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getColumns(String, String, String, String)
+     */
+    ResultSet getColumns(@Nullable final String catalog, @Nullable final String schemaPattern,
+                         @Nullable final String tableNamePattern, @Nullable final String columnNamePattern)
+            throws SQLException {
+        return invoke("getColumns(String,String,String,String)",
+                      () -> metadata.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern));
+    }
+
+    /**
+     * Invokes the {@code getCrossReference} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getCrossReference(String, String, String, String, String, String)
+     */
+    ResultSet getCrossReference(@Nullable final String parentCatalog, @Nullable final String parentSchema,
+                                @Nullable final String parentTable, @Nullable final String foreignCatalog,
+                                @Nullable final String foreignSchema, @Nullable final String foreignTable)
+            throws SQLException {
+        return invoke("getCrossReference(String,String,String,String,String,String)",
+                      () -> metadata.getCrossReference(parentCatalog, parentSchema, parentTable, foreignCatalog,
+                                                       foreignSchema, foreignTable));
+    }
+
+    /**
+     * Invokes the {@code getExportedKeys} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getExportedKeys(String, String, String)
+     */
+    ResultSet getExportedKeys(@Nullable final String catalog, @Nullable final String schema,
+                              @Nullable final String table)
+            throws SQLException {
+        return invoke("getExportedKeys(String,String,String)", () -> metadata.getExportedKeys(catalog, schema, table));
+    }
+
+    /**
+     * Invokes the {@code getFunctionColumns} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getFunctionColumns(String, String, String, String)
+     */
+    ResultSet getFunctionColumns(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                 @Nullable final String functionNamePattern, @Nullable final String columnNamePattern)
+            throws SQLException {
+        return invoke("getFunctionColumns(String,String,String,String)",
+                      () -> metadata.getFunctionColumns(catalog, schemaPattern, functionNamePattern,
+                                                        columnNamePattern));
+    }
+
+    /**
+     * Invokes the {@code getFunctions} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getFunctions(String, String, String)
+     */
+    ResultSet getFunctions(@Nullable final String catalog, @Nullable final String schemaPattern,
+                           @Nullable final String functionNamePattern)
+            throws SQLException {
+        return invoke("getFunctions(String,String,String)",
+                      () -> metadata.getFunctions(catalog, schemaPattern, functionNamePattern));
+    }
+
+    /**
+     * Invokes the {@code getImportedKeys} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getImportedKeys(String, String, String)
+     */
+    ResultSet getImportedKeys(@Nullable final String catalog, @Nullable final String schema,
+                              @Nullable final String table)
+            throws SQLException {
+        return invoke("getImportedKeys(String,String,String)", () -> metadata.getImportedKeys(catalog, schema, table));
+    }
+
+    /**
+     * Invokes the {@code getIndexInfo} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getIndexInfo(String, String, String, boolean, boolean)
+     */
+    ResultSet getIndexInfo(@Nullable final String catalog, @Nullable final String schema, @Nullable final String table,
+                           final boolean unique, final boolean approximate)
+            throws SQLException {
+        return invoke("getIndexInfo(String,String,String,boolean,boolean)",
+                      () -> metadata.getIndexInfo(catalog, schema, table, unique, approximate));
+    }
+
+    /**
+     * Invokes the {@code getPrimaryKeys} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getPrimaryKeys(String, String, String)
+     */
+    ResultSet getPrimaryKeys(@Nullable final String catalog, @Nullable final String schema,
+                             @Nullable final String table)
+            throws SQLException {
+        return invoke("getPrimaryKeys(String,String,String)", () -> metadata.getPrimaryKeys(catalog, schema, table));
+    }
+
+    /**
+     * Invokes the {@code getProcedureColumns} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getProcedureColumns(String, String, String, String)
+     */
+    ResultSet getProcedureColumns(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                  @Nullable final String procedureNamePattern, @Nullable final String columnNamePattern)
+            throws SQLException {
+        return invoke("getProcedureColumns(String,String,String,String)",
+                      () -> metadata.getProcedureColumns(catalog, schemaPattern, procedureNamePattern,
+                                                         columnNamePattern));
+    }
+
+    /**
+     * Invokes the {@code getProcedures} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getProcedures(String, String, String)
+     */
+    ResultSet getProcedures(@Nullable final String catalog, @Nullable final String schemaPattern,
+                            @Nullable final String procedureNamePattern)
+            throws SQLException {
+        return invoke("getProcedures(String,String,String)",
+                      () -> metadata.getProcedures(catalog, schemaPattern, procedureNamePattern));
+    }
+
+    /**
+     * Invokes the {@code getPseudoColumns} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getPseudoColumns(String, String, String, String)
+     */
+    ResultSet getPseudoColumns(@Nullable final String catalog, @Nullable final String schemaPattern,
+                               @Nullable final String tableNamePattern, @Nullable final String columnNamePattern)
+            throws SQLException {
+        return invoke("getPseudoColumns(String,String,String,String)",
+                      () -> metadata.getPseudoColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern));
+    }
+
+    /**
+     * Invokes the {@code getSchemas} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getSchemas()
+     */
+    ResultSet getSchemas() throws SQLException {
+        return invoke("getSchemas()", metadata::getSchemas);
+    }
+
+    /**
+     * Invokes the {@code getSchemas} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getSchemas(String, String)
+     */
+    ResultSet getSchemas(@Nullable final String catalog, @Nullable final String schemaPattern) throws SQLException {
+        return invoke("getSchemas(String,String)", () -> metadata.getSchemas(catalog, schemaPattern));
+    }
+
+    /**
+     * Invokes the {@code getSuperTables} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getSuperTables(String, String, String)
+     */
+    ResultSet getSuperTables(@Nullable final String catalog, @Nullable final String schemaPattern,
+                             @Nullable final String tableNamePattern)
+            throws SQLException {
+        return invoke("getSuperTables(String,String,String)",
+                      () -> metadata.getSuperTables(catalog, schemaPattern, tableNamePattern));
+    }
+
+    /**
+     * Invokes the {@code getSuperTypes} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getSuperTypes(String, String, String)
+     */
+    ResultSet getSuperTypes(@Nullable final String catalog, @Nullable final String schemaPattern,
+                            @Nullable final String typeNamePattern)
+            throws SQLException {
+        return invoke("getSuperTypes(String,String,String)",
+                      () -> metadata.getSuperTypes(catalog, schemaPattern, typeNamePattern));
+    }
+
+    /**
+     * Invokes the {@code getTablePrivileges} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getTablePrivileges(String, String, String)
+     */
+    ResultSet getTablePrivileges(@Nullable final String catalog, @Nullable final String schemaPattern,
+                                 @Nullable final String tableNamePattern)
+            throws SQLException {
+        return invoke("getTablePrivileges(String,String,String)",
+                      () -> metadata.getTablePrivileges(catalog, schemaPattern, tableNamePattern));
+    }
+
+    /**
+     * Invokes the {@code getTableTypes} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getTableTypes()
+     */
+    ResultSet getTableTypes() throws SQLException {
+        return invoke("getTableTypes()", metadata::getTableTypes);
+    }
+
+    /**
+     * Invokes the {@code getTables} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getTables(String, String, String, String[])
+     */
+    ResultSet getTables(@Nullable final String catalog, @Nullable final String schemaPattern,
+                        @Nullable final String tableNamePattern, @Nullable final String[] types)
+            throws SQLException {
+        return invoke("getTables(String,String,String,String[])",
+                      () -> metadata.getTables(catalog, schemaPattern, tableNamePattern, types));
+    }
+
+    /**
+     * Invokes the {@code getTypeInfo} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getTypeInfo()
+     */
+    ResultSet getTypeInfo() throws SQLException {
+        return invoke("getTypeInfo()", metadata::getTypeInfo);
+    }
+
+    /**
+     * Invokes the {@code getUDTs} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getUDTs(String, String, String, int[])
+     */
+    ResultSet getUDTs(@Nullable final String catalog, @Nullable final String schemaPattern,
+                      @Nullable final String typeNamePattern, @Nullable final int[] types)
+            throws SQLException {
+        return invoke("getUDTs(String,String,String,int[])",
+                      () -> metadata.getUDTs(catalog, schemaPattern, typeNamePattern, types));
+    }
+
+    /**
+     * Invokes the {@code getVersionColumns} method of the wrapped metadata.
+     *
+     * @see DatabaseMetaData#getVersionColumns(String, String, String)
+     */
+    ResultSet getVersionColumns(@Nullable final String catalog, @Nullable final String schema,
+                                @Nullable final String table)
+            throws SQLException {
+        return invoke("getVersionColumns(String,String,String)",
+                      () -> metadata.getVersionColumns(catalog, schema, table));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private final DatabaseMetaData metadata;
+
+    private volatile UnsupportedOperationPolicy policy = UnsupportedOperationPolicy.FAIL_FAST;
+
+    /**
+     * The exceptions first thrown, by names of methods.
+     */
+    private final Map<String, SQLFeatureNotSupportedException> unsupported = new ConcurrentHashMap<>();
+}
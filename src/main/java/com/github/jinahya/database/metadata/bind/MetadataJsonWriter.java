@@ -0,0 +1,352 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A streaming writer of metadata values as a single JSON document, nested along their {@link MetadataKey keys}.
+ * <p>
+ * Each value is written, as an object of its column labels and its unknown columns, in an array, named after the
+ * {@link Class#getSimpleName() simple name} of its type, of its parent, e.g. a {@link Column} in the {@code Column}
+ * array of its {@link Table}, which is in the {@code Table} array of its {@link Schema}, which is in the
+ * {@code Schema} array of its {@link Catalog}. A parent which has not been written itself is written with its
+ * {@link MetadataKey#getComponents() key} only.
+ * {@snippet lang = "json" :
+ * {"Catalog":[{"key":["TEST"],"Schema":[{"key":["PUBLIC"],"Table":[{"key":["T"],"Column":[
+ *     {"TABLE_CAT":"TEST","TABLE_SCHEM":"PUBLIC","TABLE_NAME":"T","COLUMN_NAME":"ID",...}
+ * ]}]}]}]}
+ *}
+ * Only the path from the root to the last value written is kept, so memory usage does not depend on the number of
+ * values written. Values are expected to be written grouped by their parents, e.g. in the order the specification
+ * defines for each type; otherwise, a parent appears more than once.
+ * <p>
+ * {@snippet :
+ * try (var writer = MetadataJsonWriter.newInstance(Files.newBufferedWriter(path))) {
+ *     context.forEachColumn(null, null, "%", "%", writer.consumer());
+ * }
+ *}
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public final class MetadataJsonWriter
+        implements Flushable, Closeable {
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Creates a new instance which writes to the specified writer.
+     *
+     * @param writer the writer to write; closed when the new instance is {@link #close() closed}.
+     * @return a new instance.
+     */
+    public static MetadataJsonWriter newInstance(final Writer writer) {
+        return new MetadataJsonWriter(Objects.requireNonNull(writer, "writer is null"));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes all columns matching specified arguments, nested in their tables, schemas, and catalogs, to the specified
+     * writer, with a single invocation of {@link Context#forEachColumn(String, String, String, String, Consumer)}
+     * method.
+     *
+     * @param context           the context.
+     * @param catalog           a value for the {@code catalog} parameter.
+     * @param schemaPattern     a value for the {@code schemaPattern} parameter.
+     * @param tableNamePattern  a value for the {@code tableNamePattern} parameter.
+     * @param columnNamePattern a value for the {@code columnNamePattern} parameter.
+     * @param writer            the writer to write; not closed.
+     * @throws SQLException if a database error occurs.
+     * @throws IOException  if an I/O error occurs.
+     */
+    public static void writeColumns(final Context context, @Nullable final String catalog,
+                                    @Nullable final String schemaPattern, final String tableNamePattern,
+                                    final String columnNamePattern, final Writer writer)
+            throws SQLException, IOException {
+        Objects.requireNonNull(context, "context is null");
+        final var instance = newInstance(writer);
+        try {
+            context.forEachColumn(catalog, schemaPattern, tableNamePattern, columnNamePattern, instance.consumer());
+        } catch (final UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+        instance.finish();
+        writer.flush();
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    private MetadataJsonWriter(final Writer writer) {
+        super();
+        this.writer = writer;
+        path.push(new Level(null));
+    }
+
+    // ----------------------------------------------------------------------------------------------- java.io.Flushable
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    // ----------------------------------------------------------------------------------------------- java.io.Closeable
+
+    /**
+     * Ends the document, unless ended already, and closes the underlying writer.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            writer.close();
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes specified value, as a child of the last value, or the last parent, written with the same parent.
+     *
+     * @param value the value to write.
+     * @throws IOException           if an I/O error occurs.
+     * @throws IllegalStateException if this writer is already closed.
+     */
+    public void write(final MetadataType value) throws IOException {
+        Objects.requireNonNull(value, "value is null");
+        if (path.isEmpty()) {
+            throw new IllegalStateException("already closed");
+        }
+        final var key = value.getKey();
+        final var ancestors = ancestors(key);
+        var common = 0;
+        for (final var i = path.descendingIterator(); i.hasNext() && common < ancestors.size(); common++) {
+            final var level = i.next();
+            if (level.key != null && !level.key.equals(ancestors.get(common))) {
+                break;
+            }
+        }
+        while (path.size() > common) {
+            end(path.pop());
+        }
+        for (int i = common; i < ancestors.size(); i++) {
+            final var ancestor = ancestors.get(i);
+            writeMember(begin(ancestor), "key");
+            writeArray(ancestor.getComponents());
+        }
+        writeFields(begin(key), value);
+    }
+
+    /**
+     * Returns a consumer which {@link #write(MetadataType) writes} each value accepted, wrapping an
+     * {@link IOException} in an {@link UncheckedIOException}.
+     *
+     * @param <T> value type parameter
+     * @return a consumer writing to this writer.
+     */
+    public <T extends MetadataType> Consumer<T> consumer() {
+        return v -> {
+            try {
+                write(v);
+            } catch (final IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        };
+    }
+
+    /**
+     * Ends the document, unless ended already.
+     */
+    private void finish() throws IOException {
+        while (!path.isEmpty()) {
+            end(path.pop());
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns keys of all ancestors of the specified key, from the root; the root itself, whose key is {@code null},
+     * included.
+     */
+    private static List<@Nullable MetadataKey> ancestors(final MetadataKey key) {
+        final var ancestors = new ArrayList<@Nullable MetadataKey>();
+        for (var parent = key.getParent(); parent != null; parent = parent.getParent()) {
+            ancestors.add(0, parent);
+        }
+        ancestors.add(0, null);
+        return ancestors;
+    }
+
+    /**
+     * Begins an object of the specified key in the array, of its type, of the current level.
+     */
+    private Level begin(final MetadataKey key) throws IOException {
+        final var level = path.element();
+        final var name = key.getType().getSimpleName();
+        if (name.equals(level.array)) {
+            writer.write(',');
+        } else {
+            if (level.array != null) {
+                writer.write(']');
+            }
+            writeMember(level, name);
+            writer.write('[');
+            level.array = name;
+        }
+        writer.write('{');
+        final var child = new Level(key);
+        path.push(child);
+        return child;
+    }
+
+    private void end(final Level level) throws IOException {
+        if (level.key == null && !level.members) {
+            writer.write('{');
+        }
+        if (level.array != null) {
+            writer.write(']');
+        }
+        writer.write('}');
+    }
+
+    /**
+     * Writes the name of a member of the specified level, preceded by the opening brace of the root or a comma.
+     */
+    private void writeMember(final Level level, final String name) throws IOException {
+        if (level.members) {
+            writer.write(',');
+        } else if (level.key == null) {
+            writer.write('{');
+        }
+        level.members = true;
+        writeString(name);
+        writer.write(':');
+    }
+
+    @SuppressWarnings({"unchecked"})
+    private <T extends MetadataType> void writeFields(final Level level, final T value) throws IOException {
+        final var binder = Binders.getBinder((Class<T>) value.getClass());
+        for (int slot = 0; slot < binder.getSlotCount(); slot++) {
+            writeMember(level, binder.getLabel(slot));
+            writeValue(binder.getValue(value, slot));
+        }
+        for (final var unknownColumn : value.getUnknownColumns().entrySet()) {
+            writeMember(level, unknownColumn.getKey());
+            writeValue(unknownColumn.getValue());
+        }
+    }
+
+    private void writeArray(final List<?> values) throws IOException {
+        writer.write('[');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(values.get(i));
+        }
+        writer.write(']');
+    }
+
+    private void writeValue(@Nullable final Object value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+        } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long
+                   || value instanceof Short) {
+            writer.write(value.toString());
+        } else if (value instanceof Number number && Double.isFinite(number.doubleValue())) {
+            writer.write(number.toString());
+        } else {
+            writeString(value.toString());
+        }
+    }
+
+    private void writeString(final String value) throws IOException {
+        writer.write('"');
+        var start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            writer.write(value, start, i - start);
+            start = i + 1;
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> writer.write(String.format("\\u%04x", (int) c));
+            }
+        }
+        writer.write(value, start, value.length() - start);
+        writer.write('"');
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * An object being written; either the root or a value, or a parent, written.
+     */
+    private static final class Level {
+
+        private Level(@Nullable final MetadataKey key) {
+            super();
+            this.key = key;
+        }
+
+        @Nullable
+        private final MetadataKey key;
+
+        /**
+         * The name of the array currently open in this object; {@code null} if none.
+         */
+        @Nullable
+        private String array;
+
+        /**
+         * Whether any member has been written in this object.
+         */
+        private boolean members;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final Writer writer;
+
+    private final Deque<Level> path = new ArrayDeque<>();
+}
@@ -0,0 +1,187 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable key identifying an instance of {@link MetadataType}, by values, e.g. a {@link Table} by its catalog,
+ * schema, and name.
+ * <p>
+ * A key is made of the type of the instance, the key of its parent, if any, and its own components, e.g. the key of a
+ * {@link Column} is made of the key of its {@link Table} and its name. Catalogs and schemas are taken as their
+ * effective values, e.g. {@code getEffectiveTableCat()} of a {@link Table}, so {@code null} ones are treated as empty.
+ * Keys of different types are never equal. The hash code of a key is computed once, when the key is created.
+ * <p>
+ * {@snippet :
+ * var columnsByTable = columns.stream()
+ *         .collect(Collectors.groupingBy(c -> c.getKey().getParent())); // keyed as table.getKey()
+ *}
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see MetadataType#getKey()
+ */
+public final class MetadataKey
+        implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2470393541536358871L;
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Creates a new key of specified arguments.
+     *
+     * @param type       the type of the identified instance.
+     * @param parent     the key of the parent of the identified instance; may be {@code null}.
+     * @param components the components of the key, each either {@code null}, a {@link String}, an {@link Integer}, or
+     *                   a {@code MetadataKey}.
+     * @return a new key.
+     */
+    static MetadataKey of(final Class<? extends MetadataType> type, @Nullable final MetadataKey parent,
+                          final @Nullable Object... components) {
+        return new MetadataKey(type, parent, components);
+    }
+
+    static MetadataKey catalog(final String tableCat) {
+        return of(Catalog.class, null, tableCat);
+    }
+
+    static MetadataKey schema(final String tableCatalog, final String tableSchem) {
+        return of(Schema.class, catalog(tableCatalog), tableSchem);
+    }
+
+    static MetadataKey table(final String tableCat, final String tableSchem, @Nullable final String tableName) {
+        return of(Table.class, schema(tableCat, tableSchem), tableName);
+    }
+
+    static MetadataKey column(final String tableCat, final String tableSchem, @Nullable final String tableName,
+                              @Nullable final String columnName) {
+        return of(Column.class, table(tableCat, tableSchem, tableName), columnName);
+    }
+
+    static MetadataKey udt(final String typeCat, final String typeSchem, @Nullable final String typeName) {
+        return of(UDT.class, schema(typeCat, typeSchem), typeName);
+    }
+
+    static MetadataKey procedure(final String procedureCat, final String procedureSchem,
+                                 @Nullable final String procedureName, @Nullable final String specificName) {
+        return of(Procedure.class, schema(procedureCat, procedureSchem), procedureName, specificName);
+    }
+
+    static MetadataKey function(final String functionCat, final String functionSchem,
+                                @Nullable final String functionName, @Nullable final String specificName) {
+        return of(Function.class, schema(functionCat, functionSchem), functionName, specificName);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    private MetadataKey(final Class<? extends MetadataType> type, @Nullable final MetadataKey parent,
+                        final @Nullable Object[] components) {
+        super();
+        this.type = Objects.requireNonNull(type, "type is null");
+        this.parent = parent;
+        this.components = components.clone();
+        var h = type.getName().hashCode();
+        h = 31 * h + Objects.hashCode(parent);
+        h = 31 * h + Arrays.hashCode(this.components);
+        hash = h;
+    }
+
+    // ------------------------------------------------------------------------------------------------ java.lang.Object
+
+    @Override
+    public String toString() {
+        return type.getSimpleName() + '{' +
+               (parent == null ? "" : parent + ",") +
+               Arrays.toString(components) +
+               '}';
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MetadataKey that)) {
+            return false;
+        }
+        return hash == that.hash &&
+               type == that.type &&
+               Objects.equals(parent, that.parent) &&
+               Arrays.equals(components, that.components);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the type of the instance identified by this key.
+     *
+     * @return the type of the identified instance.
+     */
+    public Class<? extends MetadataType> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the key of the parent of the instance identified by this key, e.g. the key of a {@link Table} for a key
+     * of a {@link Column}.
+     *
+     * @return the key of the parent; {@code null} when the identified instance has no parent.
+     */
+    @Nullable
+    public MetadataKey getParent() {
+        return parent;
+    }
+
+    /**
+     * Returns the components of this key, other than its parent.
+     *
+     * @return an unmodifiable list of the components of this key.
+     */
+    public List<@Nullable Object> getComponents() {
+        return Collections.unmodifiableList(Arrays.asList(components));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private final Class<? extends MetadataType> type;
+
+    @Nullable
+    private final MetadataKey parent;
+
+    private final @Nullable Object[] components;
+
+    private final int hash;
+}
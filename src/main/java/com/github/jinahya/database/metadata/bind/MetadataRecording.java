@@ -0,0 +1,644 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * A recording of invocations of {@link DatabaseMetaData} methods, which can be replayed without a database.
+ * <p>
+ * A {@link #record(DatabaseMetaData) recording} metadata forwards each invocation to the live metadata and keeps its
+ * result, by the method and its arguments; a {@link ResultSet} is read fully, and closed, right away, and a copy of it
+ * is returned instead. {@link SQLException}s thrown are kept, too. A {@link #replay() replaying} metadata answers each
+ * invocation with the result kept, without any I/O, and throws an {@link SQLException} for an invocation not recorded.
+ * Methods whose results can't be recorded, e.g. {@link DatabaseMetaData#getConnection()}, are forwarded while
+ * recording, and throw an {@link SQLFeatureNotSupportedException} while replaying.
+ * <p>
+ * {@snippet :
+ * var recording = MetadataRecording.newInstance();
+ * var context = new Context(recording.record(connection.getMetaData()));
+ * context.getTables(null, null, "%", null); // and so on
+ * recording.write(path);
+ *
+ * var replayed = new Context(MetadataRecording.read(path).replay());
+ *}
+ * <p>
+ * Values of result sets are kept as they are, if {@link ValueCodec} supports their types; any other value is kept as
+ * its string representation.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public final class MetadataRecording {
+
+    /**
+     * The magic number of the file format.
+     */
+    static final int MAGIC = 0x444D5252; // "DMRR"
+
+    /**
+     * The current version of the file format.
+     */
+    static final int VERSION = 1;
+
+    private static final int RESULT_ROWS = 0;
+
+    private static final int RESULT_VALUE = 1;
+
+    private static final int RESULT_THROWN = 2;
+
+    /**
+     * A value indicating that a method is not handled by {@link #handleCommon(Object, Method, Object[])}.
+     */
+    private static final Object UNHANDLED = new Object();
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Creates a new empty recording.
+     *
+     * @return a new empty recording.
+     */
+    public static MetadataRecording newInstance() {
+        return new MetadataRecording();
+    }
+
+    /**
+     * Reads a recording from the specified file.
+     *
+     * @param file the file to read.
+     * @return a recording read from the {@code file}.
+     * @throws IOException if an I/O error occurs, or the {@code file} is not a recording of a supported version.
+     * @see #write(Path)
+     */
+    public static MetadataRecording read(final Path file) throws IOException {
+        Objects.requireNonNull(file, "file is null");
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC) {
+                throw new StreamCorruptedException("not a recording: " + file);
+            }
+            final var version = input.readUnsignedByte();
+            if (version != VERSION) {
+                throw new StreamCorruptedException("unsupported version: " + version);
+            }
+            final var reader = ValueCodec.inline(input);
+            final var recording = new MetadataRecording();
+            final var size = reader.readVarint();
+            for (int i = 0; i < size; i++) {
+                final var invocation = new Invocation(reader.readString(), (List<?>) reader.readValue());
+                recording.results.put(invocation, readResult(reader));
+            }
+            return recording;
+        }
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    private MetadataRecording() {
+        super();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the number of invocations recorded.
+     *
+     * @return the number of invocations recorded.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * Writes this recording to the specified file.
+     *
+     * @param file the file to write.
+     * @throws IOException if an I/O error occurs.
+     * @see #read(Path)
+     */
+    public void write(final Path file) throws IOException {
+        Objects.requireNonNull(file, "file is null");
+        try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            final var writer = ValueCodec.inline(output);
+            final var entries = new ArrayList<>(results.entrySet());
+            writer.writeVarint(entries.size());
+            for (final var entry : entries) {
+                writer.writeString(entry.getKey().method);
+                writer.writeValue(entry.getKey().arguments);
+                writeResult(writer, entry.getValue());
+            }
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a metadata which forwards each invocation to the specified metadata, recording its result into this
+     * recording.
+     *
+     * @param metadata the live metadata.
+     * @return a recording metadata.
+     */
+    public DatabaseMetaData record(final DatabaseMetaData metadata) {
+        Objects.requireNonNull(metadata, "metadata is null");
+        final InvocationHandler handler = (proxy, method, args) -> {
+            final var handled = handleCommon(proxy, method, args);
+            if (handled != UNHANDLED) {
+                return handled;
+            }
+            if (!isRecorded(method)) {
+                return invoke(method, metadata, args);
+            }
+            final var invocation = Invocation.of(method, args);
+            final Result result;
+            try {
+                final var value = invoke(method, metadata, args);
+                result = value instanceof ResultSet results ? Rows.of(results) : new Value(scalar(value));
+            } catch (final SQLException sqle) {
+                results.put(invocation, Thrown.of(sqle));
+                throw sqle;
+            }
+            results.put(invocation, result);
+            return result.replay(method);
+        };
+        return proxy(DatabaseMetaData.class, handler);
+    }
+
+    /**
+     * Returns a metadata which answers each invocation with the result recorded in this recording. Methods whose
+     * results are never recorded, e.g. {@link DatabaseMetaData#getConnection()}, throw an
+     * {@link SQLFeatureNotSupportedException}.
+     *
+     * @return a replaying metadata.
+     */
+    public DatabaseMetaData replay() {
+        final var recorded = Map.copyOf(results);
+        final InvocationHandler handler = (proxy, method, args) -> {
+            final var handled = handleCommon(proxy, method, args);
+            if (handled != UNHANDLED) {
+                return handled;
+            }
+            if (!isRecorded(method)) {
+                throw new SQLFeatureNotSupportedException(
+                        "not replayable: " + method.getName() + "; results of " + method.getReturnType().getName()
+                        + " are not recorded");
+            }
+            final var invocation = Invocation.of(method, args);
+            final var result = recorded.get(invocation);
+            if (result == null) {
+                throw new SQLException("not recorded: " + invocation);
+            }
+            return result.replay(method);
+        };
+        return proxy(DatabaseMetaData.class, handler);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private static <T> T proxy(final Class<T> type, final InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    /**
+     * Handles methods of {@link Object} and {@link java.sql.Wrapper}; returns {@link #UNHANDLED} for any other method.
+     */
+    private static @Nullable Object handleCommon(final Object proxy, final Method method, final @Nullable Object[] args)
+            throws SQLException {
+        switch (method.getName()) {
+            case "equals":
+                return method.getParameterCount() == 1 ? proxy == args[0] : UNHANDLED;
+            case "hashCode":
+                return method.getParameterCount() == 0 ? System.identityHashCode(proxy) : UNHANDLED;
+            case "toString":
+                return method.getParameterCount() == 0
+                       ? method.getDeclaringClass().getSimpleName() + '@'
+                         + Integer.toHexString(System.identityHashCode(proxy))
+                       : UNHANDLED;
+            case "isWrapperFor":
+                return ((Class<?>) Objects.requireNonNull(args[0])).isInstance(proxy);
+            case "unwrap":
+                final var iface = (Class<?>) Objects.requireNonNull(args[0]);
+                if (iface.isInstance(proxy)) {
+                    return proxy;
+                }
+                throw new SQLException("not a wrapper for " + iface);
+            default:
+                return UNHANDLED;
+        }
+    }
+
+    /**
+     * Checks whether results of the specified method are recorded.
+     */
+    private static boolean isRecorded(final Method method) {
+        final var type = method.getReturnType();
+        return type == ResultSet.class || type.isPrimitive() || type == String.class || type.isEnum();
+    }
+
+    private static @Nullable Object invoke(final Method method, final Object target, final @Nullable Object[] args)
+            throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException ite) {
+            throw ite.getCause();
+        }
+    }
+
+    private static @Nullable Object scalar(@Nullable final Object value) {
+        return value instanceof Enum<?> e ? e.name() : value;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private static void writeResult(final ValueCodec.Writer writer, final Result result) throws IOException {
+        final var output = writer.output;
+        if (result instanceof Rows rows) {
+            output.writeByte(RESULT_ROWS);
+            writer.writeVarint(rows.labels.length);
+            for (int i = 0; i < rows.labels.length; i++) {
+                writer.writeString(rows.labels[i]);
+                output.writeInt(rows.types[i]);
+            }
+            writer.writeVarint(rows.rows.length);
+            for (final var row : rows.rows) {
+                for (final var value : row) {
+                    writer.writeValue(value);
+                }
+            }
+        } else if (result instanceof Value value) {
+            output.writeByte(RESULT_VALUE);
+            writer.writeValue(value.value);
+        } else {
+            final var thrown = (Thrown) result;
+            output.writeByte(RESULT_THROWN);
+            output.writeBoolean(thrown.featureNotSupported);
+            writer.writeValue(thrown.message);
+            writer.writeValue(thrown.sqlState);
+            output.writeInt(thrown.vendorCode);
+        }
+    }
+
+    private static Result readResult(final ValueCodec.Reader reader) throws IOException {
+        final var input = reader.input;
+        final var kind = input.readUnsignedByte();
+        switch (kind) {
+            case RESULT_ROWS:
+                final var count = reader.readVarint();
+                final var labels = new String[count];
+                final var types = new int[count];
+                for (int i = 0; i < count; i++) {
+                    labels[i] = reader.readString();
+                    types[i] = input.readInt();
+                }
+                final var rows = new Object[reader.readVarint()][];
+                for (int r = 0; r < rows.length; r++) {
+                    rows[r] = new Object[count];
+                    for (int i = 0; i < count; i++) {
+                        rows[r][i] = reader.readValue();
+                    }
+                }
+                return new Rows(labels, types, rows);
+            case RESULT_VALUE:
+                return new Value(reader.readValue());
+            case RESULT_THROWN:
+                return new Thrown(input.readBoolean(), (String) reader.readValue(), (String) reader.readValue(),
+                                  input.readInt());
+            default:
+                throw new StreamCorruptedException("unknown result: " + kind);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * An invocation of a method, identified by its name and its parameter types, with arguments; arrays are kept as
+     * lists.
+     */
+    private record Invocation(String method, List<?> arguments) {
+
+        private static Invocation of(final Method method, final @Nullable Object[] args) {
+            final var signature = method.getName() + Arrays.stream(method.getParameterTypes())
+                    .map(Class::getSimpleName)
+                    .collect(Collectors.joining(",", "(", ")"));
+            final var arguments = new ArrayList<@Nullable Object>();
+            if (args != null) {
+                for (final var arg : args) {
+                    arguments.add(argument(arg));
+                }
+            }
+            return new Invocation(signature, Collections.unmodifiableList(arguments));
+        }
+
+        private static @Nullable Object argument(@Nullable final Object arg) {
+            if (arg instanceof Object[] array) {
+                return Collections.unmodifiableList(Arrays.asList(array.clone()));
+            }
+            if (arg instanceof int[] array) {
+                return Arrays.stream(array).boxed().toList();
+            }
+            return arg;
+        }
+
+        @Override
+        public String toString() {
+            return method + arguments;
+        }
+    }
+
+    /**
+     * A result recorded.
+     */
+    private sealed interface Result
+            permits Rows, Value, Thrown {
+
+        /**
+         * Returns, or throws, the result of the specified method.
+         */
+        @Nullable
+        Object replay(Method method) throws SQLException;
+    }
+
+    /**
+     * Rows of a result set.
+     */
+    private record Rows(String[] labels, int[] types, @Nullable Object[][] rows)
+            implements Result {
+
+        private static Rows of(final ResultSet results) throws SQLException {
+            try (results) {
+                final var metadata = results.getMetaData();
+                final var count = metadata.getColumnCount();
+                final var labels = new String[count];
+                final var types = new int[count];
+                for (int i = 0; i < count; i++) {
+                    labels[i] = metadata.getColumnLabel(i + 1);
+                    types[i] = metadata.getColumnType(i + 1);
+                }
+                final var rows = new ArrayList<@Nullable Object[]>();
+                while (results.next()) {
+                    final var row = new Object[count];
+                    for (int i = 0; i < count; i++) {
+                        row[i] = ValueCodec.supportedOrString(results.getObject(i + 1));
+                    }
+                    rows.add(row);
+                }
+                return new Rows(labels, types, rows.toArray(new Object[0][]));
+            }
+        }
+
+        @Override
+        public Object replay(final Method method) {
+            return new Cursor(this).resultSet();
+        }
+    }
+
+    /**
+     * A scalar value; an enum constant is kept by its name.
+     */
+    private record Value(@Nullable Object value)
+            implements Result {
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public @Nullable Object replay(final Method method) {
+            final var type = method.getReturnType();
+            if (type.isEnum() && value != null) {
+                return Enum.valueOf((Class) type, (String) value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * An exception thrown.
+     */
+    private record Thrown(boolean featureNotSupported, @Nullable String message, @Nullable String sqlState,
+                          int vendorCode)
+            implements Result {
+
+        private static Thrown of(final SQLException sqle) {
+            return new Thrown(sqle instanceof SQLFeatureNotSupportedException, sqle.getMessage(), sqle.getSQLState(),
+                              sqle.getErrorCode());
+        }
+
+        @Override
+        public Object replay(final Method method) throws SQLException {
+            if (featureNotSupported) {
+                throw new SQLFeatureNotSupportedException(message, sqlState, vendorCode);
+            }
+            throw new SQLException(message, sqlState, vendorCode);
+        }
+    }
+
+    /**
+     * A forward-only, read-only cursor over recorded rows, exposed as a {@link ResultSet}.
+     */
+    private static final class Cursor {
+
+        private Cursor(final Rows rows) {
+            super();
+            this.rows = rows;
+        }
+
+        private ResultSet resultSet() {
+            return proxy(ResultSet.class, (proxy, method, args) -> {
+                final var handled = handleCommon(proxy, method, args);
+                if (handled != UNHANDLED) {
+                    return handled;
+                }
+                return switch (method.getName()) {
+                    case "next" -> ++row < rows.rows.length;
+                    case "close" -> {
+                        closed = true;
+                        yield null;
+                    }
+                    case "isClosed" -> closed;
+                    case "wasNull" -> wasNull;
+                    case "getMetaData" -> metaData();
+                    case "findColumn" -> index(args[0]) + 1;
+                    case "getType" -> ResultSet.TYPE_FORWARD_ONLY;
+                    case "getConcurrency" -> ResultSet.CONCUR_READ_ONLY;
+                    case "getStatement", "getWarnings" -> null;
+                    case "clearWarnings" -> null;
+                    case "getObject", "getString", "getBoolean", "getByte", "getShort", "getInt", "getLong",
+                         "getFloat", "getDouble", "getBigDecimal", "getBytes" -> get(method, args);
+                    default -> throw new SQLFeatureNotSupportedException(method.getName());
+                };
+            });
+        }
+
+        private ResultSetMetaData metaData() {
+            return proxy(ResultSetMetaData.class, (proxy, method, args) -> {
+                final var handled = handleCommon(proxy, method, args);
+                if (handled != UNHANDLED) {
+                    return handled;
+                }
+                return switch (method.getName()) {
+                    case "getColumnCount" -> rows.labels.length;
+                    case "getColumnLabel", "getColumnName" -> rows.labels[(Integer) args[0] - 1];
+                    case "getColumnType" -> rows.types[(Integer) args[0] - 1];
+                    default -> throw new SQLFeatureNotSupportedException(method.getName());
+                };
+            });
+        }
+
+        private int index(final Object column) throws SQLException {
+            if (column instanceof Integer index) {
+                if (index < 1 || index > rows.labels.length) {
+                    throw new SQLException("invalid column index: " + index);
+                }
+                return index - 1;
+            }
+            if (indices == null) {
+                indices = new HashMap<>();
+                for (int i = rows.labels.length - 1; i >= 0; i--) {
+                    indices.put(rows.labels[i].toUpperCase(Locale.ROOT), i);
+                }
+            }
+            final var index = indices.get(((String) column).toUpperCase(Locale.ROOT));
+            if (index == null) {
+                throw new SQLException("unknown column label: " + column);
+            }
+            return index;
+        }
+
+        private @Nullable Object get(final Method method, final Object[] args) throws SQLException {
+            if (closed) {
+                throw new SQLException("closed");
+            }
+            if (row < 0 || row >= rows.rows.length) {
+                throw new SQLException("not positioned on a row");
+            }
+            final var value = rows.rows[row][index(args[0])];
+            wasNull = value == null;
+            final var type = args.length > 1 && args[1] instanceof Class<?> c ? c : method.getReturnType();
+            return convert(value, type);
+        }
+
+        // -------------------------------------------------------------------------------------------------------------
+        private final Rows rows;
+
+        private int row = -1;
+
+        private boolean closed;
+
+        private boolean wasNull;
+
+        @Nullable
+        private Map<String, Integer> indices;
+    }
+
+    /**
+     * Converts the specified recorded value to the specified type, as a driver would.
+     */
+    private static @Nullable Object convert(@Nullable final Object value, final Class<?> type) throws SQLException {
+        if (value == null) {
+            if (type == boolean.class) {
+                return false;
+            }
+            if (type.isPrimitive()) {
+                return convert(0, type);
+            }
+            return null;
+        }
+        if (type == Object.class || type.isInstance(value)) {
+            return value;
+        }
+        if (type == String.class) {
+            return value.toString();
+        }
+        final Number number;
+        if (value instanceof Number n) {
+            number = n;
+        } else if (value instanceof Boolean b) {
+            number = b ? 1 : 0;
+        } else if (value instanceof String string) {
+            try {
+                number = new BigDecimal(string.strip());
+            } catch (final NumberFormatException nfe) {
+                if (type == boolean.class || type == Boolean.class) {
+                    return Boolean.parseBoolean(string.strip());
+                }
+                throw new SQLException("cannot convert " + value + " to " + type, nfe);
+            }
+        } else {
+            throw new SQLException("cannot convert " + value + " to " + type);
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return number.intValue() != 0;
+        }
+        if (type == byte.class || type == Byte.class) {
+            return number.byteValue();
+        }
+        if (type == short.class || type == Short.class) {
+            return number.shortValue();
+        }
+        if (type == int.class || type == Integer.class) {
+            return number.intValue();
+        }
+        if (type == long.class || type == Long.class) {
+            return number.longValue();
+        }
+        if (type == float.class || type == Float.class) {
+            return number.floatValue();
+        }
+        if (type == double.class || type == Double.class) {
+            return number.doubleValue();
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal(number.toString());
+        }
+        throw new SQLException("cannot convert " + value + " to " + type);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final Map<Invocation, Result> results = new ConcurrentHashMap<>();
+}
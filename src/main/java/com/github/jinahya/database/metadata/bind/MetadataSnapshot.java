@@ -0,0 +1,611 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * A read-only snapshot of bound metadata, stored in a compact binary file which is memory-mapped and decoded lazily.
+ * <p>
+ * A snapshot file is written, once, with {@link #capture(Context, Path)} or {@link #write(Path, Iterable)}, and opened,
+ * possibly by other processes, with {@link #open(Path)}. Opening a file reads only its header; each value is decoded
+ * when {@link #get(Class) accessed}, and each string, which is stored once in the dictionary of the file, when first
+ * needed.
+ * <p>
+ * {@snippet :
+ * MetadataSnapshot.capture(context, path);       // slow; once, e.g. at build time
+ * var snapshot = MetadataSnapshot.open(path);      // fast; e.g. at start-up
+ * var columns = snapshot.get(Column.class);        // decoded lazily, per element
+ *}
+ *
+ * <h2>Format</h2>
+ * All fixed-length numbers are big-endian; {@code string} is an {@code int} index of the dictionary, and, in rows, a
+ * {@code varint} index of it.
+ * <pre>{@code
+ * int magic (0x444D4253), int version
+ * int count, int[count + 1] offsets, byte[] bytes          // the dictionary of UTF-8 strings
+ * int count, {string type, int slots, string[slots] labels, int rows, int position}[count]
+ * {int[rows + 1] offsets, row[rows]}[count]                 // at each position
+ * row: value[slots], varint unknowns, {string label, value}[unknowns]
+ * value: as written by ValueCodec, with strings of the dictionary
+ * }</pre>
+ * A file is limited to {@link Integer#MAX_VALUE} bytes.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public final class MetadataSnapshot {
+
+    /**
+     * The magic number of snapshot files.
+     */
+    static final int MAGIC = 0x444D4253; // "DMBS"
+
+    /**
+     * The current version of the format.
+     */
+    static final int VERSION = 1;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Retrievals of {@link #capture(Context, Path)}, other than of tables.
+     */
+    private static final List<Retrieval<? extends MetadataType>> RETRIEVALS = List.of(
+            Context::getCatalogs,
+            Context::getSchemas,
+            Context::getTableTypes,
+            Context::getTypeInfo,
+            Context::getClientInfoProperties,
+            Context::getAllColumns,
+            Context::getAllPseudoColumns,
+            Context::getAllTablePrivileges,
+            c -> c.getSuperTables(null, "%", "%"),
+            Context::getAllUDTs,
+            Context::getAllAttributes,
+            c -> c.getSuperTypes(null, "%", "%"),
+            Context::getAllProcedures,
+            Context::getAllProcedureColumns,
+            Context::getAllFunctions,
+            Context::getAllFunctionColumns
+    );
+
+    /**
+     * Retrievals, per table, of {@link #capture(Context, Path)}.
+     */
+    private static final List<TableRetrieval> TABLE_RETRIEVALS = List.of(
+            Context::getPrimaryKeysOf,
+            Context::getImportedKeysOf,
+            Context::getExportedKeysOf,
+            (c, t) -> c.getIndexInfoOf(t, false, true),
+            (c, t) -> c.getColumnPrivilegesOf(t, "%")
+    );
+
+    @FunctionalInterface
+    private interface Retrieval<T extends MetadataType> {
+
+        List<? extends T> retrieve(Context context) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface TableRetrieval {
+
+        List<? extends MetadataType> retrieve(Context context, Table table) throws SQLException;
+    }
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Captures all metadata, available from the specified context, into the specified file.
+     * <p>
+     * Catalogs, schemas, table types, type info, client info properties, tables, columns, pseudo columns, table
+     * privileges, super tables, UDTs, attributes, super types, procedures, procedure columns, functions, and function
+     * columns are retrieved for all catalogs and schemas; primary keys, imported keys, exported keys, index info, and
+     * column privileges are retrieved per table. Operations the driver does not support are skipped. Best row
+     * identifiers, version columns, and cross references are not captured, for their rows do not identify their
+     * tables.
+     *
+     * @param context the context.
+     * @param file    the file to write.
+     * @throws SQLException             if a database error occurs.
+     * @throws NotSerializableException if a value, of an unknown column, is of a type which can't be written.
+     * @throws IOException              if an I/O error occurs.
+     */
+    public static void capture(final Context context, final Path file) throws SQLException, IOException {
+        Objects.requireNonNull(context, "context is null");
+        Objects.requireNonNull(file, "file is null");
+        final var values = new ArrayList<MetadataType>();
+        for (final var retrieval : RETRIEVALS) {
+            values.addAll(retrieve(context, retrieval));
+        }
+        final var tables = retrieve(context, Context::getAllTables);
+        values.addAll(tables);
+        for (final var retrieval : TABLE_RETRIEVALS) {
+            for (final var table : tables) {
+                values.addAll(retrieve(context, c -> retrieval.retrieve(c, table)));
+            }
+        }
+        write(file, values);
+    }
+
+    private static <T extends MetadataType> List<? extends T> retrieve(final Context context,
+                                                                       final Retrieval<? extends T> retrieval)
+            throws SQLException {
+        try {
+            return retrieval.retrieve(context);
+        } catch (final SQLFeatureNotSupportedException sqlfnse) {
+            return List.of();
+        }
+    }
+
+    /**
+     * Writes specified values into the specified file. Values are grouped by their types, each in the order of the
+     * {@code values}.
+     *
+     * @param file   the file to write.
+     * @param values the values to write.
+     * @throws NotSerializableException if a value, of an unknown column, is of a type which can't be written.
+     * @throws IOException              if an I/O error occurs.
+     */
+    public static void write(final Path file, final Iterable<? extends MetadataType> values) throws IOException {
+        Objects.requireNonNull(file, "file is null");
+        Objects.requireNonNull(values, "values is null");
+        final var sections = new LinkedHashMap<Class<?>, List<MetadataType>>();
+        for (final var value : values) {
+            sections.computeIfAbsent(value.getClass(), k -> new ArrayList<>()).add(value);
+        }
+        new Encoder().encode(sections).writeTo(file);
+    }
+
+    /**
+     * Opens the specified snapshot file.
+     *
+     * @param file the file to open.
+     * @return a snapshot of the {@code file}.
+     * @throws IOException if an I/O error occurs, or the {@code file} is not a snapshot of a supported version.
+     */
+    public static MetadataSnapshot open(final Path file) throws IOException {
+        Objects.requireNonNull(file, "file is null");
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("too large to be a snapshot: " + file);
+            }
+            return new MetadataSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size()));
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * An encoded section of a type.
+     *
+     * @param type    the dictionary index of the name of the type.
+     * @param labels  the dictionary indices of the column labels, indexed by slot.
+     * @param offsets the offsets of rows, relative to the first row; followed by the length of all rows.
+     * @param rows    the encoded rows.
+     */
+    private record EncodedSection(int type, int[] labels, int[] offsets, ByteArrayOutputStream rows) {
+    }
+
+    /**
+     * An encoder of snapshots.
+     */
+    private static final class Encoder {
+
+        private Encoder encode(final Map<Class<?>, List<MetadataType>> sections) throws IOException {
+            for (final var entry : sections.entrySet()) {
+                encode(entry.getKey().asSubclass(MetadataType.class), entry.getValue());
+            }
+            return this;
+        }
+
+        @SuppressWarnings({"unchecked"})
+        private <T extends MetadataType> void encode(final Class<T> type, final List<MetadataType> values)
+                throws IOException {
+            final var binder = Binders.getBinder(type);
+            final var labels = new int[binder.getSlotCount()];
+            for (int slot = 0; slot < labels.length; slot++) {
+                labels[slot] = index(binder.getLabel(slot));
+            }
+            final var bytes = new ByteArrayOutputStream();
+            final var rows = new DataOutputStream(bytes);
+            final var writer = new ValueCodec.Writer(rows) {
+                @Override
+                void writeString(final String string) throws IOException {
+                    writeVarint(index(string));
+                }
+            };
+            final var offsets = new int[values.size() + 1];
+            for (int i = 0; i < values.size(); i++) {
+                offsets[i] = rows.size();
+                final var value = (T) values.get(i);
+                for (int slot = 0; slot < labels.length; slot++) {
+                    writer.writeValue(binder.getValue(value, slot));
+                }
+                final var unknownColumns = value.getUnknownColumns();
+                writer.writeVarint(unknownColumns.size());
+                for (final var unknownColumn : unknownColumns.entrySet()) {
+                    writer.writeString(unknownColumn.getKey());
+                    writer.writeValue(unknownColumn.getValue());
+                }
+            }
+            offsets[values.size()] = rows.size();
+            sections.add(new EncodedSection(index(type.getName()), labels, offsets, bytes));
+        }
+
+        private int index(final String string) {
+            return strings.computeIfAbsent(string, k -> strings.size());
+        }
+
+        private void writeTo(final Path file) throws IOException {
+            final var dictionary = strings.keySet().stream().map(s -> s.getBytes(StandardCharsets.UTF_8)).toList();
+            try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(dictionary.size());
+                var offset = 0;
+                for (final var bytes : dictionary) {
+                    output.writeInt(offset);
+                    offset += bytes.length;
+                }
+                output.writeInt(offset);
+                for (final var bytes : dictionary) {
+                    output.write(bytes);
+                }
+                output.writeInt(sections.size());
+                var position = (long) output.size();
+                for (final var section : sections) {
+                    position += Integer.BYTES * (4L + section.labels().length);
+                }
+                for (final var section : sections) {
+                    output.writeInt(section.type());
+                    output.writeInt(section.labels().length);
+                    for (final var label : section.labels()) {
+                        output.writeInt(label);
+                    }
+                    output.writeInt(section.offsets().length - 1);
+                    output.writeInt(checked(position));
+                    position += Integer.BYTES * (long) section.offsets().length + section.rows().size();
+                }
+                checked(position);
+                for (final var section : sections) {
+                    for (final var rowOffset : section.offsets()) {
+                        output.writeInt(rowOffset);
+                    }
+                    section.rows().writeTo(output);
+                }
+            }
+        }
+
+        private static int checked(final long position) throws IOException {
+            if (position > Integer.MAX_VALUE) {
+                throw new IOException("too large to be a snapshot; position: " + position);
+            }
+            return (int) position;
+        }
+
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+
+        private final List<EncodedSection> sections = new ArrayList<>();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A section, of a type, of an opened snapshot.
+     *
+     * @param labels   the column labels, indexed by stored slot.
+     * @param slots    the binder slots of stored slots; {@code -1} for labels no longer mapped.
+     * @param rows     the number of rows.
+     * @param position the position of the row offsets.
+     */
+    private record Section(String[] labels, int[] slots, int rows, int position) {
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    private MetadataSnapshot(final ByteBuffer buffer) throws IOException {
+        super();
+        this.buffer = buffer;
+        try {
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("not a snapshot");
+            }
+            final var version = buffer.getInt(Integer.BYTES);
+            if (version != VERSION) {
+                throw new IOException("unsupported version: " + version);
+            }
+            stringOffsets = Integer.BYTES * 3;
+            final var count = count(buffer.getInt(Integer.BYTES * 2), stringOffsets, Integer.BYTES);
+            stringBytes = stringOffsets + Integer.BYTES * (count + 1);
+            strings = new String[count];
+            var position = stringBytes + buffer.getInt(stringOffsets + Integer.BYTES * count);
+            final var sectionCount = count(buffer.getInt(position), position + Integer.BYTES, Integer.BYTES * 4);
+            position += Integer.BYTES;
+            final var sections = new LinkedHashMap<Class<? extends MetadataType>, Section>();
+            for (int i = 0; i < sectionCount; i++) {
+                final var typeName = string(buffer.getInt(position));
+                final var slotCount = count(buffer.getInt(position + Integer.BYTES), position + Integer.BYTES * 2,
+                                            Integer.BYTES);
+                position += Integer.BYTES * 2;
+                final var labels = new String[slotCount];
+                for (int slot = 0; slot < slotCount; slot++) {
+                    labels[slot] = string(buffer.getInt(position));
+                    position += Integer.BYTES;
+                }
+                final var rowsPosition = buffer.getInt(position + Integer.BYTES);
+                final var rows = count(buffer.getInt(position), rowsPosition, Integer.BYTES);
+                position += Integer.BYTES * 2;
+                final var type = type(typeName);
+                if (type != null) {
+                    sections.put(type, new Section(labels, slots(type, labels), rows, rowsPosition));
+                }
+            }
+            this.sections = Collections.unmodifiableMap(sections);
+        } catch (final IndexOutOfBoundsException ioobe) {
+            throw new IOException("corrupted snapshot", ioobe);
+        } catch (final UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+    }
+
+    /**
+     * Checks that the specified number of elements, each of at least the specified size, fits in the buffer from the
+     * specified position.
+     */
+    private int count(final int count, final int position, final int size) throws IOException {
+        if (count < 0 || position < 0 || (long) count * size > buffer.limit() - (long) position) {
+            throw new IOException("corrupted snapshot; count: " + count + " at " + position);
+        }
+        return count;
+    }
+
+    @Nullable
+    private static Class<? extends MetadataType> type(final String name) {
+        try {
+            final var type = Class.forName(name, false, MetadataSnapshot.class.getClassLoader());
+            return MetadataType.class.isAssignableFrom(type) ? type.asSubclass(MetadataType.class) : null;
+        } catch (final ClassNotFoundException cnfe) {
+            return null; // a type of a later version
+        }
+    }
+
+    private static int[] slots(final Class<? extends MetadataType> type, final String[] labels) {
+        final var binder = Binders.getBinder(type);
+        final var bound = new HashMap<String, Integer>();
+        for (int slot = 0; slot < binder.getSlotCount(); slot++) {
+            bound.put(binder.getLabel(slot), slot);
+        }
+        final var slots = new int[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            slots[i] = bound.getOrDefault(labels[i], -1);
+        }
+        return slots;
+    }
+
+    // ------------------------------------------------------------------------------------------------ java.lang.Object
+
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+               "types=" + sections.keySet() +
+               '}';
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the types of the values in this snapshot.
+     *
+     * @return an unmodifiable set of the types of the values in this snapshot.
+     */
+    public Set<Class<? extends MetadataType>> getTypes() {
+        return sections.keySet();
+    }
+
+    /**
+     * Returns values, of the specified type, in this snapshot, in the order they were written. Each element is decoded
+     * whenever it is {@link List#get(int) accessed}; callers who access an element repeatedly should keep it.
+     *
+     * @param type the type of the values.
+     * @param <T>  value type parameter
+     * @return an unmodifiable, random-access, list of values of the {@code type}; empty when the snapshot has none.
+     */
+    public <T extends MetadataType> List<T> get(final Class<T> type) {
+        Objects.requireNonNull(type, "type is null");
+        final var section = sections.get(type);
+        if (section == null) {
+            return List.of();
+        }
+        final var binder = Binders.getBinder(type);
+        return new Values<>(binder, section);
+    }
+
+    /**
+     * A lazily decoded list of values of a section.
+     */
+    private final class Values<T extends MetadataType>
+            extends AbstractList<T>
+            implements RandomAccess {
+
+        private Values(final Binder<T> binder, final Section section) {
+            super();
+            this.binder = binder;
+            this.section = section;
+        }
+
+        @Override
+        public T get(final int index) {
+            Objects.checkIndex(index, section.rows());
+            final var offsets = section.position();
+            final var rows = offsets + Integer.BYTES * (section.rows() + 1);
+            return decode(binder, section, rows + buffer.getInt(offsets + Integer.BYTES * index));
+        }
+
+        @Override
+        public int size() {
+            return section.rows();
+        }
+
+        private final Binder<T> binder;
+
+        private final Section section;
+    }
+
+    private <T extends MetadataType> T decode(final Binder<T> binder, final Section section, final int position) {
+        final var instance = binder.newInstance();
+        final var reader = new ValueCodec.Reader(new DataInputStream(new BufferInput(position))) {
+            @Override
+            String readString() throws IOException {
+                return string(readVarint());
+            }
+        };
+        final var labels = section.labels();
+        final var slots = section.slots();
+        try {
+            for (int i = 0; i < labels.length; i++) {
+                final var value = reader.readValue();
+                final var slot = slots[i];
+                if (slot >= 0 && (value == null || binder.getValueType(slot).isInstance(value))) {
+                    binder.setValue(instance, slot, value);
+                } else if (value != null) {
+                    ((AbstractMetadataType) instance).putUnknownColumn(labels[i], value);
+                }
+            }
+            final var unknowns = reader.readVarint();
+            for (int i = 0; i < unknowns; i++) {
+                final var label = reader.readString();
+                ((AbstractMetadataType) instance).putUnknownColumn(label, reader.readValue());
+            }
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException("corrupted row at " + position, ioe);
+        }
+        return instance;
+    }
+
+    /**
+     * A stream of the mapped content, from a position; read with absolute methods of the buffer.
+     */
+    private final class BufferInput
+            extends InputStream {
+
+        private BufferInput(final int position) {
+            super();
+            this.position = position;
+        }
+
+        @Override
+        public int read() {
+            if (position >= buffer.limit()) {
+                return -1;
+            }
+            return buffer.get(position++) & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+            final var available = buffer.limit() - position;
+            if (available <= 0) {
+                return -1;
+            }
+            final var length = Math.min(len, available);
+            buffer.get(position, b, off, length);
+            position += length;
+            return length;
+        }
+
+        private int position;
+    }
+
+    /**
+     * Returns the string at the specified index of the dictionary, decoding it when first needed.
+     */
+    private String string(final int index) {
+        var string = strings[index];
+        if (string == null) {
+            final var start = buffer.getInt(stringOffsets + Integer.BYTES * index);
+            final var end = buffer.getInt(stringOffsets + Integer.BYTES * (index + 1));
+            if (start < 0 || end < start || end > buffer.limit() - stringBytes) {
+                throw new UncheckedIOException(new IOException("corrupted snapshot; string: " + index));
+            }
+            final var bytes = new byte[end - start];
+            buffer.get(stringBytes + start, bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+            strings[index] = string; // racy, yet benign; the same value from any thread
+        }
+        return string;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The mapped content of the file; read only with absolute methods, thus shared among threads.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The position of the offsets of the strings of the dictionary.
+     */
+    private final int stringOffsets;
+
+    /**
+     * The position of the bytes of the strings of the dictionary.
+     */
+    private final int stringBytes;
+
+    /**
+     * The decoded strings of the dictionary; {@code null} for those not decoded yet.
+     */
+    private final String[] strings;
+
+    private final Map<Class<? extends MetadataType>, Section> sections;
+}
@@ -37,4 +37,18 @@ public interface MetadataType
      * @return an unmodifiable view of unknown columns and values.
      */
     Map<String, Object> getUnknownColumns();
+
+    /**
+     * Returns a key identifying this instance by its values. Two instances, of the same type, with equal keys describe
+     * the same database object.
+     * <p>
+     * The default implementation returns a key whose only component is this instance itself, so that only keys of
+     * equal instances are equal; all types of this library override this method.
+     *
+     * @return a key identifying this instance.
+     * @see MetadataKey
+     */
+    default MetadataKey getKey() {
+        return MetadataKey.of(getClass(), null, this);
+    }
 }
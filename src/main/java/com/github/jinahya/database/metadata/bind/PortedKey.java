@@ -719,4 +719,34 @@ abstract class PortedKey
         column.setColumnName(fkcolumnName);
         return column;
     }
+
+    /**
+     * Returns a key, of the specified type, made of the foreign key table, the foreign key column name, and the key of
+     * the primary key column.
+     *
+     * @param type the type of the key.
+     * @return a key identifying this key row by its foreign key side.
+     */
+    MetadataKey getFkKey(final Class<? extends PortedKey> type) {
+        return MetadataKey.of(type,
+                              MetadataKey.table(getEffectiveFktableCat(), getEffectiveFktableSchem(), fktableName),
+                              fkcolumnName,
+                              MetadataKey.column(getEffectivePktableCat(), getEffectivePktableSchem(), pktableName,
+                                                 pkcolumnName));
+    }
+
+    /**
+     * Returns a key, of the specified type, made of the primary key table, the primary key column name, and the key of
+     * the foreign key column.
+     *
+     * @param type the type of the key.
+     * @return a key identifying this key row by its primary key side.
+     */
+    MetadataKey getPkKey(final Class<? extends PortedKey> type) {
+        return MetadataKey.of(type,
+                              MetadataKey.table(getEffectivePktableCat(), getEffectivePktableSchem(), pktableName),
+                              pkcolumnName,
+                              MetadataKey.column(getEffectiveFktableCat(), getEffectiveFktableSchem(), fktableName,
+                                                 fkcolumnName));
+    }
 }
@@ -143,6 +143,21 @@ public class PrimaryKey
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A primary key column is identified by its table and its column name.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(PrimaryKey.class,
+                                              MetadataKey.table(getEffectiveTableCat(), getEffectiveTableSchem(),
+                                                                tableName), columnName),
+                         tableCat, tableSchem, tableName, columnName);
+    }
+
     // -------------------------------------------------------------------------------------------------------- tableCat
 
     /**
@@ -183,6 +183,20 @@ public class Procedure
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A procedure is identified by its catalog, schema, name, and specific name.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.procedure(getEffectiveProcedureCat(), getEffectiveProcedureSchem(),
+                                                     procedureName, specificName),
+                         procedureCat, procedureSchem, procedureName, specificName);
+    }
+
     // ---------------------------------------------------------------------------------------------------- procedureCat
 
     /**
@@ -321,6 +321,22 @@ public class ProcedureColumn
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A procedure column is identified by its procedure, its name, and its column type.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(ProcedureColumn.class,
+                                              MetadataKey.procedure(getEffectiveProcedureCat(),
+                                                                    getEffectiveProcedureSchem(), procedureName,
+                                                                    specificName), columnName, columnType),
+                         procedureCat, procedureSchem, procedureName, specificName, columnName, columnType);
+    }
+
     // ---------------------------------------------------------------------------------------------------- procedureCat
 
     /**
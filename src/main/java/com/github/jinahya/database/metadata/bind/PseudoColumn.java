@@ -225,6 +225,21 @@ public class PseudoColumn
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A pseudo column is identified by its table and its name.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(PseudoColumn.class,
+                                              MetadataKey.table(getEffectiveTableCat(), getEffectiveTableSchem(),
+                                                                tableName), columnName),
+                         tableCat, tableSchem, tableName, columnName);
+    }
+
     // -------------------------------------------------------------------------------------------------------- tableCat
 
     /**
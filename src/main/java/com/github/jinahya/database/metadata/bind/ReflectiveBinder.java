@@ -0,0 +1,101 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * A binder which instantiates types and sets values with {@link java.lang.reflect core reflection}.
+ *
+ * @param <T> metadata type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see HandleBinder
+ */
+final class ReflectiveBinder<T extends MetadataType>
+        extends AbstractBinder<T> {
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    /**
+     * Creates a new instance for the specified type.
+     *
+     * @param type the metadata type to bind.
+     */
+    @SuppressWarnings({
+            "java:S112", // new RuntimeException
+            "java:S3011" // setAccessible
+    })
+    ReflectiveBinder(final Class<T> type) {
+        super(type);
+        try {
+            constructor = type.getDeclaredConstructor();
+        } catch (final ReflectiveOperationException roe) {
+            throw new RuntimeException("failed to get the default constructor; type: " + type, roe);
+        }
+        if (!constructor.canAccess(null)) {
+            constructor.setAccessible(true);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    @SuppressWarnings({
+            "java:S112" // new RuntimeException
+    })
+    @Override
+    public T newInstance() {
+        try {
+            return constructor.newInstance();
+        } catch (final ReflectiveOperationException roe) {
+            throw new RuntimeException("failed to instantiate; type: " + type, roe);
+        }
+    }
+
+    @SuppressWarnings({
+            "java:S112" // new RuntimeException
+    })
+    @Override
+    public @Nullable Object getValue(final T instance, final int slot) {
+        try {
+            return fields[slot].get(instance);
+        } catch (final IllegalAccessException iae) {
+            throw new RuntimeException("failed to get the value of " + fields[slot], iae);
+        }
+    }
+
+    @SuppressWarnings({
+            "java:S112" // new RuntimeException
+    })
+    @Override
+    public void setValue(final T instance, final int slot, @Nullable final Object value) {
+        try {
+            fields[slot].set(instance, value);
+        } catch (final IllegalAccessException iae) {
+            throw new RuntimeException("failed to set " + value + " for " + fields[slot], iae);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private final Constructor<T> constructor;
+}
@@ -0,0 +1,139 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A predicate evaluated against the current row of a result set, before the row is bound to a metadata type, for
+ * rejecting rows which JDBC patterns can't express; e.g. {@code TABLE_TYPE} in ({@code TABLE}, {@code VIEW}).
+ * Rejected rows are never bound.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see Context#forEachTable(String, String, String, String[], RowPredicate, java.util.function.Consumer)
+ */
+@FunctionalInterface
+public interface RowPredicate {
+
+    /**
+     * A read-only view of the current row of a result set. Columns are looked up, by label, through indices resolved
+     * once per result set.
+     */
+    interface Row {
+
+        /**
+         * Returns the value of the column of specified label.
+         *
+         * @param columnLabel the column label; e.g. {@link Table#COLUMN_LABEL_TABLE_TYPE}.
+         * @return the value of the column; {@code null} when the value is {@code NULL}, or when the result set has no
+         * such column.
+         * @throws SQLException if a database error occurs.
+         */
+        @Nullable
+        Object getObject(String columnLabel) throws SQLException;
+
+        /**
+         * Returns the value of the column of specified label as a string.
+         *
+         * @param columnLabel the column label; e.g. {@link Table#COLUMN_LABEL_TABLE_SCHEM}.
+         * @return the value of the column; {@code null} when the value is {@code NULL}, or when the result set has no
+         * such column.
+         * @throws SQLException if a database error occurs.
+         */
+        @Nullable
+        String getString(String columnLabel) throws SQLException;
+
+        /**
+         * Returns the value of the column of specified label as an integer.
+         *
+         * @param columnLabel the column label; e.g. {@link Column#COLUMN_LABEL_NULLABLE}.
+         * @return the value of the column; {@code null} when the value is {@code NULL}, or when the result set has no
+         * such column.
+         * @throws SQLException if a database error occurs.
+         */
+        @Nullable
+        Integer getInt(String columnLabel) throws SQLException;
+    }
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Returns a predicate which accepts rows whose value of the specified column is one of specified values.
+     *
+     * @param columnLabel the column label; e.g. {@link Table#COLUMN_LABEL_TABLE_TYPE}.
+     * @param values      the values to accept; e.g. {@code "TABLE"} and {@code "VIEW"}.
+     * @return a predicate of {@code columnLabel} in {@code values}.
+     */
+    static RowPredicate valueIn(final String columnLabel, final String... values) {
+        Objects.requireNonNull(columnLabel, "columnLabel is null");
+        final var set = Set.of(Objects.requireNonNull(values, "values is null"));
+        return r -> {
+            final var value = r.getString(columnLabel);
+            return value != null && set.contains(value);
+        };
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Evaluates this predicate against specified row.
+     *
+     * @param row the row to evaluate.
+     * @return {@code true} if the {@code row} should be bound; {@code false} otherwise.
+     * @throws SQLException if a database error occurs.
+     */
+    boolean test(Row row) throws SQLException;
+
+    /**
+     * Returns a predicate which accepts rows accepted by both this predicate and specified predicate.
+     *
+     * @param other the other predicate.
+     * @return a composed predicate.
+     */
+    default RowPredicate and(final RowPredicate other) {
+        Objects.requireNonNull(other, "other is null");
+        return r -> test(r) && other.test(r);
+    }
+
+    /**
+     * Returns a predicate which accepts rows accepted by either this predicate or specified predicate.
+     *
+     * @param other the other predicate.
+     * @return a composed predicate.
+     */
+    default RowPredicate or(final RowPredicate other) {
+        Objects.requireNonNull(other, "other is null");
+        return r -> test(r) || other.test(r);
+    }
+
+    /**
+     * Returns a predicate which accepts rows this predicate rejects.
+     *
+     * @return a negated predicate.
+     */
+    default RowPredicate negate() {
+        return r -> !test(r);
+    }
+}
@@ -121,6 +121,19 @@ public class Schema
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A schema is identified by its catalog and its name.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.schema(getEffectiveTableCatalog(), getEffectiveTableSchem()),
+                         tableCatalog, tableSchem);
+    }
+
     // ------------------------------------------------------------------------------------------------------ tableSchem
 
     /**
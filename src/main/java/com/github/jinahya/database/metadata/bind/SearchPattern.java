@@ -0,0 +1,263 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * A compiled search pattern, of {@link java.sql.DatabaseMetaData} methods, e.g. the {@code tableNamePattern} parameter
+ * of {@link java.sql.DatabaseMetaData#getTables(String, String, String, String[])}.
+ * <p>
+ * In a pattern, {@code _} matches any single character, and {@code %} matches any sequence of zero or more characters.
+ * Each of them, and the escape itself, is matched literally when preceded by the
+ * {@link java.sql.DatabaseMetaData#getSearchStringEscape() search string escape}. A case-insensitive pattern matches
+ * values as they are upper-cased with {@link Locale#ROOT}, against the pattern upper-cased alike.
+ * <p>
+ * {@snippet :
+ * var pattern = SearchPattern.compile("ORDER\\_%", "\\", false);
+ * pattern.matches("ORDER_ITEMS"); // true
+ * pattern.matches("ORDERS");      // false
+ *}
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LocalMetadata
+ */
+public final class SearchPattern {
+
+    /**
+     * A token matching any sequence of characters.
+     */
+    private static final int ANY = -1;
+
+    /**
+     * A token matching any single character.
+     */
+    private static final int ONE = -2;
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Compiles the specified pattern.
+     *
+     * @param pattern            the pattern to compile.
+     * @param searchStringEscape the escape for {@code _}, {@code %}, and itself; {@code null} or empty for no escape.
+     * @param caseInsensitive    a flag for matching characters regardless of their cases.
+     * @return a compiled pattern.
+     * @see java.sql.DatabaseMetaData#getSearchStringEscape()
+     */
+    public static SearchPattern compile(final String pattern, @Nullable final String searchStringEscape,
+                                        final boolean caseInsensitive) {
+        Objects.requireNonNull(pattern, "pattern is null");
+        final var escape = searchStringEscape == null || searchStringEscape.isEmpty() ? null : searchStringEscape;
+        final var tokens = new int[pattern.length()];
+        var count = 0;
+        for (int i = 0; i < pattern.length(); ) {
+            if (escape != null && pattern.startsWith(escape, i) && i + escape.length() < pattern.length()) {
+                final var next = i + escape.length();
+                final var escaped = pattern.charAt(next);
+                if (escaped == '_' || escaped == '%') {
+                    tokens[count++] = escaped;
+                    i = next + 1;
+                    continue;
+                }
+                if (pattern.startsWith(escape, next)) {
+                    for (int j = 0; j < escape.length(); j++) {
+                        tokens[count++] = escape.charAt(j);
+                    }
+                    i = next + escape.length();
+                    continue;
+                }
+            }
+            final var c = pattern.charAt(i++);
+            if (c == '%') {
+                if (count == 0 || tokens[count - 1] != ANY) {
+                    tokens[count++] = ANY;
+                }
+                continue;
+            }
+            tokens[count++] = c == '_' ? ONE : c;
+        }
+        final var compiled = Arrays.copyOf(tokens, count);
+        return new SearchPattern(pattern, caseInsensitive ? fold(compiled) : compiled, caseInsensitive);
+    }
+
+    /**
+     * Upper-cases each run of literal characters of the specified tokens, as {@link #key(String)} does to values.
+     */
+    private static int[] fold(final int[] tokens) {
+        final var folded = IntStream.builder(); // an upper-cased run may be longer than the run
+        for (int i = 0; i < tokens.length; ) {
+            if (tokens[i] < 0) {
+                folded.add(tokens[i++]);
+                continue;
+            }
+            final var run = new StringBuilder();
+            while (i < tokens.length && tokens[i] >= 0) {
+                run.append((char) tokens[i++]);
+            }
+            final var upper = run.toString().toUpperCase(Locale.ROOT);
+            upper.chars().forEach(folded::add);
+        }
+        return folded.build().toArray();
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    private SearchPattern(final String pattern, final int[] tokens, final boolean caseInsensitive) {
+        super();
+        this.pattern = pattern;
+        this.tokens = tokens;
+        this.caseInsensitive = caseInsensitive;
+        final var wildcards = Arrays.stream(tokens).filter(t -> t < 0).count();
+        if (wildcards == 0) {
+            literal = literal(tokens, tokens.length);
+            prefix = null;
+        } else if (wildcards == 1 && tokens[tokens.length - 1] == ANY) {
+            literal = null;
+            prefix = literal(tokens, tokens.length - 1);
+        } else {
+            literal = null;
+            prefix = null;
+        }
+    }
+
+    private static String literal(final int[] tokens, final int length) {
+        final var builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) tokens[i]);
+        }
+        return builder.toString();
+    }
+
+    // ------------------------------------------------------------------------------------------------ java.lang.Object
+
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+               "pattern=" + pattern +
+               ",caseInsensitive=" + caseInsensitive +
+               '}';
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the source of this pattern.
+     *
+     * @return the source of this pattern.
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the value this pattern matches exclusively, when it has no wildcard.
+     *
+     * @return the value this pattern matches exclusively, upper-cased when case-insensitive; {@code null} when this
+     * pattern has any wildcard.
+     */
+    @Nullable
+    String getLiteral() {
+        return literal;
+    }
+
+    /**
+     * Indicates whether this pattern matches the specified value.
+     *
+     * @param value the value to match; may be {@code null}.
+     * @return {@code true} if the {@code value} matches this pattern; {@code false} otherwise, including when the
+     * {@code value} is {@code null}.
+     */
+    public boolean matches(@Nullable final String value) {
+        if (value == null) {
+            return false;
+        }
+        final var folded = key(value);
+        if (literal != null) {
+            return literal.equals(folded);
+        }
+        if (prefix != null) {
+            return folded.startsWith(prefix);
+        }
+        var t = 0;
+        var v = 0;
+        var any = -1; // the index of the last ANY token
+        var mark = 0; // the index of the value from which the last ANY token is matching
+        while (v < folded.length()) {
+            if (t < tokens.length && (tokens[t] == ONE || tokens[t] == folded.charAt(v))) {
+                t++;
+                v++;
+            } else if (t < tokens.length && tokens[t] == ANY) {
+                any = t++;
+                mark = v;
+            } else if (any >= 0) {
+                t = any + 1;
+                v = ++mark;
+            } else {
+                return false;
+            }
+        }
+        while (t < tokens.length && tokens[t] == ANY) {
+            t++;
+        }
+        return t == tokens.length;
+    }
+
+    /**
+     * Returns the key, of the specified value, with which values matching a literal pattern are looked up.
+     *
+     * @param value the value.
+     * @return the key of the {@code value}.
+     */
+    String key(final String value) {
+        return caseInsensitive ? value.toUpperCase(Locale.ROOT) : value;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private final String pattern;
+
+    /**
+     * The tokens; each is either {@link #ANY}, {@link #ONE}, or a character matched literally.
+     */
+    private final int[] tokens;
+
+    private final boolean caseInsensitive;
+
+    /**
+     * The value this pattern matches exclusively; {@code null} when this pattern has any wildcard.
+     */
+    @Nullable
+    private final String literal;
+
+    /**
+     * The prefix of the values this pattern matches; {@code null} unless this pattern is a literal followed by a single
+     * {@code %}.
+     */
+    @Nullable
+    private final String prefix;
+}
@@ -89,6 +89,21 @@ public class SuperTable
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A super table is identified by its table and its super table name.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(SuperTable.class,
+                                              MetadataKey.table(getEffectiveTableCat(), getEffectiveTableSchem(),
+                                                                tableName), supertableName),
+                         tableCat, tableSchem, tableName, supertableName);
+    }
+
     // -------------------------------------------------------------------------------------------------------- tableCat
 
     /**
@@ -105,6 +105,22 @@ public class SuperType
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A super type is identified by its UDT and its super type.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(SuperType.class,
+                                              MetadataKey.udt(getEffectiveTypeCat(), getEffectiveTypeSchem(), typeName),
+                                              MetadataKey.udt(getEffectiveSupertypeCat(), getEffectiveSupertypeSchem(),
+                                                              supertypeName)),
+                         typeCat, typeSchem, typeName, supertypeCat, supertypeSchem, supertypeName);
+    }
+
     // --------------------------------------------------------------------------------------------------------- typeCat
 
     /**
@@ -214,6 +214,20 @@ public class Table
                ",refGeneration=" + refGeneration +
                '}';
     }
+
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A table is identified by its catalog, schema, and name.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.table(getEffectiveTableCat(), getEffectiveTableSchem(), tableName),
+                         tableCat, tableSchem, tableName);
+    }
+
     // -------------------------------------------------------------------------------------------------------- tableCat
 
     /**
@@ -0,0 +1,134 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A description of a table, collected by {@link Context#describeTables(String, String, String, String[])}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see Context#describeTables(String, String, String, String[])
+ */
+public final class TableDescription {
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    TableDescription(final Table table, final List<Column> columns, final List<PrimaryKey> primaryKeys,
+                     final List<ImportedKey> importedKeys, final List<ExportedKey> exportedKeys,
+                     final List<IndexInfo> indexInfo) {
+        super();
+        this.table = Objects.requireNonNull(table, "table is null");
+        this.columns = List.copyOf(columns);
+        this.primaryKeys = List.copyOf(primaryKeys);
+        this.importedKeys = List.copyOf(importedKeys);
+        this.exportedKeys = List.copyOf(exportedKeys);
+        this.indexInfo = List.copyOf(indexInfo);
+    }
+
+    // ------------------------------------------------------------------------------------------------ java.lang.Object
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+               "table=" + table +
+               ",columns=" + columns +
+               ",primaryKeys=" + primaryKeys +
+               ",importedKeys=" + importedKeys +
+               ",exportedKeys=" + exportedKeys +
+               ",indexInfo=" + indexInfo +
+               '}';
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the described table.
+     *
+     * @return the described table.
+     */
+    public Table getTable() {
+        return table;
+    }
+
+    /**
+     * Returns columns of the table, in the order the driver returned them.
+     *
+     * @return an unmodifiable list of columns of the table.
+     * @see Context#getColumns(String, String, String, String)
+     */
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns primary key columns of the table.
+     *
+     * @return an unmodifiable list of primary key columns of the table.
+     * @see Context#getPrimaryKeys(String, String, String)
+     */
+    public List<PrimaryKey> getPrimaryKeys() {
+        return primaryKeys;
+    }
+
+    /**
+     * Returns foreign key columns of the table.
+     *
+     * @return an unmodifiable list of foreign key columns of the table.
+     * @see Context#getImportedKeys(String, String, String)
+     */
+    public List<ImportedKey> getImportedKeys() {
+        return importedKeys;
+    }
+
+    /**
+     * Returns foreign key columns, of other tables, referencing the table.
+     *
+     * @return an unmodifiable list of foreign key columns referencing the table.
+     * @see Context#getExportedKeys(String, String, String)
+     */
+    public List<ExportedKey> getExportedKeys() {
+        return exportedKeys;
+    }
+
+    /**
+     * Returns index columns, and statistics, of the table.
+     *
+     * @return an unmodifiable list of index columns of the table.
+     * @see Context#getIndexInfo(String, String, String, boolean, boolean)
+     */
+    public List<IndexInfo> getIndexInfo() {
+        return indexInfo;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final Table table;
+
+    private final List<Column> columns;
+
+    private final List<PrimaryKey> primaryKeys;
+
+    private final List<ImportedKey> importedKeys;
+
+    private final List<ExportedKey> exportedKeys;
+
+    private final List<IndexInfo> indexInfo;
+}
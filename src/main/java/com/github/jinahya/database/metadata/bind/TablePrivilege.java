@@ -153,6 +153,22 @@ public class TablePrivilege
                ",isGrantable=" + isGrantable +
                '}';
     }
+
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A table privilege is identified by its table, grantor, grantee, and privilege.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(TablePrivilege.class,
+                                              MetadataKey.table(getEffectiveTableCat(), getEffectiveTableSchem(),
+                                                                tableName), grantor, grantee, privilege),
+                         tableCat, tableSchem, tableName, grantor, grantee, privilege);
+    }
+
     // -------------------------------------------------------------------------------------------------------- tableCat
 
     /**
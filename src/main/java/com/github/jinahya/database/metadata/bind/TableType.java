@@ -101,6 +101,18 @@ public class TableType
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A table type is identified by its name.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(TableType.class, null, tableType), tableType);
+    }
+
     // ------------------------------------------------------------------------------------------------------- tableType
 
     /**
@@ -292,6 +292,18 @@ public class TypeInfo
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A type is identified by its name.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(TypeInfo.class, null, typeName), typeName);
+    }
+
     // -------------------------------------------------------------------------------------------------------- typeName
 
     /**
@@ -194,6 +194,19 @@ public class UDT
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A UDT is identified by its catalog, schema, and name.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.udt(getEffectiveTypeCat(), getEffectiveTypeSchem(), typeName),
+                         typeCat, typeSchem, typeName);
+    }
+
     // --------------------------------------------------------------------------------------------------------- typeCat
 
     /**
@@ -0,0 +1,172 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A compact, array-backed map of unknown columns, by label, of a {@link AbstractMetadataType metadata type}.
+ * <p>
+ * An instance may share its array of labels with a {@link BindingPlan}; the array is never modified and is copied
+ * when a new label is {@link #put(String, Object) put}. Entries are kept in insertion order and lookups are linear,
+ * which is the cheapest choice for the handful of columns a driver adds.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see AbstractMetadataType#getUnknownColumns()
+ */
+final class UnknownColumns
+        extends AbstractMap<String, Object> {
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    /**
+     * Creates a new instance with specified labels and values.
+     *
+     * @param labels the labels of columns; not copied, and never modified.
+     * @param values the values of columns; not copied.
+     */
+    UnknownColumns(final String[] labels, final @Nullable Object[] values) {
+        super();
+        Objects.requireNonNull(labels, "labels is null");
+        Objects.requireNonNull(values, "values is null");
+        if (values.length != labels.length) {
+            throw new IllegalArgumentException(
+                    "values.length(" + values.length + ") != labels.length(" + labels.length + ")");
+        }
+        this.labels = labels;
+        this.values = values;
+        size = labels.length;
+    }
+
+    /**
+     * Creates a new empty instance.
+     */
+    UnknownColumns() {
+        this(new String[0], new Object[0]);
+    }
+
+    // --------------------------------------------------------------------------------------------------- java.util.Map
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public @Nullable Object get(final Object key) {
+        final var index = indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public @Nullable Object put(final String key, final @Nullable Object value) {
+        Objects.requireNonNull(key, "key is null");
+        final var index = indexOf(key);
+        if (index >= 0) {
+            final var previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+        labels = Arrays.copyOf(labels, size + 1);
+        values = Arrays.copyOf(values, size + 1);
+        labels[size] = key;
+        values[size] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return index < size;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        final var entry = new SimpleImmutableEntry<>(labels[index], values[index]);
+                        index++;
+                        return entry;
+                    }
+
+                    private int index;
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the array of values of this map if this map still holds exactly the specified (shared) labels.
+     *
+     * @param labels the labels, compared by identity.
+     * @return the array of values of this map; {@code null} if this map doesn't hold exactly the {@code labels}.
+     */
+    @Nullable Object @Nullable [] valuesOf(final String[] labels) {
+        if (this.labels != labels || size != labels.length) {
+            return null;
+        }
+        return values;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private int indexOf(final @Nullable Object key) {
+        for (int i = 0; i < size; i++) {
+            if (labels[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private String[] labels;
+
+    private @Nullable Object[] values;
+
+    private int size;
+}
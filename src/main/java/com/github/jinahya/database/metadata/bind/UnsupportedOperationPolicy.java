@@ -0,0 +1,48 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Policies of a {@link Context} for invoking a {@link DatabaseMetaData} method which has already thrown a
+ * {@link SQLFeatureNotSupportedException}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see Context#setUnsupportedOperationPolicy(UnsupportedOperationPolicy)
+ * @see Context#getUnsupportedOperations()
+ */
+public enum UnsupportedOperationPolicy {
+
+    /**
+     * A policy which throws, without invoking the method again, the {@link SQLFeatureNotSupportedException} the method
+     * threw first.
+     */
+    FAIL_FAST,
+
+    /**
+     * A policy which, without invoking the method again, results empty; e.g. an empty list, an empty stream, or a
+     * publisher completing without any item. The method's first invocation, which threw, also results empty.
+     */
+    EMPTY
+}
@@ -0,0 +1,342 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The binary encoding of values, shared by the binary formats of this package.
+ * <p>
+ * Each value is written as a tag followed by its content. Integral numbers are written as zig-zag variable-length
+ * integers, decimals as their scales and unscaled values, and strings as each format chooses; e.g. inline, or as
+ * indices of a dictionary. Values of any type other than {@link String}, {@link Boolean}, {@link Byte}, {@link Short},
+ * {@link Integer}, {@link Long}, {@link Float}, {@link Double}, {@link BigDecimal}, {@code byte[]}, and {@link List}s
+ * of those are rejected with {@link NotSerializableException}; formats which must not fail keep such values as their
+ * string representations, with {@link #supportedOrString(Object)}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+final class ValueCodec {
+
+    static final int TAG_NULL = 0;
+
+    static final int TAG_STRING = 1;
+
+    static final int TAG_INTEGER = 2;
+
+    static final int TAG_LONG = 3;
+
+    static final int TAG_TRUE = 4;
+
+    static final int TAG_FALSE = 5;
+
+    static final int TAG_SHORT = 6;
+
+    static final int TAG_DOUBLE = 7;
+
+    static final int TAG_DECIMAL = 8;
+
+    static final int TAG_BYTES = 9;
+
+    static final int TAG_LIST = 10;
+
+    static final int TAG_FLOAT = 11;
+
+    static final int TAG_BYTE = 12;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the specified value, if it is of a supported type; its string representation, otherwise. This is the
+     * only, lossy, conversion of values which can't be written; elements of a list are converted each.
+     *
+     * @param value the value to convert; may be {@code null}.
+     * @return the {@code value}, or its string representation.
+     */
+    static @Nullable Object supportedOrString(@Nullable final Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Byte
+            || value instanceof Short || value instanceof Integer || value instanceof Long || value instanceof Float
+            || value instanceof Double || value instanceof BigDecimal || value instanceof byte[]) {
+            return value;
+        }
+        if (value instanceof List<?> list) {
+            final var converted = new ArrayList<@Nullable Object>(list.size());
+            for (final var element : list) {
+                converted.add(supportedOrString(element));
+            }
+            return Collections.unmodifiableList(converted);
+        }
+        return value.toString();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a writer which writes strings inline.
+     *
+     * @param output the output to write.
+     * @return a writer of {@code output}.
+     */
+    static Writer inline(final DataOutput output) {
+        return new Writer(output) {
+            @Override
+            void writeString(final String string) throws IOException {
+                writeUtf8(string);
+            }
+        };
+    }
+
+    /**
+     * Returns a reader which reads strings inline.
+     *
+     * @param input the input to read.
+     * @return a reader of {@code input}.
+     */
+    static Reader inline(final DataInput input) {
+        return new Reader(input) {
+            @Override
+            String readString() throws IOException {
+                return readUtf8();
+            }
+        };
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A writer of values; subclasses choose how strings are written.
+     */
+    abstract static class Writer {
+
+        Writer(final DataOutput output) {
+            super();
+            this.output = Objects.requireNonNull(output, "output is null");
+        }
+
+        /**
+         * Writes the specified string.
+         *
+         * @param string the string to write.
+         * @throws IOException if an I/O error occurs.
+         */
+        abstract void writeString(String string) throws IOException;
+
+        /**
+         * Writes the specified value, with its tag.
+         *
+         * @param value the value to write; may be {@code null}.
+         * @throws NotSerializableException if the {@code value} is of an unsupported type.
+         * @throws IOException              if an I/O error occurs.
+         */
+        final void writeValue(@Nullable final Object value) throws IOException {
+            if (value == null) {
+                output.writeByte(TAG_NULL);
+            } else if (value instanceof String string) {
+                output.writeByte(TAG_STRING);
+                writeString(string);
+            } else if (value instanceof Boolean b) {
+                output.writeByte(b ? TAG_TRUE : TAG_FALSE);
+            } else if (value instanceof Integer i) {
+                output.writeByte(TAG_INTEGER);
+                writeVarlong(zigzag(i));
+            } else if (value instanceof Long l) {
+                output.writeByte(TAG_LONG);
+                writeVarlong(zigzag(l));
+            } else if (value instanceof Short s) {
+                output.writeByte(TAG_SHORT);
+                writeVarlong(zigzag(s));
+            } else if (value instanceof Byte b) {
+                output.writeByte(TAG_BYTE);
+                output.writeByte(b);
+            } else if (value instanceof Double d) {
+                output.writeByte(TAG_DOUBLE);
+                output.writeDouble(d);
+            } else if (value instanceof Float f) {
+                output.writeByte(TAG_FLOAT);
+                output.writeFloat(f);
+            } else if (value instanceof BigDecimal decimal) {
+                output.writeByte(TAG_DECIMAL);
+                writeVarlong(zigzag(decimal.scale()));
+                writeBytes(decimal.unscaledValue().toByteArray());
+            } else if (value instanceof byte[] bytes) {
+                output.writeByte(TAG_BYTES);
+                writeBytes(bytes);
+            } else if (value instanceof List<?> list) {
+                output.writeByte(TAG_LIST);
+                writeVarint(list.size());
+                for (final var element : list) {
+                    writeValue(element);
+                }
+            } else {
+                throw new NotSerializableException(value.getClass().getName());
+            }
+        }
+
+        /**
+         * Writes the specified string as the length, and the bytes, of its UTF-8 encoding.
+         *
+         * @param string the string to write.
+         * @throws IOException if an I/O error occurs.
+         */
+        final void writeUtf8(final String string) throws IOException {
+            writeBytes(string.getBytes(StandardCharsets.UTF_8));
+        }
+
+        final void writeVarint(final int value) throws IOException {
+            writeVarlong(value & 0xFFFFFFFFL);
+        }
+
+        private void writeBytes(final byte[] bytes) throws IOException {
+            writeVarint(bytes.length);
+            output.write(bytes);
+        }
+
+        private void writeVarlong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0L) {
+                output.writeByte((int) ((value & 0x7FL) | 0x80L));
+                value >>>= 7;
+            }
+            output.writeByte((int) value);
+        }
+
+        private static long zigzag(final long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+
+        final DataOutput output;
+    }
+
+    /**
+     * A reader of values; subclasses choose how strings are read.
+     */
+    abstract static class Reader {
+
+        Reader(final DataInput input) {
+            super();
+            this.input = Objects.requireNonNull(input, "input is null");
+        }
+
+        /**
+         * Reads a string.
+         *
+         * @return the string read.
+         * @throws IOException if an I/O error occurs.
+         */
+        abstract String readString() throws IOException;
+
+        /**
+         * Reads a value, with its tag.
+         *
+         * @return the value read; may be {@code null}.
+         * @throws IOException if an I/O error occurs, or the tag is unknown.
+         */
+        final @Nullable Object readValue() throws IOException {
+            final var tag = input.readUnsignedByte();
+            return switch (tag) {
+                case TAG_NULL -> null;
+                case TAG_STRING -> readString();
+                case TAG_TRUE -> Boolean.TRUE;
+                case TAG_FALSE -> Boolean.FALSE;
+                case TAG_INTEGER -> (int) unzigzag(readVarlong());
+                case TAG_LONG -> unzigzag(readVarlong());
+                case TAG_SHORT -> (short) unzigzag(readVarlong());
+                case TAG_BYTE -> input.readByte();
+                case TAG_DOUBLE -> input.readDouble();
+                case TAG_FLOAT -> input.readFloat();
+                case TAG_DECIMAL -> {
+                    final var scale = (int) unzigzag(readVarlong());
+                    yield new BigDecimal(new BigInteger(readBytes()), scale);
+                }
+                case TAG_BYTES -> readBytes();
+                case TAG_LIST -> {
+                    final var size = readVarint();
+                    final var list = new ArrayList<@Nullable Object>(Math.min(size, 1024));
+                    for (int i = 0; i < size; i++) {
+                        list.add(readValue());
+                    }
+                    yield Collections.unmodifiableList(list);
+                }
+                default -> throw new StreamCorruptedException("unknown tag: " + tag);
+            };
+        }
+
+        /**
+         * Reads a string written with {@link Writer#writeUtf8(String)}.
+         *
+         * @return the string read.
+         * @throws IOException if an I/O error occurs.
+         */
+        final String readUtf8() throws IOException {
+            return new String(readBytes(), StandardCharsets.UTF_8);
+        }
+
+        final int readVarint() throws IOException {
+            final var value = readVarlong();
+            if (value < 0L || value > Integer.MAX_VALUE) {
+                throw new StreamCorruptedException("varint out of range: " + value);
+            }
+            return (int) value;
+        }
+
+        private byte[] readBytes() throws IOException {
+            final var bytes = new byte[readVarint()];
+            input.readFully(bytes);
+            return bytes;
+        }
+
+        private long readVarlong() throws IOException {
+            var value = 0L;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final var b = input.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new StreamCorruptedException("malformed varint");
+        }
+
+        private static long unzigzag(final long value) {
+            return (value >>> 1) ^ -(value & 1L);
+        }
+
+        final DataInput input;
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    private ValueCodec() {
+        throw new AssertionError("instantiation is not allowed");
+    }
+}
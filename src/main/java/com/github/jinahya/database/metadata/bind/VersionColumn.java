@@ -157,6 +157,18 @@ public class VersionColumn
                '}';
     }
 
+    // ------------------------------------------------------------------------------------------------------------- key
+
+    /**
+     * {@inheritDoc} A version column is identified by its name; the result has no table.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public MetadataKey getKey() {
+        return cachedKey(() -> MetadataKey.of(VersionColumn.class, null, columnName), columnName);
+    }
+
     // ---------------------------------------------------------------------------------------------- Jakarta-Validation
 
     /**
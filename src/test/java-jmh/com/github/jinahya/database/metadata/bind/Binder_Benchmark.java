@@ -0,0 +1,87 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of {@link ReflectiveBinder} and {@link HandleBinder} binding a {@link Column}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binder_Benchmark {
+
+    @Param({"reflective", "handle"})
+    public String backend;
+
+    @Setup
+    public void setup() {
+        binder = switch (backend) {
+            case "reflective" -> new ReflectiveBinder<>(Column.class);
+            case "handle" -> new HandleBinder<>(Column.class);
+            default -> throw new IllegalArgumentException("unknown backend: " + backend);
+        };
+        values = new Object[binder.getSlotCount()];
+        for (int slot = 0; slot < values.length; slot++) {
+            final var type = binder.getValueType(slot);
+            if (type == String.class) {
+                values[slot] = binder.getLabel(slot);
+            } else if (type == Integer.class) {
+                values[slot] = slot;
+            } else if (type == Long.class) {
+                values[slot] = (long) slot;
+            } else if (type == Boolean.class) {
+                values[slot] = Boolean.TRUE;
+            }
+        }
+    }
+
+    @Benchmark
+    public Column bind() {
+        final var instance = binder.newInstance();
+        for (int slot = 0; slot < values.length; slot++) {
+            binder.setValue(instance, slot, values[slot]);
+        }
+        return instance;
+    }
+
+    private Binder<Column> binder;
+
+    private Object[] values;
+}
@@ -0,0 +1,115 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput, and reports the encoded size, of default Java serialization and {@link MetadataCodec} for
+ * a list of {@link Column}s.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetadataCodec_Benchmark {
+
+    @Param({"java", "codec"})
+    public String format;
+
+    @Param({"1000"})
+    public int count;
+
+    @Setup
+    public void setup() throws IOException {
+        values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final var column = new Column();
+            column.setTableCat(new String("CATALOG"));
+            column.setTableSchem(new String("PUBLIC"));
+            column.setTableName("TABLE" + (i / 10));
+            column.setColumnName("COLUMN" + (i % 10));
+            column.setDataType(i % 2 == 0 ? 4 : 12);
+            column.setTypeName(i % 2 == 0 ? new String("INTEGER") : new String("VARCHAR"));
+            column.setColumnSize(i % 2 == 0 ? 32 : 255);
+            column.setNullable(1);
+            column.setOrdinalPosition(i % 10 + 1);
+            column.setIsNullable(new String("YES"));
+            values.add(column);
+        }
+        bytes = serialize();
+        System.out.printf("%n%s: %d bytes for %d columns%n", format, bytes.length, count);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        final var baos = new ByteArrayOutputStream();
+        switch (format) {
+            case "java" -> {
+                try (var oos = new ObjectOutputStream(baos)) {
+                    oos.writeObject(values);
+                }
+            }
+            case "codec" -> MetadataCodec.write(baos, values);
+            default -> throw new IllegalArgumentException("unknown format: " + format);
+        }
+        return baos.toByteArray();
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException, ClassNotFoundException {
+        return switch (format) {
+            case "java" -> {
+                try (var ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    yield ois.readObject();
+                }
+            }
+            case "codec" -> MetadataCodec.read(new ByteArrayInputStream(bytes));
+            default -> throw new IllegalArgumentException("unknown format: " + format);
+        };
+    }
+
+    private ArrayList<MetadataType> values;
+
+    private byte[] bytes;
+}
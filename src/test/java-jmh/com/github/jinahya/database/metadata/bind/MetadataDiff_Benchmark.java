@@ -0,0 +1,78 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MetadataDiff#diff(Iterable, Iterable, java.util.function.Consumer)} between two lists of
+ * {@link #count} columns, of which one in a hundred differs.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Benchmark)
+public class MetadataDiff_Benchmark {
+
+    @Param({"1000000"})
+    public int count;
+
+    @Setup
+    public void setup() {
+        source = new ArrayList<>(count);
+        target = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final var tableName = "T" + (i / 10);
+            final var columnName = "C" + (i % 10);
+            source.add(MetadataDiffTest.column(tableName, columnName, 4));
+            target.add(MetadataDiffTest.column(tableName, columnName, i % 100 == 0 ? 12 : 4));
+        }
+    }
+
+    @Benchmark
+    public long diff() {
+        final var entries = new long[1];
+        MetadataDiff.diff(source, target, e -> entries[0]++);
+        return entries[0];
+    }
+
+    private List<Column> source;
+
+    private List<Column> target;
+}
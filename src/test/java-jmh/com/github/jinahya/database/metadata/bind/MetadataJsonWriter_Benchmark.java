@@ -0,0 +1,108 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures exporting all columns of a synthetic H2 database, of {@link #tables} tables, as JSON, either streamed with
+ * {@link MetadataJsonWriter#writeColumns(Context, String, String, String, String, Writer)} or written after collected
+ * with {@link Context#getColumns(String, String, String, String)}.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation, and with a small {@code -Xmx} to see the {@code list} backend
+ * fail first.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetadataJsonWriter_Benchmark {
+
+    @Param({"stream", "list"})
+    public String backend;
+
+    @Param({"100000"})
+    public int tables;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:json;DB_CLOSE_DELAY=-1");
+        try (var statement = connection.createStatement()) {
+            for (int i = 0; i < tables; i++) {
+                statement.addBatch("CREATE TABLE IF NOT EXISTS T" + i + " (ID BIGINT PRIMARY KEY, NAME VARCHAR(255),"
+                                   + " CREATED TIMESTAMP, AMOUNT DECIMAL(10, 2))");
+                if (i % 1000 == 999) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        context = Context.newInstance(connection);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void export() throws SQLException, IOException {
+        final var writer = Writer.nullWriter();
+        switch (backend) {
+            case "stream" -> MetadataJsonWriter.writeColumns(context, null, "PUBLIC", "%", "%", writer);
+            case "list" -> {
+                final var columns = context.getColumns(null, "PUBLIC", "%", "%");
+                try (var json = MetadataJsonWriter.newInstance(writer)) {
+                    for (final var column : columns) {
+                        json.write(column);
+                    }
+                }
+            }
+            default -> throw new IllegalArgumentException("unknown backend: " + backend);
+        }
+    }
+
+    private Connection connection;
+
+    private Context context;
+}
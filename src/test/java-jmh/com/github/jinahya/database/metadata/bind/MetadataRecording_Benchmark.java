@@ -0,0 +1,94 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares describing tables of an in-memory H2 database with those of a {@link MetadataRecording#replay() replay}
+ * of it.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetadataRecording_Benchmark {
+
+    @Param({"live", "replay"})
+    public String backend;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:recording;DB_CLOSE_DELAY=-1");
+        try (var statement = connection.createStatement()) {
+            for (int i = 0; i < 100; i++) {
+                statement.execute("CREATE TABLE IF NOT EXISTS T" + i + " (ID INT PRIMARY KEY, NAME VARCHAR(255))");
+            }
+        }
+        final var recording = MetadataRecording.newInstance();
+        describe(recording.record(connection.getMetaData()));
+        metadata = switch (backend) {
+            case "live" -> connection.getMetaData();
+            case "replay" -> recording.replay();
+            default -> throw new IllegalArgumentException("unknown backend: " + backend);
+        };
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    private static Object describe(final DatabaseMetaData metadata) throws SQLException {
+        return new Context(metadata).describeTables(null, "PUBLIC", "%", new String[] {"TABLE"});
+    }
+
+    @Benchmark
+    public void describeTables(final Blackhole blackhole) throws SQLException {
+        blackhole.consume(describe(metadata));
+    }
+
+    private Connection connection;
+
+    private DatabaseMetaData metadata;
+}
@@ -39,6 +39,13 @@ abstract class AbstractMetadataType_Test<T extends AbstractMetadataType>
         super(typeClass);
     }
 
+    @Test
+    void getUnknownColumns_Empty_Unallocated() {
+        final var instance = newTypeInstance();
+        assertThat(instance.getUnknownColumns()).isEmpty();
+        assertThat(instance.unknownColumns).isNull();
+    }
+
     @Test
     void getUnknownColumns_ReturnsUnmodifiableView_() {
         final var instance = newTypeInstance();
@@ -0,0 +1,99 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * A class for testing {@link AsyncContext}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class AsyncContextTest {
+
+    @BeforeEach
+    void createTables(@TempDir final Path directory) throws SQLException {
+        url = "jdbc:h2:file:" + directory.resolve("async").toAbsolutePath();
+        try (var connection = DriverManager.getConnection(url);
+             var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE PARENT (ID INT PRIMARY KEY)");
+            for (int i = 0; i < 4; i++) {
+                statement.execute("CREATE TABLE CHILD" + i +
+                                  " (ID INT PRIMARY KEY, PARENT_ID INT REFERENCES PARENT (ID))");
+            }
+        }
+    }
+
+    @Test
+    void defaultExecutor__RunsOnVirtualThreads() {
+        final var context = AsyncContext.newInstance(connections(), AsyncContext.defaultExecutor());
+        assertThat(context.supply(c -> Thread.currentThread().isVirtual()).join()).isTrue();
+    }
+
+    @Test
+    void describeTables__DescribesAsContextDoes() throws SQLException {
+        final var context = AsyncContext.newInstance(connections(), AsyncContext.defaultExecutor());
+        final var descriptions = context.describeTables(null, "PUBLIC", "%", new String[] {"TABLE"}).join();
+        try (var connection = DriverManager.getConnection(url)) {
+            final var expected = Context.newInstance(connection)
+                    .describeTables(null, "PUBLIC", "%", new String[] {"TABLE"});
+            assertThat(descriptions).extracting(d -> d.getTable().getTableName())
+                    .containsExactlyElementsOf(expected.stream().map(d -> d.getTable().getTableName()).toList());
+            assertThat(descriptions).extracting(d -> d.getPrimaryKeys().size())
+                    .containsOnly(1);
+        }
+    }
+
+    @Test
+    void supply_CompletesExceptionally_SQLException() {
+        final var context = AsyncContext.newInstance(connections(), AsyncContext.defaultExecutor());
+        final var future = context.supply(c -> {
+            throw new SQLException("expected");
+        });
+        assertThatExceptionOfType(CompletionException.class)
+                .isThrownBy(future::join)
+                .withCauseInstanceOf(SQLException.class);
+    }
+
+    private Supplier<Connection> connections() {
+        return () -> {
+            try {
+                return DriverManager.getConnection(url);
+            } catch (final SQLException sqle) {
+                throw new RuntimeException(sqle);
+            }
+        };
+    }
+
+    private String url;
+}
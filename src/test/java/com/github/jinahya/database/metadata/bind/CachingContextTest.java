@@ -0,0 +1,155 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * A class for testing {@link CachingContext}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class CachingContextTest {
+
+    @BeforeEach
+    void connect() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:");
+        try (var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE T1 (ID INT PRIMARY KEY, NAME VARCHAR(16))");
+            statement.execute("CREATE TABLE T2 (ID INT PRIMARY KEY)");
+        }
+        context = CachingContext.newInstance(connection);
+    }
+
+    @AfterEach
+    void disconnect() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void getColumns_ReturnsCachedUnmodifiableList_() throws SQLException {
+        final var columns = context.getColumns(null, "PUBLIC", "T1", "%");
+        assertThat(columns).extracting(Column::getColumnName).containsExactly("ID", "NAME");
+        assertThat(context.getColumns(null, "PUBLIC", "T1", "%")).isSameAs(columns);
+        assertThat(context.getStats()).isEqualTo(new CachingContext.Stats(1L, 1L, 0L));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(columns::clear);
+    }
+
+    @Test
+    void invalidate__RemovesEntriesWhichMayIncludeTable() throws SQLException {
+        final var t1 = context.getColumns(null, "PUBLIC", "T1", "%");
+        final var t2 = context.getColumns(null, "PUBLIC", "T2", "%");
+        final var all = context.getTables(null, "PUBLIC", "%", null);
+        final var catalogs = context.getCatalogs();
+        context.invalidate(null, "PUBLIC", "T1");
+        assertThat(context.getColumns(null, "PUBLIC", "T1", "%")).isNotSameAs(t1);
+        assertThat(context.getColumns(null, "PUBLIC", "T2", "%")).isSameAs(t2);
+        assertThat(context.getTables(null, "PUBLIC", "%", null)).isNotSameAs(all);
+        assertThat(context.getCatalogs()).isSameAs(catalogs);
+    }
+
+    @Test
+    void describeTables_GoesThroughCachedGetColumns_() throws SQLException {
+        final var descriptions = context.describeTables(null, "PUBLIC", "T1", null);
+        assertThat(descriptions).singleElement().satisfies(d -> assertThat(d.getColumns()).hasSize(2));
+        final var missCount = context.getStats().missCount();
+        assertThat(context.describeTables(null, "PUBLIC", "T1", null))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(descriptions);
+        assertThat(context.getStats().missCount()).isEqualTo(missCount);
+        context.invalidate(null, "PUBLIC", "T1");
+        context.describeTables(null, "PUBLIC", "T1", null);
+        assertThat(context.getStats().missCount()).isEqualTo(missCount * 2);
+    }
+
+    @Test
+    void invalidate__MatchesRegardlessOfCasesWithSearchStringEscape() throws SQLException {
+        final var lower = context.getColumns(null, "public", "t1", "%");
+        final var escaped = context.getColumns(null, "PUBLIC", "T\\_", "%"); // matches "T_" only
+        context.invalidate(null, "PUBLIC", "T1");
+        assertThat(context.getColumns(null, "public", "t1", "%")).isNotSameAs(lower);
+        assertThat(context.getColumns(null, "PUBLIC", "T\\_", "%")).isSameAs(escaped);
+    }
+
+    @Test
+    void setProjection__RemovesEntriesBoundWithPreviousSettings() throws SQLException {
+        final var all = context.getColumns(null, "PUBLIC", "T1", "%");
+        assertThat(all).extracting(Column::getTypeName).doesNotContainNull();
+        context.setProjection(Column.class, List.of(Column.COLUMN_LABEL_COLUMN_NAME));
+        final var projected = context.getColumns(null, "PUBLIC", "T1", "%");
+        assertThat(projected).isNotSameAs(all).extracting(Column::getTypeName).containsOnlyNulls();
+        context.setProjection(Column.class, null);
+        assertThat(context.getColumns(null, "PUBLIC", "T1", "%")).extracting(Column::getTypeName)
+                .doesNotContainNull();
+        final var columns = context.getColumns(null, "PUBLIC", "T1", "%");
+        context.setUnknownColumnsCollected(false);
+        assertThat(context.getColumns(null, "PUBLIC", "T1", "%")).isNotSameAs(columns);
+    }
+
+    @Test
+    void setMaximumEntries__EvictsLeastRecentlyUsed() throws SQLException {
+        context.setMaximumEntries(2);
+        final var t1 = context.getPrimaryKeys(null, "PUBLIC", "T1");
+        final var t2 = context.getPrimaryKeys(null, "PUBLIC", "T2");
+        assertThat(context.getPrimaryKeys(null, "PUBLIC", "T1")).isSameAs(t1);
+        context.getCatalogs();
+        assertThat(context.getStats().evictionCount()).isEqualTo(1L);
+        assertThat(context.getPrimaryKeys(null, "PUBLIC", "T1")).isSameAs(t1);
+        assertThat(context.getPrimaryKeys(null, "PUBLIC", "T2")).isNotSameAs(t2);
+    }
+
+    @Test
+    void setMaximumWeight__EvictsUntilTotalNumberOfValuesFits() throws SQLException {
+        context.setMaximumWeight(2L);
+        context.getColumns(null, "PUBLIC", "T1", "%"); // 2 values
+        context.getColumns(null, "PUBLIC", "T2", "%"); // 1 value
+        assertThat(context.getStats().evictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void setTimeToLive__ExpiresEntries() throws SQLException {
+        final var now = new AtomicLong();
+        context.nanoTime = now::get;
+        context.setTimeToLive(Duration.ofSeconds(1L));
+        final var columns = context.getColumns(null, "PUBLIC", "T1", "%");
+        now.addAndGet(Duration.ofMillis(999L).toNanos());
+        assertThat(context.getColumns(null, "PUBLIC", "T1", "%")).isSameAs(columns);
+        now.addAndGet(Duration.ofMillis(1L).toNanos());
+        assertThat(context.getColumns(null, "PUBLIC", "T1", "%")).isNotSameAs(columns);
+        assertThat(context.getStats()).isEqualTo(new CachingContext.Stats(1L, 2L, 1L));
+    }
+
+    private Connection connection;
+
+    private CachingContext context;
+}
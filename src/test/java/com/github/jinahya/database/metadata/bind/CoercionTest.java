@@ -0,0 +1,56 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link Coercion}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class CoercionTest {
+
+    @Test
+    void of__TypedConstant__WhenSqlTypeMatchesValueType() {
+        assertThat(Coercion.of(String.class, Types.VARCHAR)).isSameAs(Coercion.STRING);
+        assertThat(Coercion.of(String.class, Types.NCHAR)).isSameAs(Coercion.STRING);
+        assertThat(Coercion.of(Boolean.class, Types.BOOLEAN)).isSameAs(Coercion.BOOLEAN);
+        assertThat(Coercion.of(Boolean.class, Types.SMALLINT)).isSameAs(Coercion.BOOLEAN);
+        assertThat(Coercion.of(Short.class, Types.SMALLINT)).isSameAs(Coercion.SHORT);
+        assertThat(Coercion.of(Integer.class, Types.SMALLINT)).isSameAs(Coercion.INTEGER);
+        assertThat(Coercion.of(Integer.class, Types.NUMERIC)).isSameAs(Coercion.INTEGER);
+        assertThat(Coercion.of(Long.class, Types.DECIMAL)).isSameAs(Coercion.LONG);
+    }
+
+    @Test
+    void of__Object__WhenSqlTypeIsUnknownOrMismatched() {
+        assertThat(Coercion.of(String.class, Types.NULL)).isSameAs(Coercion.OBJECT);
+        assertThat(Coercion.of(String.class, Types.INTEGER)).isSameAs(Coercion.OBJECT);
+        assertThat(Coercion.of(Integer.class, Types.VARCHAR)).isSameAs(Coercion.OBJECT);
+        assertThat(Coercion.of(Boolean.class, Types.CHAR)).isSameAs(Coercion.OBJECT);
+        assertThat(Coercion.of(Object.class, Types.INTEGER)).isSameAs(Coercion.OBJECT);
+    }
+}
@@ -27,6 +27,7 @@ import java.sql.SQLException;
 import java.util.Comparator;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -91,6 +92,18 @@ class ContextUtilsTest {
                 context, Comparator.reverseOrder(), ContextUtils.SortDirection.DESCENDING));
     }
 
+    @Test
+    void withDatabaseNullOrdering__Throws__WhenNotCaptured() throws SQLException {
+        final DatabaseMetaData metadata = mock(DatabaseMetaData.class);
+        final var thrown = new SQLException("broken");
+        when(metadata.nullsAreSortedAtStart()).thenThrow(thrown);
+        final var context = new Context(metadata);
+        assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> ContextUtils.withDatabaseNullOrdering(
+                        context, Comparator.naturalOrder(), ContextUtils.SortDirection.ASCENDING))
+                .isSameAs(thrown);
+    }
+
     @SuppressWarnings("deprecation")
     @Test
     void nullOrdered__SameAsAscending__WhenDirectionOmitted() throws SQLException {
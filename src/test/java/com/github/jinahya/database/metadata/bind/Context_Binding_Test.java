@@ -24,15 +24,22 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Flow;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 
 class Context_Binding_Test {
 
@@ -54,6 +61,30 @@ class Context_Binding_Test {
         });
     }
 
+    @Test
+    void getCatalogs_SkipsUnknownColumns_WhenNotCollected() throws SQLException {
+        final var reads = new HashMap<String, Integer>();
+        final var results = resultSet(
+                List.of(Catalog.COLUMN_LABEL_TABLE_CAT, "DRIVER_EXTRA"),
+                List.of(Types.VARCHAR, Types.VARCHAR),
+                List.of(Map.of(
+                        Catalog.COLUMN_LABEL_TABLE_CAT, "catalog",
+                        "DRIVER_EXTRA", "extra"
+                )),
+                new int[1],
+                reads
+        );
+        final var context = new Context(metadata("getCatalogs", results));
+        assertThat(context.isUnknownColumnsCollected()).isTrue();
+        context.setUnknownColumnsCollected(false);
+        final var catalogs = context.getCatalogs();
+        assertThat(catalogs).singleElement().satisfies(catalog -> {
+            assertThat(catalog.getTableCat()).isEqualTo("catalog");
+            assertThat(catalog.getUnknownColumns()).isEmpty();
+        });
+        assertThat(reads).containsOnly(Map.entry("getString", 1));
+    }
+
     @Test
     void getClientInfoProperties_ToleratesMissingExpectedColumns_() throws SQLException {
         final var results = resultSet(
@@ -102,6 +133,422 @@ class Context_Binding_Test {
                 .withMessageContaining("tableCat");
     }
 
+    @Test
+    void getCatalogs_ReadsResultSetMetaDataOnce_() throws SQLException {
+        final var metadataCalls = new int[1];
+        final var results = resultSet(
+                List.of(Catalog.COLUMN_LABEL_TABLE_CAT, "DRIVER_EXTRA"),
+                List.of(
+                        Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog1", "DRIVER_EXTRA", "extra1"),
+                        Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog2", "DRIVER_EXTRA", "extra2"),
+                        Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog3", "DRIVER_EXTRA", "extra3")
+                ),
+                metadataCalls
+        );
+        final var catalogs = new Context(metadata("getCatalogs", results)).getCatalogs();
+        assertThat(catalogs)
+                .extracting(Catalog::getTableCat)
+                .containsExactly("catalog1", "catalog2", "catalog3");
+        assertThat(catalogs)
+                .extracting(c -> c.getUnknownColumns().get("DRIVER_EXTRA"))
+                .containsExactly("extra1", "extra2", "extra3");
+        assertThat(metadataCalls[0]).isEqualTo(1);
+    }
+
+    @Test
+    void getClientInfoProperties_ReadsTypedColumnsOnceWithTypedGetters_() throws SQLException {
+        final var labels = List.of(
+                ClientInfoProperty.COLUMN_LABEL_NAME,
+                ClientInfoProperty.COLUMN_LABEL_MAX_LEN,
+                ClientInfoProperty.COLUMN_LABEL_DEFAULT_VALUE,
+                ClientInfoProperty.COLUMN_LABEL_DESCRIPTION
+        );
+        final var types = List.of(Types.VARCHAR, Types.NUMERIC, Types.VARCHAR, Types.VARCHAR);
+        final var row = new HashMap<String, Object>();
+        row.put(ClientInfoProperty.COLUMN_LABEL_NAME, "property");
+        row.put(ClientInfoProperty.COLUMN_LABEL_MAX_LEN, new BigDecimal("4"));
+        row.put(ClientInfoProperty.COLUMN_LABEL_DEFAULT_VALUE, "default");
+        row.put(ClientInfoProperty.COLUMN_LABEL_DESCRIPTION, null);
+        final var reads = new HashMap<String, Integer>();
+        final var results = resultSet(labels, types, List.of(row), new int[1], reads);
+        final var properties = new Context(metadata("getClientInfoProperties", results)).getClientInfoProperties();
+        assertThat(properties).singleElement().satisfies(property -> {
+            assertThat(property.getName()).isEqualTo("property");
+            assertThat(property.getMaxLen()).isEqualTo(4);
+            assertThat(property.getDefaultValue()).isEqualTo("default");
+            assertThat(property.getDescription()).isNull();
+        });
+        assertThat(reads).containsOnly(
+                Map.entry("getString", 3),
+                Map.entry("getInt", 1)
+        );
+    }
+
+    @Test
+    void getClientInfoProperties_ReadsOnlyProjectedColumns_() throws SQLException {
+        final var labels = List.of(
+                ClientInfoProperty.COLUMN_LABEL_NAME,
+                ClientInfoProperty.COLUMN_LABEL_MAX_LEN,
+                ClientInfoProperty.COLUMN_LABEL_DEFAULT_VALUE,
+                ClientInfoProperty.COLUMN_LABEL_DESCRIPTION
+        );
+        final var types = List.of(Types.VARCHAR, Types.INTEGER, Types.VARCHAR, Types.VARCHAR);
+        final var row = Map.<String, Object>of(
+                ClientInfoProperty.COLUMN_LABEL_NAME, "property",
+                ClientInfoProperty.COLUMN_LABEL_MAX_LEN, 4,
+                ClientInfoProperty.COLUMN_LABEL_DEFAULT_VALUE, "default",
+                ClientInfoProperty.COLUMN_LABEL_DESCRIPTION, "description"
+        );
+        final var reads = new HashMap<String, Integer>();
+        final var results = resultSet(labels, types, List.of(row), new int[1], reads);
+        final var context = new Context(metadata("getClientInfoProperties", results));
+        context.setProjection(ClientInfoProperty.class, List.of("name", ClientInfoProperty.COLUMN_LABEL_MAX_LEN));
+        assertThat(context.getProjection(ClientInfoProperty.class))
+                .containsExactly(ClientInfoProperty.COLUMN_LABEL_NAME, ClientInfoProperty.COLUMN_LABEL_MAX_LEN);
+        final var properties = context.getClientInfoProperties();
+        assertThat(properties).singleElement().satisfies(property -> {
+            assertThat(property.getName()).isEqualTo("property");
+            assertThat(property.getMaxLen()).isEqualTo(4);
+            assertThat(property.getDefaultValue()).isNull();
+            assertThat(property.getDescription()).isNull();
+            assertThat(property.getUnknownColumns()).isEmpty();
+        });
+        assertThat(reads).containsOnly(
+                Map.entry("getString", 1),
+                Map.entry("getInt", 1)
+        );
+    }
+
+    @Test
+    void setProjection_ThrowsIllegalArgumentException_UnknownLabel() {
+        final var context = new Context(metadata("getCatalogs", null));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> context.setProjection(Catalog.class, List.of("TABLE_SCHEM")));
+        context.setProjection(Catalog.class, List.of(Catalog.COLUMN_LABEL_TABLE_CAT));
+        context.setProjection(Catalog.class, null);
+        assertThat(context.getProjection(Catalog.class)).isNull();
+    }
+
+    @Test
+    void forEachTable_BindsOnlyAcceptedRows_() throws SQLException {
+        final var labels = List.of(Table.COLUMN_LABEL_TABLE_NAME, Table.COLUMN_LABEL_TABLE_TYPE);
+        final var reads = new HashMap<String, Integer>();
+        final var results = resultSet(
+                labels,
+                List.of(Types.VARCHAR, Types.VARCHAR),
+                List.of(
+                        Map.of(Table.COLUMN_LABEL_TABLE_NAME, "T", Table.COLUMN_LABEL_TABLE_TYPE, "TABLE"),
+                        Map.of(Table.COLUMN_LABEL_TABLE_NAME, "S", Table.COLUMN_LABEL_TABLE_TYPE, "SYSTEM TABLE"),
+                        Map.of(Table.COLUMN_LABEL_TABLE_NAME, "V", Table.COLUMN_LABEL_TABLE_TYPE, "VIEW")
+                ),
+                new int[1],
+                reads
+        );
+        final var context = new Context(metadata("getTables", results));
+        final var tables = new ArrayList<Table>();
+        context.forEachTable(null, null, "%", null,
+                             RowPredicate.valueIn(Table.COLUMN_LABEL_TABLE_TYPE, "TABLE", "VIEW"),
+                             tables::add);
+        assertThat(tables).extracting(Table::getTableName).containsExactly("T", "V");
+        // 3 for the predicate, and 2 for each accepted row
+        assertThat(reads).containsOnly(Map.entry("getString", 7));
+    }
+
+    @Test
+    void cursorCatalogs_RefillsSingleInstance_() throws SQLException {
+        final var calls = new HashMap<String, Integer>();
+        final var results = counting(resultSet(
+                List.of(Catalog.COLUMN_LABEL_TABLE_CAT, "DRIVER_EXTRA"),
+                List.of(
+                        Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog1", "DRIVER_EXTRA", "extra1"),
+                        Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog2", "DRIVER_EXTRA", "extra2")
+                )
+        ), calls);
+        final var context = new Context(metadata("getCatalogs", results));
+        try (var cursor = context.cursorCatalogs()) {
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(cursor::get);
+            assertThat(cursor.next()).isTrue();
+            final var first = cursor.get();
+            assertThat(first.getTableCat()).isEqualTo("catalog1");
+            final var detached = cursor.detach();
+            assertThat(detached).isNotSameAs(first);
+            assertThat(cursor.next()).isTrue();
+            assertThat(cursor.get()).isSameAs(first);
+            assertThat(first.getTableCat()).isEqualTo("catalog2");
+            assertThat(first.getUnknownColumns()).containsExactly(Map.entry("DRIVER_EXTRA", "extra2"));
+            assertThat(detached.getTableCat()).isEqualTo("catalog1");
+            assertThat(detached.getUnknownColumns()).containsExactly(Map.entry("DRIVER_EXTRA", "extra1"));
+            assertThat(cursor.next()).isFalse();
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(cursor::detach);
+        }
+        assertThat(calls).containsEntry("close", 1);
+    }
+
+    @Test
+    void streamCatalogs_BindsOnlyPulledRowsAndClosesResultSet_() throws SQLException {
+        final var calls = new HashMap<String, Integer>();
+        final var results = counting(resultSet(
+                List.of(Catalog.COLUMN_LABEL_TABLE_CAT),
+                List.of(
+                        Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog1"),
+                        Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog2"),
+                        Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog3")
+                )
+        ), calls);
+        final var context = new Context(metadata("getCatalogs", results));
+        try (var stream = context.streamCatalogs()) {
+            assertThat(stream.map(Catalog::getTableCat).filter("catalog2"::equals).findFirst())
+                    .hasValue("catalog2");
+            assertThat(calls).containsEntry("next", 2).doesNotContainKey("close");
+        }
+        assertThat(calls).containsEntry("next", 2).containsEntry("close", 1);
+    }
+
+    @Test
+    void streamCatalogs_ClosesResultSet_WhenExhausted() throws SQLException {
+        final var calls = new HashMap<String, Integer>();
+        final var results = counting(resultSet(
+                List.of(Catalog.COLUMN_LABEL_TABLE_CAT),
+                List.of(
+                        Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog1"),
+                        Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog2")
+                )
+        ), calls);
+        final var stream = new Context(metadata("getCatalogs", results)).streamCatalogs();
+        assertThat(stream.map(Catalog::getTableCat)).containsExactly("catalog1", "catalog2");
+        assertThat(calls).containsEntry("close", 1);
+        stream.close();
+        assertThat(calls).containsEntry("close", 1);
+    }
+
+    @Test
+    void describeTables_GroupsColumnsOfSingleGetColumns_() throws SQLException {
+        final var tables = resultSet(
+                List.of(Table.COLUMN_LABEL_TABLE_SCHEM, Table.COLUMN_LABEL_TABLE_NAME),
+                List.of(
+                        Map.of(Table.COLUMN_LABEL_TABLE_SCHEM, "S", Table.COLUMN_LABEL_TABLE_NAME, "T1"),
+                        Map.of(Table.COLUMN_LABEL_TABLE_SCHEM, "S", Table.COLUMN_LABEL_TABLE_NAME, "T2")
+                )
+        );
+        final var columns = resultSet(
+                List.of(Column.COLUMN_LABEL_TABLE_SCHEM, Column.COLUMN_LABEL_TABLE_NAME,
+                        Column.COLUMN_LABEL_COLUMN_NAME),
+                List.of(
+                        Map.of(Column.COLUMN_LABEL_TABLE_SCHEM, "S", Column.COLUMN_LABEL_TABLE_NAME, "T1",
+                               Column.COLUMN_LABEL_COLUMN_NAME, "A"),
+                        Map.of(Column.COLUMN_LABEL_TABLE_SCHEM, "S", Column.COLUMN_LABEL_TABLE_NAME, "T1",
+                               Column.COLUMN_LABEL_COLUMN_NAME, "B"),
+                        Map.of(Column.COLUMN_LABEL_TABLE_SCHEM, "S", Column.COLUMN_LABEL_TABLE_NAME, "T2",
+                               Column.COLUMN_LABEL_COLUMN_NAME, "C"),
+                        Map.of(Column.COLUMN_LABEL_TABLE_SCHEM, "S", Column.COLUMN_LABEL_TABLE_NAME, "V1",
+                               Column.COLUMN_LABEL_COLUMN_NAME, "D")
+                )
+        );
+        final var calls = new HashMap<String, Integer>();
+        final var metadata = proxy(DatabaseMetaData.class, (proxy, method, args) -> {
+            final var name = method.getName();
+            calls.merge(name, 1, Integer::sum);
+            return switch (name) {
+                case "getTables" -> tables;
+                case "getColumns" -> columns;
+                case "getPrimaryKeys", "getImportedKeys", "getExportedKeys", "getIndexInfo" ->
+                        resultSet(List.of(), List.of());
+                default -> defaultValue(method.getReturnType());
+            };
+        });
+        final var descriptions = new Context(metadata).describeTables(null, "S", "%", new String[] {"TABLE"});
+        assertThat(descriptions).extracting(d -> d.getTable().getTableName()).containsExactly("T1", "T2");
+        assertThat(descriptions.get(0).getColumns()).extracting(Column::getColumnName).containsExactly("A", "B");
+        assertThat(descriptions.get(1).getColumns()).extracting(Column::getColumnName).containsExactly("C");
+        assertThat(calls)
+                .containsEntry("getTables", 1)
+                .containsEntry("getColumns", 1)
+                .containsEntry("getPrimaryKeys", 2)
+                .containsEntry("getImportedKeys", 2)
+                .containsEntry("getExportedKeys", 2)
+                .containsEntry("getIndexInfo", 2);
+    }
+
+    @Test
+    void publishCatalogs_BindsOnlyRequestedRowsAndClosesResultSet_Cancelled() throws SQLException {
+        final var calls = new HashMap<String, Integer>();
+        final var results = counting(resultSet(
+                List.of(Catalog.COLUMN_LABEL_TABLE_CAT),
+                List.of(
+                        Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog1"),
+                        Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog2"),
+                        Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog3")
+                )
+        ), calls);
+        final var publisher = new Context(metadata("getCatalogs", results)).publishCatalogs();
+        final var subscriber = new RecordingSubscriber<Catalog>();
+        publisher.subscribe(subscriber);
+        assertThat(calls).isEmpty();
+        subscriber.subscription.request(1L);
+        assertThat(subscriber.items).extracting(Catalog::getTableCat).containsExactly("catalog1");
+        assertThat(calls).containsEntry("next", 1);
+        subscriber.subscription.request(1L);
+        assertThat(subscriber.items).extracting(Catalog::getTableCat).containsExactly("catalog1", "catalog2");
+        assertThat(calls).containsEntry("next", 2).doesNotContainKey("close");
+        subscriber.subscription.cancel();
+        assertThat(calls).containsEntry("next", 2).containsEntry("close", 1);
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    void publishCatalogs_CompletesAndClosesResultSet_Exhausted() throws SQLException {
+        final var calls = new HashMap<String, Integer>();
+        final var results = counting(resultSet(
+                List.of(Catalog.COLUMN_LABEL_TABLE_CAT),
+                List.of(Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog1"))
+        ), calls);
+        final var subscriber = new RecordingSubscriber<Catalog>();
+        new Context(metadata("getCatalogs", results)).publishCatalogs().subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.items).hasSize(1);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(calls).containsEntry("close", 1);
+    }
+
+    @Test
+    void publishCatalogs_SignalsIllegalArgumentException_NonPositiveRequest() {
+        final var subscriber = new RecordingSubscriber<Catalog>();
+        new Context(metadata("getCatalogs", resultSet(List.of(), List.of()))).publishCatalogs()
+                .subscribe(subscriber);
+        subscriber.subscription.request(0L);
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void publishCatalogs_CancelsAndClosesResultSet_SubscriberThrows() throws SQLException {
+        final var calls = new HashMap<String, Integer>();
+        final var results = counting(resultSet(
+                List.of(Catalog.COLUMN_LABEL_TABLE_CAT),
+                List.of(
+                        Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog1"),
+                        Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, "catalog2")
+                )
+        ), calls);
+        final var subscriber = new RecordingSubscriber<Catalog>() {
+            @Override
+            public void onNext(final Catalog item) {
+                super.onNext(item);
+                throw new IllegalStateException("onNext");
+            }
+        };
+        new Context(metadata("getCatalogs", results)).publishCatalogs().subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.items).hasSize(1);
+        assertThat(calls).containsEntry("next", 1).containsEntry("close", 1);
+        subscriber.subscription.request(1L); // not stuck, and ignored
+        assertThat(subscriber.items).hasSize(1);
+        assertThat(subscriber.error).isNull();
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    void publishCatalogs_SignalsErrorAndClosesResultSet_BindingFails() throws SQLException {
+        final var calls = new HashMap<String, Integer>();
+        final var results = counting(resultSet(
+                List.of(Catalog.COLUMN_LABEL_TABLE_CAT),
+                List.of(Map.of(Catalog.COLUMN_LABEL_TABLE_CAT, new Object()))
+        ), calls);
+        final var subscriber = new RecordingSubscriber<Catalog>();
+        new Context(metadata("getCatalogs", results)).publishCatalogs().subscribe(subscriber);
+        subscriber.subscription.request(1L);
+        assertThat(subscriber.error).isInstanceOf(RuntimeException.class);
+        assertThat(subscriber.items).isEmpty();
+        assertThat(calls).containsEntry("close", 1);
+        subscriber.subscription.cancel();
+        assertThat(calls).containsEntry("close", 1);
+    }
+
+    @Test
+    void getPseudoColumns_FailsFastWithoutInvoking_Unsupported() throws SQLException {
+        final var calls = new HashMap<String, Integer>();
+        final var context = new Context(unsupported("getPseudoColumns", calls));
+        final var thrown = catchThrowableOfType(SQLFeatureNotSupportedException.class,
+                                                () -> context.getPseudoColumns(null, null, "%", "%"));
+        assertThat(context.getUnsupportedOperations())
+                .containsExactly("getPseudoColumns(String,String,String,String)");
+        assertThatExceptionOfType(SQLFeatureNotSupportedException.class)
+                .isThrownBy(() -> context.streamPseudoColumns(null, null, "%", "%"))
+                .isNotSameAs(thrown)
+                .withCause(thrown);
+        assertThat(calls).containsEntry("getPseudoColumns", 1);
+    }
+
+    @Test
+    void getSchemas_InvokesOtherOverload_OneOverloadUnsupported() throws SQLException {
+        final var calls = new HashMap<String, Integer>();
+        final var metadata = proxy(DatabaseMetaData.class, (proxy, method, args) -> {
+            if (method.getName().equals("getSchemas")) {
+                calls.merge(method.getName(), 1, Integer::sum);
+                if (args != null) {
+                    throw new SQLFeatureNotSupportedException("getSchemas");
+                }
+                return resultSet(List.of(Schema.COLUMN_LABEL_TABLE_SCHEM), List.of());
+            }
+            return defaultValue(method.getReturnType());
+        });
+        final var context = new Context(metadata);
+        assertThatExceptionOfType(SQLFeatureNotSupportedException.class)
+                .isThrownBy(() -> context.getSchemas(null, "%"));
+        assertThat(context.getSchemas()).isEmpty();
+        assertThat(context.getUnsupportedOperations()).containsExactly("getSchemas(String,String)");
+        assertThat(calls).containsEntry("getSchemas", 2);
+    }
+
+    @Test
+    void getPseudoColumns_ReturnsEmptyWithoutInvoking_UnsupportedEmpty() throws SQLException {
+        final var calls = new HashMap<String, Integer>();
+        final var context = new Context(unsupported("getPseudoColumns", calls));
+        context.setUnsupportedOperationPolicy(UnsupportedOperationPolicy.EMPTY);
+        assertThat(context.getPseudoColumns(null, null, "%", "%")).isEmpty();
+        assertThat(context.getPseudoColumns(null, null, "%", "%")).isEmpty();
+        try (var cursor = context.cursorPseudoColumns(null, null, "%", "%")) {
+            assertThat(cursor.next()).isFalse();
+        }
+        final var subscriber = new RecordingSubscriber<PseudoColumn>();
+        context.publishPseudoColumns(null, null, "%", "%").subscribe(subscriber);
+        subscriber.subscription.request(1L);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(context.getUnsupportedOperations())
+                .containsExactly("getPseudoColumns(String,String,String,String)");
+        assertThat(calls).containsEntry("getPseudoColumns", 1);
+    }
+
+    private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        private Flow.Subscription subscription;
+
+        private final List<T> items = new ArrayList<>();
+
+        private Throwable error;
+
+        private boolean completed;
+    }
+
     private static DatabaseMetaData metadata(final String resultSetMethodName, final ResultSet resultSet) {
         return proxy(DatabaseMetaData.class, (proxy, method, args) -> {
             if (method.getName().equals(resultSetMethodName)) {
@@ -111,50 +558,104 @@ class Context_Binding_Test {
         });
     }
 
+    private static DatabaseMetaData unsupported(final String resultSetMethodName, final Map<String, Integer> calls) {
+        return proxy(DatabaseMetaData.class, (proxy, method, args) -> {
+            if (method.getName().equals(resultSetMethodName)) {
+                calls.merge(resultSetMethodName, 1, Integer::sum);
+                throw new SQLFeatureNotSupportedException(resultSetMethodName);
+            }
+            return defaultValue(method.getReturnType());
+        });
+    }
+
     private static ResultSet resultSet(final List<String> labels, final List<Map<String, Object>> rows) {
-        final var metadata = resultSetMetaData(labels);
+        return resultSet(labels, rows, new int[1]);
+    }
+
+    private static ResultSet resultSet(final List<String> labels, final List<Map<String, Object>> rows,
+                                       final int[] metadataCalls) {
+        return resultSet(labels, List.of(), rows, metadataCalls, new HashMap<>());
+    }
+
+    private static ResultSet resultSet(final List<String> labels, final List<Integer> types,
+                                       final List<? extends Map<String, Object>> rows, final int[] metadataCalls,
+                                       final Map<String, Integer> reads) {
+        final var metadata = resultSetMetaData(labels, types);
         final var index = new int[] {-1};
+        final var wasNull = new boolean[1];
         return proxy(ResultSet.class, (proxy, method, args) -> {
             final var name = method.getName();
+            if (name.startsWith("get") && args != null && args.length > 0 && args[0] instanceof Integer) {
+                reads.merge(name, 1, Integer::sum);
+                wasNull[0] = rows.get(index[0]).get(label(labels, args[0])) == null;
+            }
+            if (name.equals("wasNull")) {
+                return wasNull[0];
+            }
             if (name.equals("next")) {
                 index[0]++;
                 return index[0] < rows.size();
             }
             if (name.equals("getMetaData")) {
+                metadataCalls[0]++;
                 return metadata;
             }
             if (name.equals("getObject") && args.length == 1) {
-                return rows.get(index[0]).get((String) args[0]);
+                return rows.get(index[0]).get(label(labels, args[0]));
             }
             if (name.equals("getObject") && args.length == 2) {
-                final var value = rows.get(index[0]).get((String) args[0]);
+                final var value = rows.get(index[0]).get(label(labels, args[0]));
                 final var type = (Class<?>) args[1];
                 if (value == null || type.isInstance(value)) {
                     return value;
                 }
                 throw new SQLException("unsupported conversion to " + type.getName());
             }
+            if (name.equals("getString")) {
+                final var value = rows.get(index[0]).get(label(labels, args[0]));
+                return value == null ? null : value.toString();
+            }
+            if (wasNull[0]) {
+                return defaultValue(method.getReturnType());
+            }
             if (name.equals("getBoolean")) {
-                return rows.get(index[0]).get((String) args[0]);
+                return rows.get(index[0]).get(label(labels, args[0]));
             }
             if (name.equals("getShort")) {
-                return ((Number) rows.get(index[0]).get((String) args[0])).shortValue();
+                return ((Number) rows.get(index[0]).get(label(labels, args[0]))).shortValue();
             }
             if (name.equals("getInt")) {
-                return ((Number) rows.get(index[0]).get((String) args[0])).intValue();
+                return ((Number) rows.get(index[0]).get(label(labels, args[0]))).intValue();
             }
             if (name.equals("getLong")) {
-                return ((Number) rows.get(index[0]).get((String) args[0])).longValue();
+                return ((Number) rows.get(index[0]).get(label(labels, args[0]))).longValue();
             }
             return defaultValue(method.getReturnType());
         });
     }
 
-    private static ResultSetMetaData resultSetMetaData(final List<String> labels) {
+    private static ResultSet counting(final ResultSet results, final Map<String, Integer> calls) {
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            calls.merge(method.getName(), 1, Integer::sum);
+            return method.invoke(results, args);
+        });
+    }
+
+    private static String label(final List<String> labels, final Object column) {
+        if (column instanceof Integer columnIndex) {
+            return labels.get(columnIndex - 1);
+        }
+        return (String) column;
+    }
+
+    private static ResultSetMetaData resultSetMetaData(final List<String> labels, final List<Integer> types) {
         return proxy(ResultSetMetaData.class, (proxy, method, args) -> {
             if (method.getName().equals("getColumnCount")) {
                 return labels.size();
             }
+            if (method.getName().equals("getColumnType") && !types.isEmpty()) {
+                return types.get(((Integer) args[0]) - 1);
+            }
             if (method.getName().equals("getColumnLabel")) {
                 return labels.get(((Integer) args[0]) - 1);
             }
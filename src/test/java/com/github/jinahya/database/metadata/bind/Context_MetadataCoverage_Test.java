@@ -29,6 +29,7 @@ import java.sql.ResultSet;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -90,6 +91,18 @@ class Context_MetadataCoverage_Test {
         }
     }
 
+    @DisplayName("all DatabaseMetaData ResultSet methods have Context publish... bindings")
+    @Test
+    void resultSetMethods_HavePublishBindings() throws ReflectiveOperationException {
+        for (final var method : resultSetMethods()) {
+            final var found = Context.class.getMethod(
+                    "publish" + method.getName().substring("get".length()), method.getParameterTypes());
+            assertThat(Modifier.isStatic(found.getModifiers())).isFalse();
+            assertThat(found.getReturnType()).isEqualTo(Flow.Publisher.class);
+            assertThat(found.getExceptionTypes()).isEmpty();
+        }
+    }
+
     private static List<java.lang.reflect.Method> resultSetMethods() {
         return Arrays.stream(DatabaseMetaData.class.getMethods())
                 .filter(m -> !Modifier.isStatic(m.getModifiers()))
@@ -0,0 +1,124 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A class for testing {@link DatabaseCapabilities}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class DatabaseCapabilitiesTest {
+
+    @Test
+    void newInstance_CapturesScalarProperties_() throws SQLException {
+        final var metadata = mock(DatabaseMetaData.class);
+        when(metadata.nullsAreSortedHigh()).thenReturn(true);
+        when(metadata.getMaxTableNameLength()).thenReturn(128);
+        when(metadata.getSQLKeywords()).thenReturn("LIMIT, ,OFFSET");
+        when(metadata.getIdentifierQuoteString()).thenReturn("\"");
+        when(metadata.getUserName()).thenReturn("sa");
+        when(metadata.getURL()).thenReturn("jdbc:h2:mem:");
+        when(metadata.getDriverName()).thenThrow(new SQLFeatureNotSupportedException());
+        final var capabilities = DatabaseCapabilities.newInstance(metadata);
+        assertThat(capabilities.nullsAreSortedHigh()).isTrue();
+        assertThat(capabilities.nullsAreSortedLow()).isFalse();
+        assertThat(capabilities.getInt("getMaxTableNameLength")).isEqualTo(128);
+        assertThat(capabilities.getSQLKeywords()).containsExactly("LIMIT", "OFFSET");
+        assertThat(capabilities.getIdentifierQuoteString()).isEqualTo("\"");
+        assertThat(capabilities.getProperties()).doesNotContainKeys("getDriverName", "getURL", "getUserName");
+        assertThat(capabilities.getProperties()).containsKeys("supportsBatchUpdates", "getMaxLogicalLobSize");
+    }
+
+    @Test
+    void newInstance_SkipsFailedProperties_() throws SQLException {
+        final var metadata = mock(DatabaseMetaData.class);
+        when(metadata.nullsAreSortedHigh()).thenReturn(true);
+        when(metadata.nullsAreSortedAtStart()).thenThrow(new SQLException("broken"));
+        when(metadata.getSQLKeywords()).thenThrow(new IllegalStateException("broken"));
+        when(metadata.getNumericFunctions()).thenReturn("ABS");
+        final var capabilities = DatabaseCapabilities.newInstance(metadata);
+        assertThat(capabilities.nullsAreSortedHigh()).isTrue();
+        assertThat(capabilities.getProperties()).doesNotContainKeys("nullsAreSortedAtStart", "getSQLKeywords");
+        assertThat(capabilities.getNumericFunctions()).containsExactly("ABS");
+    }
+
+    @Test
+    void getSQLKeywords_Throws_NotCaptured() throws SQLException {
+        final var metadata = mock(DatabaseMetaData.class);
+        when(metadata.getSQLKeywords()).thenThrow(new SQLFeatureNotSupportedException());
+        when(metadata.getNumericFunctions()).thenReturn("ABS");
+        final var context = new Context(metadata);
+        assertThatExceptionOfType(SQLFeatureNotSupportedException.class).isThrownBy(context::getSQLKeywords);
+        assertThat(context.getNumericFunctions()).containsExactly("ABS");
+        verify(metadata, times(1)).getNumericFunctions();
+    }
+
+    @Test
+    void withDatabaseNullOrdering_InvokesMetadataOnce_() throws SQLException {
+        final var metadata = mock(DatabaseMetaData.class);
+        final var context = new Context(metadata);
+        for (int i = 0; i < 3; i++) {
+            ContextUtils.withDatabaseNullOrdering(
+                    context, Comparator.<String>naturalOrder(), ContextUtils.SortDirection.ASCENDING);
+            Table.comparingInSpecifiedOrder(context, Comparator.naturalOrder());
+        }
+        verify(metadata, times(1)).nullsAreSortedAtStart();
+        verify(metadata, times(1)).nullsAreSortedHigh();
+    }
+
+    @Test
+    void serialize_Equals_() throws SQLException, IOException, ClassNotFoundException {
+        final var metadata = mock(DatabaseMetaData.class);
+        when(metadata.storesUpperCaseIdentifiers()).thenReturn(true);
+        when(metadata.getNumericFunctions()).thenReturn("ABS,MOD");
+        final var capabilities = DatabaseCapabilities.newInstance(metadata);
+        final var baos = new ByteArrayOutputStream();
+        try (var oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(capabilities);
+        }
+        try (var ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            final var deserialized = (DatabaseCapabilities) ois.readObject();
+            assertThat(deserialized).isEqualTo(capabilities);
+            assertThat(deserialized.storesUpperCaseIdentifiers()).isTrue();
+            assertThat(deserialized.getNumericFunctions()).containsExactly("ABS", "MOD");
+        }
+    }
+}
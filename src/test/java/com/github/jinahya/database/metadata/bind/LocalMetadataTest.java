@@ -0,0 +1,135 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * A class for testing {@link LocalMetadata} against drivers.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LocalMetadataTest {
+
+    private static final String[] DDL = {
+            "CREATE TABLE ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT, TOTAL_AMOUNT INT)",
+            "CREATE TABLE ORDER_ITEMS (ORDER_ID INT, ITEM_ID INT, QUANTITY INT)",
+            "CREATE TABLE ORDERXITEMS (ID INT)",
+            "CREATE TABLE \"Mixed_Case\" (\"Id\" INT, \"id\" INT)",
+            "CREATE VIEW ORDER_VIEW AS SELECT ID, TOTAL_AMOUNT FROM ORDERS",
+    };
+
+    @BeforeAll
+    void connect() throws SQLException {
+        for (final var url : List.of("jdbc:h2:mem:local", "jdbc:hsqldb:mem:local")) {
+            final var connection = DriverManager.getConnection(url, "SA", "");
+            try (var statement = connection.createStatement()) {
+                for (final var ddl : DDL) {
+                    statement.execute(ddl);
+                }
+            }
+            final var context = Context.newInstance(connection);
+            locals.put(connection, LocalMetadata.newInstance(context));
+        }
+    }
+
+    @AfterAll
+    void disconnect() throws SQLException {
+        for (final var connection : locals.keySet()) {
+            connection.close();
+        }
+    }
+
+    private Stream<Arguments> getTablesArguments() {
+        final var arguments = new ArrayList<Arguments>();
+        for (final var connection : locals.keySet()) {
+            for (final var schemaPattern : new String[] {null, "PUBLIC", "PUB%", "INFORMATION\\_SCHEMA", "public"}) {
+                for (final var tableNamePattern : new String[] {
+                        "%", "ORDERS", "ORDER%", "ORDER_ITEMS", "ORDER\\_ITEMS", "ORDER\\_%", "%ITEMS", "Mixed%",
+                        "MIXED%", "orders", "O_D%S"}) {
+                    arguments.add(Arguments.of(connection, schemaPattern, tableNamePattern, null));
+                    arguments.add(Arguments.of(connection, schemaPattern, tableNamePattern, new String[] {"VIEW"}));
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    @MethodSource("getTablesArguments")
+    @ParameterizedTest
+    void getTables_SameAsDriver_(final Connection connection, final String schemaPattern,
+                                 final String tableNamePattern, final String[] types) throws SQLException {
+        final var expected = Context.newInstance(connection).getTables(null, schemaPattern, tableNamePattern, types);
+        final var actual = locals.get(connection).getTables(null, schemaPattern, tableNamePattern, types);
+        assertThat(actual).extracting(Table::getTableSchem, Table::getTableName)
+                .containsExactlyElementsOf(
+                        expected.stream().map(t -> tuple(
+                                t.getTableSchem(), t.getTableName())).toList());
+    }
+
+    private Stream<Arguments> getColumnsArguments() {
+        final var arguments = new ArrayList<Arguments>();
+        for (final var connection : locals.keySet()) {
+            for (final var tableNamePattern : new String[] {"%", "ORDERS", "ORDER\\_%", "Mixed\\_Case"}) {
+                for (final var columnNamePattern : new String[] {
+                        "%", "ID", "%ID", "%\\_ID", "_D", "Id", "id", "TOTAL%"}) {
+                    arguments.add(Arguments.of(connection, "PUBLIC", tableNamePattern, columnNamePattern));
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    @MethodSource("getColumnsArguments")
+    @ParameterizedTest
+    void getColumns_SameAsDriver_(final Connection connection, final String schemaPattern,
+                                  final String tableNamePattern, final String columnNamePattern)
+            throws SQLException {
+        final var expected = Context.newInstance(connection)
+                .getColumns(null, schemaPattern, tableNamePattern, columnNamePattern);
+        final var actual = locals.get(connection)
+                .getColumns(null, schemaPattern, tableNamePattern, columnNamePattern);
+        assertThat(actual).extracting(Column::getTableName, Column::getColumnName)
+                .containsExactlyElementsOf(
+                        expected.stream().map(c -> tuple(
+                                c.getTableName(), c.getColumnName())).toList());
+    }
+
+    private final Map<Connection, LocalMetadata> locals = new LinkedHashMap<>();
+}
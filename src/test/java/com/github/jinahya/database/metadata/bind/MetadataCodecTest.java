@@ -0,0 +1,167 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * A class for testing {@link MetadataCodec}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class MetadataCodecTest {
+
+    static List<MetadataType> values(final int tables, final int columnsPerTable) {
+        final var values = new ArrayList<MetadataType>();
+        for (int t = 0; t < tables; t++) {
+            final var table = new Table();
+            table.setTableCat(new String("CATALOG"));
+            table.setTableSchem(new String("PUBLIC"));
+            table.setTableName("TABLE" + t);
+            table.setTableType(new String("TABLE"));
+            values.add(table);
+            for (int c = 0; c < columnsPerTable; c++) {
+                final var column = new Column();
+                column.setTableCat(new String("CATALOG"));
+                column.setTableSchem(new String("PUBLIC"));
+                column.setTableName("TABLE" + t);
+                column.setColumnName("COLUMN" + c);
+                column.setDataType(c % 2 == 0 ? 4 : 12);
+                column.setTypeName(c % 2 == 0 ? new String("INTEGER") : new String("VARCHAR"));
+                column.setColumnSize(c % 2 == 0 ? 32 : 255);
+                column.setNullable(1);
+                column.setOrdinalPosition(c + 1);
+                column.setIsNullable(new String("YES"));
+                values.add(column);
+            }
+        }
+        return values;
+    }
+
+    private static byte[] serialize(final Object object) throws IOException {
+        final var baos = new ByteArrayOutputStream();
+        try (var oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(object);
+        }
+        return baos.toByteArray();
+    }
+
+    private static Object deserialize(final byte[] bytes) throws IOException, ClassNotFoundException {
+        try (var ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return ois.readObject();
+        }
+    }
+
+    @Test
+    void read_RoundTrips_() throws IOException {
+        final var values = values(8, 8);
+        final var table = (Table) values.get(0);
+        table.putUnknownColumn("EXTRA_LONG", -1L);
+        table.putUnknownColumn("EXTRA_NULL", null);
+        final var baos = new ByteArrayOutputStream();
+        MetadataCodec.write(baos, values);
+        final var read = MetadataCodec.read(new ByteArrayInputStream(baos.toByteArray()));
+        assertThat(read)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("unknownColumns")
+                .containsExactlyElementsOf(values);
+        assertThat(read.get(0).getUnknownColumns()).isEqualTo(table.getUnknownColumns());
+    }
+
+    @Test
+    void read_RoundTrips_DecimalAndBytes() throws IOException {
+        final var table = (Table) values(1, 0).get(0);
+        final var decimal = new BigDecimal("-12345678901234567890.0123");
+        table.putUnknownColumn("EXTRA_DECIMAL", decimal);
+        table.putUnknownColumn("EXTRA_BYTES", new byte[] {0, 1, -1});
+        final var baos = new ByteArrayOutputStream();
+        MetadataCodec.write(baos, List.of(table));
+        final var read = MetadataCodec.read(new ByteArrayInputStream(baos.toByteArray()));
+        assertThat(read).singleElement().extracting(MetadataType::getUnknownColumns)
+                .satisfies(c -> assertThat(c.get("EXTRA_DECIMAL")).isEqualTo(decimal))
+                .satisfies(c -> assertThat((byte[]) c.get("EXTRA_BYTES")).containsExactly(0, 1, -1));
+    }
+
+    @Test
+    void write_ThrowsNotSerializableException_UnsupportedValue() {
+        final var table = (Table) values(1, 0).get(0);
+        table.putUnknownColumn("EXTRA_TIMESTAMP", new Timestamp(0L));
+        assertThatExceptionOfType(NotSerializableException.class)
+                .isThrownBy(() -> MetadataCodec.write(new ByteArrayOutputStream(), List.of(table)));
+    }
+
+    @Test
+    void write_SmallerThanJavaSerialization_() throws IOException {
+        final var values = values(100, 10);
+        final var baos = new ByteArrayOutputStream();
+        MetadataCodec.write(baos, values);
+        assertThat(baos.size()).isLessThan(serialize(new ArrayList<>(values)).length / 2);
+    }
+
+    @Test
+    void read_ThrowsStreamCorruptedException_UnsupportedVersion() {
+        assertThatExceptionOfType(StreamCorruptedException.class)
+                .isThrownBy(() -> MetadataCodec.read(new ByteArrayInputStream(new byte[] {0})));
+    }
+
+    @Test
+    void serialize_RoundTrips_UnknownColumns() throws IOException, ClassNotFoundException {
+        final var column = (Column) values(1, 1).get(1);
+        column.putUnknownColumn("EXTRA", "value");
+        final var deserialized = (Column) deserialize(serialize(column));
+        assertThat(deserialized).usingRecursiveComparison().ignoringFields("unknownColumns").isEqualTo(column);
+        assertThat(deserialized.getUnknownColumns()).containsExactly(Map.entry("EXTRA", "value"));
+    }
+
+    @Test
+    void serialize_KeepsStringRepresentation_UnsupportedUnknownColumn() throws IOException, ClassNotFoundException {
+        final var column = (Column) values(1, 1).get(1);
+        final var timestamp = new Timestamp(0L);
+        column.putUnknownColumn("EXTRA_TIMESTAMP", timestamp);
+        final var deserialized = (Column) deserialize(serialize(column));
+        assertThat(deserialized).usingRecursiveComparison().ignoringFields("unknownColumns").isEqualTo(column);
+        assertThat(deserialized.getUnknownColumns())
+                .containsExactly(Map.entry("EXTRA_TIMESTAMP", timestamp.toString()));
+    }
+
+    @Test
+    void serialize_RoundTrips_List() throws IOException, ClassNotFoundException {
+        final var values = new ArrayList<>(values(4, 4));
+        @SuppressWarnings("unchecked") final var deserialized = (List<MetadataType>) deserialize(serialize(values));
+        assertThat(deserialized).extracting(MetadataType::getKey)
+                .containsExactlyElementsOf(values.stream().map(MetadataType::getKey).toList());
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * A class for testing {@link MetadataCrawler}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class MetadataCrawlerTest {
+
+    private static final int CHILDREN = 8;
+
+    @Test
+    void newInstance_ThrowsIllegalArgumentException_ConcurrencyIsNotPositive() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> MetadataCrawler.newInstance(() -> null, 0));
+    }
+
+    @Test
+    void crawl__DescribesAsContextDoes(@TempDir final Path directory) throws Exception {
+        final var url = "jdbc:h2:file:" + directory.resolve("crawl").toAbsolutePath();
+        try (var connection = DriverManager.getConnection(url);
+             var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE PARENT (ID INT PRIMARY KEY, NAME VARCHAR(16))");
+            for (int i = 0; i < CHILDREN; i++) {
+                statement.execute("CREATE TABLE CHILD" + i +
+                                  " (ID INT PRIMARY KEY, PARENT_ID INT REFERENCES PARENT (ID))");
+            }
+        }
+        final var connected = new AtomicInteger();
+        final Supplier<Connection> connections = () -> {
+            connected.incrementAndGet();
+            try {
+                return DriverManager.getConnection(url);
+            } catch (final SQLException sqle) {
+                throw new RuntimeException(sqle);
+            }
+        };
+        final var descriptions = MetadataCrawler.newInstance(connections, 3)
+                .crawl(null, "PUBLIC", "%", new String[] {"TABLE"});
+        assertThat(connected).hasValue(4);
+        assertThat(descriptions).hasSize(CHILDREN + 1);
+        assertThat(descriptions).extracting(d -> d.getTable().getTableName())
+                .startsWith("CHILD0", "CHILD1")
+                .endsWith("PARENT");
+        assertThat(descriptions).allSatisfy(d -> assertThat(d.getPrimaryKeys()).hasSize(1));
+        assertThat(descriptions.get(CHILDREN).getExportedKeys()).hasSize(CHILDREN);
+        assertThat(descriptions.get(CHILDREN).getColumns()).extracting(Column::getColumnName)
+                .containsExactly("ID", "NAME");
+        assertThat(descriptions.get(0).getImportedKeys()).singleElement()
+                .extracting(ImportedKey::getPktableName)
+                .isEqualTo("PARENT");
+        try (var connection = DriverManager.getConnection(url)) {
+            final var expected = Context.newInstance(connection)
+                    .describeTables(null, "PUBLIC", "%", new String[] {"TABLE"});
+            assertThat(descriptions).extracting(d -> d.getTable().getTableName())
+                    .containsExactlyInAnyOrderElementsOf(
+                            expected.stream().map(d -> d.getTable().getTableName()).toList());
+        }
+    }
+}
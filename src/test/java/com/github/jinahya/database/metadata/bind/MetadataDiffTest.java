@@ -0,0 +1,106 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link MetadataDiff}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class MetadataDiffTest {
+
+    static Column column(final String tableName, final String columnName, final int dataType) {
+        final var column = new Column();
+        column.setTableCat("C");
+        column.setTableSchem("S");
+        column.setTableName(tableName);
+        column.setColumnName(columnName);
+        column.setDataType(dataType);
+        return column;
+    }
+
+    private static Table table(final String tableName) {
+        final var table = new Table();
+        table.setTableCat("C");
+        table.setTableSchem("S");
+        table.setTableName(tableName);
+        table.setTableType("TABLE");
+        return table;
+    }
+
+    @Test
+    void diff__() {
+        final var source = List.<MetadataType>of(
+                table("T"), column("T", "A", 4), column("T", "B", 12), column("T", "C", 4));
+        final var target = List.<MetadataType>of(
+                table("T"), column("T", "A", 4), column("T", "B", -5), column("T", "D", 4));
+        final var entries = new ArrayList<MetadataDiff.Entry>();
+        MetadataDiff.diff(source, target, entries::add);
+        assertThat(entries).extracting(MetadataDiff.Entry::kind).containsExactly(
+                MetadataDiff.Kind.CHANGED, MetadataDiff.Kind.ADDED, MetadataDiff.Kind.REMOVED);
+        assertThat(entries.get(0).key()).isEqualTo(source.get(2).getKey());
+        assertThat(entries.get(0).changes()).containsExactly(new MetadataDiff.Change("DATA_TYPE", 12, -5));
+        assertThat(entries.get(1).target()).isSameAs(target.get(3));
+        assertThat(entries.get(1).source()).isNull();
+        assertThat(entries.get(2).source()).isSameAs(source.get(3));
+        assertThat(entries.get(2).target()).isNull();
+    }
+
+    @Test
+    void diff_PairsInOrder_DuplicateKeys() {
+        final var source = List.<MetadataType>of(column("T", "A", 4), column("T", "A", 12));
+        final var target = List.<MetadataType>of(column("T", "A", 4), column("T", "A", 4), column("T", "A", 4));
+        final var entries = new ArrayList<MetadataDiff.Entry>();
+        MetadataDiff.diff(source, target, entries::add);
+        assertThat(entries).extracting(MetadataDiff.Entry::kind).containsExactly(
+                MetadataDiff.Kind.CHANGED, MetadataDiff.Kind.ADDED);
+        assertThat(entries.get(0).source()).isSameAs(source.get(1));
+    }
+
+    @Test
+    void diff_Empty_Same() {
+        final var entries = new ArrayList<MetadataDiff.Entry>();
+        MetadataDiff.diff(List.of(column("T", "A", 4)), List.of(column("T", "A", 4)), entries::add);
+        assertThat(entries).isEmpty();
+    }
+
+    @Test
+    void diff_Snapshots_(@TempDir final Path directory) throws IOException {
+        final var before = directory.resolve("before");
+        final var after = directory.resolve("after");
+        MetadataSnapshot.write(before, List.of(table("T"), column("T", "A", 4)));
+        MetadataSnapshot.write(after, List.of(table("U"), column("T", "A", 12)));
+        final var entries = new ArrayList<MetadataDiff.Entry>();
+        MetadataDiff.diff(MetadataSnapshot.open(before), MetadataSnapshot.open(after), entries::add);
+        assertThat(entries).extracting(e -> e.kind() + " " + e.key().getType().getSimpleName()).containsExactly(
+                "ADDED Table", "REMOVED Table", "CHANGED Column");
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * A class for testing {@link MetadataGraph}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class MetadataGraphTest {
+
+    private static MetadataGraph graph() throws SQLException {
+        try (var connection = DriverManager.getConnection("jdbc:h2:mem:");
+             var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE ORDERS (ID INT PRIMARY KEY, TOTAL INT)");
+            statement.execute("CREATE TABLE ITEMS (ID INT PRIMARY KEY, ORDER_ID INT REFERENCES ORDERS (ID))");
+            statement.execute("CREATE INDEX ITEMS_ORDER_ID ON ITEMS (ORDER_ID)");
+            return MetadataGraph.newInstance(
+                    Context.newInstance(connection), null, "PUBLIC", "%", new String[] {"TABLE"});
+        }
+    }
+
+    @Test
+    void getTable__() throws SQLException {
+        final var graph = graph();
+        assertThat(graph.getTables()).extracting(Table::getTableName).containsExactly("ITEMS", "ORDERS");
+        final var orders = graph.getTable(null, "PUBLIC", "ORDERS");
+        assertThat(orders).isNotNull().extracting(Table::getTableName).isEqualTo("ORDERS");
+        assertThat(graph.getTable("", "PUBLIC", "ORDERS")).isNull(); // H2 has a catalog
+        assertThat(graph.getTable(orders.getTableCat(), "PUBLIC", "ORDERS")).isSameAs(orders);
+        assertThat(graph.getTable(orders.getTableCat(), "PUBLIC", "NONE")).isNull();
+    }
+
+    @Test
+    void navigate__() throws SQLException {
+        final var graph = graph();
+        final var orders = graph.getTables().get(1);
+        final var items = graph.getTables().get(0);
+        assertThat(graph.getColumns(orders)).extracting(Column::getColumnName).containsExactly("ID", "TOTAL");
+        assertThat(graph.getPrimaryKeys(orders)).extracting(PrimaryKey::getColumnName).containsExactly("ID");
+        assertThat(graph.getIndexInfo(items)).extracting(IndexInfo::getColumnName).contains("ORDER_ID");
+        assertThat(graph.getImportedKeys(items)).extracting(ImportedKey::getPktableName).containsExactly("ORDERS");
+        assertThat(graph.getExportedKeys(orders)).extracting(ExportedKey::getFktableName).containsExactly("ITEMS");
+        final var id = graph.getColumn(orders.getTableCat(), orders.getTableSchem(), "ORDERS", "ID");
+        assertThat(id).isNotNull();
+        assertThat(graph.getTable(id)).isSameAs(orders);
+        assertThat(graph.getReferencingKeys(id)).extracting(ExportedKey::getFkcolumnName)
+                .containsExactly("ORDER_ID");
+        final var total = graph.getColumn(orders.getTableCat(), orders.getTableSchem(), "ORDERS", "TOTAL");
+        assertThat(graph.getReferencingKeys(total)).isEmpty();
+        for (final var importedKey : graph.getImportedKeys(items)) {
+            assertThat(graph.getTable(importedKey)).isSameAs(items);
+        }
+    }
+
+    @Test
+    void getChildren_ThrowsIllegalArgumentException_NotChildOfTable() throws SQLException {
+        final var graph = graph();
+        final var table = graph.getTables().get(0);
+        assertThatIllegalArgumentException().isThrownBy(() -> graph.getChildren(table, Schema.class));
+        assertThatIllegalArgumentException().isThrownBy(() -> graph.getTable(new Schema()));
+    }
+}
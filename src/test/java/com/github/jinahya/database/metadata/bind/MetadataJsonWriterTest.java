@@ -0,0 +1,127 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * A class for testing {@link MetadataJsonWriter}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class MetadataJsonWriterTest {
+
+    private static Table table(final String tableName) {
+        final var table = new Table();
+        table.setTableCat("C");
+        table.setTableSchem("S");
+        table.setTableName(tableName);
+        return table;
+    }
+
+    private static Column column(final String tableName, final String columnName) {
+        final var column = new Column();
+        column.setTableCat("C");
+        column.setTableSchem("S");
+        column.setTableName(tableName);
+        column.setColumnName(columnName);
+        return column;
+    }
+
+    @Test
+    void write_NestsInSyntheticParents_ParentsNotWritten() throws IOException {
+        final var json = new StringWriter();
+        try (var writer = MetadataJsonWriter.newInstance(json)) {
+            writer.write(column("T1", "A"));
+            writer.write(column("T1", "B"));
+            writer.write(column("T2", "A"));
+        }
+        assertThat(json.toString())
+                .startsWith("{\"Catalog\":[{\"key\":[\"C\"],\"Schema\":[{\"key\":[\"S\"],\"Table\":[{\"key\":[\"T1\"],"
+                            + "\"Column\":[{\"TABLE_CAT\":\"C\",")
+                .contains("\"COLUMN_NAME\":\"B\"")
+                .contains("]},{\"key\":[\"T2\"],\"Column\":[{")
+                .endsWith("}]}]}]}]}");
+    }
+
+    @Test
+    void write_NestsInLastValue_ParentWritten() throws IOException {
+        final var json = new StringWriter();
+        try (var writer = MetadataJsonWriter.newInstance(json)) {
+            writer.write(table("T1"));
+            writer.write(column("T1", "A"));
+            writer.write(table("T2"));
+        }
+        assertThat(json.toString())
+                .contains("\"Table\":[{\"TABLE_CAT\":\"C\",")
+                .contains(",\"Column\":[{\"TABLE_CAT\":\"C\",")
+                .contains("]},{\"TABLE_CAT\":\"C\",\"TABLE_SCHEM\":\"S\",\"TABLE_NAME\":\"T2\",")
+                .doesNotContain("\"key\":[\"T1\"]");
+    }
+
+    @Test
+    void write_EscapesAndUnknownColumns_() throws IOException {
+        final var json = new StringWriter();
+        try (var writer = MetadataJsonWriter.newInstance(json)) {
+            final var column = column("T", "\"a\\b\n\u0001");
+            column.putUnknownColumn("EXTRA", 1L);
+            writer.write(column);
+        }
+        assertThat(json.toString())
+                .contains("\"COLUMN_NAME\":\"\\\"a\\\\b\\n\\u0001\"")
+                .contains(",\"EXTRA\":1}");
+    }
+
+    @Test
+    void close_WritesEmptyObject_NothingWritten() throws IOException {
+        final var json = new StringWriter();
+        final var writer = MetadataJsonWriter.newInstance(json);
+        writer.close();
+        assertThat(json).hasToString("{}");
+        assertThatIllegalStateException().isThrownBy(() -> writer.write(table("T")));
+    }
+
+    @Test
+    void writeColumns__() throws SQLException, IOException {
+        final var json = new StringWriter();
+        try (var connection = DriverManager.getConnection("jdbc:h2:mem:");
+             var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE ORDERS (ID INT PRIMARY KEY, TOTAL INT)");
+            statement.execute("CREATE TABLE ITEMS (ID INT PRIMARY KEY, ORDER_ID INT)");
+            MetadataJsonWriter.writeColumns(Context.newInstance(connection), null, "PUBLIC", "%", "%", json);
+        }
+        assertThat(json.toString())
+                .startsWith("{\"Catalog\":[{\"key\":[")
+                .contains("\"Schema\":[{\"key\":[\"PUBLIC\"],\"Table\":[{\"key\":[\"ITEMS\"],\"Column\":[{")
+                .contains("]},{\"key\":[\"ORDERS\"],\"Column\":[{")
+                .contains("\"COLUMN_NAME\":\"ORDER_ID\"")
+                .contains("\"COLUMN_NAME\":\"TOTAL\"")
+                .endsWith("}]}]}]}]}");
+    }
+}
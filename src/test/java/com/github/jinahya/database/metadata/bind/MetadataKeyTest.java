@@ -0,0 +1,138 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link MetadataKey}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class MetadataKeyTest {
+
+    private static Table table(final String tableCat, final String tableSchem, final String tableName) {
+        final var table = new Table();
+        table.setTableCat(tableCat);
+        table.setTableSchem(tableSchem);
+        table.setTableName(tableName);
+        return table;
+    }
+
+    @Test
+    void getKey_Equals_EffectivelySameTable() {
+        assertThat(table(null, null, "T").getKey())
+                .isEqualTo(table("", "", "T").getKey())
+                .isNotEqualTo(table("", "", "U").getKey())
+                .isNotEqualTo(table("", "S", "T").getKey());
+    }
+
+    @Test
+    void getKey_ParentIsTableKey_Column() {
+        final var table = table("C", "S", "T");
+        final var column = new Column();
+        column.setTableCat("C");
+        column.setTableSchem("S");
+        column.setTableName("T");
+        column.setColumnName("ID");
+        final var key = column.getKey();
+        assertThat(key.getParent()).isEqualTo(table.getKey());
+        assertThat(key.getComponents()).containsExactly("ID");
+        assertThat(key).isNotEqualTo(table.getKey());
+        final var primaryKey = new PrimaryKey();
+        primaryKey.setTableCat("C");
+        primaryKey.setTableSchem("S");
+        primaryKey.setTableName("T");
+        primaryKey.setColumnName("ID");
+        assertThat(primaryKey.getKey()).isNotEqualTo(key); // different types
+        assertThat(primaryKey.getKey().getParent()).isEqualTo(table.getKey());
+    }
+
+    @Test
+    void getKey_Deduplicates_() {
+        final var tables = List.of(table("C", "S", "A"), table("C", "S", "B"), table("C", "S", "A"));
+        final var keys = new HashSet<MetadataKey>();
+        assertThat(tables).filteredOn(t -> keys.add(t.getKey())).extracting(Table::getTableName)
+                .containsExactly("A", "B");
+    }
+
+    @Test
+    void getKey_Cached_Unchanged() {
+        final var table = table("C", "S", "T");
+        assertThat(table.getKey()).isSameAs(table.getKey());
+    }
+
+    @Test
+    void getKey_Renewed_Rebound() {
+        final var table = table("C", "S", "T");
+        final var key = table.getKey();
+        final var binder = Binders.getBinder(Table.class);
+        for (int slot = 0; slot < binder.getSlotCount(); slot++) {
+            if (Table.COLUMN_LABEL_TABLE_NAME.equals(binder.getLabel(slot))) {
+                binder.setValue(table, slot, "U"); // bypasses the setter, as binding does
+            }
+        }
+        assertThat(table.getKey())
+                .isNotSameAs(key)
+                .isEqualTo(table("C", "S", "U").getKey());
+        table.setTableCat(null);
+        assertThat(table.getKey()).isEqualTo(table("", "S", "U").getKey());
+    }
+
+    @Test
+    void getKey_IdentifiesItself_NotOverridden() {
+        final class Custom implements MetadataType {
+
+            @Override
+            public Map<String, Object> getUnknownColumns() {
+                return Map.of();
+            }
+        }
+        final var custom = new Custom();
+        assertThat(custom.getKey()).isEqualTo(custom.getKey()).isNotEqualTo(new Custom().getKey());
+        assertThat(custom.getKey().getType()).isSameAs(Custom.class);
+        assertThat(custom.getKey().getComponents()).containsExactly(custom);
+    }
+
+    @Test
+    void serialize_Equals_() throws IOException, ClassNotFoundException {
+        final var key = table("C", "S", "T").getKey();
+        final var baos = new ByteArrayOutputStream();
+        try (var oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(key);
+        }
+        try (var ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            final var deserialized = (MetadataKey) ois.readObject();
+            assertThat(deserialized).isEqualTo(key).hasSameHashCodeAs(key);
+        }
+    }
+}
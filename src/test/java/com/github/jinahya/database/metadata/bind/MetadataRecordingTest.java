@@ -0,0 +1,157 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * A class for testing {@link MetadataRecording}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class MetadataRecordingTest {
+
+    private static List<List<? extends MetadataType>> retrieve(final Context context) throws SQLException {
+        final var tables = context.getTables(null, "PUBLIC", "%", new String[] {"TABLE"});
+        final var items = tables.stream().filter(t -> t.getTableName().equals("ITEMS")).findFirst().orElseThrow();
+        return List.of(
+                context.getCatalogs(),
+                context.getSchemas(),
+                tables,
+                context.getColumns(null, "PUBLIC", "%", "%"),
+                context.getPrimaryKeysOf(items),
+                context.getImportedKeysOf(items),
+                context.getIndexInfoOf(items, false, true)
+        );
+    }
+
+    @Test
+    void replay_SameAsLive_(@TempDir final Path directory) throws SQLException, IOException {
+        final var recording = MetadataRecording.newInstance();
+        final List<List<? extends MetadataType>> live;
+        try (var connection = DriverManager.getConnection("jdbc:h2:mem:");
+             var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE ORDERS (ID INT PRIMARY KEY, TOTAL DECIMAL(10, 2))");
+            statement.execute("CREATE TABLE ITEMS (ID INT PRIMARY KEY, ORDER_ID INT REFERENCES ORDERS (ID))");
+            final var metadata = recording.record(connection.getMetaData());
+            live = retrieve(new Context(metadata));
+            assertThat(metadata.getDatabaseProductName()).isEqualTo("H2");
+        }
+        final var file = directory.resolve("recording.bin");
+        recording.write(file);
+        final var read = MetadataRecording.read(file);
+        assertThat(read.size()).isEqualTo(recording.size());
+        final var replay = read.replay();
+        final var replayed = retrieve(new Context(replay));
+        assertThat(replayed).hasSameSizeAs(live);
+        for (int i = 0; i < live.size(); i++) {
+            assertThat(replayed.get(i)).hasSameSizeAs(live.get(i));
+            assertThat(replayed.get(i))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(live.get(i));
+        }
+        assertThat(replay.getDatabaseProductName()).isEqualTo("H2");
+        assertThat(replay.isWrapperFor(DatabaseMetaData.class)).isTrue();
+    }
+
+    @Test
+    void replay_ThrowsSQLException_NotRecorded() {
+        final var replay = MetadataRecording.newInstance().replay();
+        assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> replay.getTables(null, null, "%", null))
+                .withMessageContaining("getTables");
+    }
+
+    @Test
+    void replay_ThrowsSQLFeatureNotSupportedException_NotReplayable() {
+        final var replay = MetadataRecording.newInstance().replay();
+        assertThatExceptionOfType(SQLFeatureNotSupportedException.class)
+                .isThrownBy(replay::getConnection)
+                .withMessageContaining("getConnection");
+    }
+
+    @Test
+    void replay_Recorded_ArgumentArrayModified() throws SQLException {
+        final var recording = MetadataRecording.newInstance();
+        try (var connection = DriverManager.getConnection("jdbc:h2:mem:")) {
+            final var types = new String[] {"TABLE"};
+            recording.record(connection.getMetaData()).getTables(null, "PUBLIC", "%", types).close();
+            types[0] = "VIEW";
+        }
+        final var replay = recording.replay();
+        try (var results = replay.getTables(null, "PUBLIC", "%", new String[] {"TABLE"})) {
+            assertThat(results.next()).isFalse();
+        }
+    }
+
+    @Test
+    void replay_KeptAsIs_Bytes(@TempDir final Path directory) throws SQLException, IOException {
+        final var bytes = new byte[] {0, 1, -1};
+        final var resultSetMetaData = proxy(ResultSetMetaData.class, (m, a) -> switch (m) {
+            case "getColumnCount" -> 1;
+            case "getColumnLabel" -> "BYTES";
+            case "getColumnType" -> Types.BINARY;
+            default -> null;
+        });
+        final var rows = new int[] {1};
+        final var resultSet = proxy(ResultSet.class, (m, a) -> switch (m) {
+            case "getMetaData" -> resultSetMetaData;
+            case "next" -> rows[0]-- > 0;
+            case "getObject" -> bytes;
+            default -> null;
+        });
+        final var recording = MetadataRecording.newInstance();
+        recording.record(proxy(DatabaseMetaData.class, (m, a) -> resultSet)).getTypeInfo().close();
+        final var file = directory.resolve("recording.bin");
+        recording.write(file);
+        try (var results = MetadataRecording.read(file).replay().getTypeInfo()) {
+            assertThat(results.next()).isTrue();
+            assertThat(results.getBytes("BYTES")).containsExactly(bytes);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Answer {
+
+        Object answer(String method, Object[] args);
+    }
+
+    private static <T> T proxy(final Class<T> type, final Answer answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                                                (p, m, a) -> answer.answer(m.getName(), a)));
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+/**
+ * A class for testing {@link MetadataSnapshot}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class MetadataSnapshotTest {
+
+    @Test
+    void capture__SameAsContext(@TempDir final Path directory) throws SQLException, IOException {
+        final var file = directory.resolve("snapshot");
+        try (var connection = DriverManager.getConnection("jdbc:h2:mem:");
+             var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE ORDERS (ID INT PRIMARY KEY, TOTAL INT)");
+            statement.execute("CREATE TABLE ITEMS (ID INT PRIMARY KEY, ORDER_ID INT REFERENCES ORDERS (ID))");
+            final var context = Context.newInstance(connection);
+            MetadataSnapshot.capture(context, file);
+            final var snapshot = MetadataSnapshot.open(file);
+            assertThat(snapshot.getTypes()).contains(Catalog.class, Schema.class, Table.class, Column.class,
+                                                     PrimaryKey.class, ImportedKey.class, IndexInfo.class);
+            assertThat(snapshot.get(Table.class))
+                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields("unknownColumns")
+                    .containsExactlyElementsOf(context.getAllTables());
+            assertThat(snapshot.get(Table.class)).extracting(MetadataType::getUnknownColumns)
+                    .containsExactlyElementsOf(context.getAllTables().stream().map(MetadataType::getUnknownColumns)
+                                                       .toList());
+            assertThat(snapshot.get(Column.class))
+                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields("unknownColumns")
+                    .containsExactlyElementsOf(context.getAllColumns());
+            final var items = context.getTables(null, "PUBLIC", "ITEMS", null).get(0);
+            assertThat(snapshot.get(ImportedKey.class))
+                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields("unknownColumns")
+                    .containsExactlyElementsOf(context.getImportedKeysOf(items));
+        }
+    }
+
+    @Test
+    void write_RoundTrips_UnknownColumns(@TempDir final Path directory) throws IOException {
+        final var table = new Table();
+        table.setTableName("T");
+        table.putUnknownColumn("EXTRA_LONG", 1L);
+        table.putUnknownColumn("EXTRA_NULL", null);
+        table.putUnknownColumn("EXTRA_STRING", "T");
+        final var column = new Column();
+        column.setTableName("T");
+        column.setColumnName("C");
+        column.setDataType(4);
+        final var file = directory.resolve("snapshot");
+        MetadataSnapshot.write(file, List.of(table, column));
+        final var snapshot = MetadataSnapshot.open(file);
+        assertThat(snapshot.getTypes()).containsExactly(Table.class, Column.class);
+        final var read = snapshot.get(Table.class).get(0);
+        assertThat(read.getTableName()).isEqualTo("T");
+        assertThat(read.getUnknownColumns()).isEqualTo(table.getUnknownColumns());
+        assertThat(snapshot.get(Column.class)).singleElement().satisfies(c -> {
+            assertThat(c.getKey()).isEqualTo(column.getKey());
+            assertThat(c.getDataType()).isEqualTo(4);
+        });
+        assertThat(snapshot.get(IndexInfo.class)).isEmpty();
+    }
+
+    @Test
+    void write_ThrowsNotSerializableException_UnsupportedValue(@TempDir final Path directory) {
+        final var table = new Table();
+        table.setTableName("T");
+        table.putUnknownColumn("EXTRA_TIMESTAMP", new Timestamp(0L));
+        final var file = directory.resolve("snapshot");
+        assertThatExceptionOfType(NotSerializableException.class)
+                .isThrownBy(() -> MetadataSnapshot.write(file, List.of(table)));
+    }
+
+    @Test
+    void open_ThrowsIOException_NotSnapshot(@TempDir final Path directory) throws IOException {
+        final var file = Files.write(directory.resolve("snapshot"), new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        assertThatIOException().isThrownBy(() -> MetadataSnapshot.open(file));
+    }
+
+    @Test
+    void open_ThrowsIOException_NegativeCount(@TempDir final Path directory) throws IOException {
+        final var table = new Table();
+        table.setTableName("T");
+        final var file = directory.resolve("snapshot");
+        MetadataSnapshot.write(file, List.of(table));
+        final var bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES * 2, -1); // the number of strings
+        Files.write(file, bytes);
+        assertThatIOException().isThrownBy(() -> MetadataSnapshot.open(file));
+    }
+}
@@ -170,6 +170,75 @@ abstract class MetadataType_Test<T extends MetadataType> {
         }
     }
 
+    // -----------------------------------------------------------------------------------------------------------------
+    @DisplayName("HandleBinder sets what ReflectiveBinder sets")
+    @Test
+    void _HandleBinder_SetsSameValuesAsReflectiveBinder() {
+        if (Modifier.isAbstract(typeClass.getModifiers())) {
+            return;
+        }
+        final var handle = new HandleBinder<>(typeClass);
+        final var reflective = new ReflectiveBinder<>(typeClass);
+        assertThat(handle.getSlotCount()).isEqualTo(reflective.getSlotCount());
+        final var expected = reflective.newInstance();
+        final var actual = handle.newInstance();
+        for (int slot = 0; slot < handle.getSlotCount(); slot++) {
+            assertThat(handle.getLabel(slot)).isEqualTo(reflective.getLabel(slot));
+            final var value = sampleValue(handle.getValueType(slot), slot);
+            reflective.setValue(expected, slot, value);
+            handle.setValue(actual, slot, value);
+        }
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        for (int slot = 0; slot < handle.getSlotCount(); slot++) {
+            handle.setValue(actual, slot, null);
+        }
+        assertThat(actual).usingRecursiveComparison().isEqualTo(reflective.newInstance());
+    }
+
+    @DisplayName("Binders.getBinder(type) is registered once")
+    @Test
+    void _Binders_GetBinder_SameInstance() {
+        if (Modifier.isAbstract(typeClass.getModifiers())) {
+            return;
+        }
+        final var binder = Binders.getBinder(typeClass);
+        assertThat(binder.getType()).isSameAs(typeClass);
+        assertThat(Binders.getBinder(typeClass)).isSameAs(binder);
+    }
+
+    @DisplayName("getKey() equals for equal values")
+    @Test
+    void _GetKey_EqualsForEqualValues() {
+        if (Modifier.isAbstract(typeClass.getModifiers())) {
+            return;
+        }
+        final var binder = new HandleBinder<>(typeClass);
+        final var instance1 = binder.newInstance();
+        final var instance2 = binder.newInstance();
+        assertThat(instance1.getKey()).isEqualTo(instance2.getKey());
+        for (int slot = 0; slot < binder.getSlotCount(); slot++) {
+            final var value = sampleValue(binder.getValueType(slot), slot);
+            binder.setValue(instance1, slot, value);
+            binder.setValue(instance2, slot, value);
+        }
+        final var key = instance1.getKey();
+        assertThat(key.getType()).isSameAs(typeClass);
+        assertThat(key).isEqualTo(instance2.getKey()).hasSameHashCodeAs(instance2.getKey());
+    }
+
+    private static Object sampleValue(final Class<?> type, final int slot) {
+        if (type == Boolean.class) {
+            return Boolean.TRUE;
+        }
+        if (type == Integer.class) {
+            return slot;
+        }
+        if (type == Long.class) {
+            return (long) slot;
+        }
+        return String.valueOf(slot);
+    }
+
 //    @DisplayName("setXxx(getXxx())")
 //    @Test
 //    void accessors() {
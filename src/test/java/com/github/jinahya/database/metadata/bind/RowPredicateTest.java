@@ -0,0 +1,79 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link RowPredicate}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class RowPredicateTest {
+
+    private static RowPredicate.Row row(final Map<String, Object> values) {
+        return new RowPredicate.Row() {
+            @Override
+            public @Nullable Object getObject(final String columnLabel) {
+                return values.get(columnLabel);
+            }
+
+            @Override
+            public @Nullable String getString(final String columnLabel) {
+                final var value = values.get(columnLabel);
+                return value == null ? null : value.toString();
+            }
+
+            @Override
+            public @Nullable Integer getInt(final String columnLabel) {
+                return (Integer) values.get(columnLabel);
+            }
+        };
+    }
+
+    @Test
+    void valueIn__() throws SQLException {
+        final var predicate = RowPredicate.valueIn(Table.COLUMN_LABEL_TABLE_TYPE, "TABLE", "VIEW");
+        assertThat(predicate.test(row(Map.of(Table.COLUMN_LABEL_TABLE_TYPE, "TABLE")))).isTrue();
+        assertThat(predicate.test(row(Map.of(Table.COLUMN_LABEL_TABLE_TYPE, "SYSTEM TABLE")))).isFalse();
+        assertThat(predicate.test(row(Map.of()))).isFalse();
+    }
+
+    @Test
+    void and_or_negate__() throws SQLException {
+        final RowPredicate nullable = r -> Objects.equals(
+                r.getInt(Column.COLUMN_LABEL_NULLABLE), Column.COLUMN_VALUE_NULLABLE_COLUMN_NULLABLE);
+        final var sys = RowPredicate.valueIn(Column.COLUMN_LABEL_TABLE_SCHEM, "SYS");
+        final var row = row(Map.of(Column.COLUMN_LABEL_NULLABLE, Column.COLUMN_VALUE_NULLABLE_COLUMN_NULLABLE,
+                                   Column.COLUMN_LABEL_TABLE_SCHEM, "PUBLIC"));
+        assertThat(nullable.and(sys.negate()).test(row)).isTrue();
+        assertThat(nullable.and(sys).test(row)).isFalse();
+        assertThat(nullable.negate().or(sys).test(row)).isFalse();
+        assertThat(sys.or(nullable).test(row)).isTrue();
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link SearchPattern}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class SearchPatternTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "%|''|true",
+            "%|ORDERS|true",
+            "ORDERS|ORDERS|true",
+            "ORDERS|ORDER|false",
+            "ORDER%|ORDERS|true",
+            "ORDER%|ORDER|true",
+            "ORDER%|XORDER|false",
+            "%ER%|ORDERS|true",
+            "%S|ORDERS|true",
+            "%S|ORDERS_|false",
+            "O_D%S|ORDERS|true",
+            "O_D%S|ORRS|false",
+            "____|ABCD|true",
+            "____|ABC|false",
+            "%%A%%|BAB|true",
+            "A%B%C|AXXBXXC|true",
+            "A%B%C|AXXCXXB|false",
+            "ORDER\\_%|ORDER_ITEMS|true",
+            "ORDER\\_%|ORDERS|false",
+            "100\\%|100%|true",
+            "100\\%|1000|false",
+            "A\\\\B|A\\B|true",
+    })
+    void matches__(final String pattern, final String value, final boolean expected) {
+        assertThat(SearchPattern.compile(pattern, "\\", false).matches(value)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "ORDER\\_%|ORDER\\_ITEMS|true",
+            "ORDER\\_%|ORDERS|false",
+    })
+    void matches_NoEscape_(final String pattern, final String value, final boolean expected) {
+        assertThat(SearchPattern.compile(pattern, null, false).matches(value)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "orders|ORDERS",
+            "order%|Orders",
+            "o_d%S|orders",
+    })
+    void matches_CaseInsensitive_(final String pattern, final String value) {
+        assertThat(SearchPattern.compile(pattern, "\\", true).matches(value)).isTrue();
+        assertThat(SearchPattern.compile(pattern, "\\", false).matches(value)).isFalse();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "stra\u00dfe|STRASSE",
+            "stra\u00dfe%|Strasse1",
+            "stra%e|STRASSE",
+            "%\u00df|STRASS",
+    })
+    void matches_CaseInsensitive_UpperCasedAsKeys(final String pattern, final String value) {
+        final var compiled = SearchPattern.compile(pattern, "\\", true);
+        assertThat(compiled.matches(value)).isTrue();
+        if (compiled.getLiteral() != null) {
+            assertThat(compiled.key(value)).isEqualTo(compiled.getLiteral());
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "%",
+            "A%",
+            "A_C",
+    })
+    void matches_False_Null(final String pattern) {
+        assertThat(SearchPattern.compile(pattern, "\\", false).matches(null)).isFalse();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "ORDERS|ORDERS",
+            "ORDER\\_ITEMS|ORDER_ITEMS",
+    })
+    void getLiteral__(final String pattern, final String expected) {
+        assertThat(SearchPattern.compile(pattern, "\\", false).getLiteral()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.jinahya.database.metadata.bind;
+
+/*-
+ * #%L
+ * database-metadata-bind
+ * %%
+ * Copyright (C) 2011 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * A class for testing {@link UnknownColumns}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class UnknownColumnsTest {
+
+    @Test
+    void put__CopiesSharedLabels__WhenLabelIsNew() {
+        final var labels = new String[] {"A", "B"};
+        final var map1 = new UnknownColumns(labels, new Object[] {1, null});
+        final var map2 = new UnknownColumns(labels, new Object[] {2, null});
+        assertThat(map1.put("C", 3)).isNull();
+        assertThat(labels).containsExactly("A", "B");
+        assertThat(map1).containsExactly(entry("A", 1), entry("B", null), entry("C", 3));
+        assertThat(map2).containsExactly(entry("A", 2), entry("B", null));
+    }
+
+    @Test
+    void put__ReplacesValue__WhenLabelExists() {
+        final var map = new UnknownColumns();
+        assertThat(map).isEmpty();
+        assertThat(map.put("A", 1)).isNull();
+        assertThat(map.put("A", 2)).isEqualTo(1);
+        assertThat(map).containsExactly(entry("A", 2));
+        assertThat(map.containsKey("A")).isTrue();
+        assertThat(map.containsKey("B")).isFalse();
+        assertThat(map.get("B")).isNull();
+        assertThat(map).hasToString("{A=2}");
+    }
+}